@@ -5,6 +5,9 @@ plugins {
 repositories {
     mavenLocal()
     mavenCentral()
+    maven {
+        url = uri("https://hyperledger.jfrog.io/artifactory/besu-maven")
+    }
 }
 
 dependencies {
@@ -18,6 +21,10 @@ dependencies {
     jmhImplementation("com.boundary:high-scale-lib:1.0.6")
 
     jmhImplementation("com.hedera.hashgraph:sdk:2.0.5")
+    jmhImplementation("com.hedera.hashgraph:hedera-protobuf-java-api:0.22.0")
+    jmhImplementation("org.apache.tuweni:tuweni-units:2.0.0")
+    jmhImplementation("org.hyperledger.besu:evm:21.10.6")
+    jmhImplementation("org.hyperledger.besu:besu-datatypes:21.10.6")
     jmhImplementation("com.swirlds:swirlds-common:0.21.0-vmtest.6")
     jmhImplementation("com.swirlds:swirlds-merkle:0.21.0-vmtest.6")
     jmhImplementation("com.swirlds:swirlds-virtualmap:0.21.0-vmtest.6")
@@ -0,0 +1,140 @@
+package contract;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.contracts.execution.EvmExecutionContext;
+import com.hedera.services.contracts.execution.HederaBlockValues;
+import com.hedera.services.contracts.execution.HederaTracer;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.CommonUtils;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Gas;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.utils.MiscUtils.wrapUnsafely;
+
+/**
+ * Measures the per-call setup an {@code EvmTxProcessor} does before the EVM runs a single opcode; that is,
+ * converting the call data, and creating the frame stack, initial frame builder, context variables, and tracer.
+ * Unlike {@link ContractExecutionBench}, this needs no running network, so it isolates the cost of the setup
+ * that is repeated for every {@code ContractCall} and {@code ContractCallLocal}.
+ *
+ * The {@code ALLOCATING} setup converts the call data through a hex string and allocates everything afresh, as
+ * the processor used to; the {@code REUSED} setup wraps the call data without copying it and re-uses a
+ * per-thread {@link EvmExecutionContext} and a shared tracer. The call data sizes are a bare function
+ * selector, an ERC-20 {@code transfer(address,uint256)}, and a 1KB payload; each call also reads the selector,
+ * since wrapped call data must not be slower for the EVM to read.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvmExecutionContextBench {
+    public enum CallSetup {
+        /* Hex round-trip of the call data, and new objects for every call */
+        ALLOCATING,
+        /* Zero-copy call data, and a re-used execution context and tracer */
+        REUSED
+    }
+
+    private static final int MAX_STACK_SIZE = 1024;
+    private static final int SELECTOR_LEN = 4;
+    private static final long GAS_LIMIT = 300_000L;
+    private static final OperationTracer SHARED_TRACER = new HederaTracer();
+
+    @Param({"ALLOCATING", "REUSED"})
+    public CallSetup callSetup;
+
+    @Param({"4", "68", "1024"})
+    public int callDataSize;
+
+    private final EvmExecutionContext context = new EvmExecutionContext();
+
+    private ByteString functionParameters;
+    private Address sender;
+    private Address coinbase;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        final var random = new SplittableRandom(1234);
+        final var data = new byte[callDataSize];
+        for (int i = 0; i < callDataSize; i++) {
+            data[i] = (byte) random.nextInt();
+        }
+        functionParameters = ByteString.copyFrom(data);
+        sender = Address.fromHexString("0x00000000000000000000000000000000000003ea");
+        coinbase = Address.fromHexString("0x0000000000000000000000000000000000000062");
+    }
+
+    @Benchmark
+    public void setUpCall(final Blackhole bh) {
+        final var blockValues = new HederaBlockValues(GAS_LIMIT, 1_234_567L);
+        final var value = Wei.ZERO;
+        if (callSetup == CallSetup.ALLOCATING) {
+            final var callData = functionParameters.isEmpty()
+                    ? Bytes.EMPTY
+                    : Bytes.fromHexString(CommonUtils.hex(functionParameters.toByteArray()));
+            final var builder = MessageFrame.builder()
+                    .messageFrameStack(new ArrayDeque<>())
+                    .maxStackSize(MAX_STACK_SIZE)
+                    .initialGas(Gas.of(GAS_LIMIT))
+                    .originator(sender)
+                    .gasPrice(Wei.ONE)
+                    .sender(sender)
+                    .value(value)
+                    .apparentValue(value)
+                    .blockValues(blockValues)
+                    .depth(0)
+                    .completer(unused -> {
+                    })
+                    .isStatic(true)
+                    .miningBeneficiary(coinbase)
+                    .blockHashLookup(h -> null)
+                    .contextVariables(Map.of(
+                            "sbh", 1L,
+                            "HederaFunctionality", HederaFunctionality.ContractCallLocal,
+                            "expiry", OptionalLong.empty()))
+                    .inputData(callData);
+            bh.consume(builder);
+            bh.consume(callData.slice(0, SELECTOR_LEN).toInt());
+            bh.consume(new HederaTracer());
+        } else {
+            final var callData = wrapUnsafely(functionParameters);
+            final var builder = context.frameBuilder()
+                    .messageFrameStack(context.messageFrameStack())
+                    .maxStackSize(MAX_STACK_SIZE)
+                    .initialGas(Gas.of(GAS_LIMIT))
+                    .originator(sender)
+                    .gasPrice(Wei.ONE)
+                    .sender(sender)
+                    .value(value)
+                    .apparentValue(value)
+                    .blockValues(blockValues)
+                    .depth(0)
+                    .completer(unused -> {
+                    })
+                    .isStatic(true)
+                    .miningBeneficiary(coinbase)
+                    .blockHashLookup(h -> null)
+                    .contextVariables(context.contextVariables(
+                            1L, HederaFunctionality.ContractCallLocal, OptionalLong.empty()))
+                    .inputData(callData);
+            bh.consume(builder);
+            bh.consume(callData.slice(0, SELECTOR_LEN).toInt());
+            bh.consume(SHARED_TRACER);
+            context.release();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package hashes;
+
+import com.hedera.services.state.merkle.internals.TopicRunningHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the ObjectOutputStream-based topic running hash computation that MerkleTopic
+ * used to do per ConsensusSubmitMessage with the re-usable {@link TopicRunningHasher}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TopicRunningHashBench {
+    private static final long RUNNING_HASH_VERSION = 3L;
+
+    @Param({"100", "1024", "6144"})
+    public int messageSize;
+
+    // state
+    private byte[] message;
+    private byte[] runningHash;
+    private long sequenceNumber;
+    private TopicRunningHasher hasher;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(1234);
+        message = new byte[messageSize];
+        random.nextBytes(message);
+        runningHash = new byte[48];
+        hasher = new TopicRunningHasher();
+    }
+
+    @Benchmark
+    public byte[] objectStream() throws IOException, NoSuchAlgorithmException {
+        final var boas = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(boas)) {
+            out.writeObject(runningHash);
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(0);
+            out.writeLong(0);
+            out.writeLong(1_001);
+            out.writeLong(0);
+            out.writeLong(0);
+            out.writeLong(1_002);
+            out.writeLong(1_234_567L);
+            out.writeInt(890);
+            out.writeLong(++sequenceNumber);
+            out.writeObject(MessageDigest.getInstance("SHA-384").digest(message));
+            out.flush();
+            runningHash = MessageDigest.getInstance("SHA-384").digest(boas.toByteArray());
+        }
+        return runningHash;
+    }
+
+    @Benchmark
+    public byte[] reusableHasher() {
+        runningHash = hasher.nextRunningHash(
+                runningHash,
+                RUNNING_HASH_VERSION,
+                0, 0, 1_001,
+                0, 0, 1_002,
+                1_234_567L, 890,
+                ++sequenceNumber,
+                message);
+        return runningHash;
+    }
+}
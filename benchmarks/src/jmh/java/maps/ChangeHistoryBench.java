@@ -0,0 +1,125 @@
+package maps;
+
+import com.hedera.services.state.expiry.ExpiryEvent;
+import com.hedera.services.state.expiry.MonotonicFullQueueLongExpiries;
+import com.hedera.services.utils.LongToInstantMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed {@code HashMap<Long, Instant>} plus {@code ExpiryEvent} deque that the SigImpactHistorian
+ * used to track entity changes against the primitive {@link LongToInstantMap} and
+ * {@link MonotonicFullQueueLongExpiries} that replaced them.
+ *
+ * Run with {@code -prof gc} to compare allocation rates; the {@code lookup*} benchmarks give the lookup latency.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChangeHistoryBench {
+    /* Matches the default ledger.changeHistorian.memorySecs */
+    private static final long MEMORY_SECS = 20;
+
+    @Param({"10000"})
+    public int changesPerSecond;
+
+    @Param({"1000000"})
+    public int numEntities;
+
+    private final SplittableRandom random = new SplittableRandom(1234);
+
+    private long nanosPerChange;
+    private long consensusNanos;
+
+    private Map<Long, Instant> boxedChangeTimes;
+    private Deque<ExpiryEvent<Long>> boxedExpiries;
+
+    private LongToInstantMap primitiveChangeTimes;
+    private MonotonicFullQueueLongExpiries primitiveExpiries;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        nanosPerChange = 1_000_000_000L / changesPerSecond;
+        consensusNanos = 1_600_000_000L * 1_000_000_000L;
+
+        boxedChangeTimes = new HashMap<>();
+        boxedExpiries = new ArrayDeque<>();
+        primitiveChangeTimes = new LongToInstantMap();
+        primitiveExpiries = new MonotonicFullQueueLongExpiries();
+
+        // fill a full window of history
+        for (long i = 0; i < MEMORY_SECS * changesPerSecond; i++) {
+            markBoxed();
+            markPrimitive();
+        }
+    }
+
+    @Benchmark
+    public void markChangedBoxed() {
+        markBoxed();
+    }
+
+    @Benchmark
+    public void markChangedPrimitive() {
+        markPrimitive();
+    }
+
+    @Benchmark
+    public void lookupBoxed(Blackhole blackhole) {
+        blackhole.consume(boxedChangeTimes.get(random.nextLong(numEntities)));
+    }
+
+    @Benchmark
+    public void lookupPrimitive(Blackhole blackhole) {
+        blackhole.consume(primitiveChangeTimes.getPacked(random.nextLong(numEntities)));
+    }
+
+    private void markBoxed() {
+        final var now = nextConsensusTime();
+        final var num = random.nextLong(numEntities);
+        boxedChangeTimes.put(num, now);
+        boxedExpiries.add(new ExpiryEvent<>(num, now.getEpochSecond() + MEMORY_SECS + 1));
+
+        final var thisSecond = now.getEpochSecond();
+        while (!boxedExpiries.isEmpty() && boxedExpiries.peekFirst().expiry() <= thisSecond) {
+            final var expired = boxedExpiries.removeFirst().id();
+            final var changeTime = boxedChangeTimes.get(expired);
+            if (changeTime != null && changeTime.getEpochSecond() < thisSecond - MEMORY_SECS) {
+                boxedChangeTimes.remove(expired);
+            }
+        }
+    }
+
+    private void markPrimitive() {
+        final var now = nextConsensusTime();
+        final var num = random.nextLong(numEntities);
+        primitiveChangeTimes.put(num, now);
+        primitiveExpiries.track(num, now.getEpochSecond() + MEMORY_SECS + 1);
+
+        final var thisSecond = now.getEpochSecond();
+        while (primitiveExpiries.hasExpiringAt(thisSecond)) {
+            final var expired = primitiveExpiries.expireNextAt(thisSecond);
+            final var changeTime = primitiveChangeTimes.getPacked(expired);
+            if (changeTime != LongToInstantMap.MISSING
+                    && LongToInstantMap.secondsOf(changeTime) < thisSecond - MEMORY_SECS) {
+                primitiveChangeTimes.remove(expired);
+            }
+        }
+    }
+
+    private Instant nextConsensusTime() {
+        consensusNanos += nanosPerChange;
+        return Instant.ofEpochSecond(consensusNanos / 1_000_000_000L, consensusNanos % 1_000_000_000L);
+    }
+}
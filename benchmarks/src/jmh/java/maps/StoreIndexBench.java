@@ -0,0 +1,124 @@
+package maps;
+
+import com.hedera.services.utils.LongToLongSetMap;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rebuilding and querying the boxed {@code Map<AccountID, Set<TokenID>>} that the HederaTokenStore used
+ * for its known-treasuries view against the heap and direct variants of the {@link LongToLongSetMap} that
+ * replaced it, at the scale of a state with a million tokens.
+ *
+ * Run with {@code -prof gc}; since every object allocated by a {@code rebuild*} benchmark is retained by the
+ * finished view, its {@code gc.alloc.rate.norm} approximates the view's heap footprint. (The direct variant's
+ * buffers are allocated outside the heap, so only its small on-heap residue shows up there.)
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StoreIndexBench {
+    @Param({"1000000"})
+    public int numTokens;
+
+    @Param({"100000"})
+    public int numTreasuries;
+
+    private final SplittableRandom random = new SplittableRandom(1234);
+
+    private long[] tokenNums;
+    private long[] treasuryNums;
+
+    private Map<AccountID, Set<TokenID>> boxedView;
+    private LongToLongSetMap heapView;
+    private LongToLongSetMap directView;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tokenNums = new long[numTokens];
+        treasuryNums = new long[numTokens];
+        for (int i = 0; i < numTokens; i++) {
+            tokenNums[i] = 1_001L + i;
+            treasuryNums[i] = 2_000_000L + random.nextInt(numTreasuries);
+        }
+        boxedView = rebuildBoxed();
+        heapView = rebuildPrimitive(false);
+        directView = rebuildPrimitive(true);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object rebuildBoxedView() {
+        return rebuildBoxed();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object rebuildHeapView() {
+        return rebuildPrimitive(false);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object rebuildDirectView() {
+        return rebuildPrimitive(true);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void isTreasuryForTokenBoxed(Blackhole blackhole) {
+        final var i = random.nextInt(numTokens);
+        final var tokens = boxedView.get(accountWith(treasuryNums[i]));
+        blackhole.consume(tokens != null && tokens.contains(tokenWith(tokenNums[i])));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void isTreasuryForTokenHeap(Blackhole blackhole) {
+        final var i = random.nextInt(numTokens);
+        blackhole.consume(heapView.contains(treasuryNums[i], tokenNums[i]));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void isTreasuryForTokenDirect(Blackhole blackhole) {
+        final var i = random.nextInt(numTokens);
+        blackhole.consume(directView.contains(treasuryNums[i], tokenNums[i]));
+    }
+
+    private Map<AccountID, Set<TokenID>> rebuildBoxed() {
+        final Map<AccountID, Set<TokenID>> view = new HashMap<>();
+        for (int i = 0; i < numTokens; i++) {
+            view.computeIfAbsent(accountWith(treasuryNums[i]), ignore -> new HashSet<>())
+                    .add(tokenWith(tokenNums[i]));
+        }
+        return view;
+    }
+
+    private LongToLongSetMap rebuildPrimitive(final boolean direct) {
+        final var view = new LongToLongSetMap(numTokens, direct);
+        for (int i = 0; i < numTokens; i++) {
+            view.add(treasuryNums[i], tokenNums[i]);
+        }
+        return view;
+    }
+
+    private static AccountID accountWith(final long num) {
+        return AccountID.newBuilder().setAccountNum(num).build();
+    }
+
+    private static TokenID tokenWith(final long num) {
+        return TokenID.newBuilder().setTokenNum(num).build();
+    }
+}
@@ -0,0 +1,52 @@
+package services;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static services.ServicesFixtures.FIRST_USER_NUM;
+import static services.ServicesFixtures.cryptoTransferBody;
+import static services.ServicesFixtures.hbarTransfers;
+import static services.ServicesFixtures.signedTxn;
+
+/**
+ * Measures parsing a serialized CryptoTransfer into a {@link SignedTxnAccessor}, which happens for every
+ * transaction at ingest and again (absent reuse) in {@code expandSignatures} and {@code handleTransaction}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessorBench {
+    @Param({"2", "10"})
+    public int numAdjustments;
+
+    @Param({"1", "3"})
+    public int numSigs;
+
+    private byte[] signedTxnBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1234);
+        final var op = CryptoTransferTransactionBody.newBuilder()
+                .setTransfers(hbarTransfers(numAdjustments, 1_000, random))
+                .build();
+        signedTxnBytes = signedTxn(cryptoTransferBody(FIRST_USER_NUM, op), numSigs, random).toByteArray();
+    }
+
+    @Benchmark
+    public void parseAccessor(Blackhole blackhole) throws InvalidProtocolBufferException {
+        final var accessor = new SignedTxnAccessor(signedTxnBytes);
+        blackhole.consume(accessor.getFunction());
+        blackhole.consume(accessor.getPayer());
+        blackhole.consume(accessor.getSigMap());
+    }
+}
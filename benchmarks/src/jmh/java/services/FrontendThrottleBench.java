@@ -0,0 +1,85 @@
+package services;
+
+import com.hedera.services.throttles.DeterministicThrottle;
+import com.hedera.services.throttling.ConcurrentThrottleReqsManager;
+import com.hedera.services.throttling.HapiThrottling;
+import com.hedera.services.throttling.ThrottleReqsManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a frontend throttling decision under contention from 8, 32, and 64 threads, as made for every
+ * transaction and query a gRPC worker thread receives; comparing the {@code synchronized} decisions that
+ * {@link HapiThrottling} used to make against a shared {@link ThrottleReqsManager} with the lock-free
+ * decisions of a {@link ConcurrentThrottleReqsManager}.
+ *
+ * The requirements mimic a {@code CryptoTransfer} in the default throttle definitions (one op from a
+ * 10k tps bucket shared by most transactions, and one op from a smaller bucket); the buckets are generous
+ * enough that most decisions are allowed, so the benchmark measures the cost of deciding rather than
+ * of rejecting.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrontendThrottleBench {
+    public enum Decisions {
+        /* A ThrottleReqsManager guarded by one lock, as in the legacy HapiThrottling */
+        SYNCHRONIZED,
+        /* A ConcurrentThrottleReqsManager with no lock */
+        LOCK_FREE
+    }
+
+    private static final int THROUGHPUT_LIMITS_TPS = 10_000;
+    private static final int PRIORITY_RESERVATIONS_TPS = 5_000;
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    public Decisions decisions;
+
+    private ThrottleReqsManager manager;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final List<Pair<DeterministicThrottle, Integer>> reqs = List.of(
+                Pair.of(DeterministicThrottle.withTpsNamed(THROUGHPUT_LIMITS_TPS, "ThroughputLimits"), 1),
+                Pair.of(DeterministicThrottle.withTpsNamed(PRIORITY_RESERVATIONS_TPS, "PriorityReservations"), 1));
+        manager = switch (decisions) {
+            case SYNCHRONIZED -> new ThrottleReqsManager(reqs);
+            case LOCK_FREE -> new ConcurrentThrottleReqsManager(reqs);
+        };
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean decideWith8Threads() {
+        return decide();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean decideWith32Threads() {
+        return decide();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean decideWith64Threads() {
+        return decide();
+    }
+
+    private boolean decide() {
+        if (decisions == Decisions.SYNCHRONIZED) {
+            synchronized (this) {
+                return manager.allReqsMetAt(Instant.now());
+            }
+        } else {
+            return manager.allReqsMetAt(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package services;
+
+import com.hedera.services.grpc.marshalling.AdjustmentUtils;
+import com.hedera.services.grpc.marshalling.AliasResolver;
+import com.hedera.services.grpc.marshalling.BalanceChangeManager;
+import com.hedera.services.grpc.marshalling.CustomSchedulesManager;
+import com.hedera.services.grpc.marshalling.FeeAssessor;
+import com.hedera.services.grpc.marshalling.FixedFeeAssessor;
+import com.hedera.services.grpc.marshalling.FractionalFeeAssessor;
+import com.hedera.services.grpc.marshalling.HbarFeeAssessor;
+import com.hedera.services.grpc.marshalling.HtsFeeAssessor;
+import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
+import com.hedera.services.grpc.marshalling.RoyaltyFeeAssessor;
+import com.hedera.services.ledger.PureTransferSemanticChecks;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.txns.customfees.FcmCustomFeeSchedules;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.swirlds.merkle.map.MerkleMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static services.ServicesFixtures.ACCOUNT_EXPIRY;
+import static services.ServicesFixtures.FIRST_USER_NUM;
+import static services.ServicesFixtures.adjustment;
+import static services.ServicesFixtures.defaultDynamicProperties;
+import static services.ServicesFixtures.hbarTransfers;
+
+/**
+ * Measures {@link ImpliedTransfersMarshal#unmarshalFromGrpc} for CryptoTransfers with and without fungible token
+ * transfer lists, using the same collaborators the {@code GrpcModule} wires up. The tokens have no custom fees, so
+ * this is the cost every plain transfer pays in {@code preHandle} and again when the transfer is handled.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImpliedTransfersBench {
+    private static final int NUM_TXNS = 1024;
+    private static final int NUM_ACCOUNTS = 100_000;
+    private static final int NUM_TOKENS = 1_000;
+    private static final long FIRST_TOKEN_NUM = FIRST_USER_NUM + NUM_ACCOUNTS;
+
+    @Param({"2", "10"})
+    public int numAdjustments;
+
+    @Param({"0", "2"})
+    public int numTokenTransferLists;
+
+    private int i;
+    private CryptoTransferTransactionBody[] ops;
+    private ImpliedTransfersMarshal subject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1234);
+        final var tokens = new MerkleMap<EntityNum, MerkleToken>();
+        for (int j = 0; j < NUM_TOKENS; j++) {
+            final var treasury = new EntityId(0, 0, FIRST_USER_NUM + random.nextInt(NUM_ACCOUNTS));
+            final var token = new MerkleToken(
+                    ACCOUNT_EXPIRY, 1_000_000_000L, 2, "T" + j, "Token" + j, false, true, treasury);
+            tokens.put(EntityNum.fromLong(FIRST_TOKEN_NUM + j), token);
+        }
+
+        final var fixedFeeAssessor = new FixedFeeAssessor(new HtsFeeAssessor(), new HbarFeeAssessor());
+        final var feeAssessor = new FeeAssessor(
+                fixedFeeAssessor,
+                new RoyaltyFeeAssessor(fixedFeeAssessor, AdjustmentUtils::adjustedChange),
+                new FractionalFeeAssessor(fixedFeeAssessor));
+        subject = new ImpliedTransfersMarshal(
+                feeAssessor,
+                new AliasManager(),
+                new FcmCustomFeeSchedules(() -> tokens),
+                AliasResolver::new,
+                defaultDynamicProperties(),
+                new PureTransferSemanticChecks(),
+                AliasResolver::usesAliases,
+                BalanceChangeManager::new,
+                CustomSchedulesManager::new);
+
+        ops = new CryptoTransferTransactionBody[NUM_TXNS];
+        for (int j = 0; j < NUM_TXNS; j++) {
+            final var op = CryptoTransferTransactionBody.newBuilder()
+                    .setTransfers(hbarTransfers(numAdjustments, NUM_ACCOUNTS, random));
+            final var tokenNums = random.longs(0, NUM_TOKENS).distinct().limit(numTokenTransferLists).toArray();
+            for (final var tokenNum : tokenNums) {
+                final var from = FIRST_USER_NUM + random.nextInt(NUM_ACCOUNTS);
+                final var to = FIRST_USER_NUM + random.nextInt(NUM_ACCOUNTS);
+                final var amount = 1L + random.nextInt(1_000);
+                op.addTokenTransfers(TokenTransferList.newBuilder()
+                        .setToken(TokenID.newBuilder().setTokenNum(FIRST_TOKEN_NUM + tokenNum))
+                        .addTransfers(adjustment(from, -amount))
+                        .addTransfers(adjustment(from == to ? to + 1 : to, +amount)));
+            }
+            ops[j] = op.build();
+        }
+    }
+
+    @Benchmark
+    public ImpliedTransfers unmarshalFromGrpc() {
+        return subject.unmarshalFromGrpc(ops[i++ & (NUM_TXNS - 1)]);
+    }
+}
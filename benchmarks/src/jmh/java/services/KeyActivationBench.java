@@ -0,0 +1,99 @@
+package services;
+
+import com.hedera.services.keys.HederaKeyActivation;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static services.ServicesFixtures.randomBytes;
+import static services.ServicesFixtures.randomEd25519Key;
+
+/**
+ * Measures {@link HederaKeyActivation#isActive} for a few common key shapes, given already-verified platform
+ * signatures for all their simple keys; this is the check run for the payer and every other required signer in
+ * {@code handleTransaction}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeyActivationBench {
+    public enum KeyShape {
+        /* A single Ed25519 key, as most accounts have */
+        SIMPLE,
+        /* A 2-of-3 threshold key */
+        THRESHOLD,
+        /* A key list holding a key, a 1-of-2 threshold key with a nested key list, and another key */
+        NESTED,
+        /* A 20-of-40 threshold key, as used by custodial and multisig accounts */
+        WIDE_THRESHOLD
+    }
+
+    private static final int WIDE_THRESHOLD_SIZE = 40;
+
+    @Param({"SIMPLE", "THRESHOLD", "NESTED", "WIDE_THRESHOLD"})
+    public KeyShape keyShape;
+
+    private JKey key;
+    private List<TransactionSignature> verifiedSigs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1234);
+        key = switch (keyShape) {
+            case SIMPLE -> randomEd25519Key(random);
+            case THRESHOLD -> new JThresholdKey(new JKeyList(List.of(
+                    randomEd25519Key(random), randomEd25519Key(random), randomEd25519Key(random))), 2);
+            case NESTED -> new JKeyList(List.of(
+                    randomEd25519Key(random),
+                    new JThresholdKey(new JKeyList(List.of(
+                            randomEd25519Key(random),
+                            new JKeyList(List.of(randomEd25519Key(random), randomEd25519Key(random))))), 1),
+                    randomEd25519Key(random)));
+            case WIDE_THRESHOLD -> {
+                final List<JKey> keys = new ArrayList<>();
+                for (int i = 0; i < WIDE_THRESHOLD_SIZE; i++) {
+                    keys.add(randomEd25519Key(random));
+                }
+                yield new JThresholdKey(new JKeyList(keys), WIDE_THRESHOLD_SIZE / 2);
+            }
+        };
+
+        final var data = randomBytes(random, 128);
+        verifiedSigs = new ArrayList<>();
+        addVerifiedSigsFor(key, data, random);
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        return HederaKeyActivation.isActive(
+                key, HederaKeyActivation.pkToSigMapFrom(verifiedSigs), ONLY_IF_SIG_IS_VALID);
+    }
+
+    private void addVerifiedSigsFor(final JKey key, final byte[] data, final SplittableRandom random) {
+        if (key.hasEd25519Key()) {
+            final var sig = ed25519Sig(key.getEd25519(), randomBytes(random, 64), data);
+            sig.setSignatureStatus(VerificationStatus.VALID);
+            verifiedSigs.add(sig);
+        } else {
+            final var children = key.hasKeyList()
+                    ? key.getKeyList().getKeysList()
+                    : key.getThresholdKey().getKeys().getKeysList();
+            for (final var child : children) {
+                addVerifiedSigsFor(child, data, random);
+            }
+        }
+    }
+}
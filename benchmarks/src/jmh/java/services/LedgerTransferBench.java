@@ -0,0 +1,107 @@
+package services;
+
+import com.hedera.services.context.SideEffectsTracker;
+import com.hedera.services.ledger.BalanceChange;
+import com.hedera.services.ledger.TransactionalLedger;
+import com.hedera.services.ledger.TransferLogic;
+import com.hedera.services.ledger.backing.BackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+import static services.ServicesFixtures.accountsWith;
+import static services.ServicesFixtures.adjustment;
+import static services.ServicesFixtures.hbarTransfers;
+
+/**
+ * Measures the ledger half of a CryptoTransfer: {@link TransferLogic#doZeroSum} validating and applying hbar
+ * balance changes, followed by {@link TransactionalLedger#commit} flushing them to the accounts map. Each pair of
+ * invocations applies a transfer and then its inverse, so balances never drift.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LedgerTransferBench {
+    private static final int NUM_TXNS = 1024;
+
+    @Param({"100000"})
+    public int numAccounts;
+
+    @Param({"2", "10"})
+    public int numAdjustments;
+
+    private int i;
+    private List<List<BalanceChange>> changes;
+    private List<List<AccountAmount>> adjustments;
+    private SideEffectsTracker sideEffects;
+    private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> ledger;
+    private TransferLogic subject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1234);
+        final var accounts = accountsWith(numAccounts, random);
+        final var backingAccounts = new BackingAccounts(() -> accounts);
+        backingAccounts.rebuildFromSources();
+        ledger = new TransactionalLedger<>(
+                AccountProperty.class, MerkleAccount::new, backingAccounts, new ChangeSummaryManager<>());
+        sideEffects = new SideEffectsTracker();
+        /* Auto-renew is disabled by default, so the scoped check never consults the validator */
+        subject = new TransferLogic(
+                ledger, null, null, null,
+                sideEffects, null, ServicesFixtures.defaultDynamicProperties(), null,
+                null, null);
+
+        changes = new ArrayList<>();
+        adjustments = new ArrayList<>();
+        for (int j = 0; j < NUM_TXNS / 2; j++) {
+            final var transfers = hbarTransfers(numAdjustments, numAccounts, random).getAccountAmountsList();
+            final var inverse = new ArrayList<AccountAmount>();
+            for (final var aa : transfers) {
+                inverse.add(adjustment(aa.getAccountID().getAccountNum(), -aa.getAmount()));
+            }
+            adjustments.add(transfers);
+            adjustments.add(inverse);
+            changes.add(changesFrom(transfers));
+            changes.add(changesFrom(inverse));
+        }
+    }
+
+    @Benchmark
+    public void doZeroSumAndCommit() {
+        ledger.begin();
+        subject.doZeroSum(changes.get(i++ & (NUM_TXNS - 1)));
+        ledger.commit();
+        sideEffects.reset();
+    }
+
+    @Benchmark
+    public void setBalancesAndCommit() {
+        ledger.begin();
+        for (final var aa : adjustments.get(i++ & (NUM_TXNS - 1))) {
+            final var id = aa.getAccountID();
+            ledger.set(id, BALANCE, (long) ledger.get(id, BALANCE) + aa.getAmount());
+        }
+        ledger.commit();
+    }
+
+    private static List<BalanceChange> changesFrom(final List<AccountAmount> adjustments) {
+        final List<BalanceChange> changes = new ArrayList<>();
+        for (final var aa : adjustments) {
+            changes.add(BalanceChange.changingHbar(aa));
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,111 @@
+package services;
+
+import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.state.submerkle.CurrencyAdjustments;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.submerkle.TxnId;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static services.ServicesFixtures.FIRST_USER_NUM;
+import static services.ServicesFixtures.VALID_START_SECS;
+import static services.ServicesFixtures.randomBytes;
+
+/**
+ * Measures {@link ExpirableTxnRecord} serialization and deserialization, as done for every record saved to (and
+ * loaded from) the payer records in state, with the shape of a typical CryptoTransfer record.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordSerdeBench {
+    private static final int TXN_HASH_LEN = 48;
+
+    @Param({"3", "10"})
+    public int numHbarAdjustments;
+
+    @Param({"0", "2"})
+    public int numTokenAdjustments;
+
+    private byte[] serialized;
+    private ExpirableTxnRecord record;
+    private ByteArrayOutputStream baos;
+
+    @Setup(Level.Trial)
+    public void setup() throws ConstructableRegistryException, IOException {
+        ConstructableRegistry.registerConstructables("com.hedera.services.state.submerkle");
+        ConstructableRegistry.registerConstructables("com.hedera.services.legacy.core.jproto");
+
+        final var random = new SplittableRandom(1234);
+        final var payer = new EntityId(0, 0, FIRST_USER_NUM);
+        final var builder = ExpirableTxnRecord.newBuilder()
+                .setReceipt(TxnReceipt.newBuilder().setStatus("SUCCESS").build())
+                .setTxnId(new TxnId(payer, new RichInstant(VALID_START_SECS, 123), false, 0))
+                .setConsensusTime(new RichInstant(VALID_START_SECS + 5, 456_789))
+                .setTxnHash(randomBytes(random, TXN_HASH_LEN))
+                .setMemo("Benchmark transfer")
+                .setFee(123_456L)
+                .setTransferList(adjustmentsWith(numHbarAdjustments, random));
+        if (numTokenAdjustments > 0) {
+            final List<EntityId> tokens = new ArrayList<>();
+            final List<CurrencyAdjustments> tokenAdjustments = new ArrayList<>();
+            for (int i = 0; i < numTokenAdjustments; i++) {
+                tokens.add(new EntityId(0, 0, 200_000L + i));
+                tokenAdjustments.add(adjustmentsWith(2, random));
+            }
+            builder.setTokens(tokens).setTokenAdjustments(tokenAdjustments);
+        }
+        record = builder.build();
+        record.setExpiry(VALID_START_SECS + 180);
+        record.setSubmittingMember(0);
+
+        baos = new ByteArrayOutputStream();
+        serialized = serialize();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        baos.reset();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            record.serialize(out);
+        }
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public ExpirableTxnRecord deserialize() throws IOException {
+        final var copy = new ExpirableTxnRecord();
+        try (final var in = new SerializableDataInputStream(new ByteArrayInputStream(serialized))) {
+            copy.deserialize(in, record.getVersion());
+        }
+        return copy;
+    }
+
+    private static CurrencyAdjustments adjustmentsWith(final int n, final SplittableRandom random) {
+        final var amounts = new long[n];
+        final List<EntityId> parties = new ArrayList<>();
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            amounts[i] = (i == n - 1) ? -sum : 1L + random.nextInt(1_000_000);
+            sum += amounts[i];
+            parties.add(new EntityId(0, 0, FIRST_USER_NUM + random.nextInt(100_000)));
+        }
+        return new CurrencyAdjustments(amounts, parties);
+    }
+}
@@ -0,0 +1,164 @@
+package services;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.swirlds.merkle.map.MerkleMap;
+
+import java.util.SplittableRandom;
+
+/**
+ * Offline fixtures shared by the benchmarks of the services handle path. Everything is built in-process from
+ * the node's own {@code bootstrap.properties} defaults, so no network, saved state, or config files are needed.
+ */
+public final class ServicesFixtures {
+    public static final long FIRST_USER_NUM = 1_001L;
+    public static final long ACCOUNT_BALANCE = 1_000_000_000_000L;
+    public static final long ACCOUNT_EXPIRY = 1_900_000_000L;
+    public static final long VALID_START_SECS = 1_650_000_000L;
+
+    private static final int ED25519_KEY_LEN = 32;
+    private static final int ED25519_SIG_LEN = 64;
+
+    private ServicesFixtures() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Returns the global dynamic properties the node would have with its packaged defaults.
+     *
+     * @return the default dynamic properties
+     */
+    public static GlobalDynamicProperties defaultDynamicProperties() {
+        final var bootstrapProps = new BootstrapProperties();
+        return new GlobalDynamicProperties(new HederaNumbers(bootstrapProps), bootstrapProps);
+    }
+
+    public static byte[] randomBytes(final SplittableRandom random, final int n) {
+        final var bytes = new byte[n];
+        for (int i = 0; i < n; i++) {
+            bytes[i] = (byte) random.nextInt(256);
+        }
+        return bytes;
+    }
+
+    public static JKey randomEd25519Key(final SplittableRandom random) {
+        return new JEd25519Key(randomBytes(random, ED25519_KEY_LEN));
+    }
+
+    public static AccountID accountWith(final long num) {
+        return AccountID.newBuilder().setAccountNum(num).build();
+    }
+
+    /**
+     * Creates an accounts map with the given number of funded user accounts, each with a random Ed25519 key.
+     *
+     * @param numAccounts the number of accounts
+     * @param random the source of key material
+     * @return the accounts map
+     */
+    public static MerkleMap<EntityNum, MerkleAccount> accountsWith(
+            final int numAccounts,
+            final SplittableRandom random
+    ) {
+        final var accounts = new MerkleMap<EntityNum, MerkleAccount>();
+        for (int i = 0; i < numAccounts; i++) {
+            final var account = new MerkleAccount();
+            account.setAccountKey(randomEd25519Key(random));
+            account.setBalanceUnchecked(ACCOUNT_BALANCE);
+            account.setExpiry(ACCOUNT_EXPIRY);
+            account.setMemo("");
+            accounts.put(EntityNum.fromLong(FIRST_USER_NUM + i), account);
+        }
+        return accounts;
+    }
+
+    /**
+     * Creates a zero-sum list of hbar adjustments between distinct random accounts.
+     *
+     * @param numAdjustments the (even) number of adjustments
+     * @param numAccounts the number of accounts to choose from
+     * @param random the source of accounts and amounts
+     * @return the transfer list
+     */
+    public static TransferList hbarTransfers(
+            final int numAdjustments,
+            final int numAccounts,
+            final SplittableRandom random
+    ) {
+        final var transfers = TransferList.newBuilder();
+        final var nums = random.longs(0, numAccounts).distinct().limit(numAdjustments).toArray();
+        for (int i = 0; i < numAdjustments; i += 2) {
+            final var amount = 1L + random.nextInt(1_000);
+            transfers.addAccountAmounts(adjustment(FIRST_USER_NUM + nums[i], -amount));
+            transfers.addAccountAmounts(adjustment(FIRST_USER_NUM + nums[i + 1], +amount));
+        }
+        return transfers.build();
+    }
+
+    public static AccountAmount adjustment(final long num, final long amount) {
+        return AccountAmount.newBuilder().setAccountID(accountWith(num)).setAmount(amount).build();
+    }
+
+    /**
+     * Wraps the given CryptoTransfer in a transaction body with the usual header fields set.
+     *
+     * @param payerNum the payer account number
+     * @param op the transfer
+     * @return the transaction body
+     */
+    public static TransactionBody cryptoTransferBody(final long payerNum, final CryptoTransferTransactionBody op) {
+        return TransactionBody.newBuilder()
+                .setTransactionID(TransactionID.newBuilder()
+                        .setAccountID(accountWith(payerNum))
+                        .setTransactionValidStart(Timestamp.newBuilder().setSeconds(VALID_START_SECS)))
+                .setNodeAccountID(accountWith(3L))
+                .setTransactionFee(100_000_000L)
+                .setTransactionValidDuration(Duration.newBuilder().setSeconds(120))
+                .setMemo("Benchmark transfer")
+                .setCryptoTransfer(op)
+                .build();
+    }
+
+    /**
+     * Signs the given body with the given number of random Ed25519 signature pairs, using 6-byte prefixes
+     * the way the SDKs do for multi-sig transactions.
+     *
+     * @param body the transaction body
+     * @param numSigs the number of signature pairs
+     * @param random the source of signature material
+     * @return the signed transaction
+     */
+    public static Transaction signedTxn(final TransactionBody body, final int numSigs, final SplittableRandom random) {
+        final var sigMap = SignatureMap.newBuilder();
+        for (int i = 0; i < numSigs; i++) {
+            sigMap.addSigPair(SignaturePair.newBuilder()
+                    .setPubKeyPrefix(ByteString.copyFrom(randomBytes(random, 6)))
+                    .setEd25519(ByteString.copyFrom(randomBytes(random, ED25519_SIG_LEN))));
+        }
+        final var signedTxn = SignedTransaction.newBuilder()
+                .setBodyBytes(body.toByteString())
+                .setSigMap(sigMap)
+                .build();
+        return Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTxn.toByteString())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package services;
+
+import com.hedera.services.config.AccountNumbers;
+import com.hedera.services.config.EntityNumbers;
+import com.hedera.services.config.FileNumbers;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.MutableStateChildren;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.sigs.metadata.StateChildrenSigMetadataLookup;
+import com.hedera.services.sigs.metadata.TokenMetaUtils;
+import com.hedera.services.sigs.order.PolicyBasedSigWaivers;
+import com.hedera.services.sigs.order.SigRequirements;
+import com.hedera.services.sigs.order.SigningOrderResult;
+import com.hedera.services.txns.auth.SystemOpPolicies;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.sigs.order.CodeOrderResultFactory.CODE_ORDER_RESULT_FACTORY;
+import static services.ServicesFixtures.FIRST_USER_NUM;
+import static services.ServicesFixtures.accountsWith;
+import static services.ServicesFixtures.cryptoTransferBody;
+import static services.ServicesFixtures.hbarTransfers;
+
+/**
+ * Measures {@link SigRequirements#keysForPayer} and {@link SigRequirements#keysForOtherParties} for CryptoTransfers
+ * against an accounts map of realistic size, as done for every transaction in {@code expandSignatures}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SigRequirementsBench {
+    private static final int NUM_TXNS = 1024;
+
+    @Param({"100000"})
+    public int numAccounts;
+
+    @Param({"2", "10"})
+    public int numAdjustments;
+
+    private int i;
+    private TransactionBody[] txns;
+    private SigRequirements subject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1234);
+        final var children = new MutableStateChildren();
+        children.setAccounts(accountsWith(numAccounts, random));
+
+        final var bootstrapProps = new BootstrapProperties();
+        final var hederaNums = new HederaNumbers(bootstrapProps);
+        final var fileNums = new FileNumbers(hederaNums, bootstrapProps);
+        final var entityNums = new EntityNumbers(fileNums, hederaNums, new AccountNumbers(bootstrapProps));
+        final var lookup = new StateChildrenSigMetadataLookup(
+                fileNums, new AliasManager(), children, TokenMetaUtils::signingMetaFrom);
+        subject = new SigRequirements(
+                lookup, new PolicyBasedSigWaivers(entityNums, new SystemOpPolicies(entityNums)));
+
+        txns = new TransactionBody[NUM_TXNS];
+        for (int j = 0; j < NUM_TXNS; j++) {
+            final var op = CryptoTransferTransactionBody.newBuilder()
+                    .setTransfers(hbarTransfers(numAdjustments, numAccounts, random))
+                    .build();
+            txns[j] = cryptoTransferBody(FIRST_USER_NUM + random.nextInt(numAccounts), op);
+        }
+    }
+
+    @Benchmark
+    public SigningOrderResult<ResponseCodeEnum> keysForPayer() {
+        return subject.keysForPayer(nextTxn(), CODE_ORDER_RESULT_FACTORY);
+    }
+
+    @Benchmark
+    public SigningOrderResult<ResponseCodeEnum> keysForOtherParties() {
+        return subject.keysForOtherParties(nextTxn(), CODE_ORDER_RESULT_FACTORY);
+    }
+
+    private TransactionBody nextTxn() {
+        return txns[i++ & (NUM_TXNS - 1)];
+    }
+}
@@ -0,0 +1,147 @@
+package virtual;
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.ContractKeySerializer;
+import com.hedera.services.state.virtual.ContractKeySupplier;
+import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.ContractValueSupplier;
+import com.hedera.services.store.contracts.SizeLimitedStorage;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.jasperdb.VirtualLeafRecordSerializer;
+import com.swirlds.jasperdb.files.DataFileCommon;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static virtual.VFCMapBenchBase.createMap;
+
+/**
+ * Measures a full {@link SizeLimitedStorage} session (begin, N {@code SSTORE}s, validate and commit) against
+ * an in-RAM JasperDB-backed {@link VirtualMap}, using the write pattern of a storage-heavy ERC-20/721 mint:
+ * mostly fresh slots, with one in four writes overwriting a slot already written in the session and one in
+ * eight zeroing one out.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SizeLimitedStorageBench {
+    private static final AccountID CONTRACT = AccountID.newBuilder().setAccountNum(1_001).build();
+
+    @Param({"1000", "10000"})
+    public int sstoresPerTxn;
+
+    @Param({"100000"})
+    public int preExistingSlots;
+
+    private VirtualMap<ContractKey, ContractValue> virtualMap;
+    private SizeLimitedStorage subject;
+    private Pipeline<ContractKey, ContractValue> pipeline;
+
+    private UInt256[] keys;
+    private UInt256[] values;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final VirtualLeafRecordSerializer<ContractKey, ContractValue> serializer =
+                new VirtualLeafRecordSerializer<>(
+                        (short) 1, DigestType.SHA_384,
+                        (short) 1, DataFileCommon.VARIABLE_DATA_SIZE, new ContractKeySupplier(),
+                        (short) 1, ContractValue.SERIALIZED_SIZE, new ContractValueSupplier(),
+                        true);
+        virtualMap = createMap(
+                VFCMapBenchBase.DataSourceType.jasperdbIhRam,
+                serializer,
+                new ContractKeySerializer(),
+                2L * (preExistingSlots + sstoresPerTxn),
+                Files.createTempDirectory("size-limited-storage"),
+                false);
+        pipeline = new Pipeline<>();
+
+        keys = new UInt256[sstoresPerTxn];
+        values = new UInt256[sstoresPerTxn];
+        for (int i = 0; i < sstoresPerTxn; i++) {
+            /* Half the slots written in a session already exist in storage */
+            keys[i] = UInt256.valueOf(i % 2 == 0 ? i : preExistingSlots + i);
+            values[i] = UInt256.valueOf(i + 1L);
+        }
+        for (int i = 0; i < preExistingSlots; i++) {
+            virtualMap.put(
+                    new ContractKey(CONTRACT.getAccountNum(), i),
+                    ContractValue.from(UInt256.valueOf(i + 1L)));
+        }
+        virtualMap = pipeline.endRound(virtualMap);
+
+        final var accounts = new MerkleMap<EntityNum, MerkleAccount>();
+        subject = new SizeLimitedStorage(new UnlimitedStorageProperties(), () -> accounts, () -> virtualMap);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endRound() {
+        virtualMap = pipeline.endRound(virtualMap);
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws IOException {
+        virtualMap.getDataSource().close();
+    }
+
+    @Benchmark
+    public void sessionOfSstores() {
+        subject.beginSession();
+        for (int i = 0; i < sstoresPerTxn; i++) {
+            if (i % 8 == 7) {
+                subject.putStorage(CONTRACT, keys[i - 7], UInt256.ZERO);
+            } else if (i % 4 == 3) {
+                subject.putStorage(CONTRACT, keys[i - 3], values[i]);
+            } else {
+                subject.putStorage(CONTRACT, keys[i], values[i]);
+            }
+        }
+        subject.validateAndCommit();
+    }
+
+    private static class UnlimitedStorageProperties extends GlobalDynamicProperties {
+        UnlimitedStorageProperties() {
+            super(null, null);
+        }
+
+        @Override
+        public void reload() {
+            /* No-op */
+        }
+
+        @Override
+        public int maxIndividualContractKvPairs() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public long maxAggregateContractKvPairs() {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hedera.services.throttles;
+
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.productWouldOverflow;
+import static com.hedera.services.throttles.ConcurrentThrottle.epochNanos;
+
+/**
+ * A thread-safe, lock-free counterpart of a {@link GasLimitDeterministicThrottle}; like a
+ * {@link ConcurrentThrottle}, it tracks only the instant at which its bucket would have completely
+ * leaked, and makes each decision with a single compare-and-set.
+ */
+public class ConcurrentGasLimitThrottle {
+	private static final long ONE_SECOND_IN_NANOSECONDS = 1_000_000_000L;
+
+	private final long capacity;
+	private final AtomicLong drainedAt = new AtomicLong();
+
+	/**
+	 * Creates a new instance of the throttle with capacity - the total amount of gas allowed per sec.
+	 *
+	 * @param capacity - the total amount of gas allowed per sec.
+	 */
+	public ConcurrentGasLimitThrottle(final long capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Verifies whether there is enough capacity at the given instant to handle a transaction with some gasLimit;
+	 * and reserves that capacity if so.
+	 *
+	 * @param now        - the instant against which the throttle is tested.
+	 * @param txGasLimit - the gasLimit extracted from the transaction payload.
+	 * @return true if there is enough capacity to handle this transaction; false if it should be throttled.
+	 */
+	public boolean allow(final Instant now, final long txGasLimit) {
+		if (txGasLimit > capacity) {
+			return false;
+		}
+		if (txGasLimit <= 0) {
+			return true;
+		}
+		final var costNanos = costNanosFor(txGasLimit);
+		final var nowNanos = epochNanos(now);
+		long current;
+		long start;
+		do {
+			current = drainedAt.get();
+			start = Math.max(current, nowNanos);
+			if (start - nowNanos > ONE_SECOND_IN_NANOSECONDS - costNanos) {
+				return false;
+			}
+		} while (!drainedAt.compareAndSet(current, start + costNanos));
+		return true;
+	}
+
+	/**
+	 * Returns the capacity of the throttle.
+	 *
+	 * @return the capacity of the throttle.
+	 */
+	public long getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Used to release some capacity previously reserved by calling {@link ConcurrentGasLimitThrottle#allow(Instant, long)}
+	 * without having to wait for the natural leakage.
+	 *
+	 * @param value - the amount to release
+	 */
+	public void leakUnusedGasPreviouslyReserved(final long value) {
+		if (value > 0 && capacity > 0) {
+			drainedAt.addAndGet(-costNanosFor(Math.min(value, capacity)));
+		}
+	}
+
+	private long costNanosFor(final long gas) {
+		if (productWouldOverflow(gas, ONE_SECOND_IN_NANOSECONDS)) {
+			return (long) Math.ceil((double) gas / capacity * ONE_SECOND_IN_NANOSECONDS);
+		}
+		final var scaled = gas * ONE_SECOND_IN_NANOSECONDS;
+		return scaled / capacity + (scaled % capacity == 0 ? 0 : 1);
+	}
+}
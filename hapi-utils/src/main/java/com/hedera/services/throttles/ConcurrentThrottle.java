@@ -0,0 +1,142 @@
+package com.hedera.services.throttles;
+
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.productWouldOverflow;
+
+/**
+ * A thread-safe, lock-free counterpart of a {@link DeterministicThrottle}, for use where many threads
+ * make throttling decisions against the same bucket (for example, the gRPC workers answering HAPI
+ * transactions and queries).
+ *
+ * Instead of a {@link DiscreteLeakyBucket} of used capacity, the throttle keeps a single
+ * {@link AtomicLong} with the instant (in nanos since the epoch) at which its bucket would have
+ * completely leaked; the used capacity at any instant {@code t} is then just
+ * {@code max(0, drainedAt - t) * mtps}. A decision is one compare-and-set of that instant, so
+ * decisions never block each other, and they tolerate the slightly out-of-order timestamps that
+ * concurrent callers of {@link Instant#now()} will inevitably pass.
+ *
+ * The capacity and leak rate are exactly those of the {@link DeterministicThrottle} the instance
+ * mirrors; so up to rounding of one nanosecond per decision, the two make the same decisions
+ * given the same (ordered) timeline.
+ */
+public class ConcurrentThrottle {
+	private static final long NANOS_PER_SEC = 1_000_000_000L;
+
+	private final String name;
+	private final long mtps;
+	private final long capacity;
+	private final long maxBacklogNanos;
+	private final AtomicLong drainedAt = new AtomicLong();
+
+	public static ConcurrentThrottle mirroring(final DeterministicThrottle throttle) {
+		return new ConcurrentThrottle(throttle.name(), throttle.mtps(), throttle.capacity());
+	}
+
+	ConcurrentThrottle(final String name, final long mtps, final long capacity) {
+		this.name = name;
+		this.mtps = mtps;
+		this.capacity = capacity;
+		this.maxBacklogNanos = capacity / mtps;
+	}
+
+	/**
+	 * Reserves capacity for the given number of transactions at the given instant, if the bucket has room.
+	 *
+	 * @param n the number of transactions
+	 * @param now the instant of the decision
+	 * @return whether the capacity was reserved
+	 */
+	public boolean allow(final int n, final Instant now) {
+		final var costNanos = costNanosFor(n);
+		if (costNanos < 0) {
+			return false;
+		}
+		final var requiredUnits = n * BucketThrottle.CAPACITY_UNITS_PER_TXN;
+		final var nowNanos = epochNanos(now);
+		long current;
+		long start;
+		do {
+			current = drainedAt.get();
+			start = Math.max(current, nowNanos);
+			final var backlogNanos = start - nowNanos;
+			if (backlogNanos > maxBacklogNanos || backlogNanos * mtps + requiredUnits > capacity) {
+				return false;
+			}
+		} while (!drainedAt.compareAndSet(current, start + costNanos));
+		return true;
+	}
+
+	/**
+	 * Returns capacity for the given number of transactions that was previously reserved by a
+	 * successful call to {@link ConcurrentThrottle#allow(int, Instant)}. Unlike
+	 * {@link DeterministicThrottle#reclaimLastAllowedUse()}, the caller says what to reclaim,
+	 * since with concurrent callers there is no meaningful "last" use.
+	 *
+	 * @param n the number of transactions previously allowed
+	 */
+	public void reclaim(final int n) {
+		final var costNanos = costNanosFor(n);
+		if (costNanos > 0) {
+			drainedAt.addAndGet(-costNanos);
+		}
+	}
+
+	public String name() {
+		return name;
+	}
+
+	public long mtps() {
+		return mtps;
+	}
+
+	public long capacity() {
+		return capacity;
+	}
+
+	public long usedAt(final Instant now) {
+		final var backlogNanos = drainedAt.get() - epochNanos(now);
+		if (backlogNanos <= 0) {
+			return 0;
+		}
+		return Math.min(capacity, productWouldOverflow(backlogNanos, mtps) ? capacity : backlogNanos * mtps);
+	}
+
+	private long costNanosFor(final int n) {
+		if (n < 0 || productWouldOverflow(n, BucketThrottle.CAPACITY_UNITS_PER_TXN)) {
+			return -1;
+		}
+		final var requiredUnits = n * BucketThrottle.CAPACITY_UNITS_PER_TXN;
+		if (requiredUnits > capacity) {
+			return -1;
+		}
+		return requiredUnits / mtps + (requiredUnits % mtps == 0 ? 0 : 1);
+	}
+
+	static long epochNanos(final Instant now) {
+		return now.getEpochSecond() * NANOS_PER_SEC + now.getNano();
+	}
+}
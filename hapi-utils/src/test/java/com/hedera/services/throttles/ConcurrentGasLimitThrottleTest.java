@@ -0,0 +1,92 @@
+package com.hedera.services.throttles;
+
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentGasLimitThrottleTest {
+	private static final long capacity = 1_000_000L;
+	private static final Instant now = Instant.ofEpochSecond(1_234_567L, 890);
+
+	private final ConcurrentGasLimitThrottle subject = new ConcurrentGasLimitThrottle(capacity);
+
+	@Test
+	void exposesCapacity() {
+		assertEquals(capacity, subject.getCapacity());
+	}
+
+	@Test
+	void allowsUntilCapacityIsReservedThenLeaks() {
+		assertTrue(subject.allow(now, capacity / 2));
+		assertTrue(subject.allow(now, capacity / 2));
+		assertFalse(subject.allow(now, 1));
+		assertTrue(subject.allow(now.plusMillis(100), capacity / 10));
+		assertFalse(subject.allow(now.plusMillis(100), 1));
+		assertTrue(subject.allow(now.plusSeconds(2), capacity));
+	}
+
+	@Test
+	void rejectsMoreThanCapacityAndAllowsNonPositiveGas() {
+		assertFalse(subject.allow(now, capacity + 1));
+		assertTrue(subject.allow(now, 0));
+		assertTrue(new ConcurrentGasLimitThrottle(0).allow(now, 0));
+		assertFalse(new ConcurrentGasLimitThrottle(0).allow(now, 1));
+	}
+
+	@Test
+	void makesSameDecisionsAsDeterministicThrottleOnOrderedTimeline() {
+		final var throttle = new GasLimitDeterministicThrottle(capacity);
+
+		for (int i = 0; i < 1_000; i++) {
+			final var then = now.plusMillis(13L * i);
+			final var gas = 50_000L * (1 + i % 4);
+			assertEquals(throttle.allow(then, gas), subject.allow(then, gas), "Decision #" + i + " differs");
+		}
+	}
+
+	@Test
+	void leaksUnusedGasPreviouslyReserved() {
+		assertTrue(subject.allow(now, capacity));
+		assertFalse(subject.allow(now, capacity / 4));
+
+		subject.leakUnusedGasPreviouslyReserved(capacity / 4);
+
+		assertTrue(subject.allow(now, capacity / 4));
+		assertFalse(subject.allow(now, 1));
+	}
+
+	@Test
+	void handlesHugeCapacities() {
+		final var huge = new ConcurrentGasLimitThrottle(Long.MAX_VALUE / 2);
+
+		assertTrue(huge.allow(now, Long.MAX_VALUE / 4));
+		assertTrue(huge.allow(now, Long.MAX_VALUE / 4));
+		assertFalse(huge.allow(now, Long.MAX_VALUE / 4));
+	}
+}
@@ -0,0 +1,120 @@
+package com.hedera.services.throttles;
+
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.hedera.services.throttles.BucketThrottle.CAPACITY_UNITS_PER_TXN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentThrottleTest {
+	private static final Instant now = Instant.ofEpochSecond(1_234_567L, 890);
+
+	@Test
+	void mirrorsDeterministicThrottle() {
+		final var throttle = DeterministicThrottle.withMtpsAndBurstPeriodNamed(2_500, 2, "t6e");
+
+		final var subject = ConcurrentThrottle.mirroring(throttle);
+
+		assertEquals("t6e", subject.name());
+		assertEquals(2_500, subject.mtps());
+		assertEquals(throttle.capacity(), subject.capacity());
+		assertEquals(0, subject.usedAt(now));
+	}
+
+	@Test
+	void allowsUntilBucketIsFullThenLeaks() {
+		final var subject = ConcurrentThrottle.mirroring(DeterministicThrottle.withTpsAndBurstPeriod(2, 2));
+
+		assertTrue(subject.allow(3, now));
+		assertEquals(3 * CAPACITY_UNITS_PER_TXN, subject.usedAt(now));
+		assertTrue(subject.allow(1, now));
+		assertFalse(subject.allow(1, now));
+		assertTrue(subject.allow(1, now.plusMillis(500)));
+		assertFalse(subject.allow(1, now.plusMillis(500)));
+		assertEquals(0, subject.usedAt(now.plusSeconds(3)));
+	}
+
+	@Test
+	void makesSameDecisionsAsDeterministicThrottleOnOrderedTimeline() {
+		final var throttle = DeterministicThrottle.withMtps(8_000);
+		final var subject = ConcurrentThrottle.mirroring(throttle);
+
+		for (int i = 0; i < 1_000; i++) {
+			final var then = now.plusMillis(17L * i);
+			final var n = 1 + i % 3;
+			assertEquals(throttle.allow(n, then), subject.allow(n, then), "Decision #" + i + " differs");
+		}
+	}
+
+	@Test
+	void toleratesOutOfOrderInstants() {
+		final var subject = ConcurrentThrottle.mirroring(DeterministicThrottle.withTps(3));
+
+		assertTrue(subject.allow(1, now.plusMillis(100)));
+		assertTrue(subject.allow(1, now));
+		assertFalse(subject.allow(1, now.minusSeconds(3_600)));
+	}
+
+	@Test
+	void reclaimsGivenUse() {
+		final var subject = ConcurrentThrottle.mirroring(DeterministicThrottle.withTps(2));
+
+		assertTrue(subject.allow(2, now));
+		assertFalse(subject.allow(1, now));
+
+		subject.reclaim(1);
+
+		assertEquals(CAPACITY_UNITS_PER_TXN, subject.usedAt(now));
+		assertTrue(subject.allow(1, now));
+	}
+
+	@Test
+	void neverAllowsMoreThanCapacityOrOverflowingRequests() {
+		final var subject = ConcurrentThrottle.mirroring(DeterministicThrottle.withTps(2));
+
+		assertFalse(subject.allow(3, now));
+		assertFalse(subject.allow(Integer.MAX_VALUE, now));
+		assertFalse(subject.allow(-1, now));
+
+		subject.reclaim(-1);
+		assertEquals(0, subject.usedAt(now));
+	}
+
+	@Test
+	void throttlesWithinPermissibleTolerance() throws InterruptedException {
+		final long mtps = 123_456L;
+		final var subject = ConcurrentThrottle.mirroring(DeterministicThrottle.withMtps(mtps));
+		final double expectedTps = (1.0 * mtps) / 1_000;
+		subject.allow((int) (subject.capacity() / CAPACITY_UNITS_PER_TXN) - 1, Instant.now());
+
+		final var helper = new ConcurrentThrottleTestHelper(10, 10, 2);
+		helper.runWith(subject);
+
+		helper.assertTolerableTps(expectedTps, 1.00);
+	}
+}
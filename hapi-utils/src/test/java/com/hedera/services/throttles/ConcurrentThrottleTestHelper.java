@@ -22,12 +22,14 @@ package com.hedera.services.throttles;
 
 import org.junit.jupiter.api.Assertions;
 
+import java.time.Instant;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 public class ConcurrentThrottleTestHelper {
 	private final int threads;
@@ -55,6 +57,18 @@ public class ConcurrentThrottleTestHelper {
 	}
 
 	public int runWith(DeterministicThrottle subject) throws InterruptedException {
+		return runWith(() -> {
+			synchronized (subject) {
+				return subject.allow(opsToRequest);
+			}
+		});
+	}
+
+	public int runWith(ConcurrentThrottle subject) throws InterruptedException {
+		return runWith(() -> subject.allow(opsToRequest, Instant.now()));
+	}
+
+	private int runWith(BooleanSupplier decision) throws InterruptedException {
 		AtomicInteger allowed = new AtomicInteger(0);
 		AtomicBoolean stopped = new AtomicBoolean(false);
 
@@ -69,10 +83,8 @@ public class ConcurrentThrottleTestHelper {
 				try {
 					start.await();
 					while (!stopped.get()) {
-						synchronized (subject) {
-							if (subject.allow(opsToRequest)) {
-								allowed.getAndAdd(opsToRequest);
-							}
+						if (decision.getAsBoolean()) {
+							allowed.getAndAdd(opsToRequest);
 						}
 					}
 				} catch (InterruptedException e) {
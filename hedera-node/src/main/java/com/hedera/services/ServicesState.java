@@ -30,13 +30,17 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.migration.ReleaseTwentyThreeMigration;
 import com.hedera.services.state.migration.ReleaseTwentyTwoMigration;
 import com.hedera.services.state.migration.StateChildIndices;
 import com.hedera.services.state.org.StateMetadata;
 import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.state.virtual.VirtualMapFactory;
@@ -55,7 +59,7 @@ import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.utility.AbstractNaryMerkleInternal;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.platform.state.DualStateImpl;
@@ -72,6 +76,7 @@ import static com.hedera.services.state.merkle.MerkleNetworkContext.NULL_CONSENS
 import static com.hedera.services.state.migration.StateVersions.CURRENT_VERSION;
 import static com.hedera.services.state.migration.StateVersions.MINIMUM_SUPPORTED_VERSION;
 import static com.hedera.services.state.migration.StateVersions.RELEASE_0220_VERSION;
+import static com.hedera.services.state.migration.StateVersions.RELEASE_0230_VERSION;
 import static com.hedera.services.utils.EntityIdUtils.parseAccount;
 
 /**
@@ -129,10 +134,12 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 
 	@Override
 	public int getMinimumChildCount(int version) {
-		if (version >= MINIMUM_SUPPORTED_VERSION && version < CURRENT_VERSION) {
+		if (version >= MINIMUM_SUPPORTED_VERSION && version < RELEASE_0220_VERSION) {
 			return StateChildIndices.NUM_PRE_0220_CHILDREN;
-		} else if (version == CURRENT_VERSION) {
+		} else if (version == RELEASE_0220_VERSION) {
 			return StateChildIndices.NUM_0220_CHILDREN;
+		} else if (version == CURRENT_VERSION) {
+			return StateChildIndices.NUM_0230_CHILDREN;
 		} else {
 			throw new IllegalArgumentException("Argument 'version='" + version + "' is invalid!");
 		}
@@ -178,6 +185,12 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 
 		log.info("Init called on Services node {} WITH Merkle saved state", platform.getSelfId());
 
+		if (deserializedVersion < RELEASE_0230_VERSION) {
+			/* Must precede internalInit(), since that rebuilds the recent transaction histories from this index. */
+			recordExpiriesMigrator.createPayerRecordExpiries(this, deserializedVersion);
+			nftIndexMigrator.createNftIndex(this, deserializedVersion);
+		}
+
 		/* Immediately override the address book from the saved state */
 		setChild(StateChildIndices.ADDRESS_BOOK, addressBook);
 
@@ -221,11 +234,21 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	public void expandSignatures(final SwirldTransaction platformTxn) {
 		try {
 			final var app = metadata.app();
+			final var prefetchProcessor = app.prefetchProcessor();
+			if (prefetchProcessor.isParallelPrepareEnabled()) {
+				// Signatures must be expanded before we return, so the platform can verify them;
+				// only span expansion and pre-fetching happen on the prepare-stage threads, with
+				// back-pressure if they fall behind
+				final var accessor = app.expandHandleSpan().parse(platformTxn);
+				app.sigReqsManager().expandSigsInto(accessor);
+				prefetchProcessor.prepare(platformTxn, accessor);
+				return;
+			}
 			final var accessor = app.expandHandleSpan().track(platformTxn);
 			// Submit the transaction for any prepare stage processing that can be performed
 			// such as pre-fetching of contract bytecode. This step is performed asynchronously
 			// so get this step started before synchronous signature expansion.
-			app.prefetchProcessor().submit(accessor);
+			prefetchProcessor.submit(accessor);
 			app.sigReqsManager().expandSigsInto(accessor);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("Method expandSignatures called with non-gRPC txn", e);
@@ -350,16 +373,12 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		return getChild(StateChildIndices.CONTRACT_STORAGE);
 	}
 
-	public FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations() {
-		return metadata.getUniqueTokenAssociations();
+	public FCQueue<PayerRecordExpiry> payerRecordExpiries() {
+		return getChild(StateChildIndices.PAYER_RECORD_EXPIRIES);
 	}
 
-	public FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations() {
-		return metadata.getUniqueOwnershipAssociations();
-	}
-
-	public FCOneToManyRelation<EntityNum, Long> uniqueTreasuryOwnershipAssociations() {
-		return metadata.getUniqueTreasuryOwnershipAssociations();
+	public VirtualMap<NftIndexKey, NftIndexValue> nftIndex() {
+		return getChild(StateChildIndices.NFT_INDEX);
 	}
 
 	private void internalInit(
@@ -453,6 +472,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		setChild(StateChildIndices.RECORD_STREAM_RUNNING_HASH, genesisRunningHashLeaf());
 		setChild(StateChildIndices.ADDRESS_BOOK, addressBook);
 		setChild(StateChildIndices.CONTRACT_STORAGE, virtualMapFactory.newVirtualizedStorage());
+		setChild(StateChildIndices.PAYER_RECORD_EXPIRIES, new FCQueue<PayerRecordExpiry>());
+		setChild(StateChildIndices.NFT_INDEX, virtualMapFactory.newVirtualizedNftIndex());
 	}
 
 	private RecordsRunningHashLeaf genesisRunningHashLeaf() {
@@ -474,7 +495,20 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		void migrateFromBinaryObjectStore(ServicesState initializingState, int deserializedVersion);
 	}
 
+	@FunctionalInterface
+	interface PayerRecordExpiriesMigrator {
+		void createPayerRecordExpiries(ServicesState initializingState, int deserializedVersion);
+	}
+
+	@FunctionalInterface
+	interface NftIndexMigrator {
+		void createNftIndex(ServicesState initializingState, int deserializedVersion);
+	}
+
 	private static BinaryObjectStoreMigrator blobMigrator = ReleaseTwentyTwoMigration::migrateFromBinaryObjectStore;
+	private static PayerRecordExpiriesMigrator recordExpiriesMigrator =
+			ReleaseTwentyThreeMigration::createPayerRecordExpiries;
+	private static NftIndexMigrator nftIndexMigrator = ReleaseTwentyThreeMigration::createNftIndex;
 	private static Supplier<ServicesApp.Builder> appBuilder = DaggerServicesApp::builder;
 
 	/* --- Only used by unit tests --- */
@@ -497,4 +531,12 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	static void setBlobMigrator(final BinaryObjectStoreMigrator blobMigrator) {
 		ServicesState.blobMigrator = blobMigrator;
 	}
+
+	static void setRecordExpiriesMigrator(final PayerRecordExpiriesMigrator recordExpiriesMigrator) {
+		ServicesState.recordExpiriesMigrator = recordExpiriesMigrator;
+	}
+
+	static void setNftIndexMigrator(final NftIndexMigrator nftIndexMigrator) {
+		ServicesState.nftIndexMigrator = nftIndexMigrator;
+	}
 }
@@ -29,7 +29,7 @@ import static com.swirlds.common.PlatformStatus.STARTING_UP;
 
 @Singleton
 public final class ContextPlatformStatus implements CurrentPlatformStatus {
-	private PlatformStatus current = STARTING_UP;
+	private volatile PlatformStatus current = STARTING_UP;
 
 	@Inject
 	public ContextPlatformStatus() {
@@ -37,12 +37,12 @@ public final class ContextPlatformStatus implements CurrentPlatformStatus {
 	}
 
 	@Override
-	public synchronized void set(final PlatformStatus status) {
+	public void set(final PlatformStatus status) {
 		current = status;
 	}
 
 	@Override
-	public synchronized PlatformStatus get() {
+	public PlatformStatus get() {
 		return current;
 	}
 }
@@ -29,15 +29,18 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.AddressBook;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 
@@ -61,13 +64,12 @@ public class MutableStateChildren implements StateChildren {
 	private WeakReference<VirtualMap<VirtualBlobKey, VirtualBlobValue>> storage;
 	private WeakReference<VirtualMap<ContractKey, ContractValue>> contractStorage;
 	private WeakReference<MerkleMap<EntityNumPair, MerkleTokenRelStatus>> tokenAssociations;
-	private WeakReference<FCOneToManyRelation<EntityNum, Long>> uniqueTokenAssociations;
-	private WeakReference<FCOneToManyRelation<EntityNum, Long>> uniqueOwnershipAssociations;
-	private WeakReference<FCOneToManyRelation<EntityNum, Long>> uniqueOwnershipTreasuryAssociations;
+	private WeakReference<VirtualMap<NftIndexKey, NftIndexValue>> nftIndex;
 	private WeakReference<MerkleNetworkContext> networkCtx;
 	private WeakReference<AddressBook> addressBook;
 	private WeakReference<MerkleSpecialFiles> specialFiles;
 	private WeakReference<RecordsRunningHashLeaf> runningHashLeaf;
+	private WeakReference<FCQueue<PayerRecordExpiry>> payerRecordExpiries;
 	private Instant signedAt = Instant.EPOCH;
 
 	public MutableStateChildren() {
@@ -205,40 +207,14 @@ public class MutableStateChildren implements StateChildren {
 	}
 
 	@Override
-	public FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations() {
-		final var refUniqueTokenAssociations = uniqueTokenAssociations.get();
-		Objects.requireNonNull(refUniqueTokenAssociations);
-		return refUniqueTokenAssociations;
+	public VirtualMap<NftIndexKey, NftIndexValue> nftIndex() {
+		final var refNftIndex = nftIndex.get();
+		Objects.requireNonNull(refNftIndex);
+		return refNftIndex;
 	}
 
-	public void setUniqueTokenAssociations(FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations) {
-		this.uniqueTokenAssociations = new WeakReference<>(uniqueTokenAssociations);
-	}
-
-	@Override
-	public FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations() {
-		final var refUniqueOwnershipAssociations = uniqueOwnershipAssociations.get();
-		Objects.requireNonNull(refUniqueOwnershipAssociations);
-		return refUniqueOwnershipAssociations;
-	}
-
-	public void setUniqueOwnershipAssociations(
-			FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations
-	) {
-		this.uniqueOwnershipAssociations = new WeakReference<>(uniqueOwnershipAssociations);
-	}
-
-	@Override
-	public FCOneToManyRelation<EntityNum, Long> uniqueOwnershipTreasuryAssociations() {
-		final var refUniqueOwnershipTreasuryAssociations = uniqueOwnershipTreasuryAssociations.get();
-		Objects.requireNonNull(refUniqueOwnershipTreasuryAssociations);
-		return refUniqueOwnershipTreasuryAssociations;
-	}
-
-	public void setUniqueOwnershipTreasuryAssociations(
-			FCOneToManyRelation<EntityNum, Long> uniqueOwnershipTreasuryAssociations
-	) {
-		this.uniqueOwnershipTreasuryAssociations = new WeakReference<>(uniqueOwnershipTreasuryAssociations);
+	public void setNftIndex(VirtualMap<NftIndexKey, NftIndexValue> nftIndex) {
+		this.nftIndex = new WeakReference<>(nftIndex);
 	}
 
 	@Override
@@ -253,22 +229,23 @@ public class MutableStateChildren implements StateChildren {
 		this.runningHashLeaf = new WeakReference<>(runningHashLeaf);
 	}
 
-	public void updateFromMaybeUninitializedState(final ServicesState signedState, final Instant signingTime) {
-		signedAt = signingTime;
-		updatePrimitiveChildrenFrom(signedState);
-		uniqueTokenAssociations = new WeakReference<>(null);
-		uniqueOwnershipAssociations = new WeakReference<>(null);
-		uniqueOwnershipTreasuryAssociations = new WeakReference<>(null);
+	@Override
+	public FCQueue<PayerRecordExpiry> payerRecordExpiries() {
+		final var refPayerRecordExpiries = payerRecordExpiries.get();
+		Objects.requireNonNull(refPayerRecordExpiries);
+		return refPayerRecordExpiries;
 	}
 
-	public void updateFrom(final ServicesState state) {
-		updatePrimitiveChildrenFrom(state);
-		uniqueTokenAssociations = new WeakReference<>(state.uniqueTokenAssociations());
-		uniqueOwnershipAssociations = new WeakReference<>(state.uniqueOwnershipAssociations());
-		uniqueOwnershipTreasuryAssociations = new WeakReference<>(state.uniqueTreasuryOwnershipAssociations());
+	public void setPayerRecordExpiries(FCQueue<PayerRecordExpiry> payerRecordExpiries) {
+		this.payerRecordExpiries = new WeakReference<>(payerRecordExpiries);
 	}
 
-	public void updatePrimitiveChildrenFrom(final ServicesState state) {
+	public void updateFromSigned(final ServicesState signedState, final Instant signingTime) {
+		signedAt = signingTime;
+		updateFrom(signedState);
+	}
+
+	public void updateFrom(final ServicesState state) {
 		accounts = new WeakReference<>(state.accounts());
 		topics = new WeakReference<>(state.topics());
 		storage = new WeakReference<>(state.storage());
@@ -281,5 +258,7 @@ public class MutableStateChildren implements StateChildren {
 		specialFiles = new WeakReference<>(state.specialFiles());
 		uniqueTokens = new WeakReference<>(state.uniqueTokens());
 		runningHashLeaf = new WeakReference<>(state.runningHashLeaf());
+		payerRecordExpiries = new WeakReference<>(state.payerRecordExpiries());
+		nftIndex = new WeakReference<>(state.nftIndex());
 	}
 }
@@ -28,15 +28,18 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.AddressBook;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 
@@ -67,11 +70,9 @@ public interface StateChildren {
 
 	MerkleMap<EntityNumPair, MerkleUniqueToken> uniqueTokens();
 
-	FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations();
-
-	FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations();
-
-	FCOneToManyRelation<EntityNum, Long> uniqueOwnershipTreasuryAssociations();
+	VirtualMap<NftIndexKey, NftIndexValue> nftIndex();
 
 	RecordsRunningHashLeaf runningHashLeaf();
+
+	FCQueue<PayerRecordExpiry> payerRecordExpiries();
 }
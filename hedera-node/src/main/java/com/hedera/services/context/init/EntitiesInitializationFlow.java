@@ -31,6 +31,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 @Singleton
 public class EntitiesInitializationFlow {
 	private static final Logger log = LogManager.getLogger(EntitiesInitializationFlow.class);
@@ -54,8 +56,9 @@ public class EntitiesInitializationFlow {
 	}
 
 	public void run() {
+		final var reviewStart = System.nanoTime();
 		expiries.reviewExistingPayerRecords();
-		log.info("Payer records reviewed");
+		log.info("Payer records reviewed in {}ms", NANOSECONDS.toMillis(System.nanoTime() - reviewStart));
 		/* Use any entities stored in state to rebuild queue of expired entities. */
 		expiries.reviewExistingShortLivedEntities();
 		log.info("Short-lived entities reviewed");
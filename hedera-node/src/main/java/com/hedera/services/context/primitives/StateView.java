@@ -41,10 +41,13 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RawTokenRelationship;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.NftRelation;
 import com.hedera.services.store.tokens.views.UniqTokenView;
 import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
 import com.hedera.services.utils.EntityNum;
@@ -75,7 +78,6 @@ import com.hederahashgraph.api.proto.java.TokenType;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.utility.Keyed;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
@@ -93,6 +95,9 @@ import java.util.function.BiFunction;
 
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.TREASURY_NFTS_BY_TYPE;
 import static com.hedera.services.store.schedule.ScheduleStore.MISSING_SCHEDULE;
 import static com.hedera.services.store.tokens.TokenStore.MISSING_TOKEN;
 import static com.hedera.services.store.tokens.views.EmptyUniqTokenViewFactory.EMPTY_UNIQ_TOKEN_VIEW_FACTORY;
@@ -117,7 +122,6 @@ public class StateView {
 	static final byte[] EMPTY_BYTES = new byte[0];
 	static final MerkleMap<?, ?> EMPTY_FCM = new MerkleMap<>();
 	static final VirtualMap<?, ?> EMPTY_VM = new VirtualMap<>();
-	static final FCOneToManyRelation<?, ?> EMPTY_FCOTMR = new FCOneToManyRelation<>();
 
 	public static final JKey EMPTY_WACL = new JKeyList();
 	public static final MerkleToken REMOVED_TOKEN = new MerkleToken(
@@ -558,16 +562,20 @@ public class StateView {
 		return stateChildren == null ? emptyMm() : stateChildren.tokens();
 	}
 
-	FCOneToManyRelation<EntityNum, Long> nftsByType() {
-		return stateChildren == null ? emptyFcotmr() : stateChildren.uniqueTokenAssociations();
+	NftRelation nftsByType() {
+		return new NftRelation(nftIndex(), NFTS_BY_TYPE);
 	}
 
-	FCOneToManyRelation<EntityNum, Long> nftsByOwner() {
-		return stateChildren == null ? emptyFcotmr() : stateChildren.uniqueOwnershipAssociations();
+	NftRelation nftsByOwner() {
+		return new NftRelation(nftIndex(), NFTS_BY_OWNER);
 	}
 
-	FCOneToManyRelation<EntityNum, Long> treasuryNftsByType() {
-		return stateChildren == null ? emptyFcotmr() : stateChildren.uniqueOwnershipTreasuryAssociations();
+	NftRelation treasuryNftsByType() {
+		return new NftRelation(nftIndex(), TREASURY_NFTS_BY_TYPE);
+	}
+
+	VirtualMap<NftIndexKey, NftIndexValue> nftIndex() {
+		return stateChildren == null ? emptyVm() : stateChildren.nftIndex();
 	}
 
 	UniqTokenView uniqTokenView() {
@@ -621,8 +629,4 @@ public class StateView {
 	private static <K extends VirtualKey<K>, V extends VirtualValue> VirtualMap<K, V> emptyVm() {
 		return (VirtualMap<K, V>) EMPTY_VM;
 	}
-
-	private static <K, V> FCOneToManyRelation<K, V> emptyFcotmr() {
-		return (FCOneToManyRelation<K, V>) EMPTY_FCOTMR;
-	}
 }
@@ -241,6 +241,8 @@ public final class BootstrapProperties implements PropertySource {
 			"ledger.tokenTransfers.maxLen",
 			"ledger.nftTransfers.maxLen",
 			"ledger.schedule.txExpiryTimeSecs",
+			"queries.answerFromLastSignedState",
+			"queries.lastSignedStateMaxStalenessMs",
 			"rates.intradayChangeLimitPercent",
 			"rates.midnightCheckInterval",
 			"scheduling.whitelist",
@@ -298,7 +300,23 @@ public final class BootstrapProperties implements PropertySource {
 			"stats.executionTimesToTrack",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
 			"stats.runningAvgHalfLifeSecs",
-			"stats.speedometerHalfLifeSecs"
+			"stats.speedometerHalfLifeSecs",
+			"balances.streamingExport.enabled",
+			"balances.streamingExport.parallelism",
+			"hedera.prefetch.parallelPrepare.enabled",
+			"hedera.prefetch.codeCacheMaxBytes",
+			"stats.handlePhases.enabled",
+			"stats.handlePhases.dumpPath",
+			"hedera.recordStream.handoffWaitStrategy",
+			"hedera.ingestAccessorCache.maxSize",
+			"hedera.feeMemoCache.maxSize",
+			"hedera.storeIndexes.offHeap",
+			"hedera.sigMetaCache.maxSize",
+			"hedera.prefetch.slotProfiles.maxSize",
+			"hedera.localCalls.threadPoolSize",
+			"hedera.localCalls.queueCapacity",
+			"hedera.localCalls.maxGas",
+			"hedera.localCalls.timeoutMs"
 	);
 
 	public static final Set<String> BOOTSTRAP_PROP_NAMES = unmodifiableSet(
@@ -418,6 +436,8 @@ public final class BootstrapProperties implements PropertySource {
 			entry("contracts.consensusThrottleMaxGasLimit", AS_LONG),
 			entry("contracts.precompile.htsDefaultGasCost", AS_LONG),
 			entry("contracts.throttle.throttleByGas", AS_BOOLEAN),
+			entry("queries.answerFromLastSignedState", AS_BOOLEAN),
+			entry("queries.lastSignedStateMaxStalenessMs", AS_LONG),
 			entry("rates.intradayChangeLimitPercent", AS_INT),
 			entry("rates.midnightCheckInterval", AS_LONG),
 			entry("sigs.expandFromLastSignedState", AS_BOOLEAN),
@@ -428,6 +448,20 @@ public final class BootstrapProperties implements PropertySource {
 			entry("stats.speedometerHalfLifeSecs", AS_DOUBLE),
 			entry("consensus.message.maxBytesAllowed", AS_INT),
 			entry("tokens.nfts.areEnabled", AS_BOOLEAN),
-			entry("stats.executionTimesToTrack", AS_INT)
+			entry("stats.executionTimesToTrack", AS_INT),
+			entry("balances.streamingExport.enabled", AS_BOOLEAN),
+			entry("balances.streamingExport.parallelism", AS_INT),
+			entry("hedera.prefetch.parallelPrepare.enabled", AS_BOOLEAN),
+			entry("hedera.prefetch.codeCacheMaxBytes", AS_LONG),
+			entry("stats.handlePhases.enabled", AS_BOOLEAN),
+			entry("hedera.ingestAccessorCache.maxSize", AS_INT),
+			entry("hedera.feeMemoCache.maxSize", AS_INT),
+			entry("hedera.storeIndexes.offHeap", AS_BOOLEAN),
+			entry("hedera.sigMetaCache.maxSize", AS_INT),
+			entry("hedera.prefetch.slotProfiles.maxSize", AS_INT),
+			entry("hedera.localCalls.threadPoolSize", AS_INT),
+			entry("hedera.localCalls.queueCapacity", AS_INT),
+			entry("hedera.localCalls.maxGas", AS_LONG),
+			entry("hedera.localCalls.timeoutMs", AS_LONG)
 	);
 }
@@ -94,6 +94,8 @@ public class GlobalDynamicProperties {
 	private int changeHistorianMemorySecs;
 	private boolean autoCreationEnabled;
 	private boolean expandSigsFromLastSignedState;
+	private boolean answerQueriesFromLastSignedState;
+	private long maxQuerySignedStateStalenessMs;
 	private long maxAggregateContractKvPairs;
 	private int maxIndividualContractKvPairs;
 
@@ -172,6 +174,8 @@ public class GlobalDynamicProperties {
 		changeHistorianMemorySecs = properties.getIntProperty("ledger.changeHistorian.memorySecs");
 		autoCreationEnabled = properties.getBooleanProperty("autoCreation.enabled");
 		expandSigsFromLastSignedState = properties.getBooleanProperty("sigs.expandFromLastSignedState");
+		answerQueriesFromLastSignedState = properties.getBooleanProperty("queries.answerFromLastSignedState");
+		maxQuerySignedStateStalenessMs = properties.getLongProperty("queries.lastSignedStateMaxStalenessMs");
 		maxAggregateContractKvPairs = properties.getLongProperty("contracts.maxKvPairs.aggregate");
 		maxIndividualContractKvPairs = properties.getIntProperty("contracts.maxKvPairs.individual");
 	}
@@ -396,6 +400,14 @@ public class GlobalDynamicProperties {
 		return expandSigsFromLastSignedState;
 	}
 
+	public boolean answerQueriesFromLastSignedState() {
+		return answerQueriesFromLastSignedState;
+	}
+
+	public long maxQuerySignedStateStalenessMs() {
+		return maxQuerySignedStateStalenessMs;
+	}
+
 	public long maxAggregateContractKvPairs() {
 		return maxAggregateContractKvPairs;
 	}
@@ -63,6 +63,22 @@ public class NodeLocalProperties {
 	private int prefetchQueueCapacity;
 	private int prefetchThreadPoolSize;
 	private int prefetchCodeCacheTtlSecs;
+	private boolean streamingBalancesExportEnabled;
+	private int streamingBalancesExportParallelism;
+	private boolean prefetchParallelPrepareEnabled;
+	private long prefetchCodeCacheMaxBytes;
+	private boolean statsHandlePhasesEnabled;
+	private String statsHandlePhasesDumpPath;
+	private String recordStreamHandoffWaitStrategy;
+	private int ingestAccessorCacheMaxSize;
+	private int feeMemoCacheMaxSize;
+	private boolean storeIndexesOffHeap;
+	private int sigMetaCacheMaxSize;
+	private int prefetchSlotProfilesMaxSize;
+	private int localCallsThreadPoolSize;
+	private int localCallsQueueCapacity;
+	private long localCallsMaxGas;
+	private long localCallsTimeoutMs;
 
 	@Inject
 	public NodeLocalProperties(@CompositeProps PropertySource properties) {
@@ -106,6 +122,22 @@ public class NodeLocalProperties {
 		prefetchQueueCapacity = properties.getIntProperty("hedera.prefetch.queueCapacity");
 		prefetchThreadPoolSize = properties.getIntProperty("hedera.prefetch.threadPoolSize");
 		prefetchCodeCacheTtlSecs = properties.getIntProperty("hedera.prefetch.codeCacheTtlSecs");
+		streamingBalancesExportEnabled = properties.getBooleanProperty("balances.streamingExport.enabled");
+		streamingBalancesExportParallelism = properties.getIntProperty("balances.streamingExport.parallelism");
+		prefetchParallelPrepareEnabled = properties.getBooleanProperty("hedera.prefetch.parallelPrepare.enabled");
+		prefetchCodeCacheMaxBytes = properties.getLongProperty("hedera.prefetch.codeCacheMaxBytes");
+		statsHandlePhasesEnabled = properties.getBooleanProperty("stats.handlePhases.enabled");
+		statsHandlePhasesDumpPath = properties.getStringProperty("stats.handlePhases.dumpPath");
+		recordStreamHandoffWaitStrategy = properties.getStringProperty("hedera.recordStream.handoffWaitStrategy");
+		ingestAccessorCacheMaxSize = properties.getIntProperty("hedera.ingestAccessorCache.maxSize");
+		feeMemoCacheMaxSize = properties.getIntProperty("hedera.feeMemoCache.maxSize");
+		storeIndexesOffHeap = properties.getBooleanProperty("hedera.storeIndexes.offHeap");
+		sigMetaCacheMaxSize = properties.getIntProperty("hedera.sigMetaCache.maxSize");
+		prefetchSlotProfilesMaxSize = properties.getIntProperty("hedera.prefetch.slotProfiles.maxSize");
+		localCallsThreadPoolSize = properties.getIntProperty("hedera.localCalls.threadPoolSize");
+		localCallsQueueCapacity = properties.getIntProperty("hedera.localCalls.queueCapacity");
+		localCallsMaxGas = properties.getLongProperty("hedera.localCalls.maxGas");
+		localCallsTimeoutMs = properties.getLongProperty("hedera.localCalls.timeoutMs");
 	}
 
 	public int port() {
@@ -237,4 +269,68 @@ public class NodeLocalProperties {
 	public int prefetchThreadPoolSize() { return prefetchThreadPoolSize; }
 
 	public int prefetchCodeCacheTtlSecs() { return prefetchCodeCacheTtlSecs; }
+
+	public boolean isStreamingBalancesExportEnabled() {
+		return streamingBalancesExportEnabled;
+	}
+
+	public int streamingBalancesExportParallelism() {
+		return streamingBalancesExportParallelism;
+	}
+
+	public boolean isPrefetchParallelPrepareEnabled() {
+		return prefetchParallelPrepareEnabled;
+	}
+
+	public long prefetchCodeCacheMaxBytes() {
+		return prefetchCodeCacheMaxBytes;
+	}
+
+	public boolean areHandlePhaseLatenciesEnabled() {
+		return statsHandlePhasesEnabled;
+	}
+
+	public String handlePhasesDumpPath() {
+		return statsHandlePhasesDumpPath;
+	}
+
+	public String recordStreamHandoffWaitStrategy() {
+		return recordStreamHandoffWaitStrategy;
+	}
+
+	public int ingestAccessorCacheMaxSize() {
+		return ingestAccessorCacheMaxSize;
+	}
+
+	public int feeMemoCacheMaxSize() {
+		return feeMemoCacheMaxSize;
+	}
+
+	public boolean storeIndexesOffHeap() {
+		return storeIndexesOffHeap;
+	}
+
+	public int sigMetaCacheMaxSize() {
+		return sigMetaCacheMaxSize;
+	}
+
+	public int prefetchSlotProfilesMaxSize() {
+		return prefetchSlotProfilesMaxSize;
+	}
+
+	public int localCallsThreadPoolSize() {
+		return localCallsThreadPoolSize;
+	}
+
+	public int localCallsQueueCapacity() {
+		return localCallsQueueCapacity;
+	}
+
+	public long localCallsMaxGas() {
+		return localCallsMaxGas;
+	}
+
+	public long localCallsTimeoutMs() {
+		return localCallsTimeoutMs;
+	}
 }
@@ -49,6 +49,7 @@ import com.hedera.services.store.contracts.HederaWorldState;
 import com.hedera.services.store.contracts.MutableEntityAccess;
 import com.hedera.services.store.contracts.SizeLimitedStorage;
 import com.hedera.services.store.contracts.precompile.HTSPrecompiledContract;
+import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.virtualmap.VirtualMap;
 import dagger.Binds;
@@ -110,9 +111,10 @@ public abstract class ContractsModule {
 			final TransactionContext txnCtx,
 			final SizeLimitedStorage storage,
 			final TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger,
-			final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode
+			final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode,
+			final UniqueTokenViewsManager tokenViewsManager
 	) {
-		return new MutableEntityAccess(ledger, txnCtx, storage, tokensLedger, bytecode);
+		return new MutableEntityAccess(ledger, txnCtx, storage, tokensLedger, bytecode, tokenViewsManager);
 	}
 
 	@Provides
@@ -23,7 +23,6 @@ package com.hedera.services.contracts.execution;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.store.contracts.HederaMutableWorldState;
 import com.hedera.services.store.contracts.HederaWorldUpdater;
 import com.hedera.services.store.models.Account;
@@ -51,11 +50,8 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CONTRA
  */
 @Singleton
 public class CallLocalEvmTxProcessor extends EvmTxProcessor {
-	private final CodeCache codeCache;
-
 	@Inject
 	public CallLocalEvmTxProcessor(
-			final CodeCache codeCache,
 			final LivePricesSource livePricesSource,
 			final GlobalDynamicProperties dynamicProperties,
 			final GasCalculator gasCalculator,
@@ -63,12 +59,6 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 			final Map<String, PrecompiledContract> precompiledContractMap
 	) {
 		super(livePricesSource, dynamicProperties, gasCalculator, hederaOperations, precompiledContractMap);
-		this.codeCache = codeCache;
-	}
-
-	@Override
-	public void setWorldState(HederaMutableWorldState worldState) {
-		super.setWorldState(worldState);
 	}
 
 	@Override
@@ -76,7 +66,21 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 		return HederaFunctionality.ContractCallLocal;
 	}
 
+	/**
+	 * Executes a static call against the given world state. Since the world state is given per call, a single
+	 * processor can execute many local calls at once, each against its own (signed) state.
+	 *
+	 * @param worldState the world state to call against
+	 * @param sender the payer of the query
+	 * @param receiver the called contract
+	 * @param providedGasLimit the gas limit of the query
+	 * @param value the value sent with the call
+	 * @param callData the parameters of the call
+	 * @param consensusTime the time to use as the consensus time
+	 * @return the result of the call
+	 */
 	public TransactionProcessingResult execute(
+			final HederaMutableWorldState worldState,
 			final Account sender,
 			final Address receiver,
 			final long providedGasLimit,
@@ -86,7 +90,9 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 	) {
 		final long gasPrice = 1;
 
-		return super.execute(sender,
+		return super.execute(
+				worldState,
+				sender,
 				receiver,
 				gasPrice,
 				providedGasLimit,
@@ -105,7 +111,11 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 			final Address to,
 			final Bytes payload
 	) {
-		final var code = codeCache.getIfPresent(to);
+		/* The code must come from the world state this call executes against, not from the shared
+		 * working-state code cache; otherwise a call against a signed state could run bytecode it
+		 * does not contain. */
+		final var account = updater.getHederaAccount(to);
+		final var code = (account == null) ? null : account.getCodeIfPresent();
 		/* It's possible we are racing the handleTransaction() thread, and the target contract's
 		 * _account_ has been created, but not yet its _bytecode_. So if `code` is null here,
 		 * it doesn't mean a system invariant has been violated (FAIL_INVALID); instead it means
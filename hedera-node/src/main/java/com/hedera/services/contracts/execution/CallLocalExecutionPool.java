@@ -0,0 +1,217 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.NetworkInfo;
+import com.hedera.services.context.MutableStateChildren;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.ledger.backing.pure.PureBackingAccounts;
+import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.state.migration.StateVersions;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.CodeCache;
+import com.hedera.services.store.contracts.HederaWorldState;
+import com.hedera.services.store.contracts.StaticEntityAccess;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.builder.RequestBuilder;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.common.Platform;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
+
+/**
+ * A bounded pool of threads that execute {@code ContractCallLocal} queries, so that local calls neither run on
+ * (nor are limited by) the gRPC threads, and share nothing mutable with {@code handleTransaction}.
+ *
+ * Each call reserves the latest signed state from {@link Platform#getLastCompleteSwirldState()} on the pool
+ * thread itself, and holds that reservation until the call finishes (even if the query thread has stopped
+ * waiting for it); so a call never reads the working state, nor a signed state that has been released. It gets
+ * its own {@link StateView}, {@link StaticEntityAccess}, {@link CodeCache}, {@link HederaWorldState}, and
+ * {@link AccountStore} over that signed state. If there is no usable signed state, the call is answered with
+ * {@code BUSY}. Since the {@link CallLocalEvmTxProcessor} takes the world state per call (and reads the called
+ * contract's bytecode through it), one processor serves every thread in the pool, and many calls run in parallel.
+ *
+ * The pool has {@code hedera.localCalls.threadPoolSize} threads and queues at most
+ * {@code hedera.localCalls.queueCapacity} calls; a call that finds the queue full, or that does not finish within
+ * {@code hedera.localCalls.timeoutMs} of being submitted, is answered with {@code BUSY}. (The EVM cannot be
+ * interrupted, so a call that times out still runs to completion; its cost is bounded by the gas cap of
+ * {@code hedera.localCalls.maxGas}, enforced when the query is checked.) The {@link MiscRunningAvgs} track how
+ * long calls wait in the queue.
+ */
+@Singleton
+public class CallLocalExecutionPool {
+	private static final Logger log = LogManager.getLogger(CallLocalExecutionPool.class);
+
+	static final int MINIMUM_THREAD_POOL_SIZE = 1;
+	static final int MINIMUM_QUEUE_CAPACITY = 1;
+
+	private final long timeoutMs;
+	private final EntityIdSource ids;
+	private final OptionValidator validator;
+	private final MiscRunningAvgs runningAvgs;
+	private final NodeLocalProperties nodeProperties;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final CallLocalEvmTxProcessor evmTxProcessor;
+	private final Platform platform;
+	private final TokenStore tokenStore;
+	private final NetworkInfo networkInfo;
+	private final ScheduleStore scheduleStore;
+	private final UniqTokenViewFactory uniqTokenViewFactory;
+	/* Convenience wrapper for the latest state children received from Platform#getLastCompleteSwirldState() */
+	private final ThreadLocal<MutableStateChildren> signedChildren = ThreadLocal.withInitial(MutableStateChildren::new);
+
+	ExecutorService executorService;
+
+	@Inject
+	public CallLocalExecutionPool(
+			final EntityIdSource ids,
+			final OptionValidator validator,
+			final GlobalDynamicProperties dynamicProperties,
+			final NodeLocalProperties nodeProperties,
+			final CallLocalEvmTxProcessor evmTxProcessor,
+			final MiscRunningAvgs runningAvgs,
+			final Platform platform,
+			final TokenStore tokenStore,
+			final NetworkInfo networkInfo,
+			final ScheduleStore scheduleStore,
+			final UniqTokenViewFactory uniqTokenViewFactory
+	) {
+		this.ids = ids;
+		this.platform = platform;
+		this.tokenStore = tokenStore;
+		this.networkInfo = networkInfo;
+		this.scheduleStore = scheduleStore;
+		this.uniqTokenViewFactory = uniqTokenViewFactory;
+		this.validator = validator;
+		this.runningAvgs = runningAvgs;
+		this.nodeProperties = nodeProperties;
+		this.evmTxProcessor = evmTxProcessor;
+		this.dynamicProperties = dynamicProperties;
+		this.timeoutMs = nodeProperties.localCallsTimeoutMs();
+
+		final int threadPoolSize = Math.max(nodeProperties.localCallsThreadPoolSize(), MINIMUM_THREAD_POOL_SIZE);
+		final int queueCapacity = Math.max(nodeProperties.localCallsQueueCapacity(), MINIMUM_QUEUE_CAPACITY);
+		executorService = new ThreadPoolExecutor(
+				threadPoolSize,
+				threadPoolSize,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity));
+		log.info("Executing local calls on {} threads, queueing at most {} calls for up to {}ms",
+				threadPoolSize, queueCapacity, timeoutMs);
+		Runtime.getRuntime().addShutdownHook(new Thread(executorService::shutdownNow));
+	}
+
+	/**
+	 * Executes the given local call against the latest signed state on the pool, and waits for its response.
+	 *
+	 * @param op the local call to execute
+	 * @return the response to the call
+	 * @throws IllegalStateException if the call failed unexpectedly
+	 */
+	public ContractCallLocalResponse execute(final ContractCallLocalQuery op) {
+		final var submittedAt = System.nanoTime();
+		final Future<ContractCallLocalResponse> call;
+		try {
+			call = executorService.submit(() -> {
+				runningAvgs.recordLocalCallQueueLatencyMs(
+						TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt));
+				return executeAgainstSignedState(op);
+			});
+		} catch (RejectedExecutionException full) {
+			return failureWith(BUSY);
+		}
+		try {
+			return call.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException slow) {
+			call.cancel(true);
+			log.warn("Local call to {} did not finish within {}ms", op.getContractID(), timeoutMs);
+			return failureWith(BUSY);
+		} catch (InterruptedException interrupted) {
+			call.cancel(true);
+			Thread.currentThread().interrupt();
+			return failureWith(BUSY);
+		} catch (ExecutionException failure) {
+			throw new IllegalStateException(failure.getCause());
+		}
+	}
+
+	ContractCallLocalResponse executeAgainstSignedState(final ContractCallLocalQuery op) {
+		try (final AutoCloseableWrapper<ServicesState> wrapper = platform.getLastCompleteSwirldState()) {
+			final var signedState = wrapper.get();
+			if (!isUsable(signedState)) {
+				return failureWith(BUSY);
+			}
+			return executeNow(op, signedViewOf(signedState));
+		}
+	}
+
+	ContractCallLocalResponse executeNow(final ContractCallLocalQuery op, final StateView view) {
+		final var entityAccess = new StaticEntityAccess(view, validator, dynamicProperties);
+		final var codeCache = new CodeCache(nodeProperties, entityAccess);
+		final var worldState = new HederaWorldState(ids, entityAccess, codeCache);
+		final var accountStore = new AccountStore(
+				validator, dynamicProperties, new PureBackingAccounts(view::accounts));
+		return CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, op);
+	}
+
+	private boolean isUsable(@Nullable final ServicesState signedState) {
+		return signedState != null && signedState.getStateVersion() == StateVersions.CURRENT_VERSION;
+	}
+
+	private StateView signedViewOf(final ServicesState signedState) {
+		final var children = signedChildren.get();
+		children.updateFrom(signedState);
+		return new StateView(tokenStore, scheduleStore, children, uniqTokenViewFactory, networkInfo);
+	}
+
+	private static ContractCallLocalResponse failureWith(final ResponseCodeEnum status) {
+		final var responseHeader = RequestBuilder.getResponseHeader(status, 0L, ANSWER_ONLY, ByteString.EMPTY);
+		return ContractCallLocalResponse.newBuilder().setHeader(responseHeader).build();
+	}
+}
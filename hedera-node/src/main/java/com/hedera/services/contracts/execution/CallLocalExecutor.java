@@ -23,6 +23,7 @@ package com.hedera.services.contracts.execution;
 import com.google.protobuf.ByteString;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.HederaMutableWorldState;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.ResponseCodeUtil;
 import com.hedera.services.utils.SignedTxnAccessor;
@@ -30,12 +31,11 @@ import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.builder.RequestBuilder;
-import com.swirlds.common.CommonUtils;
-import org.apache.tuweni.bytes.Bytes;
 
 import javax.inject.Singleton;
 import java.time.Instant;
 
+import static com.hedera.services.utils.MiscUtils.wrapUnsafely;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 
@@ -55,10 +55,16 @@ public class CallLocalExecutor {
 	 *
 	 * @param accountStore   the account store
 	 * @param evmTxProcessor the {@link CallLocalEvmTxProcessor} processor
+	 * @param worldState     the world state to call against
 	 * @param op             the query to answer
 	 * @return {@link ContractCallLocalResponse} result of the execution
 	 */
-	public static ContractCallLocalResponse execute(AccountStore accountStore, CallLocalEvmTxProcessor evmTxProcessor, ContractCallLocalQuery op) {
+	public static ContractCallLocalResponse execute(
+			AccountStore accountStore,
+			CallLocalEvmTxProcessor evmTxProcessor,
+			HederaMutableWorldState worldState,
+			ContractCallLocalQuery op
+	) {
 
 		try {
 			TransactionBody body =
@@ -69,11 +75,11 @@ public class CallLocalExecutor {
 			/* --- Load the model objects --- */
 			final var sender = accountStore.loadAccount(senderId);
 			final var receiver = accountStore.loadContract(contractId);
-			final var callData = !op.getFunctionParameters().isEmpty()
-					? Bytes.fromHexString(CommonUtils.hex(op.getFunctionParameters().toByteArray())) : Bytes.EMPTY;
+			final var callData = wrapUnsafely(op.getFunctionParameters());
 
 			/* --- Do the business logic --- */
 			final var result = evmTxProcessor.execute(
+					worldState,
 					sender,
 					receiver.getId().asEvmAddress(),
 					op.getGas(),
@@ -0,0 +1,96 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The mutable scratch objects an {@link EvmTxProcessor} needs to set up an EVM transaction; that is, the
+ * {@link MessageFrame} stack, the builder of the initial frame, and the map of context variables shared by
+ * all the frames of the transaction.
+ *
+ * A processor keeps one context per thread and re-uses it for every transaction that thread executes, so that
+ * setting up a transaction does not allocate these objects each time. This is safe because no frame of a
+ * transaction outlives its execution, and a processor never executes two transactions at once on the same thread.
+ */
+public class EvmExecutionContext {
+	static final String SBH_CONTEXT_KEY = "sbh";
+	static final String FUNCTIONALITY_CONTEXT_KEY = "HederaFunctionality";
+	static final String EXPIRY_CONTEXT_KEY = "expiry";
+
+	private final Deque<MessageFrame> messageFrameStack = new ArrayDeque<>();
+	private final MessageFrame.Builder frameBuilder = MessageFrame.builder();
+	private final Map<String, Object> contextVariables = new HashMap<>();
+
+	/**
+	 * Returns the (empty) frame stack for a new transaction.
+	 *
+	 * @return the frame stack
+	 */
+	public Deque<MessageFrame> messageFrameStack() {
+		messageFrameStack.clear();
+		return messageFrameStack;
+	}
+
+	/**
+	 * Returns the builder for the initial frame of a new transaction. Every field set by any previous
+	 * transaction must be set again before building a frame.
+	 *
+	 * @return the initial frame builder
+	 */
+	public MessageFrame.Builder frameBuilder() {
+		return frameBuilder;
+	}
+
+	/**
+	 * Returns the context variables for a new transaction, with the given values.
+	 *
+	 * @param sbh the storage byte-hour price of the transaction
+	 * @param functionality the functionality of the transaction
+	 * @param expiry the expiry of any contract created by the transaction
+	 * @return the context variables
+	 */
+	public Map<String, Object> contextVariables(final long sbh, final Object functionality, final Object expiry) {
+		contextVariables.put(SBH_CONTEXT_KEY, sbh);
+		contextVariables.put(FUNCTIONALITY_CONTEXT_KEY, functionality);
+		contextVariables.put(EXPIRY_CONTEXT_KEY, expiry);
+		return contextVariables;
+	}
+
+	/**
+	 * Drops the references this context holds to the world state and code of the last transaction, so that
+	 * an idle thread does not keep them reachable.
+	 */
+	public void release() {
+		messageFrameStack.clear();
+		frameBuilder.worldUpdater(null)
+				.code(null)
+				.inputData(null)
+				.blockValues(null)
+				.completer(null);
+	}
+}
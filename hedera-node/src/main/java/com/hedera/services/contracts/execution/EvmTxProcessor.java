@@ -31,6 +31,7 @@ import com.hedera.services.store.models.Id;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.evm.EVM;
 import org.hyperledger.besu.evm.Gas;
@@ -52,12 +53,12 @@ import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.math.BigInteger;
 import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INSUFFICIENT_GAS;
@@ -74,12 +75,20 @@ import static org.hyperledger.besu.evm.MainnetEVMs.registerLondonOperations;
 abstract class EvmTxProcessor {
 	private static final int MAX_STACK_SIZE = 1024;
 	private static final int MAX_CODE_SIZE = 0x6000;
+	private static final Consumer<MessageFrame> NO_OP_COMPLETER = unused -> {
+	};
+	private static final Function<Long, Hash> NO_BLOCK_HASHES = h -> null;
 
 	private HederaMutableWorldState worldState;
 	private final GasCalculator gasCalculator;
 	private final LivePricesSource livePricesSource;
 	private final AbstractMessageProcessor messageCallProcessor;
 	private final AbstractMessageProcessor contractCreationProcessor;
+	/* Stateless, so shared by every frame of every transaction */
+	private final OperationTracer tracer = new HederaTracer();
+	/* Re-used by every transaction executed on the same thread */
+	private final ThreadLocal<EvmExecutionContext> executionContexts =
+			ThreadLocal.withInitial(EvmExecutionContext::new);
 
 	protected final GlobalDynamicProperties dynamicProperties;
 
@@ -167,6 +176,62 @@ abstract class EvmTxProcessor {
 			final Instant consensusTime,
 			final boolean isStatic,
 			final OptionalLong expiry
+	) {
+		return execute(
+				worldState,
+				sender,
+				receiver,
+				gasPrice,
+				gasLimit,
+				value,
+				payload,
+				contractCreation,
+				consensusTime,
+				isStatic,
+				expiry);
+	}
+
+	/**
+	 * Executes the {@link MessageFrame} of the EVM transaction against the given world state, instead of the
+	 * processor's own; so that callers with a world state per transaction (for example, local calls against a
+	 * signed state) can share a processor across threads.
+	 *
+	 * @param worldState
+	 * 		The world state to execute against
+	 * @param sender
+	 * 		The origin {@link Account} that initiates the transaction
+	 * @param receiver
+	 * 		Receiving {@link Address}. For Create transactions, the newly created Contract address
+	 * @param gasPrice
+	 * 		GasPrice to use for gas calculations
+	 * @param gasLimit
+	 * 		Externally provided gas limit
+	 * @param value
+	 * 		Evm transaction value (HBars)
+	 * @param payload
+	 * 		Transaction payload. For Create transactions, the bytecode + constructor arguments
+	 * @param contractCreation
+	 * 		Whether or not this is a contract creation transaction
+	 * @param consensusTime
+	 * 		Current consensus time
+	 * @param isStatic
+	 * 		Whether or not the execution is static
+	 * @param expiry
+	 * 		In the case of Create transactions, the expiry of the top-level contract being created
+	 * @return the result of the EVM execution returned as {@link TransactionProcessingResult}
+	 */
+	protected TransactionProcessingResult execute(
+			final HederaMutableWorldState worldState,
+			final Account sender,
+			final Address receiver,
+			final long gasPrice,
+			final long gasLimit,
+			final long value,
+			final Bytes payload,
+			final boolean contractCreation,
+			final Instant consensusTime,
+			final boolean isStatic,
+			final OptionalLong expiry
 	) {
 		final Wei gasCost = Wei.of(Math.multiplyExact(gasLimit, gasPrice));
 		final Wei upfrontCost = gasCost.add(value);
@@ -189,12 +254,13 @@ abstract class EvmTxProcessor {
 		final Address coinbase = Id.fromGrpcAccount(dynamicProperties.fundingAccount()).asEvmAddress();
 		final HederaBlockValues blockValues = new HederaBlockValues(gasLimit, consensusTime.getEpochSecond());
 		final Gas gasAvailable = Gas.of(gasLimit).minus(intrinsicGas);
-		final Deque<MessageFrame> messageFrameStack = new ArrayDeque<>();
+		final var context = executionContexts.get();
+		final var messageFrameStack = context.messageFrameStack();
 
 		final var stackedUpdater = updater.updater();
 		Wei valueAsWei = Wei.of(value);
 		final MessageFrame.Builder commonInitialFrame =
-				MessageFrame.builder()
+				context.frameBuilder()
 						.messageFrameStack(messageFrameStack)
 						.maxStackSize(MAX_STACK_SIZE)
 						.worldUpdater(stackedUpdater)
@@ -206,21 +272,25 @@ abstract class EvmTxProcessor {
 						.apparentValue(valueAsWei)
 						.blockValues(blockValues)
 						.depth(0)
-						.completer(unused -> {
-						})
+						.completer(NO_OP_COMPLETER)
 						.isStatic(isStatic)
 						.miningBeneficiary(coinbase)
-						.blockHashLookup(h -> null)
-						.contextVariables(Map.of(
-								"sbh", storageByteHoursTinyBarsGiven(consensusTime),
-								"HederaFunctionality", getFunctionType(),
-								"expiry", expiry));
-
-		final MessageFrame initialFrame = buildInitialFrame(commonInitialFrame, updater, receiver, payload);
-		messageFrameStack.addFirst(initialFrame);
-
-		while (!messageFrameStack.isEmpty()) {
-			process(messageFrameStack.peekFirst(), new HederaTracer());
+						.blockHashLookup(NO_BLOCK_HASHES)
+						.contextVariables(context.contextVariables(
+								storageByteHoursTinyBarsGiven(consensusTime),
+								getFunctionType(),
+								expiry));
+
+		final MessageFrame initialFrame;
+		try {
+			initialFrame = buildInitialFrame(commonInitialFrame, updater, receiver, payload);
+			messageFrameStack.addFirst(initialFrame);
+
+			while (!messageFrameStack.isEmpty()) {
+				process(messageFrameStack.peekFirst(), tracer);
+			}
+		} finally {
+			context.release();
 		}
 
 		var gasUsedByTransaction = calculateGasUsedByTX(gasLimit, initialFrame);
@@ -24,6 +24,7 @@ import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.FeeMultiplierSource;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.utils.FeeMemoCache;
 import com.hedera.services.fees.calculation.utils.PricedUsageCalculator;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -74,6 +75,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 	private static final Logger log = LogManager.getLogger(UsageBasedFeeCalculator.class);
 
 	private final AutoRenewCalcs autoRenewCalcs;
+	private final FeeMemoCache feeMemos;
 	private final HbarCentExchange exchange;
 	private final FeeMultiplierSource feeMultiplierSource;
 	private final UsagePricesProvider usagePrices;
@@ -89,10 +91,12 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 			final UsagePricesProvider usagePrices,
 			final FeeMultiplierSource feeMultiplierSource,
 			final PricedUsageCalculator pricedUsageCalculator,
+			final FeeMemoCache feeMemos,
 			final Set<QueryResourceUsageEstimator> queryUsageEstimators,
 			final Map<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators
 	) {
 		this.exchange = exchange;
+		this.feeMemos = feeMemos;
 		this.usagePrices = usagePrices;
 		this.feeMultiplierSource = feeMultiplierSource;
 		this.autoRenewCalcs = autoRenewCalcs;
@@ -106,6 +110,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 	@Override
 	public void init() {
 		usagePrices.loadPriceSchedules();
+		feeMemos.invalidateAll();
 		autoRenewCalcs.setCryptoAutoRenewPriceSeq(usagePrices.activePricingSequence(CryptoAccountAutoRenew));
 	}
 
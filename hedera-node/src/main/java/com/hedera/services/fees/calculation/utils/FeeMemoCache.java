@@ -0,0 +1,173 @@
+package com.hedera.services.fees.calculation.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.usage.BaseTransactionMeta;
+import com.hedera.services.usage.SigUsage;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SubType;
+import com.hederahashgraph.fee.FeeObject;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.EnumSet;
+import java.util.function.Supplier;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+
+/**
+ * Memoizes the fees of the accessor-based operations whose usage is a pure function of a few counts
+ * (the signature usage, the base transaction meta, and the operation meta) so that the structurally
+ * identical {@code CryptoTransfer}s and {@code ConsensusSubmitMessage}s that make up most traffic can
+ * skip re-assessing their usage at both precheck and handle time.
+ *
+ * A memo is keyed on this usage shape together with the function, subtype, resource prices, exchange
+ * rate, and congestion multiplier used to compute it, so it can never be returned for a different
+ * price or rate; but all memos are also invalidated whenever the fee schedules or exchange rates
+ * change. The cache is bounded by {@code hedera.feeMemoCache.maxSize}, and a size of zero disables it.
+ */
+@Singleton
+public class FeeMemoCache {
+	private static final EnumSet<HederaFunctionality> MEMOIZABLE_OPS = EnumSet.of(
+			CryptoTransfer, ConsensusSubmitMessage);
+
+	private final MiscSpeedometers speedometers;
+	private final GlobalDynamicProperties dynamicProperties;
+	@Nullable
+	private final Cache<UsageShape, FeeObject> memos;
+
+	@Inject
+	public FeeMemoCache(
+			final MiscSpeedometers speedometers,
+			final GlobalDynamicProperties dynamicProperties,
+			final NodeLocalProperties nodeLocalProperties
+	) {
+		this.speedometers = speedometers;
+		this.dynamicProperties = dynamicProperties;
+		final var maxSize = nodeLocalProperties.feeMemoCacheMaxSize();
+		this.memos = (maxSize > 0) ? CacheBuilder.newBuilder().maximumSize(maxSize).build() : null;
+	}
+
+	public boolean isMemoizable(final HederaFunctionality function) {
+		return memos != null && MEMOIZABLE_OPS.contains(function);
+	}
+
+	/**
+	 * Returns the memoized fees for a transaction with the same usage shape, computing and memoizing
+	 * them if there are none.
+	 *
+	 * @param accessor the transaction to get fees for, which must be {@link #isMemoizable(HederaFunctionality)}
+	 * @param sigUsage the signature usage of the transaction
+	 * @param prices the resource prices to use
+	 * @param rate the exchange rate to use
+	 * @param multiplier the congestion multiplier to use
+	 * @param fees the computation of the fees on a miss
+	 * @return the fees
+	 */
+	public FeeObject feesFor(
+			final TxnAccessor accessor,
+			final SigUsage sigUsage,
+			final FeeData prices,
+			final ExchangeRate rate,
+			final long multiplier,
+			final Supplier<FeeObject> fees
+	) {
+		final var shape = new UsageShape(
+				accessor.getFunction(),
+				accessor.getSubType(),
+				sigUsage,
+				accessor.baseUsageMeta(),
+				opShapeOf(accessor),
+				prices,
+				rate,
+				multiplier);
+		final var memo = memos.getIfPresent(shape);
+		if (memo != null) {
+			speedometers.cycleFeeMemoHits();
+			return memo;
+		}
+		speedometers.cycleFeeMemoMisses();
+		final var computed = fees.get();
+		memos.put(shape, computed);
+		return computed;
+	}
+
+	public void invalidateAll() {
+		if (memos != null) {
+			memos.invalidateAll();
+		}
+	}
+
+	private Record opShapeOf(final TxnAccessor accessor) {
+		if (accessor.getFunction() == CryptoTransfer) {
+			final var xferMeta = accessor.availXferUsageMeta();
+			return new XferShape(
+					/* AccessorBasedUsages will use this multiplier when assessing the transfer */
+					dynamicProperties.feesTokenTransferUsageMultiplier(),
+					xferMeta.getNumTokensInvolved(),
+					xferMeta.getNumFungibleTokenTransfers(),
+					xferMeta.getNumNftOwnershipChanges(),
+					xferMeta.getCustomFeeTokensInvolved(),
+					xferMeta.getCustomFeeHbarTransfers(),
+					xferMeta.getCustomFeeTokenTransfers());
+		} else {
+			return accessor.availSubmitUsageMeta();
+		}
+	}
+
+	private record UsageShape(
+			HederaFunctionality function,
+			SubType subType,
+			SigUsage sigUsage,
+			BaseTransactionMeta baseMeta,
+			Record opShape,
+			FeeData prices,
+			ExchangeRate rate,
+			long multiplier
+	) {
+	}
+
+	private record XferShape(
+			int tokenMultiplier,
+			int numTokensInvolved,
+			int numFungibleTokenTransfers,
+			int numNftOwnershipChanges,
+			int customFeeTokensInvolved,
+			int customFeeHbarTransfers,
+			int customFeeTokenTransfers
+	) {
+	}
+
+	/* --- Only used by unit tests --- */
+	long size() {
+		return memos == null ? 0 : memos.size();
+	}
+}
@@ -43,16 +43,19 @@ public class PricedUsageCalculator {
 	private final AccessorBasedUsages accessorBasedUsages;
 	private final FeeMultiplierSource feeMultiplierSource;
 	private final OverflowCheckingCalc calculator;
+	private final FeeMemoCache feeMemos;
 
 	@Inject
 	public PricedUsageCalculator(
 			AccessorBasedUsages accessorBasedUsages,
 			FeeMultiplierSource feeMultiplierSource,
-			OverflowCheckingCalc calculator
+			OverflowCheckingCalc calculator,
+			FeeMemoCache feeMemos
 	) {
 		this.accessorBasedUsages = accessorBasedUsages;
 		this.feeMultiplierSource = feeMultiplierSource;
 		this.calculator = calculator;
+		this.feeMemos = feeMemos;
 	}
 
 	public boolean supports(HederaFunctionality function) {
@@ -75,10 +78,26 @@ public class PricedUsageCalculator {
 			UsageAccumulator accumulator
 	) {
 		final var sigUsage = new SigUsage(accessor.numSigPairs(), accessor.sigMapSize(), numSimpleKeys(payerKey));
+		final var multiplier = feeMultiplierSource.currentMultiplier();
 
+		if (feeMemos.isMemoizable(accessor.getFunction())) {
+			return feeMemos.feesFor(accessor, sigUsage, resourcePrices, rate, multiplier, () ->
+					assessedFees(accessor, sigUsage, resourcePrices, rate, multiplier, accumulator));
+		}
+		return assessedFees(accessor, sigUsage, resourcePrices, rate, multiplier, accumulator);
+	}
+
+	private FeeObject assessedFees(
+			TxnAccessor accessor,
+			SigUsage sigUsage,
+			FeeData resourcePrices,
+			ExchangeRate rate,
+			long multiplier,
+			UsageAccumulator accumulator
+	) {
 		accessorBasedUsages.assess(sigUsage, accessor, accumulator);
 
-		return calculator.fees(accumulator, resourcePrices, rate, feeMultiplierSource.currentMultiplier());
+		return calculator.fees(accumulator, resourcePrices, rate, multiplier);
 	}
 
 	UsageAccumulator getHandleScopedAccumulator() {
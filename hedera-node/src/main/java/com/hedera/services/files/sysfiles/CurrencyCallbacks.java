@@ -22,6 +22,7 @@ package com.hedera.services.files.sysfiles;
 
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.utils.FeeMemoCache;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
@@ -34,12 +35,19 @@ import java.util.function.Supplier;
 @Singleton
 public class CurrencyCallbacks {
 	private final FeeCalculator fees;
+	private final FeeMemoCache feeMemos;
 	private final HbarCentExchange exchange;
 	private final Supplier<ExchangeRates> midnightRates;
 
 	@Inject
-	public CurrencyCallbacks(FeeCalculator fees, HbarCentExchange exchange, Supplier<ExchangeRates> midnightRates) {
+	public CurrencyCallbacks(
+			FeeCalculator fees,
+			FeeMemoCache feeMemos,
+			HbarCentExchange exchange,
+			Supplier<ExchangeRates> midnightRates
+	) {
 		this.fees = fees;
+		this.feeMemos = feeMemos;
 		this.exchange = exchange;
 		this.midnightRates = midnightRates;
 	}
@@ -47,6 +55,7 @@ public class CurrencyCallbacks {
 	public Consumer<ExchangeRateSet> exchangeRatesCb() {
 		return rates -> {
 			exchange.updateRates(rates);
+			feeMemos.invalidateAll();
 			var curMidnightRates = midnightRates.get();
 			if (!curMidnightRates.isInitialized()) {
 				curMidnightRates.replaceWith(rates);
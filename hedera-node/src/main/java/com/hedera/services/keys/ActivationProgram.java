@@ -0,0 +1,179 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+
+/**
+ * A Hedera key tree compiled into flat arrays, in the order a DFS traversal encounters its nodes. Each
+ * node records the index just past its subtree, so a {@link JKeyList} or {@link JThresholdKey} reaches its
+ * children by jumping from sibling to sibling; and each simple key records the public key to look up its
+ * signature with (or {@code null} if it has no cryptographic signature, as for a contract key).
+ *
+ * <p>The number of active children needed by each key list and threshold key is fixed at compile time using
+ * the {@link DefaultActivationCharacteristics}; only the top-level key can use other characteristics, exactly
+ * as in the recursive definition of activation in {@link HederaKeyActivation}.
+ *
+ * <p>A program is compiled once per {@link JKey} and then memoized on it, so it assumes the structure of a
+ * key is not mutated after its first activation test.
+ */
+public final class ActivationProgram {
+	private final JKey[] keys;
+	private final byte[][] publicKeys;
+	private final boolean[] isSimple;
+	private final int[] sigsNeeded;
+	private final int[] subtreeEnds;
+
+	private ActivationProgram(final List<JKey> nodes) {
+		final var n = nodes.size();
+		keys = nodes.toArray(new JKey[n]);
+		publicKeys = new byte[n][];
+		isSimple = new boolean[n];
+		sigsNeeded = new int[n];
+		subtreeEnds = new int[n];
+		/* Fill the arrays before the constructor returns, so that the final-field guarantees make a
+		 * program memoized on a (non-volatile) JKey field fully visible to every thread that reads it. */
+		layout(0);
+	}
+
+	/**
+	 * Returns the activation program for the given key, compiling it if this is the first time
+	 * the key's activation has been tested.
+	 *
+	 * @param key
+	 * 		the key of interest
+	 * @return its activation program
+	 */
+	public static ActivationProgram programFor(final JKey key) {
+		var program = key.getActivationProgram();
+		if (program == null) {
+			program = compile(key);
+			key.setActivationProgram(program);
+		}
+		return program;
+	}
+
+	static ActivationProgram compile(final JKey key) {
+		final List<JKey> nodes = new ArrayList<>();
+		collect(key, nodes);
+		return new ActivationProgram(nodes);
+	}
+
+	/**
+	 * Tests whether the compiled key is active, calling the given signature source and validity test
+	 * for each simple key in the same order as the recursive definition would.
+	 *
+	 * @param sigsFn
+	 * 		the source of platform signatures for the simple keys in the compiled key
+	 * @param validity
+	 * 		the logic deciding if a given simple key is activated by a given platform sig
+	 * @param characteristics
+	 * 		the activation characteristics of the top-level key
+	 * @return whether the compiled key is active
+	 */
+	public boolean isActive(
+			final Function<byte[], TransactionSignature> sigsFn,
+			final BiPredicate<JKey, TransactionSignature> validity,
+			final KeyActivationCharacteristics characteristics
+	) {
+		final var topLevelSigsNeeded = (characteristics == DEFAULT_ACTIVATION_CHARACTERISTICS || isSimple[0])
+				? sigsNeeded[0]
+				: sigsNeededFor(keys[0], characteristics);
+		return isActive(0, topLevelSigsNeeded, sigsFn, validity);
+	}
+
+	private boolean isActive(
+			final int i,
+			final int m,
+			final Function<byte[], TransactionSignature> sigsFn,
+			final BiPredicate<JKey, TransactionSignature> validity
+	) {
+		if (isSimple[i]) {
+			final var pk = publicKeys[i];
+			return validity.test(keys[i], (pk == null) ? INVALID_MISSING_SIG : sigsFn.apply(pk));
+		}
+		var n = 0;
+		for (int child = i + 1, end = subtreeEnds[i]; child < end; child = subtreeEnds[child]) {
+			if (isActive(child, sigsNeeded[child], sigsFn, validity)) {
+				n++;
+			}
+		}
+		return n >= m;
+	}
+
+	private int layout(final int i) {
+		final var key = keys[i];
+		var next = i + 1;
+		if (key.hasKeyList() || key.hasThresholdKey()) {
+			final var children = childrenOf(key);
+			for (int j = 0, n = children.size(); j < n; j++) {
+				next = layout(next);
+			}
+			sigsNeeded[i] = sigsNeededFor(key, DEFAULT_ACTIVATION_CHARACTERISTICS);
+		} else {
+			isSimple[i] = true;
+			if (key.hasEd25519Key()) {
+				publicKeys[i] = key.getEd25519();
+			} else if (key.hasECDSAsecp256k1Key()) {
+				publicKeys[i] = key.getECDSASecp256k1Key();
+			}
+		}
+		subtreeEnds[i] = next;
+		return next;
+	}
+
+	private static void collect(final JKey key, final List<JKey> nodes) {
+		nodes.add(key);
+		if (key.hasKeyList() || key.hasThresholdKey()) {
+			for (var child : childrenOf(key)) {
+				collect(child, nodes);
+			}
+		}
+	}
+
+	private static List<JKey> childrenOf(final JKey key) {
+		return key.hasKeyList()
+				? key.getKeyList().getKeysList()
+				: key.getThresholdKey().getKeys().getKeysList();
+	}
+
+	private static int sigsNeededFor(final JKey key, final KeyActivationCharacteristics characteristics) {
+		return key.hasKeyList()
+				? characteristics.sigsNeededForList((JKeyList) key)
+				: characteristics.sigsNeededForThreshold((JThresholdKey) key);
+	}
+
+	/* --- Only used by unit tests --- */
+	int size() {
+		return keys.length;
+	}
+}
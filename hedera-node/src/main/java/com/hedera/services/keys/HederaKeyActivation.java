@@ -21,8 +21,6 @@ package com.hedera.services.keys;
  */
 
 import com.hedera.services.legacy.core.jproto.JKey;
-import com.hedera.services.legacy.core.jproto.JKeyList;
-import com.hedera.services.legacy.core.jproto.JThresholdKey;
 import com.hedera.services.utils.TxnAccessor;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
@@ -50,6 +48,9 @@ public final class HederaKeyActivation {
 
 	private static final byte PARITY_MASK = (byte) 0x01;
 
+	/* Beyond this many sigs, hashing the public keys beats scanning the list for each simple key */
+	static final int MAX_LINEARLY_SCANNED_SIGS = 4;
+
 	public static final TransactionSignature INVALID_MISSING_SIG = new InvalidSignature();
 
 	public static final BiPredicate<JKey, TransactionSignature> ONLY_IF_SIG_IS_VALID =
@@ -116,19 +117,7 @@ public final class HederaKeyActivation {
 			final KeyActivationCharacteristics characteristics
 	) {
 		if (key.hasKeyList() || key.hasThresholdKey()) {
-			final var children = key.hasKeyList()
-					? key.getKeyList().getKeysList()
-					: key.getThresholdKey().getKeys().getKeysList();
-			final var m = key.hasKeyList()
-					? characteristics.sigsNeededForList((JKeyList) key)
-					: characteristics.sigsNeededForThreshold((JThresholdKey) key);
-			var n = 0;
-			for (var child : children) {
-				if (isActive(child, sigsFn, validity)) {
-					n++;
-				}
-			}
-			return n >= m;
+			return ActivationProgram.programFor(key).isActive(sigsFn, validity, characteristics);
 		} else if (key.hasEd25519Key()) {
 			return validity.test(key, sigsFn.apply(key.getEd25519()));
 		} else if (key.hasECDSAsecp256k1Key()) {
@@ -139,13 +128,17 @@ public final class HederaKeyActivation {
 	}
 
 	/**
-	 * Factory for a source of platform signatures backed by a list.
+	 * Factory for a source of platform signatures backed by a list; for all but the shortest
+	 * lists, the signatures are indexed by public key.
 	 *
 	 * @param sigs
 	 * 		the backing list of platform sigs
 	 * @return a supplier that produces the backing list sigs by public key
 	 */
 	public static Function<byte[], TransactionSignature> pkToSigMapFrom(final List<TransactionSignature> sigs) {
+		if (sigs.size() > MAX_LINEARLY_SCANNED_SIGS) {
+			return new PublicKeySigIndex(sigs);
+		}
 		return pk -> {
 			for (var sig : sigs) {
 				if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
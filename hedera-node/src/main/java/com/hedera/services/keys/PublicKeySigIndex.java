@@ -0,0 +1,99 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.TransactionSignature;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.keysMatch;
+
+/**
+ * An open-addressed hash index from public keys to the platform signatures that expand them, for looking up
+ * the signatures of keys with many simple keys in time independent of the number of signatures.
+ *
+ * <p>Both Ed25519 and expanded ECDSA(secp256k1) public keys are hashed by their first eight bytes (the start
+ * of the x-coordinate, for an ECDSA key), which lets a compressed ECDSA(secp256k1) key find the signature for
+ * its expanded form. Matches are still decided by {@link HederaKeyActivation#keysMatch(byte[], byte[])}; and
+ * since signatures with equal hashes are probed in list order, the first matching signature is returned, just
+ * as with a linear scan of the list.
+ */
+final class PublicKeySigIndex implements Function<byte[], TransactionSignature> {
+	private static final int ED25519_PUBLIC_KEY_LEN = 32;
+	private static final int COMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 33;
+	private static final int UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 64;
+	private static final int HASHED_PREFIX_LEN = 8;
+
+	private final int mask;
+	private final byte[][] publicKeys;
+	private final TransactionSignature[] sigs;
+
+	PublicKeySigIndex(final List<TransactionSignature> sigs) {
+		final var capacity = Integer.highestOneBit(Math.max(2, sigs.size()) - 1) << 2;
+		this.mask = capacity - 1;
+		this.publicKeys = new byte[capacity][];
+		this.sigs = new TransactionSignature[capacity];
+		for (var sig : sigs) {
+			final var pk = sig.getExpandedPublicKeyDirect();
+			if (pk != null && (pk.length == ED25519_PUBLIC_KEY_LEN || pk.length == UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN)) {
+				var i = slotFor(pk, 0);
+				while (this.sigs[i] != null) {
+					i = (i + 1) & mask;
+				}
+				this.publicKeys[i] = pk;
+				this.sigs[i] = sig;
+			}
+		}
+	}
+
+	@Override
+	public TransactionSignature apply(final byte[] pk) {
+		final int expectedSigKeyLen;
+		final int offset;
+		if (pk.length == ED25519_PUBLIC_KEY_LEN) {
+			expectedSigKeyLen = ED25519_PUBLIC_KEY_LEN;
+			offset = 0;
+		} else if (pk.length == COMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+			expectedSigKeyLen = UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN;
+			offset = 1;
+		} else {
+			return INVALID_MISSING_SIG;
+		}
+		for (var i = slotFor(pk, offset); sigs[i] != null; i = (i + 1) & mask) {
+			final var sigKey = publicKeys[i];
+			if (sigKey.length == expectedSigKeyLen && keysMatch(pk, sigKey)) {
+				return sigs[i];
+			}
+		}
+		return INVALID_MISSING_SIG;
+	}
+
+	private int slotFor(final byte[] pk, final int offset) {
+		var h = 0L;
+		for (int i = offset, end = offset + HASHED_PREFIX_LEN; i < end; i++) {
+			h = (h << 8) | (pk[i] & 0xFF);
+		}
+		h *= 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32) & mask;
+	}
+}
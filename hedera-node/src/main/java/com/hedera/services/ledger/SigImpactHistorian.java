@@ -22,7 +22,10 @@ package com.hedera.services.ledger;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.sigs.metadata.SigMetadataCache;
 import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
+import com.hedera.services.state.expiry.MonotonicFullQueueLongExpiries;
+import com.hedera.services.utils.LongToInstantMap;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -34,6 +37,9 @@ import java.util.Map;
 import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
 import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
 import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
+import static com.hedera.services.utils.LongToInstantMap.MISSING;
+import static com.hedera.services.utils.LongToInstantMap.pack;
+import static com.hedera.services.utils.LongToInstantMap.secondsOf;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -57,9 +63,16 @@ import static java.util.Objects.requireNonNull;
  *
  * But if any of the entities <b>have</b> experienced a change with signature impact, we must re-expand the signatures
  * in {@code handleTransaction} to be sure we are up-to-date.
+ *
+ * Since entities are marked changed on nearly every {@code handleTransaction}, their change times and expiries are
+ * kept in primitive structures that do not box the entity numbers or allocate {@link Instant}s.
+ *
+ * Every entity change is also reported to the {@link SigMetadataCache}, which uses it to invalidate the signing
+ * metadata it has cached for the entity.
  */
 @Singleton
 public class SigImpactHistorian {
+	private final SigMetadataCache sigMetadataCache;
 	private final GlobalDynamicProperties dynamicProperties;
 
 	/* The current time used to mark a change; statuses are returned given strictly earlier changes in the window. */
@@ -69,9 +82,9 @@ public class SigImpactHistorian {
 	/* Has the historian seen at least ledger.changeHistorian.memorySecs full seconds of consensus times? */
 	private boolean fullWindowElapsed = false;
 
-	private final Map<Long, Instant> entityChangeTimes = new HashMap<>();
+	private final LongToInstantMap entityChangeTimes = new LongToInstantMap();
 	private final Map<ByteString, Instant> aliasChangeTimes = new HashMap<>();
-	private final MonotonicFullQueueExpiries<Long> entityChangeExpiries = new MonotonicFullQueueExpiries<>();
+	private final MonotonicFullQueueLongExpiries entityChangeExpiries = new MonotonicFullQueueLongExpiries();
 	private final MonotonicFullQueueExpiries<ByteString> aliasChangeExpiries = new MonotonicFullQueueExpiries<>();
 
 	public enum ChangeStatus {
@@ -79,8 +92,12 @@ public class SigImpactHistorian {
 	}
 
 	@Inject
-	public SigImpactHistorian(final GlobalDynamicProperties dynamicProperties) {
+	public SigImpactHistorian(
+			final GlobalDynamicProperties dynamicProperties,
+			final SigMetadataCache sigMetadataCache
+	) {
 		this.dynamicProperties = dynamicProperties;
+		this.sigMetadataCache = sigMetadataCache;
 	}
 
 	/**
@@ -94,6 +111,7 @@ public class SigImpactHistorian {
 		if (!fullWindowElapsed) {
 			manageFirstWindow(now);
 		}
+		sigMetadataCache.onNewChangeTime(now);
 	}
 
 	/**
@@ -102,7 +120,7 @@ public class SigImpactHistorian {
 	public void purge() {
 		final var thisSecond = now.getEpochSecond();
 		expire(thisSecond, aliasChangeTimes, aliasChangeExpiries);
-		expire(thisSecond, entityChangeTimes, entityChangeExpiries);
+		expireEntities(thisSecond);
 	}
 
 	/**
@@ -121,8 +139,12 @@ public class SigImpactHistorian {
 		if (inFutureWindow(then)) {
 			return UNKNOWN;
 		}
-		final var lastChangeInWindow = entityChangeTimes.get(entityNum);
-		return statusGiven(lastChangeInWindow, then);
+		final var lastChangeInWindow = entityChangeTimes.getPacked(entityNum);
+		if (lastChangeInWindow == MISSING) {
+			return unchangedStatusGiven(then);
+		} else {
+			return pack(then) > lastChangeInWindow ? UNCHANGED : CHANGED;
+		}
 	}
 
 	/**
@@ -154,6 +176,7 @@ public class SigImpactHistorian {
 		requireNonNull(now, "Cannot mark an entity changed at null consensus time");
 		entityChangeTimes.put(entityNum, now);
 		entityChangeExpiries.track(entityNum, expirySec());
+		sigMetadataCache.markChanged(entityNum, now);
 	}
 
 	/**
@@ -180,6 +203,7 @@ public class SigImpactHistorian {
 		entityChangeTimes.clear();
 		aliasChangeExpiries.reset();
 		entityChangeExpiries.reset();
+		sigMetadataCache.reset();
 	}
 
 	/* --- Internal helpers --- */
@@ -198,6 +222,17 @@ public class SigImpactHistorian {
 		}
 	}
 
+	private void expireEntities(final long thisSecond) {
+		while (entityChangeExpiries.hasExpiringAt(thisSecond)) {
+			final var maybeExpiredChange = entityChangeExpiries.expireNextAt(thisSecond);
+			/* This could be missing if two changes to the same entity happened in the same consensus second. */
+			final var changeTime = entityChangeTimes.getPacked(maybeExpiredChange);
+			if (changeTime != MISSING && !inCurrentFullWindow(secondsOf(changeTime))) {
+				entityChangeTimes.remove(maybeExpiredChange);
+			}
+		}
+	}
+
 	private boolean inFutureWindow(final Instant then) {
 		return now == null || !then.isBefore(now);
 	}
@@ -216,18 +251,26 @@ public class SigImpactHistorian {
 
 	private ChangeStatus statusGiven(final @Nullable Instant lastChangeInWindow, final Instant then) {
 		if (lastChangeInWindow == null)	{
-			if (fullWindowElapsed) {
-				return inCurrentFullWindow(then) ? UNCHANGED : UNKNOWN;
-			} else {
-				return then.isAfter(firstNow) ? UNCHANGED : UNKNOWN;
-			}
+			return unchangedStatusGiven(then);
 		} else {
 			return then.isAfter(lastChangeInWindow) ? UNCHANGED : CHANGED;
 		}
 	}
 
+	private ChangeStatus unchangedStatusGiven(final Instant then) {
+		if (fullWindowElapsed) {
+			return inCurrentFullWindow(then) ? UNCHANGED : UNKNOWN;
+		} else {
+			return then.isAfter(firstNow) ? UNCHANGED : UNKNOWN;
+		}
+	}
+
 	private boolean inCurrentFullWindow(final Instant then)  {
-		return then.getEpochSecond() >= now.getEpochSecond() - dynamicProperties.changeHistorianMemorySecs();
+		return inCurrentFullWindow(then.getEpochSecond());
+	}
+
+	private boolean inCurrentFullWindow(final long thenSecond)  {
+		return thenSecond >= now.getEpochSecond() - dynamicProperties.changeHistorianMemorySecs();
 	}
 
 	private long expirySec() {
@@ -248,7 +291,7 @@ public class SigImpactHistorian {
 		return fullWindowElapsed;
 	}
 
-	Map<Long, Instant> getEntityChangeTimes() {
+	LongToInstantMap getEntityChangeTimes() {
 		return entityChangeTimes;
 	}
 
@@ -256,7 +299,7 @@ public class SigImpactHistorian {
 		return aliasChangeTimes;
 	}
 
-	MonotonicFullQueueExpiries<Long> getEntityChangeExpiries() {
+	MonotonicFullQueueLongExpiries getEntityChangeExpiries() {
 		return entityChangeExpiries;
 	}
 
@@ -29,25 +29,30 @@ import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hedera.services.utils.EntityNum.MISSING_NUM;
-import static com.hedera.services.utils.MiscUtils.forEach;
+import static com.hedera.services.utils.MiscUtils.forEachPartitioned;
 
 /**
  * Handles a map with all the accounts that are auto-created. The map will be re-built on restart, reconnect.
  * Entries from the map are removed when the entity expires
+ *
+ * Aliases are resolved from query and signature expansion threads while the handle thread links and
+ * unlinks them, so the map is a {@link ConcurrentHashMap}; and a rebuild populates a fresh map before
+ * publishing it, so concurrent readers never observe a partially rebuilt map.
  */
 @Singleton
 public class AliasManager {
 	private static final Logger log = LogManager.getLogger(AliasManager.class);
 
-	private Map<ByteString, EntityNum> aliases;
+	private volatile Map<ByteString, EntityNum> aliases;
 
 	@Inject
 	public AliasManager() {
-		this.aliases = new HashMap<>();
+		this.aliases = new ConcurrentHashMap<>();
 	}
 
 	public void link(final ByteString alias, final EntityNum num) {
@@ -61,17 +66,21 @@ public class AliasManager {
 	/**
 	 * From given MerkleMap of accounts, populate the auto accounts creations map. Iterate through
 	 * each account in accountsMap and add an entry to autoAccountsMap if {@code alias} exists on the account.
+	 * (Disjoint subtrees of the accounts are scanned in parallel, since this map can be very large.)
 	 *
 	 * @param accounts the current accounts
 	 */
 	public void rebuildAliasesMap(final MerkleMap<EntityNum, MerkleAccount> accounts) {
-		aliases.clear();
-		forEach(accounts, (k, v) -> {
-			if (!v.getAlias().isEmpty()) {
-				aliases.put(v.getAlias(), k);
+		final var partials = forEachPartitioned(accounts, ArrayList<MerkleAccount>::new, (aliased, account) -> {
+			if (!account.getAlias().isEmpty()) {
+				aliased.add(account);
 			}
 		});
-		log.info("Rebuild complete : No.of accounts with aliases {} ", aliases.size());
+		final var numAliased = partials.stream().mapToInt(ArrayList::size).sum();
+		final Map<ByteString, EntityNum> rebuilt = new ConcurrentHashMap<>(numAliased);
+		partials.forEach(aliased -> aliased.forEach(account -> rebuilt.put(account.getAlias(), account.getKey())));
+		aliases = rebuilt;
+		log.info("Rebuild complete : No.of accounts with aliases {} ", rebuilt.size());
 	}
 
 	/**
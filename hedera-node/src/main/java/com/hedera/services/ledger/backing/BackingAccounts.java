@@ -27,12 +27,13 @@ import com.swirlds.merkle.map.MerkleMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import static com.hedera.services.utils.EntityNum.fromAccountId;
-import static com.hedera.services.utils.MiscUtils.forEach;
+import static com.hedera.services.utils.MiscUtils.forEachPartitioned;
 
 @Singleton
 public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
@@ -48,7 +49,11 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 	public void rebuildFromSources() {
 		existingAccounts.clear();
 		final var curAccounts = delegate.get();
-		forEach(curAccounts, (id, account) -> existingAccounts.add(id.toGrpcAccountId()));
+		final var partials = forEachPartitioned(
+				curAccounts,
+				ArrayList<AccountID>::new,
+				(ids, account) -> ids.add(account.getKey().toGrpcAccountId()));
+		partials.forEach(existingAccounts::addAll);
 	}
 
 	@Override
@@ -21,6 +21,7 @@ package com.hedera.services.legacy.core.jproto;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.keys.ActivationProgram;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.KeyList;
 import com.hederahashgraph.api.proto.java.ThresholdKey;
@@ -45,6 +46,7 @@ public abstract class JKey {
 	private static final byte[] MISSING_ECDSA_SECP256K1_KEY = new byte[0];
 
 	private boolean forScheduledTxn = false;
+	private ActivationProgram activationProgram = null;
 
 	/**
 	 * Maps a proto Key to Jkey.
@@ -253,6 +255,14 @@ public abstract class JKey {
 		return forScheduledTxn;
 	}
 
+	public ActivationProgram getActivationProgram() {
+		return activationProgram;
+	}
+
+	public void setActivationProgram(ActivationProgram activationProgram) {
+		this.activationProgram = activationProgram;
+	}
+
 	public boolean hasEd25519Key() {
 		return false;
 	}
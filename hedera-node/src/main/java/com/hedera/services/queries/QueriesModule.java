@@ -23,10 +23,10 @@ package com.hedera.services.queries;
 import com.hedera.services.config.AccountNumbers;
 import com.hedera.services.context.NodeInfo;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
-import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.queries.answering.QueryHeaderValidity;
+import com.hedera.services.queries.answering.QueryViewsManager;
 import com.hedera.services.queries.answering.StakeAwareAnswerFlow;
 import com.hedera.services.queries.answering.StakedAnswerFlow;
 import com.hedera.services.queries.answering.ZeroStakeAnswerFlow;
@@ -39,7 +39,6 @@ import dagger.Module;
 import dagger.Provides;
 
 import javax.inject.Singleton;
-import java.util.function.Supplier;
 
 @Module
 public final class QueriesModule {
@@ -52,7 +51,7 @@ public final class QueriesModule {
 			final AccountNumbers accountNums,
 			final QueryFeeCheck queryFeeCheck,
 			final HapiOpPermissions hapiOpPermissions,
-			final Supplier<StateView> stateViews,
+			final QueryViewsManager stateViews,
 			final UsagePricesProvider usagePrices,
 			final QueryHeaderValidity queryHeaderValidity,
 			final TransactionPrecheck transactionPrecheck,
@@ -0,0 +1,43 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.Response;
+
+import java.util.function.Function;
+
+/**
+ * Gives an {@link com.hedera.services.queries.AnswerFlow} the {@link StateView} to answer a {@link Query}
+ * from, keeping the state behind that view available until the answer is computed.
+ */
+@FunctionalInterface
+public interface QueryStateViews {
+	/**
+	 * Computes a response using the best available view of the state.
+	 *
+	 * @param answerer
+	 * 		the function that computes a response from a view
+	 * @return the computed response
+	 */
+	Response answerFrom(Function<StateView, Response> answerer);
+}
@@ -0,0 +1,140 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.NetworkInfo;
+import com.hedera.services.context.MutableStateChildren;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.StateAccessor;
+import com.hedera.services.state.annotations.WorkingState;
+import com.hedera.services.state.migration.StateVersions;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
+import com.hederahashgraph.api.proto.java.Response;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.common.Platform;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Answers queries from the latest signed state as returned by {@link Platform#getLastCompleteSwirldState()}
+ * when {@code queries.answerFromLastSignedState=true}, so that query threads neither contend with
+ * {@code handleTransaction} for the working state's {@code MerkleMap}s nor see them change mid-answer.
+ *
+ * We fall back to the working state if there is no signed state; if it is from an earlier state version or
+ * has not handled any transactions; or if its last-handled transaction is more than
+ * {@code queries.lastSignedStateMaxStalenessMs} of consensus time behind that of the working state. (A signed
+ * state does not need an {@code init()} call first, since every child a {@link StateView} reads is part of
+ * the state itself.)
+ *
+ * The signed-state children are confined to the thread answering the query, and the signed state is
+ * reserved until the answer is computed. Note the {@link TokenStore} and {@link ScheduleStore} used for
+ * token and schedule info still read from the working state.
+ */
+@Singleton
+public class QueryViewsManager implements QueryStateViews {
+	private final Platform platform;
+	private final TokenStore tokenStore;
+	private final NetworkInfo networkInfo;
+	private final StateAccessor workingState;
+	private final ScheduleStore scheduleStore;
+	private final MiscRunningAvgs runningAvgs;
+	private final MiscSpeedometers speedometers;
+	private final Supplier<StateView> workingViews;
+	private final UniqTokenViewFactory uniqTokenViewFactory;
+	private final GlobalDynamicProperties dynamicProperties;
+	/* Convenience wrapper for the latest state children received from Platform#getLastCompleteSwirldState() */
+	private final ThreadLocal<MutableStateChildren> signedChildren = ThreadLocal.withInitial(MutableStateChildren::new);
+
+	@Inject
+	public QueryViewsManager(
+			final Platform platform,
+			final TokenStore tokenStore,
+			final NetworkInfo networkInfo,
+			final ScheduleStore scheduleStore,
+			final MiscRunningAvgs runningAvgs,
+			final MiscSpeedometers speedometers,
+			final Supplier<StateView> workingViews,
+			final UniqTokenViewFactory uniqTokenViewFactory,
+			final GlobalDynamicProperties dynamicProperties,
+			final @WorkingState StateAccessor workingState
+	) {
+		this.platform = platform;
+		this.tokenStore = tokenStore;
+		this.networkInfo = networkInfo;
+		this.runningAvgs = runningAvgs;
+		this.workingState = workingState;
+		this.speedometers = speedometers;
+		this.workingViews = workingViews;
+		this.scheduleStore = scheduleStore;
+		this.dynamicProperties = dynamicProperties;
+		this.uniqTokenViewFactory = uniqTokenViewFactory;
+	}
+
+	@Override
+	public Response answerFrom(final Function<StateView, Response> answerer) {
+		if (dynamicProperties.answerQueriesFromLastSignedState()) {
+			try (final AutoCloseableWrapper<ServicesState> wrapper = platform.getLastCompleteSwirldState()) {
+				final var signedState = wrapper.get();
+				if (isUsable(signedState)) {
+					speedometers.cycleSignedStateQueryAnswers();
+					return answerer.apply(signedViewOf(signedState));
+				}
+			}
+			speedometers.cycleWorkingStateQueryFallbacks();
+		}
+		return answerer.apply(workingViews.get());
+	}
+
+	private boolean isUsable(@Nullable final ServicesState signedState) {
+		if (signedState == null) {
+			return false;
+		}
+		final var signedLastHandled = signedState.getTimeOfLastHandledTxn();
+		if (signedLastHandled == null || signedState.getStateVersion() != StateVersions.CURRENT_VERSION) {
+			return false;
+		}
+		final var workingLastHandled = workingState.networkCtx().consensusTimeOfLastHandledTxn();
+		final var stalenessMs = (workingLastHandled == null)
+				? 0L
+				: Math.max(0L, Duration.between(signedLastHandled, workingLastHandled).toMillis());
+		runningAvgs.recordSignedStateQueryStalenessMs(stalenessMs);
+		return stalenessMs <= dynamicProperties.maxQuerySignedStateStalenessMs();
+	}
+
+	private StateView signedViewOf(final ServicesState signedState) {
+		/* Since these children are confined to the current thread, and the signed state stays
+		 * reserved until we finish answering, the view is consistent for the whole query. */
+		final var children = signedChildren.get();
+		children.updateFrom(signedState);
+		return new StateView(tokenStore, scheduleStore, children, uniqTokenViewFactory, networkInfo);
+	}
+}
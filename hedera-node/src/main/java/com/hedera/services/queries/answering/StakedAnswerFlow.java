@@ -44,7 +44,6 @@ import javax.annotation.Nullable;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import static com.hedera.services.txns.submission.SystemPrecheck.IS_THROTTLE_EXEMPT;
 import static com.hedera.services.txns.submission.SystemPrecheck.RESTRICTED_FUNCTIONALITIES;
@@ -60,7 +59,7 @@ public final class StakedAnswerFlow implements AnswerFlow {
 	private final QueryFeeCheck queryFeeCheck;
 	private final AccountNumbers accountNums;
 	private final HapiOpPermissions hapiOpPermissions;
-	private final Supplier<StateView> stateViews;
+	private final QueryStateViews stateViews;
 	private final UsagePricesProvider resourceCosts;
 	private final QueryHeaderValidity queryHeaderValidity;
 	private final TransactionPrecheck transactionPrecheck;
@@ -70,7 +69,7 @@ public final class StakedAnswerFlow implements AnswerFlow {
 	public StakedAnswerFlow(
 			final FeeCalculator fees,
 			final AccountNumbers accountNums,
-			final Supplier<StateView> stateViews,
+			final QueryStateViews stateViews,
 			final UsagePricesProvider resourceCosts,
 			final FunctionalityThrottling throttles,
 			final PlatformSubmissionManager submissionManager,
@@ -93,7 +92,10 @@ public final class StakedAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(final AnswerService service, final Query query) {
-		final var view = stateViews.get();
+		return stateViews.answerFrom(view -> satisfyUsing(service, query, view));
+	}
+
+	private Response satisfyUsing(final AnswerService service, final Query query, final StateView view) {
 		final var headerStatus = queryHeaderValidity.checkHeader(query);
 		if (headerStatus != OK) {
 			return service.responseGiven(query, view, headerStatus);
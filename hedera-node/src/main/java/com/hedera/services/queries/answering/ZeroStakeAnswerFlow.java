@@ -27,19 +27,17 @@ import com.hedera.services.throttling.FunctionalityThrottling;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 
-import java.util.function.Supplier;
-
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 public class ZeroStakeAnswerFlow implements AnswerFlow {
-	private final Supplier<StateView> stateViews;
+	private final QueryStateViews stateViews;
 	private final QueryHeaderValidity queryHeaderValidity;
 	private final FunctionalityThrottling throttles;
 
 	public ZeroStakeAnswerFlow(
 			QueryHeaderValidity queryHeaderValidity,
-			Supplier<StateView> stateViews,
+			QueryStateViews stateViews,
 			FunctionalityThrottling throttles
 	) {
 		this.queryHeaderValidity = queryHeaderValidity;
@@ -49,8 +47,10 @@ public class ZeroStakeAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
-		var view = stateViews.get();
+		return stateViews.answerFrom(view -> satisfyUsing(service, query, view));
+	}
 
+	private Response satisfyUsing(AnswerService service, Query query, StateView view) {
 		if (throttles.shouldThrottleQuery(service.canonicalFunction(), query)) {
 			return service.responseGiven(query, view, BUSY);
 		}
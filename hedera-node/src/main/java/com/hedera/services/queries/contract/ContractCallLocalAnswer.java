@@ -23,14 +23,8 @@ package com.hedera.services.queries.contract;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
-import com.hedera.services.contracts.execution.CallLocalExecutor;
-import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.contracts.execution.CallLocalExecutionPool;
 import com.hedera.services.queries.AbstractAnswer;
-import com.hedera.services.store.AccountStore;
-import com.hedera.services.store.contracts.CodeCache;
-import com.hedera.services.store.contracts.HederaWorldState;
-import com.hedera.services.store.contracts.StaticEntityAccess;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
@@ -56,21 +50,14 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 	public static final String CONTRACT_CALL_LOCAL_CTX_KEY =
 			ContractCallLocalAnswer.class.getSimpleName() + "_localCallResponse";
 
-	private final AccountStore accountStore;
-	private final EntityIdSource ids;
-	private final OptionValidator validator;
-	private final GlobalDynamicProperties dynamicProperties;
-	private final NodeLocalProperties nodeProperties;
-	private final CallLocalEvmTxProcessor callLocalEvmTxProcessor;
+	private final CallLocalExecutionPool callLocalExecutionPool;
 
 	@Inject
 	public ContractCallLocalAnswer(
-			final EntityIdSource ids,
-			final AccountStore accountStore,
 			final OptionValidator validator,
 			final GlobalDynamicProperties dynamicProperties,
 			final NodeLocalProperties nodeProperties,
-			final CallLocalEvmTxProcessor callLocalEvmTxProcessor
+			final CallLocalExecutionPool callLocalExecutionPool
 	) {
 		super(
 				ContractCallLocal,
@@ -81,19 +68,15 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 					var op = query.getContractCallLocal();
 					if (op.getGas() < 0) {
 						return CONTRACT_NEGATIVE_GAS;
-					} else if (op.getGas() > dynamicProperties.maxGas()) {
+					} else if (op.getGas() > dynamicProperties.maxGas()
+							|| op.getGas() > nodeProperties.localCallsMaxGas()) {
 						return MAX_GAS_LIMIT_EXCEEDED;
 					} else {
 						return validator.queryableContractStatus(op.getContractID(), view.contracts());
 					}
 				});
 
-		this.ids = ids;
-		this.validator = validator;
-		this.accountStore = accountStore;
-		this.dynamicProperties = dynamicProperties;
-		this.nodeProperties = nodeProperties;
-		this.callLocalEvmTxProcessor = callLocalEvmTxProcessor;
+		this.callLocalExecutionPool = callLocalExecutionPool;
 	}
 
 	@Override
@@ -129,7 +112,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 			if (type == COST_ANSWER) {
 				response.setHeader(costAnswerHeader(OK, cost));
 			} else {
-				setAnswerOnly(response, view, op, cost, queryCtx);
+				setAnswerOnly(response, op, cost, queryCtx);
 			}
 		}
 
@@ -141,7 +124,6 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 	@SuppressWarnings("unchecked")
 	private void setAnswerOnly(
 			ContractCallLocalResponse.Builder response,
-			StateView view,
 			ContractCallLocalQuery op,
 			long cost,
 			Optional<Map<String, Object>> queryCtx
@@ -158,12 +140,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 			/* If answering from a zero-stake node, there are no node payments, and the
 			usage estimator won't have cached the result it got from the local call. */
 			try {
-				final var entityAccess = new StaticEntityAccess(view, validator, dynamicProperties);
-				final var codeCache = new CodeCache(nodeProperties, entityAccess);
-				final var worldState = new HederaWorldState(ids, entityAccess, codeCache);
-				callLocalEvmTxProcessor.setWorldState(worldState);
-
-				final var callLocalResponse = CallLocalExecutor.execute(accountStore, callLocalEvmTxProcessor, op);
+				final var callLocalResponse = callLocalExecutionPool.execute(op);
 				response.mergeFrom(withCid(callLocalResponse, op.getContractID()));
 			} catch (Exception e) {
 				response.setHeader(answerOnlyHeader(FAIL_INVALID, cost));
@@ -62,6 +62,8 @@ public class Rationalization {
 
 	private JKey reqPayerSig;
 	private boolean verifiedSync;
+	private boolean reusedExpansion;
+	private boolean invalidatedExpansion;
 	private List<JKey> reqOthersSigs;
 	private ResponseCodeEnum finalStatus;
 	private List<TransactionSignature> txnSigs;
@@ -84,17 +86,23 @@ public class Rationalization {
 
 	public void performFor(final TxnAccessor txnAccessor) {
 		final var linkedRefs = txnAccessor.getLinkedRefs();
-		if (linkedRefs != null && linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)) {
+		final var refsUnchanged = linkedRefs != null && linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian);
+		if (refsUnchanged) {
 			finalStatus = txnAccessor.getExpandedSigStatus();
 			if (finalStatus == null) {
 				log.warn("{} had non-null linked refs but null sig status", txnAccessor.getSignedTxnWrapper());
 			} else {
 				verifiedSync = false;
+				reusedExpansion = true;
+				invalidatedExpansion = false;
 				return;
 			}
 		}
 
 		resetFor(txnAccessor);
+		/* Changed linked refs mean the signatures were expanded from a signed state, but can't be reused
+		 * now; while unchanged refs without a sig status mean there was simply no expansion to reuse */
+		invalidatedExpansion = linkedRefs != null && !refsUnchanged;
 		execute();
 	}
 
@@ -106,6 +114,28 @@ public class Rationalization {
 		return verifiedSync;
 	}
 
+	/**
+	 * Indicates whether the last call to {@link Rationalization#performFor(TxnAccessor)} was able to
+	 * simply reuse the signatures expanded in {@code expandSignatures()}, because none of the entities
+	 * linked to the transaction changed since the source signed state.
+	 *
+	 * @return whether the expanded signatures were reused
+	 */
+	public boolean reusedExpansion() {
+		return reusedExpansion;
+	}
+
+	/**
+	 * Indicates whether the last call to {@link Rationalization#performFor(TxnAccessor)} had to discard
+	 * signatures expanded in {@code expandSignatures()}, because at least one entity linked to the
+	 * transaction changed since the source signed state (or its change status was unknown).
+	 *
+	 * @return whether previously expanded signatures were invalidated
+	 */
+	public boolean invalidatedExpansion() {
+		return invalidatedExpansion;
+	}
+
 	void resetFor(final TxnAccessor txnAccessor) {
 		this.pkToSigFn = txnAccessor.getPkToSigsFn();
 		this.txnAccessor = txnAccessor;
@@ -119,6 +149,8 @@ public class Rationalization {
 
 		finalStatus = null;
 		verifiedSync = false;
+		reusedExpansion = false;
+		invalidatedExpansion = false;
 
 		reqPayerSig = null;
 		reqOthersSigs = null;
@@ -262,6 +294,14 @@ public class Rationalization {
 		this.verifiedSync = verifiedSync;
 	}
 
+	void setReusedExpansion(boolean reusedExpansion) {
+		this.reusedExpansion = reusedExpansion;
+	}
+
+	void setInvalidatedExpansion(boolean invalidatedExpansion) {
+		this.invalidatedExpansion = invalidatedExpansion;
+	}
+
 	public Rationalization(
 			final SyncVerifier syncVerifier,
 			final SigRequirements sigReqs,
@@ -0,0 +1,143 @@
+package com.hedera.services.sigs.metadata;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+
+import static com.hedera.services.utils.EntityIdUtils.isAlias;
+import static com.hedera.services.utils.EntityNum.MISSING_NUM;
+import static com.hedera.services.utils.EntityNum.fromAccountId;
+import static com.hedera.services.utils.EntityNum.fromTokenId;
+
+/**
+ * A {@link SigMetadataLookup} over a signed state that answers account and token lookups from a
+ * {@link SigMetadataCache} when it can, and otherwise delegates to a lookup that reads the state
+ * (caching any successful result for later lookups).
+ */
+public final class CachingSigMetadataLookup implements SigMetadataLookup {
+	private final SigMetadataCache cache;
+	private final SigMetadataLookup delegate;
+
+	public CachingSigMetadataLookup(final SigMetadataLookup delegate, final SigMetadataCache cache) {
+		this.cache = cache;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Instant sourceSignedAt() {
+		return delegate.sourceSignedAt();
+	}
+
+	@Override
+	public SafeLookupResult<FileSigningMetadata> fileSigningMetaFor(
+			final FileID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		return delegate.fileSigningMetaFor(id, linkedRefs);
+	}
+
+	@Override
+	public SafeLookupResult<TopicSigningMetadata> topicSigningMetaFor(
+			final TopicID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		return delegate.topicSigningMetaFor(id, linkedRefs);
+	}
+
+	@Override
+	public SafeLookupResult<TokenSigningMetadata> tokenSigningMetaFor(
+			final TokenID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		final var num = fromTokenId(id);
+		if (num == MISSING_NUM) {
+			return delegate.tokenSigningMetaFor(id, linkedRefs);
+		}
+		final var signedAt = delegate.sourceSignedAt();
+		final var cached = cache.getTokenMeta(num.longValue(), signedAt);
+		if (cached != null) {
+			if (linkedRefs != null) {
+				linkedRefs.link(id.getTokenNum());
+			}
+			return cached;
+		}
+		final var result = delegate.tokenSigningMetaFor(id, linkedRefs);
+		cache.putTokenMeta(num.longValue(), signedAt, result);
+		return result;
+	}
+
+	@Override
+	public SafeLookupResult<AccountSigningMetadata> accountSigningMetaFor(
+			final AccountID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		final var num = fromAccountId(id);
+		if (num == MISSING_NUM) {
+			return delegate.accountSigningMetaFor(id, linkedRefs);
+		}
+		final var signedAt = delegate.sourceSignedAt();
+		final var cached = cache.getAccountMeta(num.longValue(), signedAt);
+		if (cached != null) {
+			if (linkedRefs != null) {
+				linkedRefs.link(num.longValue());
+			}
+			return cached;
+		}
+		final var result = delegate.accountSigningMetaFor(id, linkedRefs);
+		cache.putAccountMeta(num.longValue(), signedAt, result);
+		return result;
+	}
+
+	@Override
+	public SafeLookupResult<AccountSigningMetadata> aliasableAccountSigningMetaFor(
+			final AccountID idOrAlias,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		return isAlias(idOrAlias)
+				? delegate.aliasableAccountSigningMetaFor(idOrAlias, linkedRefs)
+				: accountSigningMetaFor(idOrAlias, linkedRefs);
+	}
+
+	@Override
+	public SafeLookupResult<ScheduleSigningMetadata> scheduleSigningMetaFor(
+			final ScheduleID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		return delegate.scheduleSigningMetaFor(id, linkedRefs);
+	}
+
+	@Override
+	public SafeLookupResult<ContractSigningMetadata> contractSigningMetaFor(
+			final ContractID id,
+			final @Nullable LinkedRefs linkedRefs
+	) {
+		return delegate.contractSigningMetaFor(id, linkedRefs);
+	}
+}
@@ -0,0 +1,227 @@
+package com.hedera.services.sigs.metadata;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hedera.services.utils.LongToInstantMap.pack;
+
+/**
+ * Caches the account and token signing metadata looked up from signed states while expanding signatures; so
+ * the keys of popular accounts and tokens are read from state once per change, instead of once per transaction.
+ *
+ * Each cached lookup result remembers the consensus time of the signed state it was read from. The
+ * {@link com.hedera.services.ledger.SigImpactHistorian} reports every change with signature impact to
+ * {@link #markChanged(long, Instant)}, which records the time of the latest change to the entity in its entry.
+ * A result read from a state signed at time {@code r} can then be re-used for a state signed at time {@code t}
+ * if the entity's latest change is no later than both {@code r} and {@code t}; since in that case both states
+ * include the same (latest) version of the entity.
+ *
+ * The cache is bounded by {@code hedera.sigMetaCache.maxSize}, and a size of zero disables it. When full, the
+ * cache is cleared on the handle thread, which also raises a <i>floor</i> to the current consensus time; no
+ * state signed before the floor is used to read or answer from the cache, since the change history for such
+ * states was just discarded.
+ */
+@Singleton
+public class SigMetadataCache {
+	/* The floor after a reset, until the first consensus time is known */
+	static final long NO_FLOOR_YET = Long.MAX_VALUE;
+	static final long NO_CHANGE = Long.MIN_VALUE;
+
+	private final int maxSize;
+	private final MiscSpeedometers speedometers;
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+	/* The (packed) consensus time before which no state may be used with the cache */
+	private volatile long floor = NO_CHANGE;
+
+	@Inject
+	public SigMetadataCache(final MiscSpeedometers speedometers, final NodeLocalProperties nodeLocalProperties) {
+		this.speedometers = speedometers;
+		this.maxSize = nodeLocalProperties.sigMetaCacheMaxSize();
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns the cached lookup result for the given account, if it is valid for a state signed at the given time;
+	 * or null otherwise.
+	 *
+	 * @param num the number of the account
+	 * @param signedAt the consensus time at which the state being used was signed
+	 * @return the cached result, or null if there is none valid
+	 */
+	@Nullable
+	public SafeLookupResult<AccountSigningMetadata> getAccountMeta(final long num, final Instant signedAt) {
+		return validResultFor(num, signedAt, AccountSigningMetadata.class);
+	}
+
+	/**
+	 * Returns the cached lookup result for the given token, if it is valid for a state signed at the given time;
+	 * or null otherwise.
+	 *
+	 * @param num the number of the token
+	 * @param signedAt the consensus time at which the state being used was signed
+	 * @return the cached result, or null if there is none valid
+	 */
+	@Nullable
+	public SafeLookupResult<TokenSigningMetadata> getTokenMeta(final long num, final Instant signedAt) {
+		return validResultFor(num, signedAt, TokenSigningMetadata.class);
+	}
+
+	public void putAccountMeta(
+			final long num,
+			final Instant signedAt,
+			final SafeLookupResult<AccountSigningMetadata> result
+	) {
+		put(num, signedAt, result, AccountSigningMetadata.class);
+	}
+
+	public void putTokenMeta(
+			final long num,
+			final Instant signedAt,
+			final SafeLookupResult<TokenSigningMetadata> result
+	) {
+		put(num, signedAt, result, TokenSigningMetadata.class);
+	}
+
+	/**
+	 * Records a change with signature impact to the given entity at the given consensus time. Must only be
+	 * called from the thread handling transactions.
+	 *
+	 * @param num the number of the changed entity
+	 * @param changeTime the consensus time of the change
+	 */
+	public void markChanged(final long num, final Instant changeTime) {
+		if (!isEnabled()) {
+			return;
+		}
+		clearIfFull(changeTime);
+		final var packedTime = pack(changeTime);
+		entries.compute(num, (ignore, entry) -> (entry == null)
+				? new Entry(null, null, NO_CHANGE, packedTime)
+				: entry.changedAt(packedTime));
+	}
+
+	/**
+	 * Notifies the cache of a new consensus time at which changes may happen. Must only be called from the
+	 * thread handling transactions.
+	 *
+	 * @param now the new consensus time
+	 */
+	public void onNewChangeTime(final Instant now) {
+		if (!isEnabled()) {
+			return;
+		}
+		if (floor == NO_FLOOR_YET) {
+			floor = pack(now);
+		}
+		clearIfFull(now);
+	}
+
+	/**
+	 * Discards all cached results and change history, refusing to use the cache again until the next
+	 * consensus time is known (important if the node fell behind and just reconnected).
+	 */
+	public void reset() {
+		floor = NO_FLOOR_YET;
+		entries.clear();
+	}
+
+	private void clearIfFull(final Instant now) {
+		if (entries.size() >= maxSize) {
+			/* Raise the floor before clearing, so a result put concurrently with the clear is never used */
+			floor = pack(now);
+			entries.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> SafeLookupResult<T> validResultFor(final long num, final Instant signedAt, final Class<T> type) {
+		if (!isEnabled()) {
+			return null;
+		}
+		final var curFloor = floor;
+		final var packedSignedAt = pack(signedAt);
+		final var entry = entries.get(num);
+		if (packedSignedAt < curFloor
+				|| entry == null
+				|| entry.type != type
+				|| entry.readAt < curFloor
+				|| entry.changedAt > Math.min(entry.readAt, packedSignedAt)) {
+			speedometers.cycleSigMetaCacheMisses();
+			return null;
+		}
+		speedometers.cycleSigMetaCacheHits();
+		return (SafeLookupResult<T>) entry.result;
+	}
+
+	private <T> void put(
+			final long num,
+			final Instant signedAt,
+			final SafeLookupResult<T> result,
+			final Class<T> type
+	) {
+		if (!isEnabled() || !result.succeeded()) {
+			return;
+		}
+		final var packedSignedAt = pack(signedAt);
+		if (packedSignedAt < floor || entries.size() >= maxSize) {
+			return;
+		}
+		entries.compute(num, (ignore, entry) ->
+				new Entry(result, type, packedSignedAt, (entry == null) ? NO_CHANGE : entry.changedAt));
+	}
+
+	/**
+	 * A lookup result (if any) with the consensus time of the state it was read from, and the consensus
+	 * time of the latest known change to its entity. An entry with no result just records a change.
+	 */
+	private record Entry(
+			@Nullable SafeLookupResult<?> result,
+			@Nullable Class<?> type,
+			long readAt,
+			long changedAt
+	) {
+		Entry changedAt(final long changeTime) {
+			return new Entry(result, type, readAt, changeTime);
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	int size() {
+		return entries.size();
+	}
+
+	long getFloor() {
+		return floor;
+	}
+}
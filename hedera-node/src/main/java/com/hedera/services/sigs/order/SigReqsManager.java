@@ -28,6 +28,8 @@ import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.ExpansionHelper;
 import com.hedera.services.sigs.Rationalization;
+import com.hedera.services.sigs.metadata.CachingSigMetadataLookup;
+import com.hedera.services.sigs.metadata.SigMetadataCache;
 import com.hedera.services.sigs.metadata.SigMetadataLookup;
 import com.hedera.services.sigs.metadata.StateChildrenSigMetadataLookup;
 import com.hedera.services.sigs.metadata.TokenMetaUtils;
@@ -60,6 +62,9 @@ import java.util.function.Function;
  * are unchanged between {@code expandSignatures} and {@code handleTransaction}, we can skip the otherwise
  * necessary step of re-expanding signatures in {@link Rationalization#performFor(TxnAccessor)}.
  *
+ * Account and token lookups from signed states go through a {@link SigMetadataCache}, so the keys of hot
+ * accounts and tokens are only read from state again after they change.
+ *
  * This class is <b>NOT</b> thread-safe.
  */
 @Singleton
@@ -73,6 +78,7 @@ public class SigReqsManager {
 	private final AliasManager aliasManager;
 	private final StateAccessor workingState;
 	private final ExpansionHelper expansionHelper;
+	private final SigMetadataCache sigMetadataCache;
 	private final SignatureWaivers signatureWaivers;
 	private final GlobalDynamicProperties dynamicProperties;
 	/* Convenience wrapper for the latest state children received from Platform#getLastCompleteSwirldState() */
@@ -94,7 +100,8 @@ public class SigReqsManager {
 			final ExpansionHelper expansionHelper,
 			final SignatureWaivers signatureWaivers,
 			final @WorkingState StateAccessor workingState,
-			final GlobalDynamicProperties dynamicProperties
+			final GlobalDynamicProperties dynamicProperties,
+			final SigMetadataCache sigMetadataCache
 	) {
 		this.platform = platform;
 		this.fileNumbers = fileNumbers;
@@ -103,6 +110,7 @@ public class SigReqsManager {
 		this.expansionHelper = expansionHelper;
 		this.signatureWaivers = signatureWaivers;
 		this.dynamicProperties = dynamicProperties;
+		this.sigMetadataCache = sigMetadataCache;
 	}
 
 	/**
@@ -183,13 +191,8 @@ public class SigReqsManager {
 		/* Update our children (e.g., MerkleMaps and VirtualMaps) from the current signed state.
 		 * Because event intake is single-threaded, there's no risk of another thread getting
 		 * inconsistent results while we are doing this. Also, note that MutableStateChildren
-		 * uses weak references, so we won't keep this signed state from GC eligibility.
-		 *
-		 * We use the updateFromMaybeUninitializedState() variant here, because during a
-		 * reconnect the latest signed state may have never received an init() call. In that
-		 * case, any "rebuilt" children of the ServicesState will be null. (This isn't a
-		 * problem for any existing SigRequirements code, however.) */
-		signedChildren.updateFromMaybeUninitializedState(signedState, earliestSigningTime);
+		 * uses weak references, so we won't keep this signed state from GC eligibility. */
+		signedChildren.updateFromSigned(signedState, earliestSigningTime);
 		ensureSignedStateSigReqsIsConstructed();
 		expansionHelper.expandIn(accessor, signedSigReqs, accessor.getPkToSigsFn());
 	}
@@ -204,8 +207,11 @@ public class SigReqsManager {
 
 	private void ensureSignedStateSigReqsIsConstructed() {
 		if (signedSigReqs == null) {
-			final var lookup = lookupsFactory.from(
+			var lookup = lookupsFactory.from(
 					fileNumbers, aliasManager, signedChildren, TOKEN_META_TRANSFORM);
+			if (sigMetadataCache.isEnabled()) {
+				lookup = new CachingSigMetadataLookup(lookup, sigMetadataCache);
+			}
 			signedSigReqs = sigReqsFactory.from(lookup, signatureWaivers);
 		}
 	}
@@ -31,15 +31,18 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.AddressBook;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 
@@ -97,16 +100,8 @@ public class StateAccessor {
 		return children.uniqueTokens();
 	}
 
-	public FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations() {
-		return children.uniqueTokenAssociations();
-	}
-
-	public FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations() {
-		return children.uniqueOwnershipAssociations();
-	}
-
-	public FCOneToManyRelation<EntityNum, Long> uniqueOwnershipTreasuryAssociations() {
-		return children.uniqueOwnershipTreasuryAssociations();
+	public VirtualMap<NftIndexKey, NftIndexValue> nftIndex() {
+		return children.nftIndex();
 	}
 
 	public MerkleSpecialFiles specialFiles() {
@@ -125,6 +120,10 @@ public class StateAccessor {
 		return children.runningHashLeaf();
 	}
 
+	public FCQueue<PayerRecordExpiry> payerRecordExpiries() {
+		return children.payerRecordExpiries();
+	}
+
 	public StateChildren children() {
 		return children;
 	}
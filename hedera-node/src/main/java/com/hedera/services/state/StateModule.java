@@ -54,6 +54,7 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.state.validation.LedgerValidator;
@@ -64,6 +65,7 @@ import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.state.virtual.VirtualMapFactory;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.NftRelation;
 import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
@@ -80,7 +82,7 @@ import com.swirlds.common.notification.NotificationEngine;
 import com.swirlds.common.notification.NotificationFactory;
 import com.swirlds.common.notification.listeners.ReconnectCompleteListener;
 import com.swirlds.common.notification.listeners.StateWriteToDiskCompleteListener;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
@@ -96,6 +98,9 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.TREASURY_NFTS_BY_TYPE;
 import static com.hedera.services.utils.MiscUtils.lookupInCustomStore;
 
 @Module(includes = HandleLogicModule.class)
@@ -279,6 +284,14 @@ public abstract class StateModule {
 		return accessor::schedules;
 	}
 
+	@Provides
+	@Singleton
+	public static Supplier<FCQueue<PayerRecordExpiry>> provideWorkingPayerRecordExpiries(
+			@WorkingState StateAccessor accessor
+	) {
+		return accessor::payerRecordExpiries;
+	}
+
 	@Provides
 	@Singleton
 	public static Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> provideWorkingNfts(
@@ -290,28 +303,28 @@ public abstract class StateModule {
 	@Provides
 	@Singleton
 	@NftsByType
-	public static Supplier<FCOneToManyRelation<EntityNum, Long>> provideWorkingNftsByType(
+	public static Supplier<NftRelation> provideWorkingNftsByType(
 			@WorkingState StateAccessor accessor
 	) {
-		return accessor::uniqueTokenAssociations;
+		return () -> new NftRelation(accessor.nftIndex(), NFTS_BY_TYPE);
 	}
 
 	@Provides
 	@Singleton
 	@NftsByOwner
-	public static Supplier<FCOneToManyRelation<EntityNum, Long>> provideWorkingNftsByOwner(
+	public static Supplier<NftRelation> provideWorkingNftsByOwner(
 			@WorkingState StateAccessor accessor
 	) {
-		return accessor::uniqueOwnershipAssociations;
+		return () -> new NftRelation(accessor.nftIndex(), NFTS_BY_OWNER);
 	}
 
 	@Provides
 	@Singleton
 	@TreasuryNftsByType
-	public static Supplier<FCOneToManyRelation<EntityNum, Long>> provideWorkingTreasuryNftsByType(
+	public static Supplier<NftRelation> provideWorkingTreasuryNftsByType(
 			@WorkingState StateAccessor accessor
 	) {
-		return accessor::uniqueOwnershipTreasuryAssociations;
+		return () -> new NftRelation(accessor.nftIndex(), TREASURY_NFTS_BY_TYPE);
 	}
 
 	@Provides
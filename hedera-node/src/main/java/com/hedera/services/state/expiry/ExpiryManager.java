@@ -27,6 +27,7 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -40,8 +41,9 @@ import javax.inject.Singleton;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -75,9 +77,8 @@ public class ExpiryManager {
 	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
 	private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 	private final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules;
+	private final Supplier<FCQueue<PayerRecordExpiry>> payerRecordExpiries;
 
-	private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
-			new MonotonicFullQueueExpiries<>();
 	private final PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> shortLivedEntityExpiries =
 			new PriorityQueueExpiries<>(PQ_CMP);
 
@@ -88,9 +89,11 @@ public class ExpiryManager {
 			final SigImpactHistorian sigImpactHistorian,
 			final Map<TransactionID, TxnIdRecentHistory> txnHistories,
 			final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts,
-			final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules
+			final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules,
+			final Supplier<FCQueue<PayerRecordExpiry>> payerRecordExpiries
 	) {
 		this.accounts = accounts;
+		this.payerRecordExpiries = payerRecordExpiries;
 		this.schedules = schedules;
 		this.txnHistories = txnHistories;
 		this.scheduleStore = scheduleStore;
@@ -125,23 +128,27 @@ public class ExpiryManager {
 
 	/**
 	 * When payer records are in state (true by default), upon restart or reconnect the
-	 * expiry manager needs to rebuild its expiration queue so it can correctly purge
-	 * these records as their lifetimes (default 180s) expire.
+	 * expiry manager needs to re-stage the injected {@code txnHistories} map with the
+	 * recent histories of the {@link TransactionID}s from records in state.
 	 *
-	 * <b>IMPORTANT:</b> As a side-effect, this method re-stages the injected
-	 * {@code txnHistories} map with the recent histories of the {@link TransactionID}s
-	 * from records in state.
+	 * Since the expiration queue for these records is itself part of state (ordered by
+	 * expiry), this only visits the accounts it names; that is, the work done is
+	 * proportional to the number of live records, not the number of accounts.
 	 */
 	public void reviewExistingPayerRecords() {
 		txnHistories.clear();
-		payerRecordExpiries.reset();
 
-		final var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
 		final var currentAccounts = accounts.get();
-		forEach(currentAccounts, (id, account) ->
-				stageExpiringRecords(id.longValue(), account.records(), _payerExpiries));
-		_payerExpiries.sort(comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey));
-		_payerExpiries.forEach(entry -> payerRecordExpiries.track(entry.getKey(), entry.getValue()));
+		final Set<Long> reviewedPayers = new HashSet<>();
+		for (final var payerRecordExpiry : payerRecordExpiries.get()) {
+			final var payerNum = payerRecordExpiry.getPayerNum();
+			if (reviewedPayers.add(payerNum)) {
+				final var account = currentAccounts.get(EntityNum.fromLong(payerNum));
+				if (account != null) {
+					account.records().forEach(this::stage);
+				}
+			}
+		}
 
 		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
 	}
@@ -171,13 +178,16 @@ public class ExpiryManager {
 	}
 
 	void trackRecordInState(final AccountID owner, final long expiry) {
-		payerRecordExpiries.track(owner.getAccountNum(), expiry);
+		payerRecordExpiries.get().offer(new PayerRecordExpiry(owner.getAccountNum(), expiry));
 	}
 
 	private void purgeExpiredRecordsAt(final long now) {
 		final var currentAccounts = accounts.get();
-		while (payerRecordExpiries.hasExpiringAt(now)) {
-			final var key = EntityNum.fromLong(payerRecordExpiries.expireNextAt(now));
+		final var currentExpiries = payerRecordExpiries.get();
+		PayerRecordExpiry nextExpiry;
+		while ((nextExpiry = currentExpiries.peek()) != null && nextExpiry.getExpiry() <= now) {
+			currentExpiries.poll();
+			final var key = EntityNum.fromLong(nextExpiry.getPayerNum());
 
 			final var mutableAccount = currentAccounts.getForModify(key);
 			final var mutableRecords = mutableAccount.records();
@@ -209,22 +219,6 @@ public class ExpiryManager {
 		}
 	}
 
-	private void stageExpiringRecords(
-			final Long num,
-			final FCQueue<ExpirableTxnRecord> records,
-			final List<Map.Entry<Long, Long>> expiries
-	) {
-		long lastAdded = -1;
-		for (final var expirableTxnRecord : records) {
-			stage(expirableTxnRecord);
-			final var expiry = expirableTxnRecord.getExpiry();
-			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
-				lastAdded = expiry;
-			}
-		}
-	}
-
 	private void stage(final ExpirableTxnRecord expirableTxnRecord) {
 		final var txnId = expirableTxnRecord.getTxnId().toGrpc();
 		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(expirableTxnRecord);
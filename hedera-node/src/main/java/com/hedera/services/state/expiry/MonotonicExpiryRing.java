@@ -0,0 +1,135 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+/**
+ * The shared machinery of a queue of expiration events whose expiries are tracked in monotonic order. Instead
+ * of allocating an {@link ExpiryEvent} per tracked id, the expiries are kept in a growable ring buffer of
+ * primitive {@code long}s, with subclasses storing the ids in a parallel array of their choice.
+ */
+abstract class MonotonicExpiryRing {
+	static final int DEFAULT_INITIAL_CAPACITY = 64;
+	static final int NON_MONOTONIC = -1;
+
+	private long now = 0L;
+	private int head = 0;
+	private int size = 0;
+	private long[] expiries;
+
+	protected MonotonicExpiryRing(final int initialCapacity) {
+		expiries = new long[initialCapacity];
+	}
+
+	public void reset() {
+		now = 0L;
+		head = 0;
+		size = 0;
+		clearIds();
+	}
+
+	public boolean hasExpiringAt(final long now) {
+		return size > 0 && expiries[head] <= now;
+	}
+
+	/**
+	 * Returns the slot in which an id with the given expiry should be stored, after validating the expiry
+	 * is monotonic and growing the ring if needed. Takes only the expiry, so that subclasses with primitive
+	 * ids need not box them just in case of an error.
+	 *
+	 * @param expiry the expiry of the id
+	 * @return the slot for the id, or {@link #NON_MONOTONIC} if the expiry is earlier than the last one tracked
+	 */
+	protected int slotToTrack(final long expiry) {
+		if (expiry < now) {
+			return NON_MONOTONIC;
+		}
+		now = expiry;
+		if (size == expiries.length) {
+			grow();
+		}
+		final var slot = (head + size) % expiries.length;
+		expiries[slot] = expiry;
+		size++;
+		return slot;
+	}
+
+	protected IllegalArgumentException nonMonotonicTrack(final String id, final long expiry) {
+		return new IllegalArgumentException(String.format("Track time %d for %s not later than %d", expiry, id, now));
+	}
+
+	/**
+	 * Returns the slot of the next id to expire, after validating it is in fact expired at the given
+	 * time and removing it from the ring.
+	 *
+	 * @param now the current time
+	 * @return the slot of the expired id
+	 */
+	protected int slotToExpire(final long now) {
+		if (size == 0) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		if (expiries[head] > now) {
+			throw new IllegalArgumentException(String.format("Argument 'now=%d' is earlier than the next expiry!",
+					now));
+		}
+		final var slot = head;
+		head = (head + 1) % expiries.length;
+		size--;
+		return slot;
+	}
+
+	protected abstract void clearIds();
+
+	protected abstract void copyIds(int fromHead, int n, int oldCapacity, int newCapacity);
+
+	private void grow() {
+		final var oldCapacity = expiries.length;
+		final var newCapacity = 2 * oldCapacity;
+		final var newExpiries = new long[newCapacity];
+		for (int i = 0; i < size; i++) {
+			newExpiries[i] = expiries[(head + i) % oldCapacity];
+		}
+		copyIds(head, size, oldCapacity, newCapacity);
+		expiries = newExpiries;
+		head = 0;
+	}
+
+	/* --- Only used by unit tests --- */
+	long getNow() {
+		return now;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int capacity() {
+		return expiries.length;
+	}
+
+	int slotAt(final int i) {
+		return (head + i) % expiries.length;
+	}
+
+	long expiryAt(final int i) {
+		return expiries[slotAt(i)];
+	}
+}
@@ -21,53 +21,64 @@ package com.hedera.services.state.expiry;
  */
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
 /**
  * Queue of expiration events in which events are in the order of insertion
  */
-public class MonotonicFullQueueExpiries<K> implements KeyedExpirations<K> {
-	private long now = 0L;
-	private Deque<ExpiryEvent<K>> allExpiries = new ArrayDeque<>();
+public class MonotonicFullQueueExpiries<K> extends MonotonicExpiryRing implements KeyedExpirations<K> {
+	private Object[] ids;
 
-	@Override
-	public void reset() {
-		now = 0L;
-		allExpiries.clear();
+	public MonotonicFullQueueExpiries() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	MonotonicFullQueueExpiries(final int initialCapacity) {
+		super(initialCapacity);
+		ids = new Object[initialCapacity];
 	}
 
 	@Override
 	public void track(K id, long expiry) {
-		if (expiry < now) {
-			throw new IllegalArgumentException(String.format("Track time %d for %s not later than %d", expiry, id,
-					now));
+		/* Compute the slot first, since tracking may grow the ids array */
+		final var slot = slotToTrack(expiry);
+		if (slot == NON_MONOTONIC) {
+			throw nonMonotonicTrack(String.valueOf(id), expiry);
 		}
-		now = expiry;
-		allExpiries.add(new ExpiryEvent<>(id, expiry));
+		ids[slot] = id;
 	}
 
 	@Override
-	public boolean hasExpiringAt(long now) {
-		return !allExpiries.isEmpty() && allExpiries.peekFirst().isExpiredAt(now);
+	@SuppressWarnings("unchecked")
+	public K expireNextAt(long now) {
+		final var slot = slotToExpire(now);
+		final var id = (K) ids[slot];
+		ids[slot] = null;
+		return id;
 	}
 
 	@Override
-	public K expireNextAt(long now) {
-		if (allExpiries.isEmpty()) {
-			throw new IllegalStateException("No ids are queued for expiration!");
-		}
-		if (!allExpiries.peek().isExpiredAt(now)) {
-			throw new IllegalArgumentException(String.format("Argument 'now=%d' is earlier than the next expiry!",
-					now));
+	protected void clearIds() {
+		Arrays.fill(ids, null);
+	}
+
+	@Override
+	protected void copyIds(final int fromHead, final int n, final int oldCapacity, final int newCapacity) {
+		final var newIds = new Object[newCapacity];
+		for (int i = 0; i < n; i++) {
+			newIds[i] = ids[(fromHead + i) % oldCapacity];
 		}
-		return allExpiries.removeFirst().id();
+		ids = newIds;
 	}
 
+	/* --- Only used by unit tests --- */
+	@SuppressWarnings("unchecked")
 	Deque<ExpiryEvent<K>> getAllExpiries() {
+		final Deque<ExpiryEvent<K>> allExpiries = new ArrayDeque<>();
+		for (int i = 0; i < size(); i++) {
+			allExpiries.add(new ExpiryEvent<>((K) ids[slotAt(i)], expiryAt(i)));
+		}
 		return allExpiries;
 	}
-
-	long getNow() {
-		return now;
-	}
 }
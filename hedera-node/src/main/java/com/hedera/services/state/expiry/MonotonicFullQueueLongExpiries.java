@@ -0,0 +1,77 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Queue of expiration events in which events are in the order of insertion, specialized to primitive
+ * {@code long} ids so that tracking an expiry neither boxes the id nor allocates an {@link ExpiryEvent}.
+ */
+public class MonotonicFullQueueLongExpiries extends MonotonicExpiryRing {
+	private long[] ids;
+
+	public MonotonicFullQueueLongExpiries() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	MonotonicFullQueueLongExpiries(final int initialCapacity) {
+		super(initialCapacity);
+		ids = new long[initialCapacity];
+	}
+
+	public void track(long id, long expiry) {
+		/* Compute the slot first, since tracking may grow the ids array */
+		final var slot = slotToTrack(expiry);
+		if (slot == NON_MONOTONIC) {
+			throw nonMonotonicTrack(Long.toString(id), expiry);
+		}
+		ids[slot] = id;
+	}
+
+	public long expireNextAt(long now) {
+		return ids[slotToExpire(now)];
+	}
+
+	@Override
+	protected void clearIds() {
+		/* No-op, since primitive ids hold no references */
+	}
+
+	@Override
+	protected void copyIds(final int fromHead, final int n, final int oldCapacity, final int newCapacity) {
+		final var newIds = new long[newCapacity];
+		for (int i = 0; i < n; i++) {
+			newIds[i] = ids[(fromHead + i) % oldCapacity];
+		}
+		ids = newIds;
+	}
+
+	/* --- Only used by unit tests --- */
+	Deque<ExpiryEvent<Long>> getAllExpiries() {
+		final Deque<ExpiryEvent<Long>> allExpiries = new ArrayDeque<>();
+		for (int i = 0; i < size(); i++) {
+			allExpiries.add(new ExpiryEvent<>(ids[slotAt(i)], expiryAt(i)));
+		}
+		return allExpiries;
+	}
+}
@@ -0,0 +1,219 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.CodedOutputStream;
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.swirlds.merkle.map.MerkleMap;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.hedera.services.stream.proto.AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Streams the balances of all accounts in a signed state to a file, in exactly the {@link AllAccountBalances}
+ * format written by the {@link SignedStateBalancesExporter}, but without ever materializing the full message.
+ *
+ * The sorted account numbers are split into fixed-size shards that are summarized and serialized in parallel
+ * on a {@link ForkJoinPool} that lives only as long as the export. The serialized shards are appended to the
+ * file in order while its SHA-384 hash is computed incrementally, and only a bounded number of shards are ever
+ * in flight; so apart from the sorted array of account numbers (8 bytes per account), peak memory is independent
+ * of the number of accounts. If the export fails, the partially written file is deleted.
+ *
+ * Since a repeated message field is serialized as a simple sequence of length-delimited records, the file is
+ * byte-for-byte identical to one written from a fully built message.
+ */
+class ShardedBalancesWriter {
+	static final int DEFAULT_SHARD_SIZE = 10_000;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int SHARDS_IN_FLIGHT_PER_WORKER = 2;
+
+	private final int shardSize;
+	private final int parallelism;
+
+	ShardedBalancesWriter(final int parallelism, final int shardSize) {
+		this.shardSize = shardSize;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Summarizes the balances of all non-deleted accounts in the given signed state, streaming them to the
+	 * given location as an {@link AllAccountBalances} message with the given consensus timestamp.
+	 *
+	 * @param loc the location of the balances file to write
+	 * @param consensusTime the consensus time of the export
+	 * @param signedState the signed state to summarize
+	 * @param balancesFn the function summarizing a single account as a {@link SingleAccountBalances}
+	 * @return the total float of the exported accounts and the SHA-384 hash of the written file
+	 * @throws IOException if the file cannot be written (in which case any partial file is deleted)
+	 */
+	StreamedBalances write(
+			final String loc,
+			final Instant consensusTime,
+			final ServicesState signedState,
+			final SingleBalancesFn balancesFn
+	) throws IOException {
+		final var accounts = signedState.accounts();
+		final var nums = sortedNumsIn(accounts);
+		final var path = Paths.get(loc);
+		final var pool = new ForkJoinPool(parallelism);
+		final Deque<ForkJoinTask<Shard>> inFlight = new ArrayDeque<>();
+		try {
+			return streamTo(path, consensusTime, accounts, nums, balancesFn, pool, inFlight);
+		} catch (IOException | RuntimeException e) {
+			inFlight.forEach(task -> task.cancel(true));
+			Files.deleteIfExists(path);
+			throw e;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private StreamedBalances streamTo(
+			final Path path,
+			final Instant consensusTime,
+			final MerkleMap<EntityNum, MerkleAccount> accounts,
+			final long[] nums,
+			final SingleBalancesFn balancesFn,
+			final ForkJoinPool pool,
+			final Deque<ForkJoinTask<Shard>> inFlight
+	) throws IOException {
+		final var maxInFlight = SHARDS_IN_FLIGHT_PER_WORKER * pool.getParallelism();
+		final var digest = sha384();
+		var totalFloat = BigInteger.ZERO;
+		try (final var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+			 final var out = new BufferedOutputStream(
+					 new DigestOutputStream(Channels.newOutputStream(channel), digest), BUFFER_SIZE)) {
+			AllAccountBalances.newBuilder()
+					.setConsensusTimestamp(Timestamp.newBuilder()
+							.setSeconds(consensusTime.getEpochSecond())
+							.setNanos(consensusTime.getNano()))
+					.build()
+					.writeTo(out);
+
+			var nextFrom = 0;
+			while (nextFrom < nums.length || !inFlight.isEmpty()) {
+				while (nextFrom < nums.length && inFlight.size() < maxInFlight) {
+					final var from = nextFrom;
+					final var to = Math.min(nums.length, from + shardSize);
+					inFlight.addLast(pool.submit(() -> shardOf(nums, from, to, accounts, balancesFn)));
+					nextFrom = to;
+				}
+				final var shard = inFlight.removeFirst().join();
+				shard.serialized().writeTo(out);
+				totalFloat = totalFloat.add(shard.subtotal());
+			}
+		}
+		return new StreamedBalances(totalFloat, digest.digest());
+	}
+
+	static long[] sortedNumsIn(final MerkleMap<EntityNum, MerkleAccount> accounts) {
+		final var nums = new long[accounts.size()];
+		var i = 0;
+		for (final var key : accounts.keySet()) {
+			nums[i++] = key.longValue();
+		}
+		Arrays.parallelSort(nums);
+		return nums;
+	}
+
+	private Shard shardOf(
+			final long[] nums,
+			final int from,
+			final int to,
+			final MerkleMap<EntityNum, MerkleAccount> accounts,
+			final SingleBalancesFn balancesFn
+	) {
+		final var baos = new ByteArrayOutputStream();
+		final var out = CodedOutputStream.newInstance(baos);
+		var subtotal = BigInteger.ZERO;
+		try {
+			for (int i = from; i < to; i++) {
+				final var id = EntityNum.fromLong(nums[i]);
+				final var account = accounts.get(id);
+				if (account == null || account.isDeleted()) {
+					continue;
+				}
+				subtotal = subtotal.add(BigInteger.valueOf(account.getBalance()));
+				out.writeMessage(ALLACCOUNTS_FIELD_NUMBER, balancesFn.apply(id, account));
+			}
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new Shard(subtotal, baos);
+	}
+
+	private static MessageDigest sha384() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!");
+		}
+	}
+
+	@FunctionalInterface
+	interface SingleBalancesFn {
+		SingleAccountBalances apply(EntityNum id, MerkleAccount account);
+	}
+
+	record StreamedBalances(BigInteger totalFloat, byte[] hash) {
+	}
+
+	private record Shard(BigInteger subtotal, ByteArrayOutputStream serialized) {
+	}
+
+	/* --- Only used by unit tests --- */
+	int getShardSize() {
+		return shardSize;
+	}
+
+	int getParallelism() {
+		return parallelism;
+	}
+}
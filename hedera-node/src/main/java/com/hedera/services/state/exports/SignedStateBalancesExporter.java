@@ -23,6 +23,7 @@ package com.hedera.services.state.exports;
 import com.hedera.services.ServicesState;
 import com.hedera.services.context.annotations.CompositeProps;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
@@ -55,6 +56,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 
@@ -82,6 +84,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	private final SystemExits systemExits;
 	private final UnaryOperator<byte[]> signer;
 	private final GlobalDynamicProperties dynamicProperties;
+	private final NodeLocalProperties nodeLocalProperties;
 
 	SigFileWriter sigFileWriter = new StandardSigFileWriter();
 	FileHashReader hashReader = new Sha384HashReader();
@@ -89,6 +92,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
 	private String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
 	private BalancesSummary summary;
+	private ShardedBalancesWriter shardedWriter;
 
 	private final int exportPeriod;
 
@@ -100,12 +104,14 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 			SystemExits systemExits,
 			@CompositeProps PropertySource properties,
 			UnaryOperator<byte[]> signer,
-			GlobalDynamicProperties dynamicProperties
+			GlobalDynamicProperties dynamicProperties,
+			NodeLocalProperties nodeLocalProperties
 	) {
 		this.signer = signer;
 		this.systemExits = systemExits;
 		this.expectedFloat = properties.getLongProperty("ledger.totalTinyBarFloat");
 		this.dynamicProperties = dynamicProperties;
+		this.nodeLocalProperties = nodeLocalProperties;
 		exportPeriod = dynamicProperties.balancesExportPeriodSecs();
 	}
 
@@ -140,6 +146,10 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		if (!ensureExportDir(signedState.getAccountFromNodeId(nodeId))) {
 			return;
 		}
+		if (nodeLocalProperties.isStreamingBalancesExportEnabled()) {
+			streamProtoFile(signedState, consensusTime);
+			return;
+		}
 		var watch = StopWatch.createStarted();
 		summary = summarized(signedState);
 		final var expected = BigInteger.valueOf(expectedFloat);
@@ -159,8 +169,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
 		var builder = AllAccountBalances.newBuilder();
 		summarizeAsProto(exportTimeStamp, builder);
-		var protoLoc = lastUsedExportDir
-				+ exportTimeStamp.toString().replace(":", "_") + "_Balances" + PROTO_FILE_EXTENSION;
+		var protoLoc = protoLocFor(exportTimeStamp);
 		boolean exportSucceeded = exportBalancesProtoFile(builder, protoLoc);
 		if (exportSucceeded) {
 			tryToSign(protoLoc);
@@ -170,9 +179,58 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 				exportTimeStamp);
 	}
 
+	private void streamProtoFile(ServicesState signedState, Instant exportTimeStamp) {
+		var watch = StopWatch.createStarted();
+
+		var protoLoc = protoLocFor(exportTimeStamp);
+		final ShardedBalancesWriter.StreamedBalances streamed;
+		try {
+			streamed = shardedWriter().write(protoLoc, exportTimeStamp, signedState, balancesFnFor(signedState));
+		} catch (IOException | RuntimeException e) {
+			log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
+			return;
+		}
+
+		final var expected = BigInteger.valueOf(expectedFloat);
+		if (expected.equals(streamed.totalFloat())) {
+			tryToSign(protoLoc, streamed.hash());
+			log.info(" -> Took {}ms to stream and sign proto balances file at {}",
+					watch.getTime(TimeUnit.MILLISECONDS), exportTimeStamp);
+		} else {
+			new File(protoLoc).delete();
+			log.error(
+					"Signed state @ {} had total balance {} not {}; exiting",
+					exportTimeStamp, streamed.totalFloat(), expectedFloat);
+			systemExits.fail(1);
+		}
+	}
+
+	private ShardedBalancesWriter shardedWriter() {
+		if (shardedWriter == null) {
+			shardedWriter = new ShardedBalancesWriter(
+					nodeLocalProperties.streamingBalancesExportParallelism(),
+					ShardedBalancesWriter.DEFAULT_SHARD_SIZE);
+		}
+		return shardedWriter;
+	}
+
+	private String protoLocFor(Instant exportTimeStamp) {
+		return lastUsedExportDir + exportTimeStamp.toString().replace(":", "_") + "_Balances" + PROTO_FILE_EXTENSION;
+	}
+
 	private void tryToSign(String fileLoc) {
+		final byte[] hash;
+		try {
+			hash = hashReader.readHash(fileLoc);
+		} catch (Exception e) {
+			log.error(BAD_SIGNING_ATTEMPT_ERROR_MSG_TPL, fileLoc, e);
+			return;
+		}
+		tryToSign(fileLoc, hash);
+	}
+
+	private void tryToSign(String fileLoc, byte[] hash) {
 		try {
-			var hash = hashReader.readHash(fileLoc);
 			var sig = signer.apply(hash);
 			var sigFileLoc = sigFileWriter.writeSigFile(fileLoc, sig, hash);
 			if (log.isDebugEnabled()) {
@@ -201,39 +259,46 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	}
 
 	BalancesSummary summarized(ServicesState signedState) {
-		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
 		BigInteger totalFloat = BigInteger.valueOf(0L);
 		List<SingleAccountBalances> accountBalances = new ArrayList<>();
 
-		var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
-		var tokens = signedState.tokens();
+		var balancesFn = balancesFnFor(signedState);
 		var accounts = signedState.accounts();
-		var tokenAssociations = signedState.tokenAssociations();
 		for (var entry : accounts.entrySet()) {
-			var id = entry.getKey();
 			var account = entry.getValue();
 			if (!account.isDeleted()) {
-				var accountId = id.toGrpcAccountId();
-				var balance = account.getBalance();
-				if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
-					log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL,
-							readableId(accountId),
-							balance);
-				}
 				totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-				SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
-				sabBuilder.setHbarBalance(balance).setAccountID(accountId);
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					addTokenBalances(accountId, account, sabBuilder, tokens, tokenAssociations);
-				}
-				accountBalances.add(sabBuilder.build());
+				accountBalances.add(balancesFn.apply(entry.getKey(), account));
 			}
 		}
 		accountBalances.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
 		return new BalancesSummary(totalFloat, accountBalances);
 	}
 
-	private void addTokenBalances(
+	private ShardedBalancesWriter.SingleBalancesFn balancesFnFor(ServicesState signedState) {
+		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
+		boolean shouldExportTokenBalances = dynamicProperties.shouldExportTokenBalances();
+		Set<AccountID> nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
+		var tokens = signedState.tokens();
+		var tokenAssociations = signedState.tokenAssociations();
+		return (id, account) -> {
+			var accountId = id.toGrpcAccountId();
+			var balance = account.getBalance();
+			if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
+				log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL,
+						readableId(accountId),
+						balance);
+			}
+			SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
+			sabBuilder.setHbarBalance(balance).setAccountID(accountId);
+			if (shouldExportTokenBalances) {
+				addTokenBalances(accountId, account, sabBuilder, tokens, tokenAssociations);
+			}
+			return sabBuilder.build();
+		};
+	}
+
+	private static void addTokenBalances(
 			AccountID id,
 			MerkleAccount account,
 			SingleAccountBalances.Builder sabBuilder,
@@ -250,7 +315,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		}
 	}
 
-	private TokenUnitBalance tb(TokenID id, long balance) {
+	private static TokenUnitBalance tb(TokenID id, long balance) {
 		return TokenUnitBalance.newBuilder().setTokenId(id).setBalance(balance).build();
 	}
 
@@ -53,7 +53,9 @@ public class HashLogger {
 				RecordsRunningHashLeaf :: {}
 				  ↪ Running hash       :: {}
 				UniqueTokens           :: {}
-				ContractStorage        :: {}""";
+				ContractStorage        :: {}
+				PayerRecordExpiries    :: {}
+				NftIndex               :: {}""";
 		log.info(summaryTpl,
 				state.getHash(),
 				state.accounts().getHash(),
@@ -68,6 +70,8 @@ public class HashLogger {
 				state.runningHashLeaf().getHash(),
 				state.runningHashLeaf().getRunningHash().getHash(),
 				state.uniqueTokens().getHash(),
+				UNAVAILABLE_VIRTUAL_MAP_HASH,
+				state.payerRecordExpiries().getHash(),
 				UNAVAILABLE_VIRTUAL_MAP_HASH);
 	}
 }
@@ -28,6 +28,7 @@ import com.hedera.services.records.RecordCache;
 import com.hedera.services.state.annotations.RunRecordStreaming;
 import com.hedera.services.state.annotations.RunTopLevelTransition;
 import com.hedera.services.state.annotations.RunTriggeredTransition;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.TxnAccessor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +37,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.RECORD_CREATION;
+import static com.hedera.services.stats.HandlePhase.STREAM_HANDOFF;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 @Singleton
@@ -52,6 +55,7 @@ public class ServicesTxnManager {
 	private final TransactionContext txnCtx;
 	private final SigImpactHistorian sigImpactHistorian;
 	private final AccountRecordsHistorian recordsHistorian;
+	private final HandlePhaseLatencies phaseLatencies;
 
 	@Inject
 	public ServicesTxnManager(
@@ -62,7 +66,8 @@ public class ServicesTxnManager {
 			final HederaLedger ledger,
 			final TransactionContext txnCtx,
 			final SigImpactHistorian sigImpactHistorian,
-			final AccountRecordsHistorian recordsHistorian
+			final AccountRecordsHistorian recordsHistorian,
+			final HandlePhaseLatencies phaseLatencies
 	) {
 		this.txnCtx = txnCtx;
 		this.ledger = ledger;
@@ -72,6 +77,7 @@ public class ServicesTxnManager {
 		this.sigImpactHistorian = sigImpactHistorian;
 		this.scopedRecordStreaming = scopedRecordStreaming;
 		this.scopedTriggeredProcessing = scopedTriggeredProcessing;
+		this.phaseLatencies = phaseLatencies;
 	}
 
 	private boolean createdStreamableRecord;
@@ -79,6 +85,7 @@ public class ServicesTxnManager {
 	public void process(TxnAccessor accessor, Instant consensusTime, long submittingMember) {
 		var processFailed = false;
 		createdStreamableRecord = false;
+		phaseLatencies.beginTxn(accessor.getFunction());
 
 		try {
 			txnCtx.resetFor(accessor, consensusTime, submittingMember);
@@ -100,9 +107,13 @@ public class ServicesTxnManager {
 		if (processFailed) {
 			attemptRollback(accessor, consensusTime, submittingMember);
 		} else {
+			final var commitStart = phaseLatencies.startSpan();
 			attemptCommit(accessor, consensusTime, submittingMember);
+			phaseLatencies.endSpan(RECORD_CREATION, commitStart);
 			if (createdStreamableRecord) {
+				final var streamingStart = phaseLatencies.startSpan();
 				attemptRecordStreaming();
+				phaseLatencies.endSpan(STREAM_HANDOFF, streamingStart);
 			}
 		}
 	}
@@ -72,6 +72,8 @@ public class SignatureScreen {
 				speedometers.cycleAsyncVerifications();
 			}
 		}
+		/* Whether an expansion was reused doesn't depend on whether the signatures it found were valid */
+		cycleExpansionReuseStats();
 
 		if (hasActivePayerSig(accessor)) {
 			txnCtx.payerSigIsKnownActive();
@@ -80,6 +82,16 @@ public class SignatureScreen {
 		return sigStatus;
 	}
 
+	private void cycleExpansionReuseStats() {
+		if (rationalization.reusedExpansion()) {
+			speedometers.cycleSigExpansionReuses();
+		} else if (rationalization.invalidatedExpansion()) {
+			speedometers.cycleSigExpansionInvalidations();
+		} else {
+			speedometers.cycleSigExpansionMisses();
+		}
+	}
+
 	private boolean hasActivePayerSig(TxnAccessor accessor) {
 		try {
 			return payerSigValidity.test(accessor, validityTest);
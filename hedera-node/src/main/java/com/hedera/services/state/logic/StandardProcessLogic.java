@@ -27,6 +27,7 @@ import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.expiry.EntityAutoRenewal;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -38,6 +39,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.EXPIRY_PURGE;
+
 @Singleton
 public class StandardProcessLogic implements ProcessLogic {
 	private static final Logger log = LogManager.getLogger(StandardProcessLogic.class);
@@ -51,6 +54,7 @@ public class StandardProcessLogic implements ProcessLogic {
 	private final TransactionContext txnCtx;
 	private final ExecutionTimeTracker executionTimeTracker;
 	private final GlobalDynamicProperties dynamicProperties;
+	private final HandlePhaseLatencies phaseLatencies;
 
 	@Inject
 	public StandardProcessLogic(
@@ -62,7 +66,8 @@ public class StandardProcessLogic implements ProcessLogic {
 			final SigImpactHistorian sigImpactHistorian,
 			final TransactionContext txnCtx,
 			final ExecutionTimeTracker executionTimeTracker,
-			final GlobalDynamicProperties dynamicProperties
+			final GlobalDynamicProperties dynamicProperties,
+			final HandlePhaseLatencies phaseLatencies
 	) {
 		this.expiries = expiries;
 		this.invariantChecks = invariantChecks;
@@ -73,6 +78,7 @@ public class StandardProcessLogic implements ProcessLogic {
 		this.txnCtx = txnCtx;
 		this.dynamicProperties = dynamicProperties;
 		this.sigImpactHistorian = sigImpactHistorian;
+		this.phaseLatencies = phaseLatencies;
 	}
 
 	@Override
@@ -89,9 +95,12 @@ public class StandardProcessLogic implements ProcessLogic {
 				return;
 			}
 
+			phaseLatencies.beginTxn(accessor.getFunction());
+			final var purgeStart = phaseLatencies.startSpan();
 			sigImpactHistorian.setChangeTime(effectiveConsensusTime);
 			expiries.purge(effectiveConsensusTime.getEpochSecond());
 			sigImpactHistorian.purge();
+			phaseLatencies.endSpan(EXPIRY_PURGE, purgeStart);
 
 			doProcess(submittingMember, consensusTime, effectiveConsensusTime, accessor);
 
@@ -22,10 +22,14 @@ package com.hedera.services.state.logic;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseLatencies;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 @Singleton
@@ -37,6 +41,7 @@ public class TopLevelTransition implements Runnable {
 	private final SignatureScreen signatureScreen;
 	private final ThrottleScreen throttleScreen;
 	private final KeyActivationScreen keyActivationScreen;
+	private final HandlePhaseLatencies phaseLatencies;
 
 	@Inject
 	public TopLevelTransition(
@@ -46,7 +51,8 @@ public class TopLevelTransition implements Runnable {
 			SignatureScreen signatureScreen,
 			TxnChargingPolicyAgent chargingPolicyAgent,
 			KeyActivationScreen keyActivationScreen,
-			ThrottleScreen throttleScreen
+			ThrottleScreen throttleScreen,
+			HandlePhaseLatencies phaseLatencies
 	) {
 		this.txnCtx = txnCtx;
 		this.networkCtxManager = networkCtxManager;
@@ -55,6 +61,7 @@ public class TopLevelTransition implements Runnable {
 		this.keyActivationScreen = keyActivationScreen;
 		this.screenedTransition = screenedTransition;
 		this.throttleScreen = throttleScreen;
+		this.phaseLatencies = phaseLatencies;
 	}
 
 	@Override
@@ -64,8 +71,14 @@ public class TopLevelTransition implements Runnable {
 
 		networkCtxManager.advanceConsensusClockTo(now);
 
+		final var sigStart = phaseLatencies.startSpan();
 		final var sigStatus = signatureScreen.applyTo(accessor);
-		if (!chargingPolicyAgent.applyPolicyFor(accessor)) {
+		phaseLatencies.endSpan(SIG_RATIONALIZATION, sigStart);
+
+		final var chargingStart = phaseLatencies.startSpan();
+		final var isChargeable = chargingPolicyAgent.applyPolicyFor(accessor);
+		phaseLatencies.endSpan(FEE_CHARGING, chargingStart);
+		if (!isChargeable) {
 			return;
 		}
 		if (!keyActivationScreen.reqKeysAreActiveGiven(sigStatus)) {
@@ -78,6 +91,8 @@ public class TopLevelTransition implements Runnable {
 			return;
 		}
 
+		final var transitionStart = phaseLatencies.startSpan();
 		screenedTransition.finishFor(accessor);
+		phaseLatencies.endSpan(TRANSITION, transitionStart);
 	}
 }
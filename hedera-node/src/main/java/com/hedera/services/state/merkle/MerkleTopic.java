@@ -23,7 +23,7 @@ package com.hedera.services.state.merkle;
 import com.google.common.base.MoreObjects;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
-import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.state.merkle.internals.TopicRunningHasher;
 import com.hedera.services.state.serdes.DomainSerdes;
 import com.hedera.services.state.serdes.TopicSerde;
 import com.hedera.services.state.submerkle.EntityId;
@@ -38,9 +38,7 @@ import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
 import com.swirlds.common.merkle.utility.Keyed;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -74,6 +72,9 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements Keyed<Entit
 	public static final int RUNNING_HASH_BYTE_ARRAY_SIZE = 48;
 	public static final long RUNNING_HASH_VERSION = 3L;
 
+	private static final ThreadLocal<TopicRunningHasher> RUNNING_HASHERS =
+			ThreadLocal.withInitial(TopicRunningHasher::new);
+
 	static final int PRE_RELEASE_0180_VERSION = 1;
 	static final int RELEASE_0180_VERSION = 2;
 
@@ -256,15 +257,13 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements Keyed<Entit
 	 * 		the topic id to receive the message
 	 * @param consensusTimestamp
 	 * 		the consensus timestamp
-	 * @throws IOException
-	 * 		when any component fails to write to a temporary stream for computing the running hash
 	 */
 	public void updateRunningHashAndSequenceNumber(
 			final AccountID payer,
 			@Nullable byte[] message,
 			@Nullable TopicID topicId,
 			@Nullable Instant consensusTimestamp
-	) throws IOException {
+	) {
 		throwIfImmutable("Cannot change this topic's running hash or sequence number if it's immutable.");
 		if (null == message) {
 			message = new byte[0];
@@ -276,24 +275,20 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements Keyed<Entit
 			consensusTimestamp = Instant.ofEpochSecond(0);
 		}
 
-		var boas = new ByteArrayOutputStream();
-		try (var out = new ObjectOutputStream(boas)) {
-			out.writeObject(getRunningHash());
-			out.writeLong(RUNNING_HASH_VERSION);
-			out.writeLong(payer.getShardNum());
-			out.writeLong(payer.getRealmNum());
-			out.writeLong(payer.getAccountNum());
-			out.writeLong(topicId.getShardNum());
-			out.writeLong(topicId.getRealmNum());
-			out.writeLong(topicId.getTopicNum());
-			out.writeLong(consensusTimestamp.getEpochSecond());
-			out.writeInt(consensusTimestamp.getNano());
-			++sequenceNumber;
-			out.writeLong(sequenceNumber);
-			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
-			out.flush();
-			runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
-		}
+		++sequenceNumber;
+		runningHash = RUNNING_HASHERS.get().nextRunningHash(
+				getRunningHash(),
+				RUNNING_HASH_VERSION,
+				payer.getShardNum(),
+				payer.getRealmNum(),
+				payer.getAccountNum(),
+				topicId.getShardNum(),
+				topicId.getRealmNum(),
+				topicId.getTopicNum(),
+				consensusTimestamp.getEpochSecond(),
+				consensusTimestamp.getNano(),
+				sequenceNumber,
+				message);
 	}
 
 	@Override
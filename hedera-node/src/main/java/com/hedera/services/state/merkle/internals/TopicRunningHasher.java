@@ -0,0 +1,167 @@
+package com.hedera.services.state.merkle.internals;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes the next running hash of a topic without the {@link ObjectOutputStream} and per-call
+ * {@link MessageDigest} lookups used by the original implementation.
+ *
+ * The running hash is the SHA-384 hash of the bytes an {@link ObjectOutputStream} would produce by writing,
+ * in order, the previous running hash (as a {@code byte[]} object); the running hash version, payer
+ * shard/realm/num, topic shard/realm/num, and consensus seconds as {@code long}s; the consensus nanos as
+ * an {@code int}; the new sequence number as a {@code long}; and the SHA-384 hash of the message (as a
+ * {@code byte[]} object). This class writes exactly those bytes into a re-used {@link ByteBuffer}, taking
+ * the stream header and {@code byte[]} class descriptor from a real {@link ObjectOutputStream}.
+ *
+ * Instances are <b>NOT</b> thread-safe; callers should confine each instance to a single thread.
+ */
+public class TopicRunningHasher {
+	private static final String SHA_384 = "SHA-384";
+	private static final int SHA_384_HASH_SIZE = 48;
+
+	/* Stream header, TC_ARRAY, and the byte[] class descriptor */
+	private static final byte[] STREAM_PREFIX = streamPrefix();
+	/* Nine longs and one int of primitive data */
+	private static final int PRIMITIVE_DATA_SIZE = 9 * Long.BYTES + Integer.BYTES;
+	private static final byte TC_BLOCKDATA = 0x77;
+	private static final byte TC_ARRAY = 0x75;
+	private static final byte TC_REFERENCE = 0x71;
+	/* The wire handle of the first object written to a stream; here, the byte[] class descriptor */
+	private static final int BASE_WIRE_HANDLE = 0x7e0000;
+
+	private final MessageDigest digest;
+	private ByteBuffer buffer;
+
+	public TopicRunningHasher() {
+		try {
+			digest = MessageDigest.getInstance(SHA_384);
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+		buffer = ByteBuffer.allocate(serializedSize(SHA_384_HASH_SIZE));
+	}
+
+	/**
+	 * Returns the next running hash given the previous running hash and the details of a submitted message.
+	 *
+	 * @param prevRunningHash the previous running hash
+	 * @param version the running hash version
+	 * @param payerShard the shard of the payer
+	 * @param payerRealm the realm of the payer
+	 * @param payerNum the number of the payer
+	 * @param topicShard the shard of the topic
+	 * @param topicRealm the realm of the topic
+	 * @param topicNum the number of the topic
+	 * @param consensusSecond the consensus second of the message
+	 * @param consensusNanos the consensus nanos of the message
+	 * @param sequenceNumber the new sequence number of the topic
+	 * @param message the message submitted
+	 * @return the next running hash
+	 */
+	public byte[] nextRunningHash(
+			final byte[] prevRunningHash,
+			final long version,
+			final long payerShard,
+			final long payerRealm,
+			final long payerNum,
+			final long topicShard,
+			final long topicRealm,
+			final long topicNum,
+			final long consensusSecond,
+			final int consensusNanos,
+			final long sequenceNumber,
+			final byte[] message
+	) {
+		ensureCapacityFor(prevRunningHash.length);
+		buffer.clear();
+		buffer.put(STREAM_PREFIX)
+				.putInt(prevRunningHash.length)
+				.put(prevRunningHash)
+				.put(TC_BLOCKDATA)
+				.put((byte) PRIMITIVE_DATA_SIZE)
+				.putLong(version)
+				.putLong(payerShard)
+				.putLong(payerRealm)
+				.putLong(payerNum)
+				.putLong(topicShard)
+				.putLong(topicRealm)
+				.putLong(topicNum)
+				.putLong(consensusSecond)
+				.putInt(consensusNanos)
+				.putLong(sequenceNumber)
+				.put(TC_ARRAY)
+				.put(TC_REFERENCE)
+				.putInt(BASE_WIRE_HANDLE)
+				.putInt(SHA_384_HASH_SIZE);
+		final var pos = buffer.position();
+		digest.update(message);
+		try {
+			digest.digest(buffer.array(), pos, SHA_384_HASH_SIZE);
+		} catch (DigestException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+		digest.update(buffer.array(), 0, pos + SHA_384_HASH_SIZE);
+		return digest.digest();
+	}
+
+	private void ensureCapacityFor(final int runningHashLength) {
+		final var size = serializedSize(runningHashLength);
+		if (buffer.capacity() < size) {
+			buffer = ByteBuffer.allocate(size);
+		}
+	}
+
+	private static int serializedSize(final int runningHashLength) {
+		return STREAM_PREFIX.length
+				+ Integer.BYTES + runningHashLength
+				+ 2 + PRIMITIVE_DATA_SIZE
+				+ 2 + Integer.BYTES
+				+ Integer.BYTES + SHA_384_HASH_SIZE;
+	}
+
+	private static byte[] streamPrefix() {
+		final var baos = new ByteArrayOutputStream();
+		try (final var out = new ObjectOutputStream(baos)) {
+			out.writeObject(new byte[0]);
+		} catch (IOException impossible) {
+			throw new UncheckedIOException(impossible);
+		}
+		final var serialized = baos.toByteArray();
+		/* Drop the zero length of the empty array */
+		final var prefix = new byte[serialized.length - Integer.BYTES];
+		System.arraycopy(serialized, 0, prefix, 0, prefix.length);
+		return prefix;
+	}
+
+	/* --- Only used by unit tests --- */
+	int bufferCapacity() {
+		return buffer.capacity();
+	}
+}
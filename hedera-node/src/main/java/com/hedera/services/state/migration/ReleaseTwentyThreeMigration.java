@@ -0,0 +1,155 @@
+package com.hedera.services.state.migration;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
+import com.hedera.services.state.virtual.VirtualMapFactory;
+import com.hedera.services.store.tokens.views.NftRelation;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.EntityNumPair;
+import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.jasperdb.JasperDbBuilder;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.hedera.services.state.migration.StateVersions.RELEASE_0230_VERSION;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.TREASURY_NFTS_BY_TYPE;
+import static com.hedera.services.utils.EntityNum.fromInt;
+import static com.hedera.services.utils.MiscUtils.forEach;
+
+public class ReleaseTwentyThreeMigration {
+	private static final Logger log = LogManager.getLogger(ReleaseTwentyThreeMigration.class);
+
+	private static final Comparator<PayerRecordExpiry> EXPIRY_ORDER = Comparator
+			.comparingLong(PayerRecordExpiry::getExpiry)
+			.thenComparingLong(PayerRecordExpiry::getPayerNum);
+
+	private static Supplier<VirtualMap<NftIndexKey, NftIndexValue>> nftIndexFactory =
+			() -> new VirtualMapFactory(JasperDbBuilder::new).newVirtualizedNftIndex();
+
+	/**
+	 * Creates the {@code FCQueue<PayerRecordExpiry>} index at position {@link StateChildIndices#PAYER_RECORD_EXPIRIES}
+	 * from the payer records in the saved state's accounts. This is the last time the accounts need to be scanned and
+	 * the expiries sorted; from now on the index is kept up-to-date as records are added and purged.
+	 *
+	 * @param initializingState
+	 * 		the saved state being migrated during initialization
+	 * @param deserializedVersion
+	 * 		for completeness, the version of the saved state
+	 */
+	public static void createPayerRecordExpiries(
+			final ServicesState initializingState,
+			final int deserializedVersion
+	) {
+		log.info("Migrating state from version {} to {}", deserializedVersion, RELEASE_0230_VERSION);
+
+		final MerkleMap<EntityNum, MerkleAccount> accounts = initializingState.getChild(StateChildIndices.ACCOUNTS);
+		final var expiries = new ArrayList<PayerRecordExpiry>();
+		forEach(accounts, (num, account) -> {
+			long lastAdded = -1;
+			for (final var expirableTxnRecord : account.records()) {
+				final var expiry = expirableTxnRecord.getExpiry();
+				if (expiry != lastAdded) {
+					expiries.add(new PayerRecordExpiry(num.longValue(), expiry));
+					lastAdded = expiry;
+				}
+			}
+		});
+		expiries.sort(EXPIRY_ORDER);
+
+		final var payerRecordExpiries = new FCQueue<PayerRecordExpiry>();
+		expiries.forEach(payerRecordExpiries::offer);
+		initializingState.setChild(StateChildIndices.PAYER_RECORD_EXPIRIES, payerRecordExpiries);
+
+		log.info("Migration complete for {} payer record expiries", expiries.size());
+	}
+
+	/**
+	 * Creates the {@code VirtualMap<NftIndexKey, NftIndexValue>} index at position {@link StateChildIndices#NFT_INDEX}
+	 * from the NFTs in the saved state. Before release 0.23 this index was rebuilt in memory on every restart and
+	 * reconnect; from now on it is part of the state, and kept up-to-date as NFTs are minted, burned, wiped, and
+	 * transferred.
+	 *
+	 * <p>NFTs still owned by their token's treasury are indexed by type in the treasury relation; all others are
+	 * indexed by their explicit owner. NFTs of tokens missing from the saved state are skipped.
+	 *
+	 * @param initializingState
+	 * 		the saved state being migrated during initialization
+	 * @param deserializedVersion
+	 * 		for completeness, the version of the saved state
+	 */
+	public static void createNftIndex(
+			final ServicesState initializingState,
+			final int deserializedVersion
+	) {
+		log.info("Migrating state from version {} to {}", deserializedVersion, RELEASE_0230_VERSION);
+
+		final MerkleMap<EntityNum, MerkleToken> tokens = initializingState.getChild(StateChildIndices.TOKENS);
+		final MerkleMap<EntityNumPair, MerkleUniqueToken> nfts =
+				initializingState.getChild(StateChildIndices.UNIQUE_TOKENS);
+
+		final var nftIndex = nftIndexFactory.get();
+		final var nftsByType = new NftRelation(nftIndex, NFTS_BY_TYPE);
+		final var nftsByOwner = new NftRelation(nftIndex, NFTS_BY_OWNER);
+		final var treasuryNftsByType = new NftRelation(nftIndex, TREASURY_NFTS_BY_TYPE);
+		final var numIndexed = new AtomicInteger();
+		forEach(nfts, (nftId, nft) -> {
+			final var tokenId = nftId.getHiPhi();
+			if (!tokens.containsKey(tokenId)) {
+				return;
+			}
+			nftsByType.associate(tokenId, nftId.value());
+			if (nft.isTreasuryOwned()) {
+				treasuryNftsByType.associate(tokenId, nftId.value());
+			} else {
+				nftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
+			}
+			numIndexed.getAndIncrement();
+		});
+		initializingState.setChild(StateChildIndices.NFT_INDEX, nftIndex);
+
+		log.info("Migration complete for {} NFTs", numIndexed.get());
+	}
+
+	/* --- Only used by unit tests --- */
+	static void setNftIndexFactory(final Supplier<VirtualMap<NftIndexKey, NftIndexValue>> nftIndexFactory) {
+		ReleaseTwentyThreeMigration.nftIndexFactory = nftIndexFactory;
+	}
+
+	private ReleaseTwentyThreeMigration() {
+		throw new UnsupportedOperationException("Utility Class");
+	}
+}
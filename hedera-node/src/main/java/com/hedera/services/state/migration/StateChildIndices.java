@@ -36,9 +36,12 @@ public final class StateChildIndices {
 	public static final int RECORD_STREAM_RUNNING_HASH = 9;
 	public static final int ADDRESS_BOOK = 10;
 	public static final int CONTRACT_STORAGE = 11;
+	public static final int PAYER_RECORD_EXPIRIES = 12;
+	public static final int NFT_INDEX = 13;
 
 	public static final int NUM_PRE_0220_CHILDREN = 11;
 	public static final int NUM_0220_CHILDREN = 12;
+	public static final int NUM_0230_CHILDREN = 14;
 
 	private StateChildIndices() {
 		throw new UnsupportedOperationException("Utility Class");
@@ -0,0 +1,142 @@
+package com.hedera.services.state.submerkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.fcqueue.FCQueueElement;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An entry in the state's index of payer record expirations; that is, a note that the account with
+ * number {@code payerNum} has at least one record in its {@code records()} queue that expires at
+ * consensus second {@code expiry}.
+ *
+ * Entries are added to the index in consensus order, so the index is ordered by expiry; and a restart
+ * or reconnect can rebuild the recent transaction histories by visiting only the payers it names.
+ */
+public class PayerRecordExpiry implements FCQueueElement {
+	static final int RELEASE_0230_VERSION = 1;
+	static final int MERKLE_VERSION = RELEASE_0230_VERSION;
+
+	static final long RUNTIME_CONSTRUCTABLE_ID = 0x4f6a1e8c2b7d93a5L;
+
+	private long payerNum;
+	private long expiry;
+	private Hash hash;
+
+	public PayerRecordExpiry() {
+		/* RuntimeConstructable */
+	}
+
+	public PayerRecordExpiry(final long payerNum, final long expiry) {
+		this.payerNum = payerNum;
+		this.expiry = expiry;
+	}
+
+	public long getPayerNum() {
+		return payerNum;
+	}
+
+	public long getExpiry() {
+		return expiry;
+	}
+
+	/* --- SelfSerializable --- */
+	@Override
+	public long getClassId() {
+		return RUNTIME_CONSTRUCTABLE_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return MERKLE_VERSION;
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		payerNum = in.readLong();
+		expiry = in.readLong();
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeLong(payerNum);
+		out.writeLong(expiry);
+	}
+
+	/* --- SerializableHashable --- */
+	@Override
+	public Hash getHash() {
+		return hash;
+	}
+
+	@Override
+	public void setHash(final Hash hash) {
+		this.hash = hash;
+	}
+
+	/* --- FastCopyable --- */
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+	@Override
+	public PayerRecordExpiry copy() {
+		return this;
+	}
+
+	@Override
+	public void release() {
+		/* No-op */
+	}
+
+	/* --- Objects --- */
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || PayerRecordExpiry.class != o.getClass()) {
+			return false;
+		}
+		final var that = (PayerRecordExpiry) o;
+		return this.payerNum == that.payerNum && this.expiry == that.expiry;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(payerNum, expiry);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("payerNum", payerNum)
+				.add("expiry", expiry)
+				.toString();
+	}
+}
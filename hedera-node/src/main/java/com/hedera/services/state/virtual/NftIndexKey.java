@@ -0,0 +1,206 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.MiscUtils;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.virtualmap.VirtualKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A key in the persisted index of unique token ownership. The index holds, for each of a few
+ * relations from an entity number to a set of NFTs, enough entries to page through the set
+ * without scanning it:
+ * <ul>
+ *     <li>A {@link Kind#COUNT} entry for the number of NFTs associated to the entity.</li>
+ *     <li>A {@link Kind#SLOT} entry for each {@code i} in {@code [0, count)}, mapping the
+ *     {@code i}-th position in the set to the code of the NFT there.</li>
+ *     <li>A {@link Kind#POSITION} entry for each associated NFT, mapping its code back to
+ *     its position; so that removals are also constant-time.</li>
+ * </ul>
+ */
+public class NftIndexKey implements VirtualKey<NftIndexKey> {
+	static final int CURRENT_VERSION = 1;
+	static final int BYTES_IN_SERIALIZED_FORM = 14;
+	static final long CLASS_ID = 0x5b4bd0c2a1e3f0e7L;
+
+	private static final Relation[] RELATIONS = Relation.values();
+	private static final Kind[] KINDS = Kind.values();
+
+	public enum Relation {
+		NFTS_BY_TYPE, NFTS_BY_OWNER, TREASURY_NFTS_BY_TYPE
+	}
+
+	public enum Kind {
+		COUNT, SLOT, POSITION
+	}
+
+	private Relation relation;
+	private Kind kind;
+	private int entityNumCode;
+	private long code;
+
+	public NftIndexKey() {
+		/* Required by deserialization facility */
+	}
+
+	public NftIndexKey(final Relation relation, final Kind kind, final int entityNumCode, final long code) {
+		this.relation = relation;
+		this.kind = kind;
+		this.entityNumCode = entityNumCode;
+		this.code = code;
+	}
+
+	public static NftIndexKey countKey(final Relation relation, final int entityNumCode) {
+		return new NftIndexKey(relation, Kind.COUNT, entityNumCode, 0L);
+	}
+
+	public static NftIndexKey slotKey(final Relation relation, final int entityNumCode, final long slot) {
+		return new NftIndexKey(relation, Kind.SLOT, entityNumCode, slot);
+	}
+
+	public static NftIndexKey positionKey(final Relation relation, final int entityNumCode, final long nftCode) {
+		return new NftIndexKey(relation, Kind.POSITION, entityNumCode, nftCode);
+	}
+
+	@Override
+	public void serialize(final ByteBuffer buffer) throws IOException {
+		buffer.put((byte) relation.ordinal());
+		buffer.put((byte) kind.ordinal());
+		buffer.putInt(entityNumCode);
+		buffer.putLong(code);
+	}
+
+	@Override
+	public void deserialize(final ByteBuffer buffer, final int version) throws IOException {
+		relation = RELATIONS[0xff & buffer.get()];
+		kind = KINDS[0xff & buffer.get()];
+		entityNumCode = buffer.getInt();
+		code = buffer.getLong();
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		relation = RELATIONS[0xff & in.readByte()];
+		kind = KINDS[0xff & in.readByte()];
+		entityNumCode = in.readInt();
+		code = in.readLong();
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeByte(relation.ordinal());
+		out.writeByte(kind.ordinal());
+		out.writeInt(entityNumCode);
+		out.writeLong(code);
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CURRENT_VERSION;
+	}
+
+	@Override
+	public int getMinimumSupportedVersion() {
+		return CURRENT_VERSION;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || NftIndexKey.class != o.getClass()) {
+			return false;
+		}
+
+		final var that = (NftIndexKey) o;
+		return this.relation == that.relation
+				&& this.kind == that.kind
+				&& this.entityNumCode == that.entityNumCode
+				&& this.code == that.code;
+	}
+
+	@Override
+	public int hashCode() {
+		final var prefix = ((long) entityNumCode << 8) | ((long) relation.ordinal() << 4) | kind.ordinal();
+		return (int) MiscUtils.perm64(code ^ MiscUtils.perm64(prefix));
+	}
+
+	@Override
+	public int compareTo(@NotNull final NftIndexKey that) {
+		if (this == that) {
+			return 0;
+		}
+		int order = this.relation.compareTo(that.relation);
+		if (order != 0) {
+			return order;
+		}
+		order = Integer.compare(this.entityNumCode, that.entityNumCode);
+		if (order != 0) {
+			return order;
+		}
+		order = this.kind.compareTo(that.kind);
+		if (order != 0) {
+			return order;
+		}
+		return Long.compare(this.code, that.code);
+	}
+
+	@Override
+	public String toString() {
+		return "NftIndexKey{" +
+				"relation=" + relation +
+				", kind=" + kind +
+				", entityNumCode=" + entityNumCode +
+				", code=" + code +
+				'}';
+	}
+
+	public static int sizeInBytes() {
+		return BYTES_IN_SERIALIZED_FORM;
+	}
+
+	public Relation getRelation() {
+		return relation;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public int getEntityNumCode() {
+		return entityNumCode;
+	}
+
+	public long getCode() {
+		return code;
+	}
+}
@@ -0,0 +1,91 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.jasperdb.files.hashmap.KeySerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class NftIndexKeySerializer implements KeySerializer<NftIndexKey> {
+	static final long CLASS_ID = 0x2f1a6c95d40b83e1L;
+	static final int CURRENT_VERSION = 1;
+
+	static final long DATA_VERSION = 1;
+
+	@Override
+	public int deserializeKeySize(ByteBuffer byteBuffer) {
+		return NftIndexKey.sizeInBytes();
+	}
+
+	@Override
+	public int getSerializedSize() {
+		return NftIndexKey.sizeInBytes();
+	}
+
+	@Override
+	public long getCurrentDataVersion() {
+		return DATA_VERSION;
+	}
+
+	@Override
+	public NftIndexKey deserialize(ByteBuffer byteBuffer, long version) throws IOException {
+		final var key = new NftIndexKey();
+		key.deserialize(byteBuffer, (int) version);
+		return key;
+	}
+
+	@Override
+	public boolean equals(ByteBuffer buffer, int version, NftIndexKey key) throws IOException {
+		return key.getRelation().ordinal() == (0xff & buffer.get())
+				&& key.getKind().ordinal() == (0xff & buffer.get())
+				&& key.getEntityNumCode() == buffer.getInt()
+				&& key.getCode() == buffer.getLong();
+	}
+
+	@Override
+	public int serialize(NftIndexKey key, SerializableDataOutputStream out) throws IOException {
+		key.serialize(out);
+		return NftIndexKey.sizeInBytes();
+	}
+
+	@Override
+	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+		/* No-op */
+	}
+
+	@Override
+	public void serialize(SerializableDataOutputStream out) throws IOException {
+		/* No-op */
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CURRENT_VERSION;
+	}
+}
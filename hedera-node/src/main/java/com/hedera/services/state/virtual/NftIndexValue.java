@@ -0,0 +1,123 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.virtualmap.VirtualValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The value of an entry in the persisted index of unique token ownership; depending on the
+ * {@link NftIndexKey.Kind} of its key, either a count, the code of an NFT, or a position.
+ */
+public class NftIndexValue implements VirtualValue {
+	static final int CURRENT_VERSION = 1;
+	static final int BYTES_IN_SERIALIZED_FORM = 8;
+	static final long CLASS_ID = 0x4c0f2e7a91d6b385L;
+
+	private long value;
+
+	public NftIndexValue() {
+		/* Required by deserialization facility */
+	}
+
+	public NftIndexValue(final long value) {
+		this.value = value;
+	}
+
+	public long getValue() {
+		return value;
+	}
+
+	@Override
+	public NftIndexValue copy() {
+		return new NftIndexValue(value);
+	}
+
+	@Override
+	public NftIndexValue asReadOnly() {
+		/* Instances are never mutated after construction */
+		return this;
+	}
+
+	@Override
+	public void release() {
+		/* No-op */
+	}
+
+	@Override
+	public void serialize(final SerializableDataOutputStream out) throws IOException {
+		out.writeLong(value);
+	}
+
+	@Override
+	public void serialize(final ByteBuffer buffer) throws IOException {
+		buffer.putLong(value);
+	}
+
+	@Override
+	public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+		value = in.readLong();
+	}
+
+	@Override
+	public void deserialize(final ByteBuffer buffer, final int version) throws IOException {
+		value = buffer.getLong();
+	}
+
+	@Override
+	public long getClassId() {
+		return CLASS_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return CURRENT_VERSION;
+	}
+
+	public static int sizeInBytes() {
+		return BYTES_IN_SERIALIZED_FORM;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || NftIndexValue.class != o.getClass()) {
+			return false;
+		}
+		return this.value == ((NftIndexValue) o).value;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return "NftIndexValue{value=" + value + '}';
+	}
+}
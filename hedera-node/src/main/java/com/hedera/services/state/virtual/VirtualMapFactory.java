@@ -33,10 +33,12 @@ public class VirtualMapFactory {
 
 	private static final long MAX_BLOBS = 50_000_000;
 	private static final long MAX_STORAGE_ENTRIES = 500_000_000;
+	private static final long MAX_NFT_INDEX_ENTRIES = 1_000_000_000;
 	private static final long MAX_IN_MEMORY_INTERNAL_HASHES = 0;
 
 	private static final String BLOBS_VM_NAME = "fileStore";
 	private static final String STORAGE_VM_NAME = "smartContractKvStore";
+	private static final String NFT_INDEX_VM_NAME = "nftOwnershipIndex";
 
 	@FunctionalInterface
 	public interface JasperDbBuilderFactory {
@@ -100,4 +102,30 @@ public class VirtualMapFactory {
 				.mergingEnabled(true);
 		return new VirtualMap<>(STORAGE_VM_NAME, dsBuilder);
 	}
+
+	public VirtualMap<NftIndexKey, NftIndexValue> newVirtualizedNftIndex() {
+		final var nftIndexKeySerializer = new NftIndexKeySerializer();
+		final VirtualLeafRecordSerializer<NftIndexKey, NftIndexValue> nftIndexLeafRecordSerializer =
+				new VirtualLeafRecordSerializer<>(
+						CURRENT_SERIALIZATION_VERSION,
+						DigestType.SHA_384,
+						CURRENT_SERIALIZATION_VERSION,
+						NftIndexKey.sizeInBytes(),
+						new NftIndexKeySupplier(),
+						CURRENT_SERIALIZATION_VERSION,
+						NftIndexValue.sizeInBytes(),
+						new NftIndexValueSupplier(),
+						true);
+
+		final JasperDbBuilder<NftIndexKey, NftIndexValue> dsBuilder = jdbBuilderFactory.newJdbBuilder();
+		dsBuilder
+				.virtualLeafRecordSerializer(nftIndexLeafRecordSerializer)
+				.virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
+				.keySerializer(nftIndexKeySerializer)
+				.maxNumOfKeys(MAX_NFT_INDEX_ENTRIES)
+				.preferDiskBasedIndexes(false)
+				.internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES)
+				.mergingEnabled(true);
+		return new VirtualMap<>(NFT_INDEX_VM_NAME, dsBuilder);
+	}
 }
@@ -0,0 +1,37 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.swirlds.common.statistics.StatEntry;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Creates stats that report the current value of some quantity each time they are sampled; for example,
+ * the size of a cache, or a duration measured once at startup. Unlike a counter, a gauge's value may go
+ * down as well as up; and unlike a running average, it is not smoothed over past samples.
+ */
+public interface GaugeFactory {
+	default StatEntry from(String name, String desc, LongSupplier value) {
+		return new StatEntry("app", name, desc, "%d", null, null, null, value::getAsLong);
+	}
+}
@@ -0,0 +1,51 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+/**
+ * The phases of handling a consensus transaction whose latencies are tracked (when enabled) by
+ * the {@link HandlePhaseLatencies}.
+ */
+public enum HandlePhase {
+	/** Purging expired payer records and short-lived entities before the transaction is processed. */
+	EXPIRY_PURGE("ExpiryPurge"),
+	/** Rationalizing the transaction's signatures with the latest state, and verifying any that changed. */
+	SIG_RATIONALIZATION("SigRationalization"),
+	/** Charging the node and network fees (and, if the payer is solvent, the service fee). */
+	FEE_CHARGING("FeeCharging"),
+	/** Running the screened transition logic for the transaction's {@code HederaFunctionality}. */
+	TRANSITION("Transition"),
+	/** Committing the ledger, which also creates and saves the transaction's records. */
+	RECORD_CREATION("RecordCreation"),
+	/** Handing off the committed records to the record stream. */
+	STREAM_HANDOFF("StreamHandoff");
+
+	private final String statName;
+
+	HandlePhase(final String statName) {
+		this.statName = statName;
+	}
+
+	public String statName() {
+		return statName;
+	}
+}
@@ -0,0 +1,271 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.statistics.StatEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * An opt-in recorder of the latency of each {@link HandlePhase} in handling a consensus transaction,
+ * with one {@link LatencyHistogram} per phase for each {@link HederaFunctionality}, plus one per
+ * phase across all functions.
+ *
+ * The cross-function percentiles are registered as platform gauges that cover a single sampling
+ * window; each call to {@link HandlePhaseLatencies#rollWindow()} publishes the window just ended and
+ * starts a new one. The per-function histograms are summarized in a CSV file at
+ * {@code stats.handlePhases.dumpPath} whenever a file with the same path plus a {@code .request}
+ * suffix is found (the request file is then deleted); each dump covers the spans since the last one.
+ *
+ * Only the thread handling transactions records into, or replaces, the histograms. Other threads
+ * just <i>request</i> a new window or a reset after a dump, which the handle thread honors at the
+ * start of its next transaction.
+ *
+ * When {@code stats.handlePhases.enabled=false}, every method is a cheap no-op.
+ */
+@Singleton
+public class HandlePhaseLatencies {
+	private static final Logger log = LogManager.getLogger(HandlePhaseLatencies.class);
+
+	private static final GaugeFactory gauge = new GaugeFactory() {
+	};
+
+	static final String DUMP_REQUEST_SUFFIX = ".request";
+	static final String CSV_HEADER = "function,phase,count,meanUs,p50Us,p90Us,p99Us,p999Us";
+	static final double[] DUMPED_PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+	private static final HandlePhase[] PHASES = HandlePhase.values();
+	private static final HederaFunctionality[] FUNCTIONS = HederaFunctionality.values();
+
+	private final boolean shouldNoop;
+	private final Path dumpPath;
+	private final Path dumpRequestPath;
+
+	private int currentFunction;
+	private LatencyHistogram[] windowByPhase;
+
+	private volatile boolean windowRollRequested;
+	private volatile boolean resetRequested;
+	private volatile LatencyHistogram[] lastWindowByPhase;
+	private volatile LatencyHistogram[] allFunctionsByPhase;
+	private volatile LatencyHistogram[][] byFunctionAndPhase;
+
+	@Inject
+	public HandlePhaseLatencies(final NodeLocalProperties properties) {
+		shouldNoop = !properties.areHandlePhaseLatenciesEnabled();
+		if (shouldNoop) {
+			dumpPath = null;
+			dumpRequestPath = null;
+			log.info("Not tracking handle phase latencies (stats.handlePhases.enabled=false)");
+		} else {
+			dumpPath = Paths.get(properties.handlePhasesDumpPath());
+			dumpRequestPath = Paths.get(properties.handlePhasesDumpPath() + DUMP_REQUEST_SUFFIX);
+			windowByPhase = newPhaseHistograms();
+			lastWindowByPhase = newPhaseHistograms();
+			allFunctionsByPhase = newPhaseHistograms();
+			byFunctionAndPhase = new LatencyHistogram[FUNCTIONS.length][];
+			log.info("Tracking handle phase latencies, touch {} to dump them", dumpRequestPath);
+		}
+	}
+
+	/**
+	 * Attributes all spans ended from now until the next call to this method to the given function.
+	 *
+	 * @param function
+	 * 		the function of the transaction now being handled
+	 */
+	public void beginTxn(final HederaFunctionality function) {
+		if (shouldNoop) {
+			return;
+		}
+		if (windowRollRequested) {
+			lastWindowByPhase = windowByPhase;
+			windowByPhase = newPhaseHistograms();
+			windowRollRequested = false;
+		}
+		if (resetRequested) {
+			allFunctionsByPhase = newPhaseHistograms();
+			byFunctionAndPhase = new LatencyHistogram[FUNCTIONS.length][];
+			resetRequested = false;
+		}
+		currentFunction = function.ordinal();
+	}
+
+	/**
+	 * Returns the start time of a span to later pass to {@link HandlePhaseLatencies#endSpan(HandlePhase, long)}.
+	 *
+	 * @return the current value of {@link System#nanoTime()}, or zero if not tracking latencies
+	 */
+	public long startSpan() {
+		return shouldNoop ? 0L : System.nanoTime();
+	}
+
+	/**
+	 * Records the elapsed time since the given start as the latency of a phase of the current transaction.
+	 *
+	 * @param phase
+	 * 		the phase whose span is ending
+	 * @param startNanos
+	 * 		the value returned from {@link HandlePhaseLatencies#startSpan()} at the start of the span
+	 */
+	public void endSpan(final HandlePhase phase, final long startNanos) {
+		if (shouldNoop) {
+			return;
+		}
+		final var elapsed = System.nanoTime() - startNanos;
+		var functionHistograms = byFunctionAndPhase[currentFunction];
+		if (functionHistograms == null) {
+			functionHistograms = newPhaseHistograms();
+			byFunctionAndPhase[currentFunction] = functionHistograms;
+		}
+		functionHistograms[phase.ordinal()].record(elapsed);
+		allFunctionsByPhase[phase.ordinal()].record(elapsed);
+		windowByPhase[phase.ordinal()].record(elapsed);
+	}
+
+	/**
+	 * Requests that the thread handling transactions publish its current window of cross-function
+	 * latencies to the registered gauges, and start a new window. Called once per stats sampling interval.
+	 */
+	public void rollWindow() {
+		if (shouldNoop) {
+			return;
+		}
+		windowRollRequested = true;
+	}
+
+	public void registerStatistics(final Consumer<StatEntry> registry) {
+		if (shouldNoop) {
+			return;
+		}
+		for (final var phase : PHASES) {
+			final var i = phase.ordinal();
+			registry.accept(gauge.from(
+					"handle" + phase.statName() + "P50Us",
+					"median latency of the " + phase.statName() + " phase of handleTransaction " +
+							"in the last stats window (us)",
+					() -> micros(lastWindowByPhase[i].valueAtPercentile(50.0))));
+			registry.accept(gauge.from(
+					"handle" + phase.statName() + "P99Us",
+					"99th percentile latency of the " + phase.statName() + " phase of handleTransaction " +
+							"in the last stats window (us)",
+					() -> micros(lastWindowByPhase[i].valueAtPercentile(99.0))));
+		}
+	}
+
+	/**
+	 * If tracking latencies and there is a pending dump request, deletes the request and writes a CSV
+	 * summary of the per-function histograms to the dump path; then requests that the histograms be
+	 * reset, so the next dump covers only later spans.
+	 */
+	public void dumpIfRequested() {
+		if (shouldNoop) {
+			return;
+		}
+		try {
+			if (Files.deleteIfExists(dumpRequestPath)) {
+				dumpTo(dumpPath);
+				resetRequested = true;
+				log.info("Dumped handle phase latencies to {}", dumpPath);
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Unable to dump handle phase latencies to {}", dumpPath, e);
+		}
+	}
+
+	void dumpTo(final Path path) throws IOException {
+		final var sb = new StringBuilder(CSV_HEADER).append('\n');
+		for (final var function : FUNCTIONS) {
+			final var functionHistograms = byFunctionAndPhase[function.ordinal()];
+			if (functionHistograms != null) {
+				appendRows(function.name(), functionHistograms, sb);
+			}
+		}
+		appendRows("ALL", allFunctionsByPhase, sb);
+
+		final var parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Files.writeString(path, sb.toString());
+	}
+
+	private void appendRows(final String function, final LatencyHistogram[] histograms, final StringBuilder sb) {
+		for (final var phase : PHASES) {
+			final var histogram = histograms[phase.ordinal()];
+			if (histogram.count() == 0) {
+				continue;
+			}
+			sb.append(function).append(',')
+					.append(phase).append(',')
+					.append(histogram.count()).append(',')
+					.append(micros(histogram.meanNanos()));
+			for (final var percentile : DUMPED_PERCENTILES) {
+				sb.append(',').append(micros(histogram.valueAtPercentile(percentile)));
+			}
+			sb.append('\n');
+		}
+	}
+
+	private static long micros(final long nanos) {
+		return NANOSECONDS.toMicros(nanos);
+	}
+
+	private static LatencyHistogram[] newPhaseHistograms() {
+		final var histograms = new LatencyHistogram[PHASES.length];
+		for (int i = 0; i < PHASES.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		return histograms;
+	}
+
+	/* --- Only used by unit tests --- */
+	boolean isShouldNoop() {
+		return shouldNoop;
+	}
+
+	LatencyHistogram histogramFor(final HederaFunctionality function, final HandlePhase phase) {
+		final var functionHistograms = byFunctionAndPhase[function.ordinal()];
+		return functionHistograms == null ? null : functionHistograms[phase.ordinal()];
+	}
+
+	LatencyHistogram allFunctionsHistogramFor(final HandlePhase phase) {
+		return allFunctionsByPhase[phase.ordinal()];
+	}
+
+	LatencyHistogram lastWindowHistogramFor(final HandlePhase phase) {
+		return lastWindowByPhase[phase.ordinal()];
+	}
+}
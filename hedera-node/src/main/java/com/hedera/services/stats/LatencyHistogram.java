@@ -0,0 +1,107 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, log-linear latency histogram in the style of an HDR histogram. Each power-of-two
+ * range of nanos is split into {@code 16} linear sub-buckets, so any recorded value is reported
+ * with a relative error of at most {@code 1/16}. Values of {@code 2^36} nanos (about 68 seconds)
+ * or more are all counted in the last bucket.
+ *
+ * Only a single thread should call {@link LatencyHistogram#record(long)}; but any thread may
+ * read counts and percentiles, which will reflect a recent (if not perfectly consistent) view.
+ */
+public class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 4;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int MAX_MAGNITUDE = 35;
+	static final int NUM_BUCKETS = 2 * SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+
+	private volatile long count;
+	private volatile long sumNanos;
+
+	public void record(final long nanos) {
+		final var i = bucketFor(nanos);
+		counts.lazySet(i, counts.get(i) + 1);
+		sumNanos += nanos;
+		count++;
+	}
+
+	public long count() {
+		return count;
+	}
+
+	public long meanNanos() {
+		final var n = count;
+		return n == 0 ? 0 : sumNanos / n;
+	}
+
+	/**
+	 * Returns the (inclusive) upper bound of the bucket containing the given percentile of the recorded
+	 * values; or zero if nothing has been recorded.
+	 *
+	 * @param percentile
+	 * 		a percentile in the range {@code (0.0, 100.0]}
+	 * @return the approximate value at this percentile
+	 */
+	public long valueAtPercentile(final double percentile) {
+		final var n = count;
+		if (n == 0) {
+			return 0;
+		}
+		final var target = Math.max(1L, (long) Math.ceil(n * percentile / 100.0));
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(NUM_BUCKETS - 1);
+	}
+
+	static int bucketFor(final long nanos) {
+		if (nanos < 2 * SUB_BUCKET_COUNT) {
+			return (int) Math.max(0, nanos);
+		}
+		if (nanos >= (1L << (MAX_MAGNITUDE + 1))) {
+			return NUM_BUCKETS - 1;
+		}
+		final var magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+		final var shift = magnitude - SUB_BUCKET_BITS;
+		return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + (int) ((nanos >>> shift) - SUB_BUCKET_COUNT);
+	}
+
+	static long upperBoundOf(final int bucket) {
+		if (bucket < 2 * SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		final var offset = bucket - 2 * SUB_BUCKET_COUNT;
+		final var shift = offset / SUB_BUCKET_COUNT + 1;
+		final long subBucket = SUB_BUCKET_COUNT + (long) (offset % SUB_BUCKET_COUNT);
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
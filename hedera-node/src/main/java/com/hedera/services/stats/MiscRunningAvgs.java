@@ -33,6 +33,13 @@ public class MiscRunningAvgs {
 
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
+	StatsRunningAverage prepareQueueDepth;
+	StatsRunningAverage handoffQueueSizeRecordStream;
+	StatsRunningAverage handoffLatencyUsRecordStream;
+	StatsRunningAverage signedStateQueryStalenessMs;
+	StatsRunningAverage slotPrefetchPrecision;
+	StatsRunningAverage slotPrefetchRecall;
+	StatsRunningAverage localCallQueueLatencyMs;
 
 	public MiscRunningAvgs(final RunningAvgFactory runningAvg, final double halfLife) {
 		this.runningAvg = runningAvg;
@@ -44,6 +51,13 @@ public class MiscRunningAvgs {
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+		prepareQueueDepth = new StatsRunningAverage(halfLife);
+		handoffQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+		handoffLatencyUsRecordStream = new StatsRunningAverage(halfLife);
+		signedStateQueryStalenessMs = new StatsRunningAverage(halfLife);
+		slotPrefetchPrecision = new StatsRunningAverage(halfLife);
+		slotPrefetchRecall = new StatsRunningAverage(halfLife);
+		localCallQueueLatencyMs = new StatsRunningAverage(halfLife);
 	}
 
 	public void registerWith(final Platform platform) {
@@ -77,6 +91,41 @@ public class MiscRunningAvgs {
 						Names.GAS_PER_CONSENSUS_SEC,
 						Descriptions.GAS_PER_CONSENSUS_SEC,
 						gasPerConsSec));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PREPARE_QUEUE_DEPTH,
+						Descriptions.PREPARE_QUEUE_DEPTH,
+						prepareQueueDepth));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+						Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+						handoffQueueSizeRecordStream));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.HANDOFF_LATENCY_US_RECORD_STREAM,
+						Descriptions.HANDOFF_LATENCY_US_RECORD_STREAM,
+						handoffLatencyUsRecordStream));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SIGNED_STATE_QUERY_STALENESS_MS,
+						Descriptions.SIGNED_STATE_QUERY_STALENESS_MS,
+						signedStateQueryStalenessMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SLOT_PREFETCH_PRECISION,
+						Descriptions.SLOT_PREFETCH_PRECISION,
+						slotPrefetchPrecision));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SLOT_PREFETCH_RECALL,
+						Descriptions.SLOT_PREFETCH_RECALL,
+						slotPrefetchRecall));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.LOCAL_CALL_QUEUE_LATENCY_MS,
+						Descriptions.LOCAL_CALL_QUEUE_LATENCY_MS,
+						localCallQueueLatencyMs));
 	}
 
 	public void recordAccountLookupRetries(final int num) {
@@ -103,6 +152,34 @@ public class MiscRunningAvgs {
 		gasPerConsSec.recordValue(gas);
 	}
 
+	public void recordPrepareQueueDepth(final int num) {
+		prepareQueueDepth.recordValue(num);
+	}
+
+	public void handoffQueueSizeRecordStream(final int num) {
+		handoffQueueSizeRecordStream.recordValue(num);
+	}
+
+	public void handoffLatencyUsRecordStream(final long micros) {
+		handoffLatencyUsRecordStream.recordValue(micros);
+	}
+
+	public void recordSignedStateQueryStalenessMs(final long millis) {
+		signedStateQueryStalenessMs.recordValue(millis);
+	}
+
+	public void recordSlotPrefetchPrecision(final double fraction) {
+		slotPrefetchPrecision.recordValue(fraction);
+	}
+
+	public void recordSlotPrefetchRecall(final double fraction) {
+		slotPrefetchRecall.recordValue(fraction);
+	}
+
+	public void recordLocalCallQueueLatencyMs(final long millis) {
+		localCallQueueLatencyMs.recordValue(millis);
+	}
+
 	public static final class Names {
 		static final String GAS_PER_CONSENSUS_SEC = "gasPerConsSec";
 		static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
@@ -111,6 +188,13 @@ public class MiscRunningAvgs {
 
 		static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+		static final String PREPARE_QUEUE_DEPTH = "prepareQueueDepth";
+		static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM = "handoffQueueSizeRecordStream";
+		static final String HANDOFF_LATENCY_US_RECORD_STREAM = "handoffLatencyUsRecordStream";
+		static final String SIGNED_STATE_QUERY_STALENESS_MS = "signedStateQueryStalenessMs";
+		static final String SLOT_PREFETCH_PRECISION = "slotPrefetchPrecision";
+		static final String SLOT_PREFETCH_RECALL = "slotPrefetchRecall";
+		static final String LOCAL_CALL_QUEUE_LATENCY_MS = "localCallQueueLatencyMs";
 
 		private Names() {
 			throw new UnsupportedOperationException("Utility Class");
@@ -131,6 +215,20 @@ public class MiscRunningAvgs {
 				"size of the queue from which we take records and write to RecordStream file";
 		static final String HASH_QUEUE_SIZE_RECORD_STREAM =
 				"size of working queue for calculating hash and runningHash";
+		static final String PREPARE_QUEUE_DEPTH =
+				"number of transactions waiting in the prepare-stage queue";
+		static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM =
+				"number of records waiting in the handoff ring when a batch is drained to the RecordStream";
+		static final String HANDOFF_LATENCY_US_RECORD_STREAM =
+				"average time (us) a record waits in the handoff ring before it is drained to the RecordStream";
+		static final String SIGNED_STATE_QUERY_STALENESS_MS =
+				"consensus milliseconds the latest signed state lagged the working state when answering a query";
+		static final String SLOT_PREFETCH_PRECISION =
+				"fraction of the storage slots pre-fetched for a contract call that the call actually touched";
+		static final String SLOT_PREFETCH_RECALL =
+				"fraction of the storage slots touched by a contract call that were pre-fetched for it";
+		static final String LOCAL_CALL_QUEUE_LATENCY_MS =
+				"milliseconds a ContractCallLocal query waited for a thread in the local call pool";
 
 		private Descriptions() {
 			throw new UnsupportedOperationException("Utility Class");
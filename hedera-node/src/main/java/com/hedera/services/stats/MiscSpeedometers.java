@@ -30,6 +30,20 @@ public class MiscSpeedometers {
 	StatsSpeedometer asyncVerifications;
 	StatsSpeedometer accountLookupRetries;
 	StatsSpeedometer platformTxnRejections;
+	StatsSpeedometer sigExpansionReuses;
+	StatsSpeedometer sigExpansionMisses;
+	StatsSpeedometer sigExpansionInvalidations;
+	StatsSpeedometer prepareBackPressure;
+	StatsSpeedometer ingestAccessorReuses;
+	StatsSpeedometer ingestAccessorMisses;
+	StatsSpeedometer signedStateQueryAnswers;
+	StatsSpeedometer workingStateQueryFallbacks;
+	StatsSpeedometer feeMemoHits;
+	StatsSpeedometer feeMemoMisses;
+	StatsSpeedometer sigMetaCacheHits;
+	StatsSpeedometer sigMetaCacheMisses;
+	StatsSpeedometer storageSlotCacheHits;
+	StatsSpeedometer storageSlotCacheMisses;
 
 	public MiscSpeedometers(final SpeedometerFactory speedometer, final double halfLife) {
 		this.speedometer = speedometer;
@@ -38,6 +52,20 @@ public class MiscSpeedometers {
 		asyncVerifications = new StatsSpeedometer(halfLife);
 		accountLookupRetries = new StatsSpeedometer(halfLife);
 		platformTxnRejections = new StatsSpeedometer(halfLife);
+		sigExpansionReuses = new StatsSpeedometer(halfLife);
+		sigExpansionMisses = new StatsSpeedometer(halfLife);
+		sigExpansionInvalidations = new StatsSpeedometer(halfLife);
+		prepareBackPressure = new StatsSpeedometer(halfLife);
+		ingestAccessorReuses = new StatsSpeedometer(halfLife);
+		ingestAccessorMisses = new StatsSpeedometer(halfLife);
+		signedStateQueryAnswers = new StatsSpeedometer(halfLife);
+		workingStateQueryFallbacks = new StatsSpeedometer(halfLife);
+		feeMemoHits = new StatsSpeedometer(halfLife);
+		feeMemoMisses = new StatsSpeedometer(halfLife);
+		sigMetaCacheHits = new StatsSpeedometer(halfLife);
+		sigMetaCacheMisses = new StatsSpeedometer(halfLife);
+		storageSlotCacheHits = new StatsSpeedometer(halfLife);
+		storageSlotCacheMisses = new StatsSpeedometer(halfLife);
 	}
 
 	public void registerWith(final Platform platform) {
@@ -61,6 +89,76 @@ public class MiscSpeedometers {
 						Names.PLATFORM_TXN_REJECTIONS,
 						Descriptions.PLATFORM_TXN_REJECTIONS,
 						platformTxnRejections));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIG_EXPANSION_REUSES,
+						Descriptions.SIG_EXPANSION_REUSES,
+						sigExpansionReuses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIG_EXPANSION_MISSES,
+						Descriptions.SIG_EXPANSION_MISSES,
+						sigExpansionMisses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIG_EXPANSION_INVALIDATIONS,
+						Descriptions.SIG_EXPANSION_INVALIDATIONS,
+						sigExpansionInvalidations));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.PREPARE_BACK_PRESSURE,
+						Descriptions.PREPARE_BACK_PRESSURE,
+						prepareBackPressure));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.INGEST_ACCESSOR_REUSES,
+						Descriptions.INGEST_ACCESSOR_REUSES,
+						ingestAccessorReuses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.INGEST_ACCESSOR_MISSES,
+						Descriptions.INGEST_ACCESSOR_MISSES,
+						ingestAccessorMisses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIGNED_STATE_QUERY_ANSWERS,
+						Descriptions.SIGNED_STATE_QUERY_ANSWERS,
+						signedStateQueryAnswers));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.WORKING_STATE_QUERY_FALLBACKS,
+						Descriptions.WORKING_STATE_QUERY_FALLBACKS,
+						workingStateQueryFallbacks));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.FEE_MEMO_HITS,
+						Descriptions.FEE_MEMO_HITS,
+						feeMemoHits));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.FEE_MEMO_MISSES,
+						Descriptions.FEE_MEMO_MISSES,
+						feeMemoMisses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIG_META_CACHE_HITS,
+						Descriptions.SIG_META_CACHE_HITS,
+						sigMetaCacheHits));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.SIG_META_CACHE_MISSES,
+						Descriptions.SIG_META_CACHE_MISSES,
+						sigMetaCacheMisses));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.STORAGE_SLOT_CACHE_HITS,
+						Descriptions.STORAGE_SLOT_CACHE_HITS,
+						storageSlotCacheHits));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.STORAGE_SLOT_CACHE_MISSES,
+						Descriptions.STORAGE_SLOT_CACHE_MISSES,
+						storageSlotCacheMisses));
 	}
 
 	public void cycleSyncVerifications() {
@@ -79,11 +177,81 @@ public class MiscSpeedometers {
 		platformTxnRejections.update(1);
 	}
 
+	public void cycleSigExpansionReuses() {
+		sigExpansionReuses.update(1);
+	}
+
+	public void cycleSigExpansionMisses() {
+		sigExpansionMisses.update(1);
+	}
+
+	public void cycleSigExpansionInvalidations() {
+		sigExpansionInvalidations.update(1);
+	}
+
+	public void cyclePrepareBackPressure() {
+		prepareBackPressure.update(1);
+	}
+
+	public void cycleIngestAccessorReuses() {
+		ingestAccessorReuses.update(1);
+	}
+
+	public void cycleIngestAccessorMisses() {
+		ingestAccessorMisses.update(1);
+	}
+
+	public void cycleSignedStateQueryAnswers() {
+		signedStateQueryAnswers.update(1);
+	}
+
+	public void cycleWorkingStateQueryFallbacks() {
+		workingStateQueryFallbacks.update(1);
+	}
+
+	public void cycleFeeMemoHits() {
+		feeMemoHits.update(1);
+	}
+
+	public void cycleFeeMemoMisses() {
+		feeMemoMisses.update(1);
+	}
+
+	public void cycleSigMetaCacheHits() {
+		sigMetaCacheHits.update(1);
+	}
+
+	public void cycleSigMetaCacheMisses() {
+		sigMetaCacheMisses.update(1);
+	}
+
+	public void recordStorageSlotCacheHits(final int hits) {
+		storageSlotCacheHits.update(hits);
+	}
+
+	public void recordStorageSlotCacheMisses(final int misses) {
+		storageSlotCacheMisses.update(misses);
+	}
+
 	public static final class Names {
 		static final String SYNC_VERIFICATIONS = "sigVerifySync/sec";
 		static final String ASYNC_VERIFICATIONS = "sigVerifyAsync/sec";
 		static final String ACCOUNT_LOOKUP_RETRIES = "acctLookupRetries/sec";
 		static final String PLATFORM_TXN_REJECTIONS = "platformTxnNotCreated/sec";
+		static final String SIG_EXPANSION_REUSES = "sigExpansionReuses/sec";
+		static final String SIG_EXPANSION_MISSES = "sigExpansionMisses/sec";
+		static final String SIG_EXPANSION_INVALIDATIONS = "sigExpansionInvalidations/sec";
+		static final String PREPARE_BACK_PRESSURE = "prepareBackPressure/sec";
+		static final String INGEST_ACCESSOR_REUSES = "ingestAccessorReuses/sec";
+		static final String INGEST_ACCESSOR_MISSES = "ingestAccessorMisses/sec";
+		static final String SIGNED_STATE_QUERY_ANSWERS = "signedStateQueryAnswers/sec";
+		static final String WORKING_STATE_QUERY_FALLBACKS = "workingStateQueryFallbacks/sec";
+		static final String FEE_MEMO_HITS = "feeMemoHits/sec";
+		static final String FEE_MEMO_MISSES = "feeMemoMisses/sec";
+		static final String SIG_META_CACHE_HITS = "sigMetaCacheHits/sec";
+		static final String SIG_META_CACHE_MISSES = "sigMetaCacheMisses/sec";
+		static final String STORAGE_SLOT_CACHE_HITS = "storageSlotCacheHits/sec";
+		static final String STORAGE_SLOT_CACHE_MISSES = "storageSlotCacheMisses/sec";
 
 		private Names() {
 			throw new UnsupportedOperationException("Utility Class");
@@ -99,6 +267,38 @@ public class MiscSpeedometers {
 				"number of times per second that an account lookup must be retried";
 		static final String PLATFORM_TXN_REJECTIONS =
 				"number of platform transactions not created per second";
+		static final String SIG_EXPANSION_REUSES =
+				"number of transactions per second whose signatures expanded from a signed state were reused " +
+						"in handleTransaction";
+		static final String SIG_EXPANSION_MISSES =
+				"number of transactions per second with no signatures expanded from a signed state to reuse " +
+						"in handleTransaction";
+		static final String SIG_EXPANSION_INVALIDATIONS =
+				"number of transactions per second whose signatures expanded from a signed state were invalidated " +
+						"by a change to a linked entity before handleTransaction";
+		static final String PREPARE_BACK_PRESSURE =
+				"number of transactions per second prepared on the event intake thread because the prepare-stage " +
+						"queue was full";
+		static final String INGEST_ACCESSOR_REUSES =
+				"number of consensus transactions per second whose accessor was reused from ingest";
+		static final String INGEST_ACCESSOR_MISSES =
+				"number of consensus transactions per second re-parsed because no ingest accessor was cached";
+		static final String SIGNED_STATE_QUERY_ANSWERS =
+				"number of queries answered from the latest signed state per second";
+		static final String WORKING_STATE_QUERY_FALLBACKS =
+				"number of queries per second answered from the working state for lack of a usable signed state";
+		static final String FEE_MEMO_HITS =
+				"number of transaction fees per second reused from the fee memo cache";
+		static final String FEE_MEMO_MISSES =
+				"number of memoizable transaction fees per second computed because no memo was cached";
+		static final String SIG_META_CACHE_HITS =
+				"number of account and token signing metadata lookups per second answered from the cache";
+		static final String SIG_META_CACHE_MISSES =
+				"number of account and token signing metadata lookups per second read from state on a cache miss";
+		static final String STORAGE_SLOT_CACHE_HITS =
+				"number of contract storage reads per second answered from the slots already read in the transaction";
+		static final String STORAGE_SLOT_CACHE_MISSES =
+				"number of contract storage reads per second that had to read the slot from state";
 
 		private Descriptions() {
 			throw new UnsupportedOperationException("Utility Class");
@@ -21,6 +21,7 @@ package com.hedera.services.stats;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
@@ -52,6 +53,8 @@ public class ServicesStatsManager {
 	private final MiscSpeedometers speedometers;
 	private final HapiOpSpeedometers opSpeedometers;
 	private final NodeLocalProperties properties;
+	private final CodeCache codeCache;
+	private final HandlePhaseLatencies phaseLatencies;
 	private final Supplier<VirtualMap<ContractKey, ContractValue>> storage;
 	private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode;
 
@@ -62,12 +65,16 @@ public class ServicesStatsManager {
 			final MiscSpeedometers speedometers,
 			final HapiOpSpeedometers opSpeedometers,
 			final NodeLocalProperties properties,
+			final CodeCache codeCache,
+			final HandlePhaseLatencies phaseLatencies,
 			final Supplier<VirtualMap<ContractKey, ContractValue>> storage,
 			final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode
 	) {
 		this.storage = storage;
 		this.bytecode = bytecode;
 		this.properties = properties;
+		this.codeCache = codeCache;
+		this.phaseLatencies = phaseLatencies;
 		this.opCounters = opCounters;
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
@@ -81,12 +88,16 @@ public class ServicesStatsManager {
 		opSpeedometers.registerWith(platform);
 		storage.get().registerStatistics(platform::addAppStatEntry);
 		bytecode.get().registerStatistics(platform::addAppStatEntry);
+		codeCache.registerStatistics(platform::addAppStatEntry);
+		phaseLatencies.registerStatistics(platform::addAppStatEntry);
 
 		platform.appStatInit();
 
 		var updateThread = loopFactory.apply(() -> {
 			pause.forMs(properties.statsHapiOpsSpeedometerUpdateIntervalMs());
 			opSpeedometers.updateAll();
+			phaseLatencies.rollWindow();
+			phaseLatencies.dumpIfRequested();
 		});
 		updateThread.setName(String.format(SPEEDOMETER_UPDATE_THREAD_NAME_TPL, platform.getSelfId().getId()));
 		updateThread.start();
@@ -23,6 +23,10 @@ package com.hedera.services.store.contracts;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.CounterFactory;
+import com.hedera.services.stats.GaugeFactory;
+import com.swirlds.common.statistics.StatEntry;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
@@ -31,34 +35,54 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
 
 /**
- * Weak reference cache with expiration TTL for EVM bytecode. This cache is primarily used
+ * Size-bounded cache with expiration TTL for EVM bytecode. This cache is primarily used
  * to store bytecode pre-fetched during prepare phase (aka expand signatures) to be used
  * later on during the handle phase (aka handle transaction). The cache also has the side
  * effect of eliminating bytecode reads from the underlying store if the contract is called
  * repeatedly during a short period of time.
  * <p>
+ * The cache has two levels. The first maps contract addresses to their {@link Code}, and is
+ * bounded by the total size of the cached bytecode. The second interns {@link Code} instances
+ * by bytecode, so that contracts with identical bytecode (e.g., clones deployed by a factory)
+ * share a single instance, and the bytecode is only hashed once. The second level holds its
+ * values weakly, so it never retains bytecode no longer referenced by the first level.
+ * <p>
  * This cache assumes that the bytecode values are immutable, hence no logic to determine
  * whether a value is stale is present.
  */
 @Singleton
 public class CodeCache {
+    private static final CounterFactory counter = new CounterFactory() {
+    };
+    private static final GaugeFactory gauge = new GaugeFactory() {
+    };
+
     private final EntityAccess entityAccess;
     private final Cache<BytesKey, Code> cache;
+    private final Cache<Bytes, Code> codeByBytecode;
+    private final LongAdder dedupHits = new LongAdder();
 
     @Inject
     public CodeCache(final NodeLocalProperties properties, final EntityAccess entityAccess) {
-        this(properties.prefetchCodeCacheTtlSecs(), entityAccess);
+        this(properties.prefetchCodeCacheTtlSecs(), properties.prefetchCodeCacheMaxBytes(), entityAccess);
     }
 
-    public CodeCache(final int cacheTTL, final EntityAccess entityAccess) {
+    public CodeCache(final int cacheTTL, final long maxBytes, final EntityAccess entityAccess) {
         this.entityAccess = entityAccess;
         this.cache = Caffeine.newBuilder()
                 .expireAfterAccess(cacheTTL, TimeUnit.SECONDS)
-                .softValues()
+                .maximumWeight(maxBytes)
+                .<BytesKey, Code>weigher((address, code) -> code.getBytes().size())
+                .recordStats()
+                .build();
+        this.codeByBytecode = Caffeine.newBuilder()
+                .weakValues()
                 .build();
     }
 
@@ -69,7 +93,7 @@ public class CodeCache {
         if (code == null) {
             final var bytecode = entityAccess.fetchCodeIfPresent(accountParsedFromSolidityAddress(address));
             if (bytecode != null) {
-                code = new Code(bytecode, Hash.hash(bytecode));
+                code = internedCodeFor(bytecode);
                 cache.put(cacheKey, code);
             }
         }
@@ -82,6 +106,39 @@ public class CodeCache {
 
     public long size() { return cache.estimatedSize(); }
 
+    /**
+     * Registers this cache's hit, miss, eviction, and de-duplication counters, and its size gauge, via the
+     * given consumer.
+     *
+     * @param registry the consumer that registers a statistic
+     */
+    public void registerStatistics(final Consumer<StatEntry> registry) {
+        registry.accept(counter.from(
+                Names.HITS, Descriptions.HITS, () -> cache.stats().hitCount()));
+        registry.accept(counter.from(
+                Names.MISSES, Descriptions.MISSES, () -> cache.stats().missCount()));
+        registry.accept(counter.from(
+                Names.EVICTIONS, Descriptions.EVICTIONS, () -> cache.stats().evictionCount()));
+        registry.accept(counter.from(
+                Names.DEDUP_HITS, Descriptions.DEDUP_HITS, dedupHits::sum));
+        registry.accept(gauge.from(
+                Names.BYTES, Descriptions.BYTES, this::weightedSize));
+    }
+
+    private Code internedCodeFor(final Bytes bytecode) {
+        final var interned = codeByBytecode.getIfPresent(bytecode);
+        if (interned != null) {
+            dedupHits.increment();
+            return interned;
+        }
+        return codeByBytecode.get(bytecode, b -> new Code(b, Hash.hash(b)));
+    }
+
+    private long weightedSize() {
+        final var eviction = cache.policy().eviction();
+        return eviction.isPresent() ? eviction.get().weightedSize().orElse(0L) : 0L;
+    }
+
     public static class BytesKey {
         byte[] array;
 
@@ -108,8 +165,37 @@ public class CodeCache {
         }
     }
 
+    static final class Names {
+        static final String HITS = "codeCacheHits";
+        static final String MISSES = "codeCacheMisses";
+        static final String EVICTIONS = "codeCacheEvictions";
+        static final String DEDUP_HITS = "codeCacheDedupHits";
+        static final String BYTES = "codeCacheBytes";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    static final class Descriptions {
+        static final String HITS = "number of contract bytecode lookups served from the code cache";
+        static final String MISSES = "number of contract bytecode lookups not served from the code cache";
+        static final String EVICTIONS = "number of contracts evicted from the code cache";
+        static final String DEDUP_HITS =
+                "number of code cache misses served by already-hashed identical bytecode of another contract";
+        static final String BYTES = "current total size in bytes of the bytecode in the code cache";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
     /* --- Only used by unit tests --- */
     Cache<BytesKey, Code> getCache() {
         return cache;
     }
+
+    Cache<Bytes, Code> getCodeByBytecode() {
+        return codeByBytecode;
+    }
 }
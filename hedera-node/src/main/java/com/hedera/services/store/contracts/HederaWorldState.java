@@ -311,6 +311,16 @@ public class HederaWorldState implements HederaMutableWorldState {
 			return account;
 		}
 
+		/**
+		 * Returns this account's code as held by the code cache of the world state that loaded it,
+		 * or {@code null} if that cache has no bytecode for the account.
+		 *
+		 * @return the account's code, if present
+		 */
+		public Code getCodeIfPresent() {
+			return codeCache.getIfPresent(address);
+		}
+
 		private Code getCodeInternal() {
 			final var code = codeCache.getIfPresent(address);
 			return (code == null) ? EMPTY_CODE : code;
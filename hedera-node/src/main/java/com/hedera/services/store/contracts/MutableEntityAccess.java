@@ -34,6 +34,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.virtualmap.VirtualMap;
@@ -67,7 +68,8 @@ public class MutableEntityAccess implements EntityAccess {
 			final TransactionContext txnCtx,
 			final SizeLimitedStorage sizeLimitedStorage,
 			final TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger,
-			final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode
+			final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode,
+			final UniqueTokenViewsManager tokenViewsManager
 	) {
 		this.txnCtx = txnCtx;
 		this.ledger = ledger;
@@ -79,7 +81,8 @@ public class MutableEntityAccess implements EntityAccess {
 				ledger.getTokenRelsLedger(),
 				ledger.getAccountsLedger(),
 				ledger.getNftsLedger(),
-				tokensLedger);
+				tokensLedger,
+				tokenViewsManager);
 
 		ledger.setMutableEntityAccess(this);
 	}
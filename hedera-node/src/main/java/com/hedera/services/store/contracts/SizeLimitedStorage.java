@@ -26,6 +26,7 @@ import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.merkle.map.MerkleMap;
@@ -34,12 +35,14 @@ import org.apache.tuweni.units.bigints.UInt256;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
@@ -48,7 +51,6 @@ import static com.hedera.services.ledger.properties.AccountProperty.NUM_CONTRACT
 import static com.hedera.services.utils.EntityNum.fromLong;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_CONTRACT_STORAGE_EXCEEDED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_STORAGE_IN_PRICE_REGIME_HAS_BEEN_USED;
-import static java.util.Objects.requireNonNull;
 import static org.apache.tuweni.units.bigints.UInt256.ZERO;
 
 /**
@@ -58,6 +60,14 @@ import static org.apache.tuweni.units.bigints.UInt256.ZERO;
  *
  * Note that writing {@link UInt256#ZERO} to a key removes it from the map; so it is possible for a change to decrease
  * the number of key/value pairs used.
+ *
+ * The session is a write-behind buffer keyed by {@link ContractKey}. The first time a session touches a key, it
+ * memoizes whether the key was present in the underlying {@link VirtualMap}; so repeated {@code SSTORE}s to the same
+ * slot never go back to the map. At commit, the net changes are applied in a single pass in key order.
+ *
+ * Since a session spans the whole transaction, the first read of a slot also memoizes its value; so the
+ * {@code SLOAD}s and {@code SSTORE}s of every frame in the transaction, and the gas calculations that re-read the
+ * current and original values of a slot, all share a single read of each (contract, slot) pair from the map.
  */
 @Singleton
 public class SizeLimitedStorage {
@@ -69,23 +79,28 @@ public class SizeLimitedStorage {
 	private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 	/* Used to both read and write key/value pairs throughout the lifecycle of a change set */
 	private final Supplier<VirtualMap<ContractKey, ContractValue>> storage;
+	/* Used to count the storage reads answered from (and missing) the session's memoized slots */
+	private final MiscSpeedometers speedometers;
 
 	private final Map<Long, AtomicInteger> newUsages = new TreeMap<>();
-	private final Map<Long, TreeSet<ContractKey>> updatedKeys = new TreeMap<>();
-	private final Map<Long, TreeSet<ContractKey>> removedKeys = new TreeMap<>();
-	private final Map<ContractKey, ContractValue> newMappings = new HashMap<>();
+	private final Map<ContractKey, PendingSlot> pendingSlots = new HashMap<>();
 
 	private long totalKvPairs;
+	/* Counted per session and recorded once on commit, to keep the speedometers off the read path */
+	private int slotCacheHits;
+	private int slotCacheMisses;
 
 	@Inject
 	public SizeLimitedStorage(
 			final GlobalDynamicProperties dynamicProperties,
 			final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts,
-			final Supplier<VirtualMap<ContractKey, ContractValue>> storage
+			final Supplier<VirtualMap<ContractKey, ContractValue>> storage,
+			final MiscSpeedometers speedometers
 	) {
 		this.dynamicProperties = dynamicProperties;
 		this.accounts = accounts;
 		this.storage = storage;
+		this.speedometers = speedometers;
 	}
 
 	/**
@@ -93,9 +108,9 @@ public class SizeLimitedStorage {
 	 */
 	public void beginSession() {
 		newUsages.clear();
-		updatedKeys.clear();
-		removedKeys.clear();
-		newMappings.clear();
+		pendingSlots.clear();
+		slotCacheHits = 0;
+		slotCacheMisses = 0;
 		/* We will update this count as changes are buffered throughout the session. */
 		totalKvPairs = storage.get().size();
 	}
@@ -107,10 +122,10 @@ public class SizeLimitedStorage {
 	 * @throws com.hedera.services.exceptions.InvalidTransactionException if a storage limit is exceeded
 	 */
 	public void validateAndCommit() {
+		recordSlotCacheUsage();
 		validatePendingSizeChanges();
 
-		commitPendingRemovals();
-		commitPendingUpdates();
+		commitPendingChanges();
 	}
 
 	/**
@@ -128,6 +143,16 @@ public class SizeLimitedStorage {
 		});
 	}
 
+	/**
+	 * Returns a view of the keys of every slot read or written so far in the current session; that is, of every
+	 * slot the transaction being handled has touched.
+	 *
+	 * @return the keys of the slots touched in this session
+	 */
+	public Set<ContractKey> touchedSlots() {
+		return Collections.unmodifiableSet(pendingSlots.keySet());
+	}
+
 	/**
 	 * Returns the requested storage value for the given contract, <i>taking into account</i> all
 	 * changes buffered so far in the session.
@@ -139,16 +164,17 @@ public class SizeLimitedStorage {
 	public UInt256 getStorage(final AccountID id, final UInt256 key) {
 		final var contractKey = ContractKey.from(id, key);
 
-		final var zeroedOut = removedKeys.get(id.getAccountNum());
-		if (zeroedOut != null && zeroedOut.contains(contractKey)) {
-			return ZERO;
+		final var slot = pendingSlots.get(contractKey);
+		if (slot != null) {
+			slotCacheHits++;
+			return slot.currentValue();
 		}
 
-		var effectiveValue = newMappings.get(contractKey);
-		if (effectiveValue == null) {
-			effectiveValue = storage.get().get(contractKey);
-		}
-		return (effectiveValue == null) ? ZERO : effectiveValue.asUInt256();
+		slotCacheMisses++;
+		final var extantValue = storage.get().get(contractKey);
+		/* Remember what we learned, so later reads and writes of this key need not look it up again. */
+		pendingSlots.put(contractKey, PendingSlot.readAs(extantValue));
+		return (extantValue == null) ? ZERO : extantValue.asUInt256();
 	}
 
 	/**
@@ -162,14 +188,18 @@ public class SizeLimitedStorage {
 	public void putStorage(final AccountID id, final UInt256 key, final UInt256 value) {
 		final var contractKey = ContractKey.from(id, key);
 		final var contractValue = virtualValueFrom(value);
-		final var kvCountImpact = incorporateKvImpact(
-				contractKey, contractValue, updatedKeys, removedKeys, newMappings, storage.get());
+		final var slot = pendingSlots.computeIfAbsent(contractKey, this::slotFromStorage);
+		final var kvCountImpact = slot.stage(contractValue);
 		if (kvCountImpact != 0) {
 			newUsages.computeIfAbsent(id.getAccountNum(), this::kvPairsLookup).getAndAdd(kvCountImpact);
 			totalKvPairs += kvCountImpact;
 		}
 	}
 
+	private PendingSlot slotFromStorage(final ContractKey key) {
+		return new PendingSlot(storage.get().containsKey(key));
+	}
+
 	private AtomicInteger kvPairsLookup(final Long num) {
 		final var account = accounts.get().get(fromLong(num));
 		if (account == null) {
@@ -178,100 +208,12 @@ public class SizeLimitedStorage {
 		return new AtomicInteger(account.getNumContractKvPairs());
 	}
 
-	/**
-	 * Given as input,
-	 * <ul>
-	 *     <li>Dynamic data structures that reflect the key/value changes in this session so far; and,</li>
-	 *     <li>A {@link VirtualMap} data source for the key/value storage; and,</li>
-	 *     <li>A new {@code key}/{@code value} mapping;</li>
-	 * </ul>
-	 * this method incorporates the new key/value mapping into the dynamic data structures, and returns
-	 * the impact that this change had on the total count of key/value pairs; <i>taking into account</i>
-	 * all changes buffered so far in the session.
-	 *
-	 * @param key the key of the storage value to be changed
-	 * @param value the desired storage value
-	 * @param updatedKeys the keys updated so far in this session
-	 * @param removedKeys the keys removed (that is, zeroed out) so far this session
-	 * @param newMappings the net new key/value mappings from this session
-	 * @param storage the data source for key/value storage
-	 * @return the impact this change has on total key/value pairs count
-	 */
-	static int incorporateKvImpact(
-			final ContractKey key,
-			final ContractValue value,
-			final Map<Long, TreeSet<ContractKey>> updatedKeys,
-			final Map<Long, TreeSet<ContractKey>> removedKeys,
-			final Map<ContractKey, ContractValue> newMappings,
-			final VirtualMap<ContractKey, ContractValue> storage
-	) {
-		if (value == ZERO_VALUE) {
-			return incorporateZeroingOf(key, updatedKeys, removedKeys, newMappings, storage);
-		} else {
-			return incorporateSettingOf(key, value, updatedKeys, removedKeys, newMappings, storage);
-		}
-	}
-
-	private static int incorporateSettingOf(
-			final ContractKey key,
-			final ContractValue value,
-			final Map<Long, TreeSet<ContractKey>> updatedKeys,
-			final Map<Long, TreeSet<ContractKey>> removedKeys,
-			final Map<ContractKey, ContractValue> newMappings,
-			final VirtualMap<ContractKey, ContractValue> storage
-	) {
-		final Long contractId = key.getContractId();
-		final var hasPendingUpdate = newMappings.containsKey(key);
-		final var wasAlreadyPresent = storage.containsKey(key);
-		/* We always buffer the new mapping. */
-		newMappings.put(key, value);
-		if (hasPendingUpdate) {
-			/* If there was already a pending update, nothing has changed. */
-			return 0;
-		} else {
-			/* Otherwise update the contract's change set. */
-			updatedKeys.computeIfAbsent(contractId, treeSetFactory).add(key);
-			/* And drop any pending removal, returning 1 since a pending removal implies we
-			 * were about to reduce the storage used by a mapping. */
-			final var scopedRemovals = removedKeys.get(contractId);
-			if (scopedRemovals != null) {
-				scopedRemovals.remove(key);
-				return 1;
-			}
-			return wasAlreadyPresent ? 0 : 1;
+	private void recordSlotCacheUsage() {
+		if (slotCacheHits > 0) {
+			speedometers.recordStorageSlotCacheHits(slotCacheHits);
 		}
-	}
-
-	private static int incorporateZeroingOf(
-			final ContractKey key,
-			final Map<Long, TreeSet<ContractKey>> updatedKeys,
-			final Map<Long, TreeSet<ContractKey>> removedKeys,
-			final Map<ContractKey, ContractValue> newMappings,
-			final VirtualMap<ContractKey, ContractValue> storage
-	) {
-		final Long contractId = key.getContractId();
-		final var hasPendingUpdate = newMappings.containsKey(key);
-		final var wasAlreadyPresent = storage.containsKey(key);
-		if (hasPendingUpdate || wasAlreadyPresent) {
-			if (hasPendingUpdate) {
-				/* We need to drop any pending update from our auxiliary data structures. */
-				final var scopedAdditions = updatedKeys.get(contractId);
-				requireNonNull(scopedAdditions,
-						() -> "A new mapping " + key + " -> " + newMappings.get(key)
-								+ " did not belong to a key addition set");
-				scopedAdditions.remove(key);
-				newMappings.remove(key);
-			}
-			if (wasAlreadyPresent) {
-				/* If there was no extant mapping for this key, no reason to explicitly remove it when we commit. */
-				removedKeys.computeIfAbsent(key.getContractId(), treeSetFactory).add(key);
-			}
-			/* But no matter what, relative to our existing change set, this removed one mapping. */
-			return -1;
-		} else {
-			/* If this key didn't have a mapping or a pending change, it doesn't affect the size,
-			 * and there is also no reason to explicitly remove it when we commit. */
-			return 0;
+		if (slotCacheMisses > 0) {
+			speedometers.recordStorageSlotCacheMisses(slotCacheMisses);
 		}
 	}
 
@@ -286,23 +228,114 @@ public class SizeLimitedStorage {
 						MAX_CONTRACT_STORAGE_EXCEEDED));
 	}
 
-	private void commitPendingUpdates() {
-		if (newMappings.isEmpty()) {
+	private void commitPendingChanges() {
+		if (pendingSlots.isEmpty()) {
 			return;
 		}
-		final var curStorage = storage.get();
-		updatedKeys.forEach((id, changeSet) -> changeSet.forEach(k -> curStorage.put(k, newMappings.get(k))));
-	}
-
-	private void commitPendingRemovals() {
-		if (removedKeys.isEmpty()) {
+		final List<Map.Entry<ContractKey, PendingSlot>> netChanges = new ArrayList<>(pendingSlots.size());
+		for (final var entry : pendingSlots.entrySet()) {
+			if (entry.getValue().isNetChange()) {
+				netChanges.add(entry);
+			}
+		}
+		if (netChanges.isEmpty()) {
 			return;
 		}
+		netChanges.sort(Map.Entry.comparingByKey());
+
+		/* The order of removals and puts determines the layout (and hence the hash) of the VirtualMap,
+		 * so we must apply all removals before all updates, each in key order, exactly as before. */
 		final var curStorage = storage.get();
-		removedKeys.forEach((id, zeroedOut) -> zeroedOut.forEach(curStorage::remove));
+		for (final var change : netChanges) {
+			if (change.getValue().pendingValue == ZERO_VALUE) {
+				curStorage.remove(change.getKey());
+			}
+		}
+		for (final var change : netChanges) {
+			final var value = change.getValue().pendingValue;
+			if (value != ZERO_VALUE) {
+				curStorage.put(change.getKey(), value);
+			}
+		}
 	}
 
-	static Function<Long, TreeSet<ContractKey>> treeSetFactory = ignore -> new TreeSet<>();
+	/**
+	 * The session state of a single storage slot; that is, whether the slot had a mapping in the
+	 * underlying {@link VirtualMap} when the session first touched it, its value at that time if the
+	 * session first touched it with a read, and the value (if any) the session has since written to it.
+	 */
+	static final class PendingSlot {
+		private final boolean originallyPresent;
+		/* Null unless the session's first touch of this slot was a read that found a mapping */
+		private final ContractValue originalValue;
+		/* Null if the session has only read this slot; ZERO_VALUE if the session zeroed it out */
+		private ContractValue pendingValue;
+
+		PendingSlot(final boolean originallyPresent) {
+			this.originallyPresent = originallyPresent;
+			this.originalValue = null;
+		}
+
+		private PendingSlot(final ContractValue originalValue) {
+			this.originallyPresent = originalValue != null;
+			this.originalValue = originalValue;
+		}
+
+		static PendingSlot readAs(final ContractValue extantValue) {
+			return new PendingSlot(extantValue);
+		}
+
+		/**
+		 * Returns the slot's value as seen by the session; only valid for a slot the session first
+		 * touched with a read, or has since written to.
+		 *
+		 * @return the current value of the slot
+		 */
+		UInt256 currentValue() {
+			if (pendingValue != null) {
+				return pendingValue.asUInt256();
+			}
+			return (originalValue == null) ? ZERO : originalValue.asUInt256();
+		}
+
+		/**
+		 * Buffers the given value as the slot's pending value, and returns the impact this has on the
+		 * number of key/value pairs; <i>taking into account</i> any value already buffered for the slot.
+		 *
+		 * <p>Note that (as has always been the case) zeroing a slot that exists in the committed
+		 * storage counts as removing one mapping <i>every</i> time, even if the slot was already
+		 * zeroed earlier in the same session.
+		 *
+		 * @param value the desired storage value
+		 * @return the impact this change has on total key/value pairs count
+		 */
+		int stage(final ContractValue value) {
+			final var wasPresent = isPresent();
+			final var wasPendingRemoval = pendingValue == ZERO_VALUE;
+			pendingValue = value;
+			final var isPresent = value != ZERO_VALUE;
+			if (wasPresent == isPresent) {
+				return (!isPresent && wasPendingRemoval && originallyPresent) ? -1 : 0;
+			}
+			return isPresent ? 1 : -1;
+		}
+
+		boolean isPresent() {
+			return (pendingValue == null) ? originallyPresent : (pendingValue != ZERO_VALUE);
+		}
+
+		boolean isNetChange() {
+			return pendingValue != null && (originallyPresent || pendingValue != ZERO_VALUE);
+		}
+
+		boolean wasOriginallyPresent() {
+			return originallyPresent;
+		}
+
+		ContractValue getPendingValue() {
+			return pendingValue;
+		}
+	}
 
 	private static ContractValue virtualValueFrom(final UInt256 evmWord) {
 		return evmWord.isZero() ? ZERO_VALUE : ContractValue.from(evmWord);
@@ -317,15 +350,7 @@ public class SizeLimitedStorage {
 		return newUsages;
 	}
 
-	Map<Long, TreeSet<ContractKey>> getUpdatedKeys() {
-		return updatedKeys;
-	}
-
-	Map<Long, TreeSet<ContractKey>> getRemovedKeys() {
-		return removedKeys;
-	}
-
-	Map<ContractKey, ContractValue> getNewMappings() {
-		return newMappings;
+	Map<ContractKey, PendingSlot> getPendingSlots() {
+		return pendingSlots;
 	}
 }
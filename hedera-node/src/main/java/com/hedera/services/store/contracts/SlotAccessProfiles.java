@@ -0,0 +1,186 @@
+package com.hedera.services.store.contracts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.virtualmap.VirtualMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Learns which storage slots each (contract, function selector) pair touches, so the slots a {@code ContractCall}
+ * will most likely read can be warmed in the contract storage {@link VirtualMap} by the pre-fetch threads, before
+ * the transaction reaches the handle thread.
+ *
+ * The profile of a pair is simply the set of slots touched by the last call handled for it. When a call is
+ * handled, the slots it touched are compared to the existing profile to record the <i>precision</i> (the fraction
+ * of pre-fetched slots that were touched) and <i>recall</i> (the fraction of touched slots that were pre-fetched)
+ * of the pre-fetch; and then replace the profile.
+ *
+ * The number of profiles is bounded by {@code hedera.prefetch.slotProfiles.maxSize}, and a size of zero disables
+ * them. When full, the profiles are cleared on the handle thread.
+ */
+@Singleton
+public class SlotAccessProfiles {
+	/* No profile learns more slots than this, to bound the work of a single pre-fetch */
+	static final int MAX_SLOTS_PER_PROFILE = 256;
+	/* The selector used for calls whose parameters are too short to include one */
+	static final int NO_SELECTOR = 0;
+
+	private static final int SELECTOR_LEN = 4;
+
+	private final int maxSize;
+	private final MiscRunningAvgs runningAvgs;
+	private final Supplier<VirtualMap<ContractKey, ContractValue>> storage;
+	private final Map<ProfileKey, ContractKey[]> profiles = new ConcurrentHashMap<>();
+
+	@Inject
+	public SlotAccessProfiles(
+			final NodeLocalProperties nodeLocalProperties,
+			final Supplier<VirtualMap<ContractKey, ContractValue>> storage,
+			final MiscRunningAvgs runningAvgs
+	) {
+		this.storage = storage;
+		this.runningAvgs = runningAvgs;
+		this.maxSize = nodeLocalProperties.prefetchSlotProfilesMaxSize();
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Reads every slot in the profile of the given contract and selector from the contract storage map, so that
+	 * their pages are warm when the call is handled. Safe to call from any thread.
+	 *
+	 * @param contractNum the number of the called contract
+	 * @param selector the function selector of the call
+	 */
+	public void prefetch(final long contractNum, final int selector) {
+		if (!isEnabled()) {
+			return;
+		}
+		final var profile = profiles.get(new ProfileKey(contractNum, selector));
+		if (profile == null) {
+			return;
+		}
+		final var curStorage = storage.get();
+		for (final var key : profile) {
+			curStorage.get(key);
+		}
+	}
+
+	/**
+	 * Records the accuracy of the profile of the given contract and selector against the slots a handled call
+	 * actually touched; and then replaces the profile with those slots. Must only be called from the thread
+	 * handling transactions.
+	 *
+	 * @param contractNum the number of the called contract
+	 * @param selector the function selector of the call
+	 * @param touched the slots touched by the call
+	 */
+	public void learn(final long contractNum, final int selector, final Set<ContractKey> touched) {
+		if (!isEnabled()) {
+			return;
+		}
+		final var profileKey = new ProfileKey(contractNum, selector);
+		final var profile = profiles.get(profileKey);
+		if (profile != null) {
+			recordAccuracy(profile, touched);
+		}
+		if (touched.isEmpty()) {
+			if (profile != null) {
+				profiles.remove(profileKey);
+			}
+			return;
+		}
+		if (profile == null && profiles.size() >= maxSize) {
+			profiles.clear();
+		}
+		profiles.put(profileKey, profileFrom(touched));
+	}
+
+	/**
+	 * Returns the function selector of a call with the given parameters; that is, their first four bytes
+	 * as a big-endian integer, or {@link #NO_SELECTOR} if there are fewer than four.
+	 *
+	 * @param functionParameters the parameters of the call
+	 * @return the selector of the called function
+	 */
+	public static int selectorOf(final ByteString functionParameters) {
+		if (functionParameters.size() < SELECTOR_LEN) {
+			return NO_SELECTOR;
+		}
+		int selector = 0;
+		for (int i = 0; i < SELECTOR_LEN; i++) {
+			selector = (selector << 8) | (functionParameters.byteAt(i) & 0xFF);
+		}
+		return selector;
+	}
+
+	private void recordAccuracy(final ContractKey[] profile, final Set<ContractKey> touched) {
+		int hits = 0;
+		for (final var key : profile) {
+			if (touched.contains(key)) {
+				hits++;
+			}
+		}
+		runningAvgs.recordSlotPrefetchPrecision((double) hits / profile.length);
+		if (!touched.isEmpty()) {
+			runningAvgs.recordSlotPrefetchRecall((double) hits / touched.size());
+		}
+	}
+
+	private static ContractKey[] profileFrom(final Set<ContractKey> touched) {
+		final var n = Math.min(touched.size(), MAX_SLOTS_PER_PROFILE);
+		final var profile = new ContractKey[n];
+		var i = 0;
+		for (final var key : touched) {
+			if (i == n) {
+				break;
+			}
+			profile[i++] = key;
+		}
+		return profile;
+	}
+
+	private record ProfileKey(long contractNum, int selector) {
+	}
+
+	/* --- Only used by unit tests --- */
+	ContractKey[] profileFor(final long contractNum, final int selector) {
+		return profiles.get(new ProfileKey(contractNum, selector));
+	}
+
+	int numProfiles() {
+		return profiles.size();
+	}
+}
@@ -30,6 +30,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.models.NftId;
+import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import org.apache.commons.lang3.tuple.Pair;
@@ -38,23 +39,26 @@ import static com.hedera.services.ledger.TransactionalLedger.activeLedgerWrappin
 
 public class WorldLedgers {
 	public static final WorldLedgers NULL_WORLD_LEDGERS =
-			new WorldLedgers(null, null, null, null);
+			new WorldLedgers(null, null, null, null, null);
 
 	final TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger;
 	final TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger;
 	final TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	final TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger;
+	final UniqueTokenViewsManager tokenViewsManager;
 
 	public WorldLedgers(
 			final TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger,
 			final TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger,
 			final TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger,
-			final TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger
+			final TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger,
+			final UniqueTokenViewsManager tokenViewsManager
 	) {
 		this.tokenRelsLedger = tokenRelsLedger;
 		this.accountsLedger = accountsLedger;
 		this.nftsLedger = nftsLedger;
 		this.tokensLedger = tokensLedger;
+		this.tokenViewsManager = tokenViewsManager;
 	}
 
 	public void commit() {
@@ -63,6 +67,7 @@ public class WorldLedgers {
 			accountsLedger.commit();
 			nftsLedger.commit();
 			tokensLedger.commit();
+			tokenViewsManager.commit();
 		}
 	}
 
@@ -72,6 +77,7 @@ public class WorldLedgers {
 			accountsLedger.rollback();
 			nftsLedger.rollback();
 			tokensLedger.rollback();
+			tokenViewsManager.rollback();
 
 			/* Since AbstractMessageProcessor.clearAccumulatedStateBesidesGasAndOutput() will make a
 			 * second token call to commit() after the initial revert(), we want to keep these ledgers
@@ -80,6 +86,7 @@ public class WorldLedgers {
 			accountsLedger.begin();
 			nftsLedger.begin();
 			tokensLedger.begin();
+			tokenViewsManager.begin();
 		}
 	}
 
@@ -96,7 +103,8 @@ public class WorldLedgers {
 				activeLedgerWrapping(tokenRelsLedger),
 				activeLedgerWrapping(accountsLedger),
 				activeLedgerWrapping(nftsLedger),
-				activeLedgerWrapping(tokensLedger));
+				activeLedgerWrapping(tokensLedger),
+				tokenViewsManager.wrapped());
 	}
 
 	public TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRels() {
@@ -114,4 +122,8 @@ public class WorldLedgers {
 	public TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokens() {
 		return tokensLedger;
 	}
+
+	public UniqueTokenViewsManager tokenViews() {
+		return tokenViewsManager;
+	}
 }
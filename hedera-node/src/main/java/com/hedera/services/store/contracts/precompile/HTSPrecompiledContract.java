@@ -25,6 +25,7 @@ package com.hedera.services.store.contracts.precompile;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.SoliditySigsVerifier;
 import com.hedera.services.contracts.sources.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.exceptions.InvalidTransactionException;
@@ -91,7 +92,6 @@ import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_ALIASES;
 import static com.hedera.services.ledger.ids.ExceptionalEntityIdSource.NOOP_ID_SOURCE;
 import static com.hedera.services.state.expiry.ExpiringCreations.EMPTY_MEMO;
-import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.NOOP_VIEWS_MANAGER;
 import static com.hedera.services.utils.EntityIdUtils.asTypedSolidityAddress;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SIGNATURE;
@@ -132,6 +132,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 	private final DecodingFacade decoder;
 	private final EncodingFacade encoder;
 	private final GlobalDynamicProperties dynamicProperties;
+	private final NodeLocalProperties nodeLocalProperties;
 	private final OptionValidator validator;
 	private final SoliditySigsVerifier sigsVerifier;
 	private final AccountRecordsHistorian recordsHistorian;
@@ -171,6 +172,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 	public HTSPrecompiledContract(
 			final OptionValidator validator,
 			final GlobalDynamicProperties dynamicProperties,
+			final NodeLocalProperties nodeLocalProperties,
 			final GasCalculator gasCalculator,
 			final AccountRecordsHistorian recordsHistorian,
 			final TxnAwareSoliditySigsVerifier sigsVerifier,
@@ -190,6 +192,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 		this.creator = creator;
 		this.validator = validator;
 		this.dynamicProperties = dynamicProperties;
+		this.nodeLocalProperties = nodeLocalProperties;
 		this.dissociationFactory = dissociationFactory;
 		this.impliedTransfersMarshal = impliedTransfersMarshal;
 	}
@@ -293,7 +296,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 		return tokenStoreFactory.newTokenStore(
 				accountStore,
 				ledgers.tokens(), ledgers.nfts(), ledgers.tokenRels(),
-				NOOP_VIEWS_MANAGER, NOOP_TREASURY_ADDER, NOOP_TREASURY_REMOVER,
+				ledgers.tokenViews(), NOOP_TREASURY_ADDER, NOOP_TREASURY_REMOVER,
 				sideEffects);
 	}
 
@@ -415,6 +418,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 				SideEffectsTracker sideEffectsTracker,
 				UniqueTokenViewsManager uniqueTokenViewsManager,
 				GlobalDynamicProperties properties,
+				NodeLocalProperties nodeLocalProperties,
 				TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger,
 				TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger,
 				BackingStore<TokenID, MerkleToken> backingTokens);
@@ -627,15 +631,16 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
 					ids,
 					validator,
 					sideEffects,
-					NOOP_VIEWS_MANAGER,
+					ledgers.tokenViews(),
 					dynamicProperties,
+					nodeLocalProperties,
 					ledgers.tokenRels(), ledgers.nfts(), ledgers.tokens());
 			hederaTokenStore.setAccountsLedger(ledgers.accounts());
 
 			final var transferLogic = transferLogicFactory.newLogic(
 					ledgers.accounts(), ledgers.nfts(), ledgers.tokenRels(), hederaTokenStore,
 					sideEffects,
-					NOOP_VIEWS_MANAGER,
+					ledgers.tokenViews(),
 					dynamicProperties,
 					validator,
 					null,
@@ -21,6 +21,7 @@ package com.hedera.services.store.schedule;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
@@ -28,6 +29,7 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.store.CreationResult;
 import com.hedera.services.store.HederaStore;
 import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.LongToLongSetMap;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.swirlds.merkle.map.MerkleMap;
@@ -36,8 +38,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -64,21 +64,25 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 	static final ScheduleID NO_PENDING_ID = ScheduleID.getDefaultInstance();
 
 	private final GlobalDynamicProperties properties;
+	private final NodeLocalProperties nodeLocalProperties;
 	private final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules;
 
 	ScheduleID pendingId = NO_PENDING_ID;
 	MerkleSchedule pendingCreation;
-	Map<MerkleSchedule, EntityNum> extantSchedules = new HashMap<>();
+	/* Maps the content hash of each extant schedule to its number; a lookup must still compare contents */
+	LongToLongSetMap extantSchedules = new LongToLongSetMap();
 
 	@Inject
 	public HederaScheduleStore(
 			GlobalDynamicProperties properties,
+			NodeLocalProperties nodeLocalProperties,
 			EntityIdSource ids,
 			Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules
 	) {
 		super(ids);
 		this.schedules = schedules;
 		this.properties = properties;
+		this.nodeLocalProperties = nodeLocalProperties;
 		/* Content-addressable view is re-built on restart or reconnect */
 	}
 
@@ -166,7 +170,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
 		var id = fromScheduleId(pendingId);
 		schedules.get().put(id, pendingCreation);
-		extantSchedules.put(pendingCreation.toContentAddressableView(), id);
+		extantSchedules.add(pendingCreation.hashCode(), id.longValue());
 		resetPendingCreation();
 	}
 
@@ -184,8 +188,11 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
 	@Override
 	public void rebuildViews() {
-		extantSchedules.clear();
-		buildContentAddressableViewOfExtantSchedules();
+		final var curSchedules = schedules.get();
+		extantSchedules = new LongToLongSetMap(
+				Math.max(1, curSchedules.size()),
+				nodeLocalProperties.storeIndexesOffHeap());
+		forEach(curSchedules, (key, value) -> extantSchedules.add(value.hashCode(), key.longValue()));
 	}
 
 	@Override
@@ -197,9 +204,12 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 				return Pair.of(pendingId, pendingCreation);
 			}
 		}
-		if (extantSchedules.containsKey(schedule)) {
-			final var extantId = extantSchedules.get(schedule);
-			return Pair.of(extantId.toGrpcScheduleId(), schedules.get().get(extantId));
+		for (final var num : extantSchedules.valuesOf(schedule.hashCode())) {
+			final var extantId = fromLong(num);
+			final var extant = schedules.get().get(extantId);
+			if (schedule.equals(extant)) {
+				return Pair.of(extantId.toGrpcScheduleId(), extant);
+			}
 		}
 
 		return Pair.of(null, schedule);
@@ -227,7 +237,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 		}
 		var schedule = get(id);
 		schedules.get().remove(fromLong(entityId.num()));
-		extantSchedules.remove(schedule);
+		extantSchedules.remove(schedule.hashCode(), entityId.num());
 	}
 
 	private void resetPendingCreation() {
@@ -241,11 +251,6 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 		}
 	}
 
-	private void buildContentAddressableViewOfExtantSchedules() {
-		final var curSchedules = schedules.get();
-		forEach(curSchedules, (key, value) -> extantSchedules.put(value.toContentAddressableView(), key));
-	}
-
 	private ResponseCodeEnum usabilityCheck(
 			ScheduleID id,
 			boolean requiresMutability
@@ -280,7 +285,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 	}
 
 	/* --- Only used by unit tests --- */
-	Map<MerkleSchedule, EntityNum> getExtantSchedules() {
+	LongToLongSetMap getExtantSchedules() {
 		return extantSchedules;
 	}
 }
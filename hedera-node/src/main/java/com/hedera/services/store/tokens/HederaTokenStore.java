@@ -22,6 +22,7 @@ package com.hedera.services.store.tokens;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.backing.BackingStore;
@@ -40,7 +41,9 @@ import com.hedera.services.store.HederaStore;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
+import com.hedera.services.utils.LongToLongSetMap;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Duration;
 import com.hederahashgraph.api.proto.java.Key;
@@ -51,13 +54,12 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -122,10 +124,12 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 	static final TokenID NO_PENDING_ID = TokenID.getDefaultInstance();
 
 	private static final Predicate<Key> REMOVES_ADMIN_KEY = ImmutableKeyUtils::signalsKeyRemoval;
+	private static final long MAX_EXPECTED_TREASURY_VIEW_SIZE = 1L << 24;
 
 	private final OptionValidator validator;
 	private final UniqueTokenViewsManager uniqueTokenViewsManager;
 	private final GlobalDynamicProperties properties;
+	private final NodeLocalProperties nodeLocalProperties;
 	private final SideEffectsTracker sideEffectsTracker;
 	private final TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger;
 	private final TransactionalLedger<
@@ -134,7 +138,8 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 			MerkleTokenRelStatus> tokenRelsLedger;
 	private final BackingStore<TokenID, MerkleToken> backingTokens;
 
-	Map<AccountID, Set<TokenID>> knownTreasuries = new HashMap<>();
+	/* Maps each treasury account number to the numbers of the (undeleted) tokens it serves */
+	LongToLongSetMap knownTreasuries = new LongToLongSetMap();
 
 	TokenID pendingId = NO_PENDING_ID;
 	MerkleToken pendingCreation;
@@ -146,6 +151,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 			final SideEffectsTracker sideEffectsTracker,
 			final UniqueTokenViewsManager uniqueTokenViewsManager,
 			final GlobalDynamicProperties properties,
+			final NodeLocalProperties nodeLocalProperties,
 			final TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger,
 			final TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger,
 			final BackingStore<TokenID, MerkleToken> backingTokens
@@ -153,6 +159,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		super(ids);
 		this.validator = validator;
 		this.properties = properties;
+		this.nodeLocalProperties = nodeLocalProperties;
 		this.nftsLedger = nftsLedger;
 		this.backingTokens = backingTokens;
 		this.tokenRelsLedger = tokenRelsLedger;
@@ -185,7 +192,9 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 	@Override
 	public void rebuildViews() {
-		knownTreasuries.clear();
+		/* Size the view for the tokens in state, so the rebuild never has to grow it */
+		final var expectedSize = (int) Math.max(1L, Math.min(backingTokens.size(), MAX_EXPECTED_TREASURY_VIEW_SIZE));
+		knownTreasuries = new LongToLongSetMap(expectedSize, nodeLocalProperties.storeIndexesOffHeap());
 		rebuildViewOfKnownTreasuries();
 	}
 
@@ -204,9 +213,13 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		if (!isKnownTreasury(treasury)) {
 			return Collections.emptyList();
 		} else {
-			return knownTreasuries.get(treasury).stream()
-					.sorted(HederaLedger.TOKEN_ID_COMPARATOR)
-					.toList();
+			final var tokenNums = knownTreasuries.valuesOf(treasuryKey(treasury));
+			Arrays.sort(tokenNums);
+			final List<TokenID> served = new ArrayList<>(tokenNums.length);
+			for (final var tokenNum : tokenNums) {
+				served.add(EntityNum.fromLong(tokenNum).toGrpcTokenId());
+			}
+			return served;
 		}
 	}
 
@@ -464,19 +477,16 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 	@Override
 	public void addKnownTreasury(final AccountID aId, final TokenID tId) {
-		knownTreasuries.computeIfAbsent(aId, ignore -> new HashSet<>()).add(tId);
+		knownTreasuries.add(treasuryKey(aId), fromTokenId(tId).longValue());
 	}
 
 	public void removeKnownTreasuryForToken(final AccountID aId, final TokenID tId) {
 		throwIfKnownTreasuryIsMissing(aId);
-		knownTreasuries.get(aId).remove(tId);
-		if (knownTreasuries.get(aId).isEmpty()) {
-			knownTreasuries.remove(aId);
-		}
+		knownTreasuries.remove(treasuryKey(aId), fromTokenId(tId).longValue());
 	}
 
 	private void throwIfKnownTreasuryIsMissing(final AccountID aId) {
-		if (!knownTreasuries.containsKey(aId)) {
+		if (aId == null || !knownTreasuries.containsKey(treasuryKey(aId))) {
 			throw new IllegalArgumentException(String.format(
 					"Argument 'aId=%s' does not refer to a known treasury!",
 					readableId(aId)));
@@ -801,15 +811,16 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 	}
 
 	public boolean isKnownTreasury(final AccountID aid) {
-		return knownTreasuries.containsKey(aid);
+		return knownTreasuries.containsKey(treasuryKey(aid));
 	}
 
 	@Override
 	public boolean isTreasuryForToken(final AccountID aId, final TokenID tId) {
-		if (!knownTreasuries.containsKey(aId)) {
-			return false;
-		}
-		return knownTreasuries.get(aId).contains(tId);
+		return knownTreasuries.contains(treasuryKey(aId), fromTokenId(tId).longValue());
+	}
+
+	private static long treasuryKey(final AccountID aId) {
+		return EntityNum.fromAccountId(aId).longValue();
 	}
 
 	private ResponseCodeEnum manageFlag(
@@ -916,7 +927,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		return exists(tId) ? OK : INVALID_TOKEN_ID;
 	}
 
-	Map<AccountID, Set<TokenID>> getKnownTreasuries() {
+	LongToLongSetMap getKnownTreasuries() {
 		return knownTreasuries;
 	}
 }
@@ -29,7 +29,6 @@ import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 
 import javax.annotation.Nonnull;
@@ -43,8 +42,8 @@ import static com.hedera.services.utils.EntityNum.fromInt;
 
 /**
  * Provides implementation support for a {@link UniqTokenView} via a method able to
- * list all the unique tokens that can be retrieved from a {@link FCOneToManyRelation}
- * in a single {@link FCOneToManyRelation#get(Object, int, int)} call.
+ * list all the unique tokens that can be retrieved from an {@link NftRelation}
+ * in a single {@link NftRelation#get(EntityNum, int, int)} call.
  *
  * When {@link MerkleUniqueToken#isTreasuryOwned()} returns true for a unique token,
  * this class looks up the owner from an injected {@code Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens},
@@ -53,12 +52,12 @@ import static com.hedera.services.utils.EntityNum.fromInt;
 public abstract class AbstractUniqTokenView implements UniqTokenView {
 	protected final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
 	protected final Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> nfts;
-	protected final Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType;
+	protected final Supplier<NftRelation> nftsByType;
 
 	protected AbstractUniqTokenView(
 			Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
 			Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> nfts,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType
+			Supplier<NftRelation> nftsByType
 	) {
 		this.tokens = tokens;
 		this.nfts = nfts;
@@ -73,7 +72,7 @@ public abstract class AbstractUniqTokenView implements UniqTokenView {
 	}
 
 	/**
-	 * Given a {@link FCOneToManyRelation} that associates the given key to zero or
+	 * Given an {@link NftRelation} that associates the given key to zero or
 	 * more unique tokens, returns the requested sub-list of the {@link TokenNftInfo}
 	 * descriptions of those unique tokens.
 	 *
@@ -95,7 +94,7 @@ public abstract class AbstractUniqTokenView implements UniqTokenView {
 	 * @return the requested list
 	 */
 	protected List<TokenNftInfo> accumulatedInfo(
-			FCOneToManyRelation<EntityNum, Long> relation,
+			NftRelation relation,
 			EntityNum key,
 			int start,
 			int end,
@@ -23,28 +23,32 @@ package com.hedera.services.store.tokens.views;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.tokens.TokenStore;
-import com.hedera.services.store.tokens.annotations.AreTreasuryWildcardsEnabled;
+import com.hedera.services.store.tokens.annotations.AreFcotmrQueriesDisabled;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.function.Supplier;
 
+import static com.hedera.services.store.tokens.views.EmptyUniqueTokenView.EMPTY_UNIQUE_TOKEN_VIEW;
+
 /**
  * A {@link UniqTokenViewFactory} able to construct an appropriate implementation
  * of {@link UniqTokenView} depending on the injected value of the global/static
- * {@code tokens.nfts.useTreasuryWildcards} property.
+ * {@code tokens.nfts.areQueriesEnabled} property.
+ *
+ * Since the persisted NFT ownership index always distinguishes treasury-owned
+ * NFTs, the non-empty view is always a {@link TreasuryWildcardsUniqTokenView}.
  */
 @Singleton
 public class ConfigDrivenUniqTokenViewFactory implements UniqTokenViewFactory {
-	private final boolean shouldUseTreasuryWildcards;
+	private final boolean areQueriesDisabled;
 
 	@Inject
-	public ConfigDrivenUniqTokenViewFactory(@AreTreasuryWildcardsEnabled boolean shouldUseTreasuryWildcards) {
-		this.shouldUseTreasuryWildcards = shouldUseTreasuryWildcards;
+	public ConfigDrivenUniqTokenViewFactory(@AreFcotmrQueriesDisabled boolean areQueriesDisabled) {
+		this.areQueriesDisabled = areQueriesDisabled;
 	}
 
 	@Override
@@ -52,15 +56,15 @@ public class ConfigDrivenUniqTokenViewFactory implements UniqTokenViewFactory {
 			TokenStore tokenStore,
 			Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
 			Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> nfts,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType
+			Supplier<NftRelation> nftsByType,
+			Supplier<NftRelation> nftsByOwner,
+			Supplier<NftRelation> treasuryNftsByType
 	) {
-		if (shouldUseTreasuryWildcards) {
+		if (areQueriesDisabled) {
+			return EMPTY_UNIQUE_TOKEN_VIEW;
+		} else {
 			return new TreasuryWildcardsUniqTokenView(
 					tokenStore, tokens, nfts, nftsByType, nftsByOwner, treasuryNftsByType);
-		} else {
-			return new ExplicitOwnersUniqTokenView(tokens, nfts, nftsByType, nftsByOwner);
 		}
 	}
 }
@@ -0,0 +1,184 @@
+package com.hedera.services.store.tokens.views;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.virtualmap.VirtualMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.hedera.services.state.virtual.NftIndexKey.countKey;
+import static com.hedera.services.state.virtual.NftIndexKey.positionKey;
+import static com.hedera.services.state.virtual.NftIndexKey.slotKey;
+
+/**
+ * A one-to-many relation from entity numbers to the codes of unique tokens, stored in the
+ * persisted {@code VirtualMap<NftIndexKey, NftIndexValue>} index. Each entity's NFTs form
+ * an indexed set (see {@link NftIndexKey}), so that {@link NftRelation#getCount(EntityNum)},
+ * {@link NftRelation#associate(EntityNum, long)}, and {@link NftRelation#disassociate(EntityNum, long)}
+ * touch a constant number of index entries; and {@link NftRelation#get(EntityNum, int, int)}
+ * touches one entry per NFT in the requested page.
+ *
+ * Removing an NFT moves the last NFT in the set into its position; so the order of an
+ * entity's NFTs is only stable between removals.
+ */
+public class NftRelation {
+	private static final Logger log = LogManager.getLogger(NftRelation.class);
+
+	private final NftIndexKey.Relation relation;
+	private final VirtualMap<NftIndexKey, NftIndexValue> index;
+
+	public NftRelation(final VirtualMap<NftIndexKey, NftIndexValue> index, final NftIndexKey.Relation relation) {
+		this.index = index;
+		this.relation = relation;
+	}
+
+	/**
+	 * Returns the number of unique tokens associated to the given key.
+	 *
+	 * @param key
+	 * 		the key of interest
+	 * @return the number of associated unique tokens
+	 */
+	public int getCount(final EntityNum key) {
+		final var count = index.get(countKey(relation, key.intValue()));
+		return (count == null) ? 0 : (int) count.getValue();
+	}
+
+	/**
+	 * Returns an iterator over the codes of the unique tokens associated to the given key
+	 * with positions in {@code [start, end)}.
+	 *
+	 * @param key
+	 * 		the key of interest
+	 * @param start
+	 * 		the inclusive start of the desired positions
+	 * @param end
+	 * 		the exclusive end of the desired positions
+	 * @return the codes of the unique tokens in the requested positions
+	 * @throws IndexOutOfBoundsException
+	 * 		if the requested positions are not a range within the associated unique tokens
+	 */
+	public Iterator<Long> get(final EntityNum key, final int start, final int end) {
+		if (start < 0) {
+			throw new IndexOutOfBoundsException("Negative indices are not supported");
+		}
+		if (start > end) {
+			throw new IndexOutOfBoundsException("Start index " + start + " exceeds end index " + end);
+		}
+		final var count = getCount(key);
+		if (end > count) {
+			throw new IndexOutOfBoundsException(
+					"End index " + end + " exceeds the " + count + " NFTs associated to #" + key.longValue());
+		}
+		return new SlotIterator(key.intValue(), start, end);
+	}
+
+	/**
+	 * Associates the unique token with the given code to the given key, if it is not already.
+	 *
+	 * @param key
+	 * 		the key to associate to
+	 * @param nftCode
+	 * 		the code of the unique token
+	 * @return whether a new association was added
+	 */
+	public boolean associate(final EntityNum key, final long nftCode) {
+		final var numCode = key.intValue();
+		final var positionKey = positionKey(relation, numCode, nftCode);
+		if (index.containsKey(positionKey)) {
+			return false;
+		}
+		final long slot = getCount(key);
+		index.put(slotKey(relation, numCode, slot), new NftIndexValue(nftCode));
+		index.put(positionKey, new NftIndexValue(slot));
+		index.put(countKey(relation, numCode), new NftIndexValue(slot + 1));
+		return true;
+	}
+
+	/**
+	 * Removes the association of the unique token with the given code to the given key, by moving
+	 * the last unique token associated to the key into its position. If the unique token is not
+	 * associated to the key, the index no longer matches the unique tokens; this is logged, and
+	 * the index is left unchanged.
+	 *
+	 * @param key
+	 * 		the key to disassociate from
+	 * @param nftCode
+	 * 		the code of the unique token
+	 */
+	public void disassociate(final EntityNum key, final long nftCode) {
+		final var numCode = key.intValue();
+		final var positionKey = positionKey(relation, numCode, nftCode);
+		final var position = index.remove(positionKey);
+		if (position == null) {
+			log.warn("NFT {} is not in the {} index of #{}", nftCode, relation, key.longValue());
+			return;
+		}
+		final var slot = position.getValue();
+		final long lastSlot = getCount(key) - 1;
+		final var lastNftCode = index.remove(slotKey(relation, numCode, lastSlot));
+		if (slot != lastSlot) {
+			index.put(slotKey(relation, numCode, slot), lastNftCode);
+			index.put(positionKey(relation, numCode, lastNftCode.getValue()), new NftIndexValue(slot));
+		}
+		if (lastSlot == 0) {
+			index.remove(countKey(relation, numCode));
+		} else {
+			index.put(countKey(relation, numCode), new NftIndexValue(lastSlot));
+		}
+	}
+
+	private class SlotIterator implements Iterator<Long> {
+		private final int numCode;
+		private final int end;
+		private int next;
+
+		private SlotIterator(final int numCode, final int start, final int end) {
+			this.numCode = numCode;
+			this.next = start;
+			this.end = end;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < end;
+		}
+
+		@Override
+		public Long next() {
+			if (next >= end) {
+				throw new NoSuchElementException();
+			}
+			final var nftCode = index.get(slotKey(relation, numCode, next++));
+			if (nftCode == null) {
+				throw new ConcurrentModificationException("NFT index changed during iteration");
+			}
+			return nftCode.getValue();
+		}
+	}
+}
@@ -28,7 +28,6 @@ import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 
 import javax.annotation.Nonnull;
@@ -39,8 +38,8 @@ import static com.hedera.services.utils.EntityNum.fromInt;
 
 /**
  * A {@link UniqTokenView} that answers requests for an account's unique tokens using
- * both a {@code nftsByOwner} {@link FCOneToManyRelation} and a {@code treasuryNftsByType}
- * {@link FCOneToManyRelation}.
+ * both a {@code nftsByOwner} {@link NftRelation} and a {@code treasuryNftsByType}
+ * {@link NftRelation}.
  *
  * That is, this class assumes an account's owned unique tokens have <i>two distinct sources</i>:
  * <ol>
@@ -56,16 +55,16 @@ import static com.hedera.services.utils.EntityNum.fromInt;
  */
 public class TreasuryWildcardsUniqTokenView extends AbstractUniqTokenView {
 	private final TokenStore tokenStore;
-	private final Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner;
-	private final Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType;
+	private final Supplier<NftRelation> nftsByOwner;
+	private final Supplier<NftRelation> treasuryNftsByType;
 
 	public TreasuryWildcardsUniqTokenView(
 			TokenStore tokenStore,
 			Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
 			Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> nfts,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType
+			Supplier<NftRelation> nftsByType,
+			Supplier<NftRelation> nftsByOwner,
+			Supplier<NftRelation> treasuryNftsByType
 	) {
 		super(tokens, nfts, nftsByType);
 
@@ -25,7 +25,6 @@ import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 
 import java.util.function.Supplier;
@@ -56,7 +55,7 @@ public interface UniqTokenViewFactory {
 			TokenStore tokenStore,
 			Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
 			Supplier<MerkleMap<EntityNumPair, MerkleUniqueToken>> nfts,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner,
-			Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType);
+			Supplier<NftRelation> nftsByType,
+			Supplier<NftRelation> nftsByOwner,
+			Supplier<NftRelation> treasuryNftsByType);
 }
@@ -23,54 +23,47 @@ package com.hedera.services.store.tokens.views;
 import com.hedera.services.state.annotations.NftsByOwner;
 import com.hedera.services.state.annotations.NftsByType;
 import com.hedera.services.state.annotations.TreasuryNftsByType;
-import com.hedera.services.state.merkle.MerkleToken;
-import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.submerkle.EntityId;
-import com.hedera.services.store.tokens.annotations.AreFcotmrQueriesDisabled;
-import com.hedera.services.store.tokens.annotations.AreTreasuryWildcardsEnabled;
-import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.swirlds.fchashmap.FCOneToManyRelation;
-import com.swirlds.merkle.map.MerkleMap;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.NFTS_BY_OWNER;
+import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.NFTS_BY_TYPE;
 import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.TREASURY_NFTS_BY_TYPE;
 import static com.hedera.services.utils.EntityNum.fromInt;
-import static com.hedera.services.utils.MiscUtils.forEach;
-import static java.util.concurrent.CompletableFuture.allOf;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
 /**
- * Keeps the {@link FCOneToManyRelation} views of the unique tokens in the world state
+ * Keeps the {@link NftRelation} views of the unique tokens in the world state
  * up-to-date as transactions are handled by the {@link com.hedera.services.store.TypedTokenStore}
  * and (for now) {@link com.hedera.services.store.tokens.HederaTokenStore}.
  *
  * <b>NOTE:</b> The terms "unique token" and NFT are used interchangeably in this
  * class to shorten variable names and reduce cognitive overhead.
  *
- * If constructed with a {@code treasuryNftsByType} {@link FCOneToManyRelation}, uses the
- * "dual-source" picture of NFT ownership, with an internal representation that distinguishes
- * between an account owning an NFT it received it via a {@link com.hederahashgraph.api.proto.java.NftTransfer},
- * and an account owning an NFT because it is the designated treasury for the NFT's token type.
+ * Since the views are persisted in the world state, they use a single "dual-source" picture
+ * of NFT ownership, independent of any configuration; with an internal representation that
+ * distinguishes between an account owning an NFT it received it via a
+ * {@link com.hederahashgraph.api.proto.java.NftTransfer}, and an account owning an NFT because
+ * it is the designated treasury for the NFT's token type. (This mirrors the sentinel owner
+ * {@code 0.0.0} of a treasury-owned {@link com.hedera.services.state.merkle.MerkleUniqueToken}.)
+ *
+ * Changes made inside a transaction are staged until {@link UniqueTokenViewsManager#commit()}. A manager
+ * from {@link UniqueTokenViewsManager#wrapped()} stages its changes in the same way, but commits them to its
+ * parent manager instead of the views; so that the changes of, e.g., an HTS precompile commit or roll back
+ * with the {@link com.hedera.services.store.contracts.WorldLedgers} they were made in.
  */
 @Singleton
 public class UniqueTokenViewsManager {
-	private static final Logger log = LogManager.getLogger(UniqueTokenViewsManager.class);
-
 	private final boolean doNoops;
-	private final Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType;
-	private final Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner;
-	private final Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType;
+	private final UniqueTokenViewsManager parent;
+	private final Supplier<NftRelation> nftsByType;
+	private final Supplier<NftRelation> nftsByOwner;
+	private final Supplier<NftRelation> treasuryNftsByType;
 
 	enum TargetFcotmr {
 		NFTS_BY_TYPE, NFTS_BY_OWNER, TREASURY_NFTS_BY_TYPE
@@ -80,51 +73,45 @@ public class UniqueTokenViewsManager {
 	private List<PendingChange> changesInTxn = new ArrayList<>();
 
 	public static final UniqueTokenViewsManager NOOP_VIEWS_MANAGER =
-			new UniqueTokenViewsManager(null, null, null, true, false);
+			new UniqueTokenViewsManager(null, null, null, null, true);
 
 	@Inject
 	public UniqueTokenViewsManager(
-			@NftsByType Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType,
-			@NftsByOwner Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner,
-			@TreasuryNftsByType Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType,
-			@AreFcotmrQueriesDisabled boolean doNoops,
-			@AreTreasuryWildcardsEnabled boolean useWildcards
+			@NftsByType Supplier<NftRelation> nftsByType,
+			@NftsByOwner Supplier<NftRelation> nftsByOwner,
+			@TreasuryNftsByType Supplier<NftRelation> treasuryNftsByType
+	) {
+		this(nftsByType, nftsByOwner, treasuryNftsByType, null, false);
+	}
+
+	private UniqueTokenViewsManager(
+			Supplier<NftRelation> nftsByType,
+			Supplier<NftRelation> nftsByOwner,
+			Supplier<NftRelation> treasuryNftsByType,
+			UniqueTokenViewsManager parent,
+			boolean doNoops
 	) {
 		this.nftsByType = nftsByType;
 		this.nftsByOwner = nftsByOwner;
-		if (useWildcards) {
-			this.treasuryNftsByType = treasuryNftsByType;
-		} else {
-			this.treasuryNftsByType = null;
-		}
+		this.treasuryNftsByType = treasuryNftsByType;
+		this.parent = parent;
 		this.doNoops = doNoops;
 	}
 
 	/**
-	 * Rebuilds the internal views of the unique tokens in the world state, given
-	 * the token types and unique tokens in the world state.
+	 * Returns a manager, already in a transaction, whose committed changes are applied to this manager
+	 * (and hence either staged in this manager's transaction, or applied to the views).
 	 *
-	 * <b>NOTE: </b> Does not clear the internal {@link FCOneToManyRelation}s,
-	 * because it would never be correct to call this method except on restart
-	 * or reconnect; and in those cases, the {@link FCOneToManyRelation}s are
-	 * newly created.
-	 *
-	 * @param tokens
-	 * 		token types in the world state
-	 * @param nfts
-	 * 		unique tokens in the world state
+	 * @return a manager wrapping this one
 	 */
-	public void rebuildNotice(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
+	public UniqueTokenViewsManager wrapped() {
 		if (doNoops) {
-			return;
+			return this;
 		}
 
-		final CompletableFuture<Void> futureRebuild = allOf(rebuildFutures(tokens, nfts));
-
-		futureRebuild.join();
+		final var wrapper = new UniqueTokenViewsManager(null, null, null, this, false);
+		wrapper.begin();
+		return wrapper;
 	}
 
 	/**
@@ -134,20 +121,16 @@ public class UniqueTokenViewsManager {
 	 * @param nftId
 	 * 		the minted id
 	 * @param treasury
-	 * 		the treasury that received the new NFT
+	 * 		the treasury that received the new NFT (implied by the NFT's type in the index)
 	 */
 	public void mintNotice(EntityNumPair nftId, EntityId treasury) {
 		if (doNoops) {
 			return;
 		}
 
-		final var tokenId = nftId.getHiPhi();
-		nftsByType.get().associate(tokenId, nftId.value());
-		if (isUsingTreasuryWildcards()) {
-			curTreasuryNftsByType().associate(tokenId, nftId.value());
-		} else {
-			nftsByOwner.get().associate(EntityNum.fromInt(treasury.identityCode()), nftId.value());
-		}
+		final var tokenCode = nftId.getHiPhi().intValue();
+		changeOrStage(NFTS_BY_TYPE, tokenCode, nftId.value(), true);
+		changeOrStage(TREASURY_NFTS_BY_TYPE, tokenCode, nftId.value(), true);
 	}
 
 	/**
@@ -164,9 +147,9 @@ public class UniqueTokenViewsManager {
 			return;
 		}
 
-		/* The treasury account cannot be wiped, so both cases are the same */
-		nftsByType.get().disassociate(nftId.getHiPhi(), nftId.value());
-		nftsByOwner.get().disassociate(fromInt(fromAccount.identityCode()), nftId.value());
+		/* The treasury account cannot be wiped, so the NFT always has an explicit owner */
+		changeOrStage(NFTS_BY_TYPE, nftId.getHiPhi().intValue(), nftId.value(), false);
+		changeOrStage(NFTS_BY_OWNER, fromAccount.identityCode(), nftId.value(), false);
 	}
 
 	/**
@@ -176,20 +159,16 @@ public class UniqueTokenViewsManager {
 	 * @param nftId
 	 * 		the burned id
 	 * @param treasury
-	 * 		the treasury of the burned NFT's token type
+	 * 		the treasury of the burned NFT's token type (implied by the NFT's type in the index)
 	 */
 	public void burnNotice(EntityNumPair nftId, EntityId treasury) {
 		if (doNoops) {
 			return;
 		}
 
-		final var tokenId = nftId.getHiPhi();
-		nftsByType.get().disassociate(tokenId, nftId.value());
-		if (isUsingTreasuryWildcards()) {
-			curTreasuryNftsByType().disassociate(tokenId, nftId.value());
-		} else {
-			nftsByOwner.get().disassociate(EntityNum.fromInt(treasury.identityCode()), nftId.value());
-		}
+		final var tokenCode = nftId.getHiPhi().intValue();
+		changeOrStage(NFTS_BY_TYPE, tokenCode, nftId.value(), false);
+		changeOrStage(TREASURY_NFTS_BY_TYPE, tokenCode, nftId.value(), false);
 	}
 
 	/**
@@ -220,7 +199,7 @@ public class UniqueTokenViewsManager {
 	 * @param nftId
 	 * 		the id exiting the treasury
 	 * @param treasury
-	 * 		the relevant treasury
+	 * 		the relevant treasury (implied by the NFT's type in the index)
 	 * @param newOwner
 	 * 		the new owner
 	 */
@@ -229,11 +208,7 @@ public class UniqueTokenViewsManager {
 			return;
 		}
 
-		if (isUsingTreasuryWildcards()) {
-			changeOrStage(TREASURY_NFTS_BY_TYPE, nftId.getHiPhi().intValue(), nftId.value(), false);
-		} else {
-			changeOrStage(NFTS_BY_OWNER, treasury.identityCode(), nftId.value(), false);
-		}
+		changeOrStage(TREASURY_NFTS_BY_TYPE, nftId.getHiPhi().intValue(), nftId.value(), false);
 		changeOrStage(NFTS_BY_OWNER, newOwner.identityCode(), nftId.value(), true);
 	}
 
@@ -247,7 +222,7 @@ public class UniqueTokenViewsManager {
 	 * @param prevOwner
 	 * 		the previous owner
 	 * @param treasury
-	 * 		the relevant treasury
+	 * 		the relevant treasury (implied by the NFT's type in the index)
 	 */
 	public void treasuryReturnNotice(EntityNumPair nftId, EntityId prevOwner, EntityId treasury) {
 		if (doNoops) {
@@ -255,23 +230,7 @@ public class UniqueTokenViewsManager {
 		}
 
 		changeOrStage(NFTS_BY_OWNER, prevOwner.identityCode(), nftId.value(), false);
-		if (isUsingTreasuryWildcards()) {
-			changeOrStage(TREASURY_NFTS_BY_TYPE, nftId.getHiPhi().intValue(), nftId.value(), true);
-		} else {
-			changeOrStage(NFTS_BY_OWNER, treasury.identityCode(), nftId.value(), true);
-		}
-	}
-
-	/**
-	 * Indicates whether this manager uses a "dual-source" picture of NFT ownership, with an internal
-	 * representation that distinguishes between an account owning an NFT it received it via a
-	 * {@link com.hederahashgraph.api.proto.java.NftTransfer}, and an account owning an NFT because
-	 * it is the designated treasury for the NFT's token type.
-	 *
-	 * @return whether this manager internally differentiates the above ownership sources
-	 */
-	public boolean isUsingTreasuryWildcards() {
-		return treasuryNftsByType != null;
+		changeOrStage(TREASURY_NFTS_BY_TYPE, nftId.getHiPhi().intValue(), nftId.value(), true);
 	}
 
 	/* --- Transactional semantics --- */
@@ -333,6 +292,10 @@ public class UniqueTokenViewsManager {
 	}
 
 	void doChange(TargetFcotmr targetFcotmr, int keyCode, long valueCode, boolean associate) {
+		if (parent != null) {
+			parent.changeOrStage(targetFcotmr, keyCode, valueCode, associate);
+			return;
+		}
 		switch (targetFcotmr) {
 			case NFTS_BY_TYPE:
 				if (associate) {
@@ -350,119 +313,14 @@ public class UniqueTokenViewsManager {
 				break;
 			case TREASURY_NFTS_BY_TYPE:
 				if (associate) {
-					curTreasuryNftsByType().associate(fromInt(keyCode), valueCode);
+					treasuryNftsByType.get().associate(fromInt(keyCode), valueCode);
 				} else {
-					curTreasuryNftsByType().disassociate(fromInt(keyCode), valueCode);
+					treasuryNftsByType.get().disassociate(fromInt(keyCode), valueCode);
 				}
 				break;
 		}
 	}
 
-	private FCOneToManyRelation<EntityNum, Long> curTreasuryNftsByType() {
-		Objects.requireNonNull(treasuryNftsByType);
-		return treasuryNftsByType.get();
-	}
-
-	private CompletableFuture<?>[] rebuildFutures(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
-		if (isUsingTreasuryWildcards()) {
-			return new CompletableFuture<?>[] {
-					runAsync(() -> {
-						log.info(" - Started rebuilding NFTs by type in {}",
-								Thread.currentThread().getName());
-						rebuildNftsByType(tokens, nfts);
-						log.info(" - Finished rebuilding NFTs by type in {}",
-								Thread.currentThread().getName());
-					}),
-					runAsync(() -> {
-						log.info(" - Started rebuilding treasury NFTs by type in {}",
-								Thread.currentThread().getName());
-						rebuildTreasuryNftsByType(tokens, nfts);
-						log.info(" - Finished rebuilding treasury NFTs in {}",
-								Thread.currentThread().getName());
-					}),
-					runAsync(() -> {
-						log.info(" - Started rebuilding non-treasury NFTs by owner in {}",
-								Thread.currentThread().getName());
-						rebuildNonTreasuryNftsByOwner(tokens, nfts);
-						log.info(" - Finished rebuilding non-treasury NFTs by owner in {}",
-								Thread.currentThread().getName());
-					})
-			};
-		} else {
-			return new CompletableFuture<?>[] {
-					runAsync(() -> rebuildNftsByType(tokens, nfts)),
-					runAsync(() -> rebuildAllNftsByOwner(tokens, nfts))
-			};
-		}
-	}
-
-	private void rebuildTreasuryNftsByType(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
-		final var curTreasuryNftsByType = curTreasuryNftsByType();
-		forEach(nfts, (nftId, nft) -> {
-			if (nft.isTreasuryOwned()) {
-				final var tokenId = nftId.getHiPhi();
-				if (!tokens.containsKey(tokenId)) {
-					return;
-				}
-				curTreasuryNftsByType.associate(tokenId, nftId.value());
-			}
-		});
-	}
-
-	private void rebuildNonTreasuryNftsByOwner(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
-		final var curNftsByOwner = nftsByOwner.get();
-		forEach(nfts, (nftId, nft) -> {
-			if (!tokens.containsKey(nftId.getHiPhi())) {
-				return;
-			}
-			if (!nft.isTreasuryOwned()) {
-				curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
-			}
-		});
-	}
-
-	private void rebuildAllNftsByOwner(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
-		final var curNftsByOwner = nftsByOwner.get();
-		forEach(nfts, (nftId, nft) -> {
-			final var tokenId = nftId.getHiPhi();
-			if (!tokens.containsKey(tokenId)) {
-				return;
-			}
-			if (nft.isTreasuryOwned()) {
-				final var token = tokens.get(tokenId);
-				curNftsByOwner.associate(fromInt(token.treasury().identityCode()), nftId.value());
-			} else {
-				curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
-			}
-		});
-	}
-
-	private void rebuildNftsByType(
-			MerkleMap<EntityNum, MerkleToken> tokens,
-			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
-	) {
-		final var curNftsByType = nftsByType.get();
-		forEach(nfts, (nftId, nft) -> {
-			final var tokenId = nftId.getHiPhi();
-			if (!tokens.containsKey(tokenId)) {
-				return;
-			}
-			curNftsByType.associate(tokenId, nftId.value());
-		});
-	}
-
 	/* --- Only used by unit tests --- */
 	List<PendingChange> getChangesInTxn() {
 		return changesInTxn;
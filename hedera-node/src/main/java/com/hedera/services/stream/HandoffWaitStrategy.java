@@ -0,0 +1,89 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the {@link NonBlockingHandoff} thread waits when its ring is empty; trading off the latency
+ * of handing a record to the {@link RecordStreamManager} against the CPU burned while idle.
+ */
+public enum HandoffWaitStrategy {
+	/** Spin without yielding; lowest latency, but keeps a core fully busy even when idle. */
+	BUSY_SPIN {
+		@Override
+		public void idle(final int idleCount) {
+			Thread.onSpinWait();
+		}
+	},
+	/** Spin briefly, then yield the thread on every idle iteration. */
+	YIELDING {
+		@Override
+		public void idle(final int idleCount) {
+			if (idleCount < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+	},
+	/** Spin briefly, then yield briefly, then park for {@code PARK_NANOS} on each idle iteration. */
+	SLEEPING {
+		@Override
+		public void idle(final int idleCount) {
+			if (idleCount < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(PARK_NANOS);
+			}
+		}
+	};
+
+	static final int SPIN_TRIES = 100;
+	static final int YIELD_TRIES = 100;
+	static final long PARK_NANOS = 100_000L;
+	/* Every strategy waits the same way for all idle counts from here on, so there is no need to count higher */
+	static final int MAX_IDLE_COUNT = SPIN_TRIES + YIELD_TRIES;
+
+	/**
+	 * Returns the idle count after one more empty poll, capped at {@code MAX_IDLE_COUNT} so that a
+	 * long-idle thread's count can never overflow back into the spinning range.
+	 *
+	 * @param idleCount
+	 * 		the number of consecutive empty polls so far
+	 * @return the number including one more empty poll
+	 */
+	static int nextIdleCount(final int idleCount) {
+		return (idleCount < MAX_IDLE_COUNT) ? idleCount + 1 : MAX_IDLE_COUNT;
+	}
+
+	/**
+	 * Waits in the way of this strategy, given the number of consecutive times the ring has been
+	 * found empty (starting from one).
+	 *
+	 * @param idleCount
+	 * 		the number of consecutive empty polls
+	 */
+	public abstract void idle(int idleCount);
+}
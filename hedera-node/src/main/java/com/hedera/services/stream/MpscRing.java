@@ -0,0 +1,143 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer in the style of the LMAX
+ * disruptor; each slot has a sequence number that producers use to claim it and the consumer
+ * uses to know it has been published.
+ *
+ * Besides the element, each slot records the {@link System#nanoTime()} at which the element was
+ * offered, so the consumer can measure how long elements wait in the ring.
+ *
+ * @param <T>
+ * 		the type of element in the ring
+ */
+public class MpscRing<T> {
+	@FunctionalInterface
+	public interface Handler<T> {
+		void onElement(T element, long offeredAtNanos);
+	}
+
+	private final int mask;
+	private final Object[] elements;
+	private final long[] offeredAtNanos;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	public MpscRing(final int minCapacity) {
+		final var capacity = ceilingPowerOfTwo(minCapacity);
+		mask = capacity - 1;
+		elements = new Object[capacity];
+		offeredAtNanos = new long[capacity];
+		sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Tries to add an element to the ring, without blocking.
+	 *
+	 * @param element
+	 * 		the element to add
+	 * @return whether there was room for the element
+	 */
+	public boolean offer(final T element) {
+		long claimed;
+		int slot;
+		while (true) {
+			claimed = tail.get();
+			slot = (int) (claimed & mask);
+			final var sequence = sequences.get(slot);
+			if (sequence < claimed) {
+				return false;
+			}
+			if (sequence == claimed && tail.compareAndSet(claimed, claimed + 1)) {
+				break;
+			}
+		}
+		elements[slot] = element;
+		offeredAtNanos[slot] = System.nanoTime();
+		sequences.lazySet(slot, claimed + 1);
+		return true;
+	}
+
+	/**
+	 * Passes up to {@code maxElements} published elements, in the order they were claimed, to the
+	 * given handler. Must only be called from the single consumer thread.
+	 *
+	 * @param handler
+	 * 		the handler for the drained elements
+	 * @param maxElements
+	 * 		the maximum number of elements to drain
+	 * @return the number of elements drained
+	 */
+	@SuppressWarnings("unchecked")
+	public int drain(final Handler<T> handler, final int maxElements) {
+		var next = head.get();
+		int drained = 0;
+		while (drained < maxElements) {
+			final var slot = (int) (next & mask);
+			if (sequences.get(slot) != next + 1) {
+				break;
+			}
+			final var element = (T) elements[slot];
+			final var offeredAt = offeredAtNanos[slot];
+			elements[slot] = null;
+			sequences.lazySet(slot, next + elements.length);
+			next++;
+			drained++;
+			handler.onElement(element, offeredAt);
+		}
+		head.lazySet(next);
+		return drained;
+	}
+
+	/**
+	 * Returns an estimate of the number of elements claimed but not yet drained.
+	 *
+	 * @return the approximate size of the ring
+	 */
+	public int size() {
+		return (int) Math.max(0, tail.get() - head.get());
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	static int ceilingPowerOfTwo(final int n) {
+		if (n <= 1) {
+			return 1;
+		}
+		final var highest = Integer.highestOneBit(n - 1) << 1;
+		if (highest <= 0) {
+			throw new IllegalArgumentException("Ring capacity " + n + " is too large");
+		}
+		return highest;
+	}
+}
@@ -21,49 +21,99 @@ package com.hedera.services.stream;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.hedera.services.stream.HandoffWaitStrategy.nextIdleCount;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+/**
+ * Hands off {@link RecordStreamObject}s from the thread handling transactions to the {@link RecordStreamManager},
+ * via a lock-free {@link MpscRing}; so that {@link NonBlockingHandoff#offer(RecordStreamObject)} never blocks.
+ *
+ * A single thread drains the ring in batches of up to {@code MAX_BATCH_SIZE} objects, waiting when the ring
+ * is empty as directed by the configured {@link HandoffWaitStrategy}.
+ */
 @Singleton
 public class NonBlockingHandoff {
+	private static final Logger log = LogManager.getLogger(NonBlockingHandoff.class);
+
 	private static final int MIN_CAPACITY = 5_000;
+	static final int MAX_BATCH_SIZE = 256;
 
 	private ExecutorService executor = newSingleThreadExecutor();
 
 	private final AtomicBoolean timeToStop = new AtomicBoolean(false);
 	private final RecordStreamManager recordStreamManager;
-	private final BlockingQueue<RecordStreamObject> queue;
+	private final MiscRunningAvgs runningAvgs;
+	private final HandoffWaitStrategy waitStrategy;
+	private final MpscRing<RecordStreamObject> ring;
+	private final List<RecordStreamObject> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+	private long batchWaitNanos;
+	private long batchDrainedAt;
 
 	@Inject
-	public NonBlockingHandoff(RecordStreamManager recordStreamManager, NodeLocalProperties nodeLocalProperties) {
+	public NonBlockingHandoff(
+			final RecordStreamManager recordStreamManager,
+			final NodeLocalProperties nodeLocalProperties,
+			final MiscRunningAvgs runningAvgs
+	) {
 		this.recordStreamManager = recordStreamManager;
+		this.runningAvgs = runningAvgs;
 
 		final int capacity = Math.max(MIN_CAPACITY, nodeLocalProperties.recordStreamQueueCapacity());
-		queue = new ArrayBlockingQueue<>(capacity);
+		ring = new MpscRing<>(capacity);
+		waitStrategy = HandoffWaitStrategy.valueOf(nodeLocalProperties.recordStreamHandoffWaitStrategy());
+		log.info("Handing off records via a ring of capacity {} with {} wait strategy",
+				ring.capacity(), waitStrategy);
 		executor.execute(this::handoff);
 		Runtime.getRuntime().addShutdownHook(new Thread(getShutdownHook()));
 	}
 
 	public boolean offer(RecordStreamObject rso) {
-		return queue.offer(rso);
+		return ring.offer(rso);
 	}
 
 	private void handoff() {
-		while (!timeToStop.get()) {
-			final var rso = queue.poll();
-			if (rso != null) {
-				recordStreamManager.addRecordStreamObject(rso);
+		int idleCount = 0;
+		while (!timeToStop.get() && !Thread.currentThread().isInterrupted()) {
+			if (drainBatch() == 0) {
+				idleCount = nextIdleCount(idleCount);
+				waitStrategy.idle(idleCount);
+			} else {
+				idleCount = 0;
 			}
 		}
 	}
 
+	int drainBatch() {
+		batchWaitNanos = 0;
+		batchDrainedAt = System.nanoTime();
+		final var drained = ring.drain(this::addToBatch, MAX_BATCH_SIZE);
+		if (drained > 0) {
+			runningAvgs.handoffQueueSizeRecordStream(drained + ring.size());
+			runningAvgs.handoffLatencyUsRecordStream(NANOSECONDS.toMicros(batchWaitNanos / drained));
+			recordStreamManager.addRecordStreamObjects(batch);
+			batch.clear();
+		}
+		return drained;
+	}
+
+	private void addToBatch(final RecordStreamObject rso, final long offeredAtNanos) {
+		batch.add(rso);
+		batchWaitNanos += Math.max(0, batchDrainedAt - offeredAtNanos);
+	}
+
 	ExecutorService getExecutor() {
 		return executor;
 	}
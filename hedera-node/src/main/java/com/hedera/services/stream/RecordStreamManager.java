@@ -205,6 +205,26 @@ public class RecordStreamManager {
 	 * 		the {@link RecordStreamObject} object to be added
 	 */
 	public void addRecordStreamObject(final RecordStreamObject recordStreamObject) {
+		stream(recordStreamObject);
+		updateQueueSizes();
+	}
+
+	/**
+	 * receives a batch of consensus records, in consensus order, from the {@link NonBlockingHandoff};
+	 * sends each to multiStream as in {@link RecordStreamManager#addRecordStreamObject(RecordStreamObject)},
+	 * but only samples the queue sizes once for the whole batch
+	 *
+	 * @param recordStreamObjects
+	 * 		the {@link RecordStreamObject} objects to be added
+	 */
+	public void addRecordStreamObjects(final List<RecordStreamObject> recordStreamObjects) {
+		for (final var recordStreamObject : recordStreamObjects) {
+			stream(recordStreamObject);
+		}
+		updateQueueSizes();
+	}
+
+	private void stream(final RecordStreamObject recordStreamObject) {
 		if (!inFreeze) {
 			try {
 				multiStream.addObject(recordStreamObject);
@@ -212,6 +232,9 @@ public class RecordStreamManager {
 				log.warn("Unhandled exception while streaming {}", recordStreamObject, e);
 			}
 		}
+	}
+
+	private void updateQueueSizes() {
 		if (writeQueueThread != null) {
 			runningAvgs.writeQueueSizeRecordStream(getWriteQueueSize());
 		}
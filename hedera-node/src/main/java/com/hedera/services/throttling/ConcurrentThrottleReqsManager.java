@@ -0,0 +1,88 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.ConcurrentThrottle;
+import com.hedera.services.throttles.DeterministicThrottle;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A {@link ThrottleReqsManager} that can be shared by any number of threads without synchronization, as
+ * needed by the frontend throttles consulted from every gRPC worker thread.
+ *
+ * Each requirement is checked against a {@link ConcurrentThrottle} mirroring the corresponding
+ * {@link DeterministicThrottle}; and as in the deterministic case, the requirements are met all-or-nothing,
+ * with the capacity reserved from any passing buckets returned if some other bucket lacks capacity.
+ * (A concurrent decision may briefly see that reserved capacity as used, and be throttled a little
+ * conservatively as a result; but capacity is never over-allocated.)
+ */
+public class ConcurrentThrottleReqsManager extends ThrottleReqsManager {
+	private final ConcurrentThrottle[] throttles;
+	private final int[] opsRequired;
+
+	public ConcurrentThrottleReqsManager(List<Pair<DeterministicThrottle, Integer>> allReqs) {
+		super(allReqs);
+		final var n = allReqs.size();
+		throttles = new ConcurrentThrottle[n];
+		opsRequired = new int[n];
+		for (int i = 0; i < n; i++) {
+			final var req = allReqs.get(i);
+			throttles[i] = ConcurrentThrottle.mirroring(req.getLeft());
+			opsRequired[i] = req.getRight();
+		}
+	}
+
+	@Override
+	public boolean allReqsMetAt(Instant now) {
+		return allConcurrentReqsMetAt(now, 0, null);
+	}
+
+	@Override
+	public boolean allReqsMetAt(Instant now, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		return allConcurrentReqsMetAt(now, nTransactions, scaleFactor);
+	}
+
+	private boolean allConcurrentReqsMetAt(Instant now, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		for (int i = 0; i < throttles.length; i++) {
+			final var ops = opsFor(i, nTransactions, scaleFactor);
+			if (!throttles[i].allow(ops, now)) {
+				for (int j = 0; j < i; j++) {
+					throttles[j].reclaim(opsFor(j, nTransactions, scaleFactor));
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int opsFor(int i, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		return (scaleFactor == null) ? opsRequired[i] : scaleFactor.scaling(nTransactions * opsRequired[i]);
+	}
+
+	/* --- Only used by unit tests --- */
+	ConcurrentThrottle[] concurrentThrottles() {
+		return throttles;
+	}
+}
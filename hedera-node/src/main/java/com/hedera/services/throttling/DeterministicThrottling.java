@@ -25,6 +25,7 @@ import com.hedera.services.grpc.marshalling.AliasResolver;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.ConcurrentGasLimitThrottle;
 import com.hedera.services.throttles.DeterministicThrottle;
 import com.hedera.services.throttles.GasLimitDeterministicThrottle;
 import com.hedera.services.utils.TxnAccessor;
@@ -52,6 +53,15 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTrans
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
 
+/**
+ * Makes throttling decisions for each {@link HederaFunctionality} against the buckets in the active
+ * {@link ThrottleDefinitions}.
+ *
+ * A consensus instance is only used from the handle thread, with a deterministic timeline. A frontend
+ * instance is instead shared by all the gRPC worker threads, so it makes its decisions against lock-free
+ * {@link ConcurrentThrottleReqsManager}s and a {@link ConcurrentGasLimitThrottle} that tolerate
+ * concurrent callers with slightly out-of-order timestamps.
+ */
 public class DeterministicThrottling implements TimedFunctionalityThrottling {
 	private static final Logger log = LogManager.getLogger(DeterministicThrottling.class);
 	private static final ThrottleReqOpsScaleFactor ONE_TO_ONE_SCALE = ThrottleReqOpsScaleFactor.from("1:1");
@@ -63,12 +73,14 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 	private final AliasManager aliasManager;
 	private final GlobalDynamicProperties dynamicProperties;
 
-	private List<DeterministicThrottle> activeThrottles = Collections.emptyList();
-	private EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs = new EnumMap<>(HederaFunctionality.class);
+	private volatile List<DeterministicThrottle> activeThrottles = Collections.emptyList();
+	private volatile EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs =
+			new EnumMap<>(HederaFunctionality.class);
 
 	private boolean consensusThrottled;
 	private boolean lastTxnWasGasThrottled;
-	private GasLimitDeterministicThrottle gasThrottle;
+	private volatile GasLimitDeterministicThrottle gasThrottle;
+	private volatile ConcurrentGasLimitThrottle frontendGasThrottle;
 
 	public DeterministicThrottling(
 			final IntSupplier capacitySplitSource,
@@ -135,14 +147,18 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 
 	@Override
 	public void leakUnusedGasPreviouslyReserved(long value) {
-		gasThrottle.leakUnusedGasPreviouslyReserved(value);
+		if (consensusThrottled) {
+			gasThrottle.leakUnusedGasPreviouslyReserved(value);
+		} else {
+			frontendGasThrottle.leakUnusedGasPreviouslyReserved(value);
+		}
 	}
 
 	@Override
 	public boolean shouldThrottleQuery(HederaFunctionality queryFunction, Instant now, Query query) {
 		if (isGasThrottled(queryFunction) &&
 				dynamicProperties.shouldThrottleByGas() &&
-				(gasThrottle == null || !gasThrottle.allow(now, query.getContractCallLocal().getGas()))) {
+				!isGasAvailable(now, query.getContractCallLocal().getGas())) {
 			return true;
 		}
 		ThrottleReqsManager manager;
@@ -188,7 +204,9 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 			}
 		}
 		EnumMap<HederaFunctionality, ThrottleReqsManager> newFunctionReqs = new EnumMap<>(HederaFunctionality.class);
-		reqLists.forEach((function, reqs) -> newFunctionReqs.put(function, new ThrottleReqsManager(reqs)));
+		reqLists.forEach((function, reqs) -> newFunctionReqs.put(function, consensusThrottled
+				? new ThrottleReqsManager(reqs)
+				: new ConcurrentThrottleReqsManager(reqs)));
 
 		functionReqs = newFunctionReqs;
 		activeThrottles = newActiveThrottles;
@@ -214,6 +232,9 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 			}
 		}
 		gasThrottle = new GasLimitDeterministicThrottle(capacity);
+		if (!consensusThrottled) {
+			frontendGasThrottle = new ConcurrentGasLimitThrottle(capacity);
+		}
 		final var configDesc = "Resolved " +
 				(consensusThrottled ? "consensus" : "frontend") +
 				" gas throttle -\n  " +
@@ -291,7 +312,17 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 	private boolean isGasExhausted(final TxnAccessor accessor, final Instant now) {
 		return dynamicProperties.shouldThrottleByGas() &&
 				isGasThrottled(accessor.getFunction()) &&
-				(gasThrottle == null || !gasThrottle.allow(now, accessor.getGasLimitForContractTx()));
+				!isGasAvailable(now, accessor.getGasLimitForContractTx());
+	}
+
+	private boolean isGasAvailable(final Instant now, final long gas) {
+		if (consensusThrottled) {
+			final var throttle = gasThrottle;
+			return throttle != null && throttle.allow(now, gas);
+		} else {
+			final var throttle = frontendGasThrottle;
+			return throttle != null && throttle.allow(now, gas);
+		}
 	}
 
 	/* --- Only used by unit tests --- */
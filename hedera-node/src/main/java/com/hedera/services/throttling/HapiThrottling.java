@@ -41,12 +41,12 @@ public class HapiThrottling implements FunctionalityThrottling {
 	}
 
 	@Override
-	public synchronized boolean shouldThrottleTxn(TxnAccessor accessor) {
+	public boolean shouldThrottleTxn(TxnAccessor accessor) {
 		return delegate.shouldThrottleTxn(accessor, Instant.now());
 	}
 
 	@Override
-	public synchronized boolean shouldThrottleQuery(HederaFunctionality queryFunction, Query query) {
+	public boolean shouldThrottleQuery(HederaFunctionality queryFunction, Query query) {
 		return delegate.shouldThrottleQuery(queryFunction, Instant.now(), query);
 	}
 
@@ -36,6 +36,7 @@ import com.hedera.services.txns.network.NetworkLogicModule;
 import com.hedera.services.txns.schedule.ScheduleLogicModule;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.txns.span.SpanMapManager;
+import com.hedera.services.txns.span.SubmittedAccessors;
 import com.hedera.services.txns.submission.BasicSubmissionFlow;
 import com.hedera.services.txns.token.TokenLogicModule;
 import com.hedera.services.txns.validation.ContextOptionValidator;
@@ -76,8 +77,11 @@ public abstract class TransactionsModule {
 
 	@Provides
 	@Singleton
-	public static ExpandHandleSpan provideExpandHandleSpan(SpanMapManager spanMapManager) {
-		return new ExpandHandleSpan(10, TimeUnit.SECONDS, spanMapManager);
+	public static ExpandHandleSpan provideExpandHandleSpan(
+			SpanMapManager spanMapManager,
+			SubmittedAccessors submittedAccessors
+	) {
+		return new ExpandHandleSpan(10, TimeUnit.SECONDS, spanMapManager, submittedAccessors);
 	}
 
 	@Provides
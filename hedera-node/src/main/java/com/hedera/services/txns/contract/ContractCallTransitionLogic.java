@@ -29,20 +29,22 @@ import com.hedera.services.store.AccountStore;
 import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.store.contracts.HederaMutableWorldState;
 import com.hedera.services.store.contracts.HederaWorldState;
+import com.hedera.services.store.contracts.SizeLimitedStorage;
+import com.hedera.services.store.contracts.SlotAccessProfiles;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.common.CommonUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.tuweni.bytes.Bytes;
 
 import javax.inject.Inject;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static com.hedera.services.store.contracts.SlotAccessProfiles.selectorOf;
+import static com.hedera.services.utils.MiscUtils.wrapUnsafely;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_GAS;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_VALUE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_GAS_LIMIT_EXCEEDED;
@@ -59,6 +61,8 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 	private final GlobalDynamicProperties properties;
 	private final CodeCache codeCache;
 	private final SigImpactHistorian sigImpactHistorian;
+	private final SizeLimitedStorage sizeLimitedStorage;
+	private final SlotAccessProfiles slotAccessProfiles;
 
 	private final Function<TransactionBody, ResponseCodeEnum> SEMANTIC_CHECK = this::validateSemantics;
 
@@ -71,7 +75,9 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 			final CallEvmTxProcessor evmTxProcessor,
 			final GlobalDynamicProperties properties,
 			final CodeCache codeCache,
-			final SigImpactHistorian sigImpactHistorian
+			final SigImpactHistorian sigImpactHistorian,
+			final SizeLimitedStorage sizeLimitedStorage,
+			final SlotAccessProfiles slotAccessProfiles
 	) {
 		this.txnCtx = txnCtx;
 		this.worldState = worldState;
@@ -81,6 +87,8 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 		this.properties = properties;
 		this.codeCache = codeCache;
 		this.sigImpactHistorian = sigImpactHistorian;
+		this.sizeLimitedStorage = sizeLimitedStorage;
+		this.slotAccessProfiles = slotAccessProfiles;
 	}
 
 	@Override
@@ -94,8 +102,7 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 		/* --- Load the model objects --- */
 		final var sender = accountStore.loadAccount(senderId);
 		final var receiver = accountStore.loadContract(contractId);
-		final var callData = !op.getFunctionParameters().isEmpty()
-				? Bytes.fromHexString(CommonUtils.hex(op.getFunctionParameters().toByteArray())) : Bytes.EMPTY;
+		final var callData = wrapUnsafely(op.getFunctionParameters());
 
 		/* --- Do the business logic --- */
 		final var result = evmTxProcessor.execute(
@@ -105,6 +112,8 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 				op.getAmount(),
 				callData,
 				txnCtx.consensusTime());
+		slotAccessProfiles.learn(
+				receiver.getId().num(), selectorOf(op.getFunctionParameters()), sizeLimitedStorage.touchedSlots());
 
 		/* --- Persist changes into state --- */
 		final var createdContracts = worldState.persistProvisionalContractCreations();
@@ -155,5 +164,10 @@ public class ContractCallTransitionLogic implements PreFetchableTransition {
 		} catch(RuntimeException e) {
 			log.warn("Exception while attempting to pre-fetch code for {}", address);
 		}
+		try {
+			slotAccessProfiles.prefetch(contractId.num(), selectorOf(op.getFunctionParameters()));
+		} catch (RuntimeException e) {
+			log.warn("Exception while attempting to pre-fetch storage for {}", address);
+		}
 	}
 }
@@ -22,9 +22,13 @@ package com.hedera.services.txns.prefetch;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogicLookup;
+import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.swirlds.common.SwirldTransaction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,6 +37,7 @@ import javax.inject.Singleton;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +46,26 @@ import java.util.concurrent.TimeUnit;
  * signatures) that uses an {@code ExecutorService} to schedule the tasks to a static thread
  * pool. The tasks are responsible for fetching data that can be used during the serial execution
  * portion of the transaction (for example, loading of EVM contract bytecode).
+ *
+ * When {@code hedera.prefetch.parallelPrepare.enabled=true}, the rest of the prepare stage also
+ * runs on the thread pool. The event intake thread still parses each transaction and expands its
+ * signatures, since the platform verifies them as soon as {@code expandSignatures} returns; but
+ * then each task,
+ * <ol>
+ *     <li>Expands the accessor's span (which pre-computes, e.g., the
+ *     {@link com.hedera.services.grpc.marshalling.ImpliedTransfers} and fee usage metadata for a
+ *     {@code CryptoTransfer}), and tracks the accessor in the {@link ExpandHandleSpan}, which
+ *     publishes it to {@code handleTransaction}.</li>
+ *     <li>Performs any pre-fetch for the transaction.</li>
+ * </ol>
+ * Since the accessor only becomes visible to {@code handleTransaction} after its span is expanded,
+ * a transaction that reaches consensus before its prepare task finishes is simply handled as a
+ * span cache miss.
+ *
+ * The thread pool's queue is bounded. When it is full, a prepare task is run by the submitting
+ * thread, which applies back-pressure to event intake instead of dropping the task; the
+ * {@link MiscSpeedometers} track how often this happens, and the {@link MiscRunningAvgs}
+ * track the depth of the queue. A plain pre-fetch task is still skipped when the queue is full.
  */
 @Singleton
 public class PrefetchProcessor {
@@ -56,15 +81,27 @@ public class PrefetchProcessor {
     ExecutorService executorService;
     TransitionLogicLookup lookup;
 
+    private final boolean parallelPrepare;
+    private final ExpandHandleSpan expandHandleSpan;
+    private final MiscRunningAvgs runningAvgs;
+    private final MiscSpeedometers speedometers;
+
     @Inject
     public PrefetchProcessor(
             NodeLocalProperties properties,
-            TransitionLogicLookup lookup
+            TransitionLogicLookup lookup,
+            ExpandHandleSpan expandHandleSpan,
+            MiscRunningAvgs runningAvgs,
+            MiscSpeedometers speedometers
     ) {
         final int queueSize = Math.max(properties.prefetchQueueCapacity(), MINIMUM_QUEUE_CAPACITY);
         final int threadPoolSize = Math.max(properties.prefetchThreadPoolSize(), MINIMUM_THREAD_POOL_SIZE);
 
         this.lookup = lookup;
+        this.runningAvgs = runningAvgs;
+        this.speedometers = speedometers;
+        this.expandHandleSpan = expandHandleSpan;
+        this.parallelPrepare = properties.isPrefetchParallelPrepareEnabled();
         queue = new ArrayBlockingQueue<>(queueSize);
         executorService = createExecutorService(threadPoolSize, queue);
     }
@@ -78,39 +115,119 @@ public class PrefetchProcessor {
                 TimeUnit.MILLISECONDS,
                 queue
         );
-        executor.setRejectedExecutionHandler((runnable, execService) -> logger.warn("Pre-fetch queue is FULL!"));
+        executor.setRejectedExecutionHandler(rejectionHandler());
         executor.prestartAllCoreThreads();
         return executor;
     }
 
+    /**
+     * Returns the handler for tasks that find the queue full; this runs a prepare task on the
+     * submitting thread, but skips a plain pre-fetch task as before.
+     *
+     * @return the rejection handler
+     */
+    RejectedExecutionHandler rejectionHandler() {
+        return (runnable, execService) -> {
+            if (runnable instanceof PrepareTask) {
+                if (!execService.isShutdown()) {
+                    speedometers.cyclePrepareBackPressure();
+                    runnable.run();
+                }
+            } else {
+                logger.warn("Pre-fetch queue is FULL!");
+            }
+        };
+    }
+
+    /**
+     * Indicates whether the rest of the prepare stage should be submitted via
+     * {@link PrefetchProcessor#prepare(SwirldTransaction, PlatformTxnAccessor)}, instead of only
+     * the pre-fetch.
+     *
+     * @return whether the prepare stage runs in parallel
+     */
+    public boolean isParallelPrepareEnabled() {
+        return parallelPrepare;
+    }
+
+    /**
+     * Schedules a task to expand the span of the given transaction's accessor, track it, and
+     * pre-fetch for it; if the schedule queue is full, runs the task on the calling thread. The
+     * caller must be done with the accessor (e.g., have expanded its signatures) before calling.
+     *
+     * @param platformTxn the transaction to prepare
+     * @param accessor its parsed accessor
+     */
+    public void prepare(SwirldTransaction platformTxn, PlatformTxnAccessor accessor) {
+        runningAvgs.recordPrepareQueueDepth(queue.size());
+        executorService.execute(new PrepareTask(platformTxn, accessor));
+    }
+
     /**
      * Attempts to schedule a pre-fetch task for the given transaction. A task will be created
      * only if the transition logic associated with the transaction request type implements
      * {@code PreFetchableTransition}. If the task cannot be scheduled due to the schedule queue
-     * being full, the task will be skipped. The pre-fetch action is optional and is only intended
-     * for performance optimization; the handleTransaction portion of {@code EventFlow} will pay
-     * the cost of whatever the pre-fetch operation was.
+     * being full, the task is dropped (with a warning) rather than run on the calling thread. The
+     * pre-fetch action is optional and is only intended for performance optimization; the
+     * handleTransaction portion of {@code EventFlow} will pay the cost of whatever the pre-fetch
+     * operation was.
      *
      * @param accessor the transaction accessor
      */
     public void submit(PlatformTxnAccessor accessor) {
-        final var opt = lookup.lookupFor(accessor.getFunction(), accessor.getTxn());
-
-        if (opt.isPresent()) {
-            final var logic = opt.get();
-            if (logic instanceof PreFetchableTransition transition) {
-                executorService.execute(() -> {
-                    try {
-                        transition.preFetch(accessor);
-                    } catch (RuntimeException e) {
-                        logger.warn("Exception thrown during pre-fetch", e);
-                    }
-                });
-            }
+        final var transition = preFetchableTransitionFor(accessor);
+        if (transition != null) {
+            runningAvgs.recordPrepareQueueDepth(queue.size());
+            executorService.execute(() -> preFetch(transition, accessor));
         }
     }
 
     public void shutdown() {
         executorService.shutdownNow();
     }
+
+    void prepareNow(SwirldTransaction platformTxn, PlatformTxnAccessor accessor) {
+        try {
+            expandHandleSpan.expandAndTrack(platformTxn, accessor);
+        } catch (RuntimeException race) {
+            logger.warn("Unable to expand span, will be re-parsed in handleTransaction", race);
+            return;
+        }
+
+        final var transition = preFetchableTransitionFor(accessor);
+        if (transition != null) {
+            preFetch(transition, accessor);
+        }
+    }
+
+    private PreFetchableTransition preFetchableTransitionFor(PlatformTxnAccessor accessor) {
+        final var opt = lookup.lookupFor(accessor.getFunction(), accessor.getTxn());
+        if (opt.isPresent() && opt.get() instanceof PreFetchableTransition transition) {
+            return transition;
+        }
+        return null;
+    }
+
+    private void preFetch(PreFetchableTransition transition, PlatformTxnAccessor accessor) {
+        try {
+            transition.preFetch(accessor);
+        } catch (RuntimeException e) {
+            logger.warn("Exception thrown during pre-fetch", e);
+        }
+    }
+
+    private final class PrepareTask implements Runnable {
+        private final SwirldTransaction platformTxn;
+        private final PlatformTxnAccessor accessor;
+
+        private PrepareTask(SwirldTransaction platformTxn, PlatformTxnAccessor accessor) {
+            this.platformTxn = platformTxn;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public void run() {
+            prepareNow(platformTxn, accessor);
+        }
+    }
 }
@@ -38,29 +38,37 @@ import java.util.concurrent.TimeUnit;
  *
  * At first this span only tracks the {@link PlatformTxnAccessor} parsed from the
  * transaction contents in an expiring cache. Since the parsing is a pure function
- * of the contents, this is a trivial exercise.
+ * of the contents, this is a trivial exercise. (For transactions this node submitted
+ * itself, the {@link SubmittedAccessors} let us skip even the parsing.)
  *
- * However, a major (perhaps <i>the</i> major) performance optimization available
- * to Services will be to,
+ * Beyond the accessor itself, the span also carries the major performance optimization
+ * available to Services, which works as follows:
  * <ol>
- *     <li>Expand signatures from the latest signed state.</li>
- *     <li>Track the expanded signatures, along with the entities involved, in the transaction's span.</li>
- *     <li>From {@code handleTransaction}, alert the {@code ExpandHandleSpan} when an entity's keys or
- *     usability changes; this will invalidate the signatures for any span involving the entity.</li>
- *     <li>When a transaction reaches {@code handleTransaction} with valid expanded signatures, simply
- *     reuse them instead of recomputing them.</li>
+ *     <li>Signatures are expanded from the latest signed state in {@code expandSignatures}.</li>
+ *     <li>The expanded signatures, along with the entities involved (as
+ *     {@link com.hedera.services.sigs.order.LinkedRefs}), are tracked on the span's accessor.</li>
+ *     <li>From {@code handleTransaction}, any change to an entity's keys or usability is reported to the
+ *     {@link com.hedera.services.ledger.SigImpactHistorian}; this invalidates the signatures for any span
+ *     involving the entity.</li>
+ *     <li>When a transaction reaches {@code handleTransaction} with valid expanded signatures, the
+ *     {@link com.hedera.services.sigs.Rationalization} simply reuses them instead of recomputing them.</li>
  * </ol>
+ * The {@link com.hedera.services.stats.MiscSpeedometers} report how often expanded signatures are reused,
+ * missed (e.g., because the span expired from this cache), or invalidated.
  */
 public class ExpandHandleSpan {
 	private final SpanMapManager spanMapManager;
+	private final SubmittedAccessors submittedAccessors;
 	private final Cache<SwirldTransaction, PlatformTxnAccessor> accessorCache;
 
 	public ExpandHandleSpan(
 			long duration,
 			TimeUnit timeUnit,
-			SpanMapManager spanMapManager
+			SpanMapManager spanMapManager,
+			SubmittedAccessors submittedAccessors
 	) {
 		this.spanMapManager = spanMapManager;
+		this.submittedAccessors = submittedAccessors;
 		this.accessorCache = CacheBuilder.newBuilder()
 				.expireAfterWrite(duration, timeUnit)
 				.build();
@@ -72,6 +80,31 @@ public class ExpandHandleSpan {
 		return accessor;
 	}
 
+	/**
+	 * Parses the given transaction, but neither expands its span nor tracks the resulting accessor. This lets
+	 * {@code expandSignatures} expand the accessor's signatures on its own thread, and leave the span expansion
+	 * to another thread via {@link ExpandHandleSpan#expandAndTrack(SwirldTransaction, PlatformTxnAccessor)}.
+	 *
+	 * @param transaction the transaction to parse
+	 * @return its accessor
+	 * @throws InvalidProtocolBufferException if the transaction is not a valid gRPC transaction
+	 */
+	public PlatformTxnAccessor parse(SwirldTransaction transaction) throws InvalidProtocolBufferException {
+		return submittedAccessors.accessorFor(transaction);
+	}
+
+	/**
+	 * Expands the span of an accessor from {@link ExpandHandleSpan#parse(SwirldTransaction)}, and only then makes
+	 * it visible to {@code handleTransaction}.
+	 *
+	 * @param transaction the parsed transaction
+	 * @param parsedAccessor its accessor
+	 */
+	public void expandAndTrack(SwirldTransaction transaction, PlatformTxnAccessor parsedAccessor) {
+		spanMapManager.expandSpan(parsedAccessor);
+		accessorCache.put(transaction, parsedAccessor);
+	}
+
 	public PlatformTxnAccessor accessorFor(SwirldTransaction transaction) throws InvalidProtocolBufferException {
 		final var cachedAccessor = accessorCache.getIfPresent(transaction);
 		if (cachedAccessor != null) {
@@ -83,7 +116,7 @@ public class ExpandHandleSpan {
 	}
 
 	private PlatformTxnAccessor spanAccessorFor(SwirldTransaction transaction) throws InvalidProtocolBufferException {
-		final var accessor = new PlatformTxnAccessor(transaction);
+		final var accessor = submittedAccessors.accessorFor(transaction);
 		spanMapManager.expandSpan(accessor);
 		return accessor;
 	}
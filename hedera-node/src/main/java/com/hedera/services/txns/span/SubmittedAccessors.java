@@ -0,0 +1,93 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.swirlds.common.SwirldTransaction;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Remembers the {@link SignedTxnAccessor} parsed at ingest for each {@link SwirldTransaction} this node
+ * submits to the platform, so that when the same transaction object comes back through
+ * {@code expandSignatures} (or the prefetch prepare stage) its accessor can be built without
+ * re-parsing the gRPC messages or re-computing the SHA-384 hash.
+ *
+ * Since {@link SwirldTransaction} copies its contents on construction and on every read, entries are
+ * keyed by the <i>identity</i> of the submitted transaction (Guava's weak keys compare by identity).
+ * Each entry is used at most once, and the cache is bounded by {@code hedera.ingestAccessorCache.maxSize};
+ * a size of zero disables it. The {@link MiscSpeedometers} report how often an accessor is reused or
+ * has to be re-parsed.
+ */
+@Singleton
+public class SubmittedAccessors {
+	private final MiscSpeedometers speedometers;
+	private final Cache<SwirldTransaction, SignedTxnAccessor> accessors;
+
+	@Inject
+	public SubmittedAccessors(final NodeLocalProperties nodeLocalProperties, final MiscSpeedometers speedometers) {
+		this.speedometers = speedometers;
+		this.accessors = CacheBuilder.newBuilder()
+				.weakKeys()
+				.maximumSize(nodeLocalProperties.ingestAccessorCacheMaxSize())
+				.build();
+	}
+
+	public void track(final SwirldTransaction submission, final SignedTxnAccessor accessor) {
+		accessors.put(submission, accessor);
+	}
+
+	public void untrack(final SwirldTransaction submission) {
+		accessors.invalidate(submission);
+	}
+
+	/**
+	 * Returns an accessor for the given transaction, reusing the parsed ingest accessor if this node
+	 * submitted it; and otherwise parsing its contents.
+	 *
+	 * @param transaction the transaction to get an accessor for
+	 * @return its accessor
+	 * @throws InvalidProtocolBufferException if the transaction is not a valid gRPC transaction
+	 */
+	public PlatformTxnAccessor accessorFor(final SwirldTransaction transaction) throws InvalidProtocolBufferException {
+		final var parsed = accessors.asMap().remove(transaction);
+		if (parsed != null) {
+			speedometers.cycleIngestAccessorReuses();
+			return new PlatformTxnAccessor(transaction, parsed);
+		} else {
+			speedometers.cycleIngestAccessorMisses();
+			return new PlatformTxnAccessor(transaction);
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	long size() {
+		accessors.cleanUp();
+		return accessors.size();
+	}
+}
@@ -23,6 +23,7 @@ package com.hedera.services.txns.submission;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.txns.span.SubmittedAccessors;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.swirlds.common.Platform;
@@ -43,23 +44,25 @@ public class PlatformSubmissionManager {
 	private final Platform platform;
 	private final RecordCache recordCache;
 	private final MiscSpeedometers speedometers;
+	private final SubmittedAccessors submittedAccessors;
 
 	@Inject
 	public PlatformSubmissionManager(
 			Platform platform,
 			RecordCache recordCache,
-			MiscSpeedometers speedometers
+			MiscSpeedometers speedometers,
+			SubmittedAccessors submittedAccessors
 	) {
 		this.platform = platform;
 		this.recordCache = recordCache;
 		this.speedometers = speedometers;
+		this.submittedAccessors = submittedAccessors;
 	}
 
 	public ResponseCodeEnum trySubmission(SignedTxnAccessor accessor) {
 		accessor = effective(accessor);
 
-		var success = (accessor != null) &&
-				platform.createTransaction(new SwirldTransaction(accessor.getSignedTxnWrapperBytes()));
+		var success = (accessor != null) && submitted(accessor);
 		if (success) {
 			recordCache.addPreConsensus(accessor.getTxnId());
 			return OK;
@@ -69,6 +72,17 @@ public class PlatformSubmissionManager {
 		}
 	}
 
+	private boolean submitted(SignedTxnAccessor accessor) {
+		final var submission = new SwirldTransaction(accessor.getSignedTxnWrapperBytes());
+		submittedAccessors.track(submission, accessor);
+		if (platform.createTransaction(submission)) {
+			return true;
+		} else {
+			submittedAccessors.untrack(submission);
+			return false;
+		}
+	}
+
 	private SignedTxnAccessor effective(SignedTxnAccessor accessor) {
 		var txn = accessor.getTxn();
 		if (txn.hasUncheckedSubmit()) {
@@ -22,6 +22,7 @@ package com.hedera.services.txns.token;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.submerkle.FcCustomFee;
 import com.hedera.services.store.AccountStore;
 import com.hedera.services.store.TypedTokenStore;
@@ -51,6 +52,7 @@ public class TokenFeeScheduleUpdateTransitionLogic implements TransitionLogic {
 	private final AccountStore accountStore;
 	private final TypedTokenStore tokenStore;
 	private final TransactionContext txnCtx;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final GlobalDynamicProperties dynamicProperties;
 
 	private final Function<TransactionBody, ResponseCodeEnum> SEMANTIC_CHECK = this::validate;
@@ -62,9 +64,11 @@ public class TokenFeeScheduleUpdateTransitionLogic implements TransitionLogic {
 			final TypedTokenStore tokenStore,
 			final TransactionContext txnCtx,
 			final AccountStore accountStore,
-			final GlobalDynamicProperties dynamicProperties
+			final GlobalDynamicProperties dynamicProperties,
+			final SigImpactHistorian sigImpactHistorian
 	) {
 		this.txnCtx = txnCtx;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.tokenStore = tokenStore;
 		this.accountStore = accountStore;
 		this.dynamicProperties = dynamicProperties;
@@ -96,6 +100,8 @@ public class TokenFeeScheduleUpdateTransitionLogic implements TransitionLogic {
 
 		/* --- Persist the updated models --- */
 		tokenStore.commitToken(token);
+		/* A royalty fee with fallback changes the signing requirements of the token's NFT transfers */
+		sigImpactHistorian.markEntityChanged(grpcTokenId.getTokenNum());
 	}
 
 	@Override
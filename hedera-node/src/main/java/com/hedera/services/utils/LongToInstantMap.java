@@ -0,0 +1,281 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.time.Instant;
+
+/**
+ * An open-addressing hash map from primitive {@code long} keys to {@link Instant} values, where each value is
+ * packed into a single {@code long} as {@code seconds * 10^9 + nanos}. Neither {@link #put(long, Instant)} nor
+ * {@link #getPacked(long)} allocate, so this map is suitable for tracking entities changed on every
+ * {@code handleTransaction}.
+ *
+ * The keys and packed values are stored in adjacent slots of a {@link LongBuffer}, which may be backed either by
+ * a heap buffer or (for very large maps) a direct buffer that lives outside the Java heap. Collisions are resolved
+ * by linear probing, and removals use backward-shift deletion so no tombstones accumulate.
+ *
+ * <b>IMPORTANT:</b> The packed representation only covers instants in the years 1677 to 2262, which is more than
+ * enough for consensus timestamps.
+ */
+public class LongToInstantMap {
+	public static final long MISSING = Long.MIN_VALUE;
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+	/* The largest table whose key/value slots (16 bytes per slot, so 1GiB in all) still fit in a single ByteBuffer. */
+	static final int MAX_CAPACITY = 1 << 26;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	/* Key 0 marks an empty slot, so a mapping for key 0 is kept outside the table. */
+	private static final long EMPTY_KEY = 0L;
+
+	private final boolean direct;
+
+	private int size;
+	private int mask;
+	private int resizeThreshold;
+	private LongBuffer table;
+	private boolean hasZeroKey;
+	private long zeroKeyValue;
+
+	public LongToInstantMap() {
+		this(DEFAULT_INITIAL_CAPACITY, false);
+	}
+
+	/**
+	 * Creates a map with room for at least the given number of mappings before it must resize.
+	 *
+	 * @param expectedSize the expected number of mappings
+	 * @param direct whether to store the table in a direct (off-heap) buffer
+	 */
+	public LongToInstantMap(final int expectedSize, final boolean direct) {
+		if (expectedSize < 1) {
+			throw new IllegalArgumentException("Expected size must be positive, not " + expectedSize);
+		}
+		this.direct = direct;
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Packs the given instant into a single {@code long}.
+	 *
+	 * @param instant the instant to pack
+	 * @return the packed instant
+	 */
+	public static long pack(final Instant instant) {
+		return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+	}
+
+	/**
+	 * Returns the epoch second of the given packed instant.
+	 *
+	 * @param packed a packed instant
+	 * @return its epoch second
+	 */
+	public static long secondsOf(final long packed) {
+		return Math.floorDiv(packed, NANOS_PER_SECOND);
+	}
+
+	/**
+	 * Unpacks the given {@code long} into an {@link Instant}.
+	 *
+	 * @param packed a packed instant
+	 * @return the unpacked instant
+	 */
+	public static Instant unpack(final long packed) {
+		return Instant.ofEpochSecond(secondsOf(packed), Math.floorMod(packed, NANOS_PER_SECOND));
+	}
+
+	public void put(final long key, final Instant value) {
+		putPacked(key, pack(value));
+	}
+
+	public void putPacked(final long key, final long packedValue) {
+		if (key == EMPTY_KEY) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			zeroKeyValue = packedValue;
+			return;
+		}
+		int slot = slotFor(key);
+		long slotKey;
+		while ((slotKey = table.get(2 * slot)) != EMPTY_KEY) {
+			if (slotKey == key) {
+				table.put(2 * slot + 1, packedValue);
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		if (size == resizeThreshold && mask + 1 == MAX_CAPACITY) {
+			throw new IllegalStateException("Map cannot hold more than " + resizeThreshold + " mappings");
+		}
+		table.put(2 * slot, key);
+		table.put(2 * slot + 1, packedValue);
+		if (++size > resizeThreshold) {
+			rehash(2 * (mask + 1));
+		}
+	}
+
+	/**
+	 * Returns the packed instant mapped to the given key, or {@link #MISSING} if there is no such mapping.
+	 *
+	 * @param key the key of interest
+	 * @return its packed value, or {@code MISSING}
+	 */
+	public long getPacked(final long key) {
+		if (key == EMPTY_KEY) {
+			return hasZeroKey ? zeroKeyValue : MISSING;
+		}
+		int slot = slotFor(key);
+		long slotKey;
+		while ((slotKey = table.get(2 * slot)) != EMPTY_KEY) {
+			if (slotKey == key) {
+				return table.get(2 * slot + 1);
+			}
+			slot = (slot + 1) & mask;
+		}
+		return MISSING;
+	}
+
+	@Nullable
+	public Instant get(final long key) {
+		final var packed = getPacked(key);
+		return packed == MISSING ? null : unpack(packed);
+	}
+
+	public boolean containsKey(final long key) {
+		return getPacked(key) != MISSING;
+	}
+
+	public void remove(final long key) {
+		if (key == EMPTY_KEY) {
+			if (hasZeroKey) {
+				hasZeroKey = false;
+				size--;
+			}
+			return;
+		}
+		int slot = slotFor(key);
+		long slotKey;
+		while ((slotKey = table.get(2 * slot)) != EMPTY_KEY) {
+			if (slotKey == key) {
+				size--;
+				shiftBackFrom(slot);
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	public void clear() {
+		for (int i = 0, n = table.capacity(); i < n; i++) {
+			table.put(i, EMPTY_KEY);
+		}
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/* --- Internal helpers --- */
+	private void shiftBackFrom(int gap) {
+		int slot = gap;
+		while (true) {
+			slot = (slot + 1) & mask;
+			final var slotKey = table.get(2 * slot);
+			if (slotKey == EMPTY_KEY) {
+				break;
+			}
+			final var home = slotFor(slotKey);
+			/* Move the entry into the gap unless its home slot lies cyclically in (gap, slot]. */
+			if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+				table.put(2 * gap, slotKey);
+				table.put(2 * gap + 1, table.get(2 * slot + 1));
+				gap = slot;
+			}
+		}
+		table.put(2 * gap, EMPTY_KEY);
+	}
+
+	private void rehash(final int newCapacity) {
+		final var oldTable = table;
+		final var oldCapacity = mask + 1;
+		allocate(newCapacity);
+		for (int i = 0; i < oldCapacity; i++) {
+			final var key = oldTable.get(2 * i);
+			if (key != EMPTY_KEY) {
+				int slot = slotFor(key);
+				while (table.get(2 * slot) != EMPTY_KEY) {
+					slot = (slot + 1) & mask;
+				}
+				table.put(2 * slot, key);
+				table.put(2 * slot + 1, oldTable.get(2 * i + 1));
+			}
+		}
+	}
+
+	private void allocate(final int capacity) {
+		final var bytes = (int) tableBytesFor(capacity);
+		final var buffer = direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+		table = buffer.asLongBuffer();
+		mask = capacity - 1;
+		resizeThreshold = capacity / 2;
+	}
+
+	private int slotFor(final long key) {
+		/* Fibonacci hashing spreads the sequential entity numbers we expect across the table. */
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+	static long tableBytesFor(final int capacity) {
+		final var bytes = capacity * 2L * Long.BYTES;
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Capacity " + capacity + " does not fit in a single buffer");
+		}
+		return bytes;
+	}
+
+	static int capacityFor(final int expectedSize) {
+		final var minCapacity = 2L * expectedSize;
+		if (minCapacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Expected size " + expectedSize + " is too large");
+		}
+		return Math.max(2, Integer.highestOneBit((int) minCapacity - 1) << 1);
+	}
+
+	/* --- Only used by unit tests --- */
+	int capacity() {
+		return mask + 1;
+	}
+
+	boolean isDirect() {
+		return direct;
+	}
+}
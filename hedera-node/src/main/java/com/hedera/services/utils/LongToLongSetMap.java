@@ -0,0 +1,493 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * A multimap from primitive {@code long} keys to sets of primitive {@code long} values, built from three flat
+ * buffers so that neither adding, removing, nor testing a mapping allocates:
+ * <ol>
+ *     <li>A pool of nodes, each holding a {@code (key, value)} pair and the links of a doubly-linked chain
+ *     through all the values of its key; removed nodes are recycled through a free list.</li>
+ *     <li>An open-addressing key table from each key to the head of its chain and its number of values.</li>
+ *     <li>An open-addressing pair table of node references, hashed by {@code (key, value)}, which makes
+ *     {@link #contains(long, long)} and {@link #remove(long, long)} constant-time.</li>
+ * </ol>
+ *
+ * As with {@link LongToInstantMap}, all three buffers may be backed either by the Java heap or (for very large
+ * views) by direct buffers that live outside it. Collisions in both tables are resolved by linear probing, and
+ * removals use backward-shift deletion so no tombstones accumulate.
+ */
+public class LongToLongSetMap {
+	private static final int NIL = -1;
+	/* Stores build a default map per instance (e.g. per HTS precompile call) and only size it for
+	 * the state when rebuilding their views, so the default must be cheap to allocate. */
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+	/* The largest tables and pool whose slots still fit in a single ByteBuffer. */
+	private static final int MAX_TABLE_CAPACITY = 1 << 26;
+	private static final int MAX_NODES = MAX_TABLE_CAPACITY / 2;
+	private static final int LONGS_PER_NODE = 3;
+	/* Key 0 marks an empty slot in the key table, so the chain for key 0 is kept outside the table. */
+	private static final long EMPTY_KEY = 0L;
+	/* Every chain has a count of at least one, so a packed chain is never 0. */
+	private static final long NO_CHAIN = 0L;
+	/* Pair table slots hold node references offset by one, so 0 marks an empty slot. */
+	private static final int EMPTY_REF = 0;
+	private static final long[] NO_VALUES = new long[0];
+
+	private final boolean direct;
+
+	private int size;
+	private int numKeys;
+
+	private LongBuffer nodes;
+	private int nodeCapacity;
+	private int nodesUsed;
+	private int freeNode = NIL;
+
+	private LongBuffer keyTable;
+	private int keyMask;
+	private int keyResizeThreshold;
+	private boolean hasZeroKey;
+	private long zeroKeyChain;
+
+	private IntBuffer pairTable;
+	private int pairMask;
+	private int pairResizeThreshold;
+
+	public LongToLongSetMap() {
+		this(DEFAULT_EXPECTED_SIZE, false);
+	}
+
+	/**
+	 * Creates a multimap with room for at least the given number of mappings before it must grow.
+	 *
+	 * @param expectedSize the expected number of {@code (key, value)} mappings
+	 * @param direct whether to store the multimap in direct (off-heap) buffers
+	 */
+	public LongToLongSetMap(final int expectedSize, final boolean direct) {
+		if (expectedSize < 1) {
+			throw new IllegalArgumentException("Expected size must be positive, not " + expectedSize);
+		}
+		final var tableCapacity = tableCapacityFor(expectedSize);
+		this.direct = direct;
+		nodes = allocateNodes(Math.max(16, expectedSize));
+		allocateKeyTable(tableCapacity);
+		allocatePairTable(tableCapacity);
+	}
+
+	/**
+	 * Adds the given value to the set mapped to the given key.
+	 *
+	 * @param key the key of interest
+	 * @param value the value to add
+	 * @return whether the mapping was new
+	 */
+	public boolean add(final long key, final long value) {
+		if (pairSlotOf(key, value) != NIL) {
+			return false;
+		}
+		final var node = allocateNode();
+		nodes.put(LONGS_PER_NODE * node, key);
+		nodes.put(LONGS_PER_NODE * node + 1, value);
+
+		final var chain = chainOf(key);
+		if (chain == NO_CHAIN) {
+			setLinks(node, NIL, NIL);
+			putChain(key, packedChain(node, 1));
+		} else {
+			final var head = headOf(chain);
+			setLinks(node, NIL, head);
+			setLinks(head, node, nextOf(head));
+			putChain(key, packedChain(node, countOf(chain) + 1));
+		}
+		insertPair(node);
+		size++;
+		return true;
+	}
+
+	/**
+	 * Removes the given value from the set mapped to the given key; if this empties the set, the key is
+	 * removed as well.
+	 *
+	 * @param key the key of interest
+	 * @param value the value to remove
+	 * @return whether there was such a mapping
+	 */
+	public boolean remove(final long key, final long value) {
+		final var slot = pairSlotOf(key, value);
+		if (slot == NIL) {
+			return false;
+		}
+		final var node = pairTable.get(slot) - 1;
+		shiftBackPairsFrom(slot);
+
+		final var chain = chainOf(key);
+		final var count = countOf(chain);
+		if (count == 1) {
+			removeChain(key);
+		} else {
+			final var prev = prevOf(node);
+			final var next = nextOf(node);
+			if (next != NIL) {
+				setLinks(next, prev, nextOf(next));
+			}
+			if (prev != NIL) {
+				setLinks(prev, prevOf(prev), next);
+				putChain(key, packedChain(headOf(chain), count - 1));
+			} else {
+				putChain(key, packedChain(next, count - 1));
+			}
+		}
+		setLinks(node, NIL, freeNode);
+		freeNode = node;
+		size--;
+		return true;
+	}
+
+	public boolean contains(final long key, final long value) {
+		return pairSlotOf(key, value) != NIL;
+	}
+
+	public boolean containsKey(final long key) {
+		return chainOf(key) != NO_CHAIN;
+	}
+
+	/**
+	 * Returns the number of values mapped to the given key.
+	 *
+	 * @param key the key of interest
+	 * @return the size of its value set
+	 */
+	public int count(final long key) {
+		final var chain = chainOf(key);
+		return chain == NO_CHAIN ? 0 : countOf(chain);
+	}
+
+	/**
+	 * Returns a fresh array with the values mapped to the given key, in no particular order.
+	 *
+	 * @param key the key of interest
+	 * @return its values, or an empty array if it has none
+	 */
+	public long[] valuesOf(final long key) {
+		final var chain = chainOf(key);
+		if (chain == NO_CHAIN) {
+			return NO_VALUES;
+		}
+		final var values = new long[countOf(chain)];
+		for (int i = 0, node = headOf(chain); node != NIL; node = nextOf(node)) {
+			values[i++] = nodes.get(LONGS_PER_NODE * node + 1);
+		}
+		return values;
+	}
+
+	public void clear() {
+		zero(keyTable);
+		for (int i = 0, n = pairTable.capacity(); i < n; i++) {
+			pairTable.put(i, EMPTY_REF);
+		}
+		hasZeroKey = false;
+		zeroKeyChain = NO_CHAIN;
+		nodesUsed = 0;
+		freeNode = NIL;
+		numKeys = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the total number of {@code (key, value)} mappings.
+	 *
+	 * @return the number of mappings
+	 */
+	public int size() {
+		return size;
+	}
+
+	public int numKeys() {
+		return numKeys;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/* --- Node pool --- */
+	private int allocateNode() {
+		if (freeNode != NIL) {
+			final var node = freeNode;
+			freeNode = nextOf(node);
+			return node;
+		}
+		if (nodesUsed == nodeCapacity) {
+			if (nodeCapacity == MAX_NODES) {
+				throw new IllegalStateException("Multimap cannot hold more than " + MAX_NODES + " mappings");
+			}
+			final var grown = allocateNodes((int) Math.min(2L * nodeCapacity, MAX_NODES));
+			final var used = nodes.duplicate();
+			used.clear();
+			grown.put(used);
+			grown.clear();
+			nodes = grown;
+		}
+		return nodesUsed++;
+	}
+
+	private LongBuffer allocateNodes(final int capacity) {
+		nodeCapacity = capacity;
+		return allocate(capacity * LONGS_PER_NODE * Long.BYTES).asLongBuffer();
+	}
+
+	private int prevOf(final int node) {
+		return (int) (nodes.get(LONGS_PER_NODE * node + 2) >> 32);
+	}
+
+	private int nextOf(final int node) {
+		return (int) nodes.get(LONGS_PER_NODE * node + 2);
+	}
+
+	private void setLinks(final int node, final int prev, final int next) {
+		nodes.put(LONGS_PER_NODE * node + 2, ((long) prev << 32) | (next & 0xFFFFFFFFL));
+	}
+
+	/* --- Key table --- */
+	private static long packedChain(final int head, final int count) {
+		return ((long) head << 32) | count;
+	}
+
+	private static int headOf(final long chain) {
+		return (int) (chain >>> 32);
+	}
+
+	private static int countOf(final long chain) {
+		return (int) chain;
+	}
+
+	private long chainOf(final long key) {
+		if (key == EMPTY_KEY) {
+			return hasZeroKey ? zeroKeyChain : NO_CHAIN;
+		}
+		int slot = keySlotFor(key);
+		long slotKey;
+		while ((slotKey = keyTable.get(2 * slot)) != EMPTY_KEY) {
+			if (slotKey == key) {
+				return keyTable.get(2 * slot + 1);
+			}
+			slot = (slot + 1) & keyMask;
+		}
+		return NO_CHAIN;
+	}
+
+	private void putChain(final long key, final long chain) {
+		if (key == EMPTY_KEY) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				numKeys++;
+			}
+			zeroKeyChain = chain;
+			return;
+		}
+		int slot = keySlotFor(key);
+		long slotKey;
+		while ((slotKey = keyTable.get(2 * slot)) != EMPTY_KEY) {
+			if (slotKey == key) {
+				keyTable.put(2 * slot + 1, chain);
+				return;
+			}
+			slot = (slot + 1) & keyMask;
+		}
+		keyTable.put(2 * slot, key);
+		keyTable.put(2 * slot + 1, chain);
+		if (++numKeys > keyResizeThreshold) {
+			rehashKeys(2 * (keyMask + 1));
+		}
+	}
+
+	private void removeChain(final long key) {
+		numKeys--;
+		if (key == EMPTY_KEY) {
+			hasZeroKey = false;
+			zeroKeyChain = NO_CHAIN;
+			return;
+		}
+		int slot = keySlotFor(key);
+		while (keyTable.get(2 * slot) != key) {
+			slot = (slot + 1) & keyMask;
+		}
+		int gap = slot;
+		while (true) {
+			slot = (slot + 1) & keyMask;
+			final var slotKey = keyTable.get(2 * slot);
+			if (slotKey == EMPTY_KEY) {
+				break;
+			}
+			final var home = keySlotFor(slotKey);
+			/* Move the entry into the gap unless its home slot lies cyclically in (gap, slot]. */
+			if (((slot - home) & keyMask) >= ((slot - gap) & keyMask)) {
+				keyTable.put(2 * gap, slotKey);
+				keyTable.put(2 * gap + 1, keyTable.get(2 * slot + 1));
+				gap = slot;
+			}
+		}
+		keyTable.put(2 * gap, EMPTY_KEY);
+	}
+
+	private void rehashKeys(final int newCapacity) {
+		if (newCapacity > MAX_TABLE_CAPACITY) {
+			throw new IllegalStateException("Multimap cannot hold more than " + keyResizeThreshold + " keys");
+		}
+		final var oldTable = keyTable;
+		final var oldCapacity = keyMask + 1;
+		allocateKeyTable(newCapacity);
+		for (int i = 0; i < oldCapacity; i++) {
+			final var key = oldTable.get(2 * i);
+			if (key != EMPTY_KEY) {
+				int slot = keySlotFor(key);
+				while (keyTable.get(2 * slot) != EMPTY_KEY) {
+					slot = (slot + 1) & keyMask;
+				}
+				keyTable.put(2 * slot, key);
+				keyTable.put(2 * slot + 1, oldTable.get(2 * i + 1));
+			}
+		}
+	}
+
+	private void allocateKeyTable(final int capacity) {
+		keyTable = allocate(capacity * 2 * Long.BYTES).asLongBuffer();
+		keyMask = capacity - 1;
+		keyResizeThreshold = capacity / 2;
+	}
+
+	private int keySlotFor(final long key) {
+		/* Fibonacci hashing spreads the sequential entity numbers we expect across the table. */
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & keyMask;
+	}
+
+	/* --- Pair table --- */
+	private int pairSlotOf(final long key, final long value) {
+		int slot = pairSlotFor(key, value);
+		int ref;
+		while ((ref = pairTable.get(slot)) != EMPTY_REF) {
+			final var node = ref - 1;
+			if (nodes.get(LONGS_PER_NODE * node) == key && nodes.get(LONGS_PER_NODE * node + 1) == value) {
+				return slot;
+			}
+			slot = (slot + 1) & pairMask;
+		}
+		return NIL;
+	}
+
+	private void insertPair(final int node) {
+		if (size + 1 > pairResizeThreshold) {
+			rehashPairs(2 * (pairMask + 1));
+		}
+		placePair(node);
+	}
+
+	private void placePair(final int node) {
+		int slot = pairSlotForNode(node);
+		while (pairTable.get(slot) != EMPTY_REF) {
+			slot = (slot + 1) & pairMask;
+		}
+		pairTable.put(slot, node + 1);
+	}
+
+	private void shiftBackPairsFrom(int gap) {
+		int slot = gap;
+		while (true) {
+			slot = (slot + 1) & pairMask;
+			final var ref = pairTable.get(slot);
+			if (ref == EMPTY_REF) {
+				break;
+			}
+			final var home = pairSlotForNode(ref - 1);
+			if (((slot - home) & pairMask) >= ((slot - gap) & pairMask)) {
+				pairTable.put(gap, ref);
+				gap = slot;
+			}
+		}
+		pairTable.put(gap, EMPTY_REF);
+	}
+
+	private void rehashPairs(final int newCapacity) {
+		if (newCapacity > MAX_TABLE_CAPACITY) {
+			throw new IllegalStateException("Multimap cannot hold more than " + pairResizeThreshold + " mappings");
+		}
+		final var oldTable = pairTable;
+		allocatePairTable(newCapacity);
+		for (int i = 0, n = oldTable.capacity(); i < n; i++) {
+			final var ref = oldTable.get(i);
+			if (ref != EMPTY_REF) {
+				placePair(ref - 1);
+			}
+		}
+	}
+
+	private void allocatePairTable(final int capacity) {
+		pairTable = allocate(capacity * Integer.BYTES).asIntBuffer();
+		pairMask = capacity - 1;
+		pairResizeThreshold = capacity / 2;
+	}
+
+	private int pairSlotForNode(final int node) {
+		return pairSlotFor(nodes.get(LONGS_PER_NODE * node), nodes.get(LONGS_PER_NODE * node + 1));
+	}
+
+	private int pairSlotFor(final long key, final long value) {
+		final var mixed = (key * 0x9E3779B97F4A7C15L + value) * 0xC2B2AE3D27D4EB4FL;
+		return (int) (mixed >>> 32) & pairMask;
+	}
+
+	/* --- Buffers --- */
+	private ByteBuffer allocate(final int bytes) {
+		return direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+	}
+
+	private static void zero(final LongBuffer buffer) {
+		for (int i = 0, n = buffer.capacity(); i < n; i++) {
+			buffer.put(i, 0L);
+		}
+	}
+
+	private static int tableCapacityFor(final int expectedSize) {
+		final var minCapacity = 2L * expectedSize;
+		if (minCapacity > MAX_TABLE_CAPACITY) {
+			throw new IllegalArgumentException("Expected size " + expectedSize + " is too large");
+		}
+		return Math.max(2, Integer.highestOneBit((int) minCapacity - 1) << 1);
+	}
+
+	/* --- Only used by unit tests --- */
+	int nodeCapacity() {
+		return nodeCapacity;
+	}
+
+	int pairCapacity() {
+		return pairMask + 1;
+	}
+
+	boolean isDirect() {
+		return direct;
+	}
+}
@@ -46,6 +46,7 @@ import com.swirlds.common.merkle.utility.Keyed;
 import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import org.apache.commons.codec.DecoderException;
+import org.apache.tuweni.bytes.Bytes;
 
 import javax.annotation.Nullable;
 import java.math.BigInteger;
@@ -58,7 +59,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -195,6 +198,8 @@ import static java.util.stream.Collectors.toSet;
 
 public final class MiscUtils {
 	private static final long ONE_SEC_IN_NANOS = 1_000_000_000;
+	/* Enough subtrees that a few large ones do not leave most of the common pool idle */
+	private static final int MIN_TRAVERSAL_PARTITIONS = 4 * ForkJoinPool.getCommonPoolParallelism();
 
 	private MiscUtils() {
 		throw new UnsupportedOperationException("Utility Class");
@@ -814,6 +819,65 @@ public final class MiscUtils {
 		});
 	}
 
+	/**
+	 * Like {@link MiscUtils#forEach(MerkleMap, BiConsumer)}, but splits the map's tree into disjoint subtrees that
+	 * are traversed concurrently on the common {@link ForkJoinPool}. Each subtree's leaves are accumulated into its
+	 * own partial result from the given factory; so the action needs no synchronization, and the caller can merge
+	 * the returned partials (in tree order) once every subtree is done.
+	 *
+	 * @param map the map to traverse
+	 * @param partialFactory a factory for the per-subtree partial results
+	 * @param action the action accumulating a leaf into a partial result
+	 * @param <K> the type of key in the map
+	 * @param <V> the type of leaf in the map
+	 * @param <P> the type of partial result
+	 * @return the partial results, one per subtree
+	 */
+	public static <K, V extends MerkleNode & Keyed<K>, P> List<P> forEachPartitioned(
+			final MerkleMap<K, V> map,
+			final Supplier<P> partialFactory,
+			final BiConsumer<P, ? super V> action
+	) {
+		return subtreesOf(map, MIN_TRAVERSAL_PARTITIONS).parallelStream()
+				.map(subtree -> {
+					final var partial = partialFactory.get();
+					subtree.forEachNode((final MerkleNode node) -> {
+						if (node instanceof Keyed) {
+							final V leaf = node.cast();
+							action.accept(partial, leaf);
+						}
+					});
+					return partial;
+				})
+				.toList();
+	}
+
+	static List<MerkleNode> subtreesOf(final MerkleNode root, final int minSubtrees) {
+		List<MerkleNode> frontier = List.of(root);
+		var expanded = true;
+		while (expanded && frontier.size() < minSubtrees) {
+			expanded = false;
+			final List<MerkleNode> next = new ArrayList<>();
+			for (final var node : frontier) {
+				/* A keyed leaf may itself be an internal node (e.g., a MerkleAccount), so never split one */
+				if (node.isLeaf() || node instanceof Keyed) {
+					next.add(node);
+				} else {
+					final var internal = node.asInternal();
+					for (int i = 0, n = internal.getNumberOfChildren(); i < n; i++) {
+						final MerkleNode child = internal.getChild(i);
+						if (child != null) {
+							next.add(child);
+						}
+					}
+					expanded = true;
+				}
+			}
+			frontier = next;
+		}
+		return frontier;
+	}
+
 	public static void putIfNotNull(@Nullable final Map<String, Object> map, final String key, final Object value) {
 		if (null != map) {
 			map.put(key, value);
@@ -847,4 +911,16 @@ public final class MiscUtils {
 			return false;
 		}
 	}
+
+	/**
+	 * Wraps the given (immutable) {@code ByteString} as EVM {@link Bytes} without copying it; for example, the
+	 * function parameters of a contract call to use as the call data.
+	 *
+	 * @param data
+	 * 		the bytes to wrap
+	 * @return a read-only view of the bytes
+	 */
+	public static Bytes wrapUnsafely(final ByteString data) {
+		return data.isEmpty() ? Bytes.EMPTY : Bytes.wrapByteBuffer(data.asReadOnlyByteBuffer());
+	}
 }
@@ -40,6 +40,18 @@ public class PlatformTxnAccessor extends SignedTxnAccessor {
 		this.platformTxn = platformTxn;
 	}
 
+	/**
+	 * Creates an accessor for a transaction whose contents were already parsed into the given accessor (for
+	 * example, when this node submitted the transaction itself), skipping the re-parse and re-hash.
+	 *
+	 * @param platformTxn the txn to provide accessors for
+	 * @param parsed an accessor already constructed from the txn's contents
+	 */
+	public PlatformTxnAccessor(SwirldTransaction platformTxn, SignedTxnAccessor parsed) {
+		super(parsed);
+		this.platformTxn = platformTxn;
+	}
+
 	/**
 	 * Convenience static factory for a txn whose {@code byte[]} contents are <i>certain</i>
 	 * to be a valid serialized gRPC txn.
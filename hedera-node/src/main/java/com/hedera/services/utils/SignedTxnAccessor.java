@@ -161,6 +161,34 @@ public class SignedTxnAccessor implements TxnAccessor {
 		this(signedTxnWrapper.toByteArray());
 	}
 
+	/**
+	 * Creates an accessor that reuses the parsed gRPC messages and hash of another accessor for the same
+	 * bytes, but with its own signature, span, and usage metadata; since these are all mutated as a
+	 * transaction is handled.
+	 *
+	 * @param parsed an accessor already constructed from the same bytes
+	 */
+	protected SignedTxnAccessor(final SignedTxnAccessor parsed) {
+		signedTxnWrapperBytes = parsed.signedTxnWrapperBytes;
+		signedTxnWrapper = parsed.signedTxnWrapper;
+		txnBytes = parsed.txnBytes;
+		sigMap = parsed.sigMap;
+		hash = parsed.hash;
+		pubKeyToSigBytes = new PojoSigMapPubKeyToSigBytes(sigMap);
+
+		txn = parsed.txn;
+		memo = parsed.memo;
+		txnId = parsed.txnId;
+		sigMapSize = parsed.sigMapSize;
+		numSigPairs = parsed.numSigPairs;
+		utf8MemoBytes = parsed.utf8MemoBytes;
+		memoHasZeroByte = parsed.memoHasZeroByte;
+
+		function = parsed.getFunction();
+		setBaseUsageMeta();
+		setOpUsageMeta();
+	}
+
 	@Override
 	public void setExpandedSigStatus(final ResponseCodeEnum expandedSigStatus) {
 		this.expandedSigStatus = expandedSigStatus;
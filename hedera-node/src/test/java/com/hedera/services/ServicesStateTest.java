@@ -32,6 +32,7 @@ import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleSpecialFiles;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.migration.ReleaseTwentyThreeMigration;
 import com.hedera.services.state.migration.ReleaseTwentyTwoMigration;
 import com.hedera.services.state.migration.StateChildIndices;
 import com.hedera.services.state.migration.StateVersions;
@@ -55,7 +56,6 @@ import com.swirlds.common.Platform;
 import com.swirlds.common.SwirldDualState;
 import com.swirlds.common.SwirldTransaction;
 import com.swirlds.common.merkle.MerkleNode;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
@@ -86,6 +86,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -140,6 +141,10 @@ class ServicesStateTest {
 	@Mock
 	private ServicesState.BinaryObjectStoreMigrator blobMigrator;
 	@Mock
+	private ServicesState.PayerRecordExpiriesMigrator recordExpiriesMigrator;
+	@Mock
+	private ServicesState.NftIndexMigrator nftIndexMigrator;
+	@Mock
 	private PrefetchProcessor prefetchProcessor;
 	@Mock
 	private MerkleMap<EntityNum, MerkleAccount> accounts;
@@ -268,6 +273,28 @@ class ServicesStateTest {
 		verify(sigReqsManager).expandSigsInto(txnAccessor);
 	}
 
+	@Test
+	void expandsSigsBeforeDelegatingRestOfPrepareStageIfParallel() throws InvalidProtocolBufferException {
+		// setup:
+		subject.setMetadata(metadata);
+
+		given(metadata.app()).willReturn(app);
+		given(app.expandHandleSpan()).willReturn(expandHandleSpan);
+		given(app.prefetchProcessor()).willReturn(prefetchProcessor);
+		given(app.sigReqsManager()).willReturn(sigReqsManager);
+		given(prefetchProcessor.isParallelPrepareEnabled()).willReturn(true);
+		given(expandHandleSpan.parse(transaction)).willReturn(txnAccessor);
+
+		// when:
+		subject.expandSignatures(transaction);
+
+		// then:
+		final var inOrder = inOrder(sigReqsManager, prefetchProcessor);
+		inOrder.verify(sigReqsManager).expandSigsInto(txnAccessor);
+		inOrder.verify(prefetchProcessor).prepare(transaction, txnAccessor);
+		verify(expandHandleSpan, never()).track(transaction);
+	}
+
 	@Test
 	void warnsOfIpbe() throws InvalidProtocolBufferException {
 		// setup:
@@ -275,6 +302,7 @@ class ServicesStateTest {
 
 		given(metadata.app()).willReturn(app);
 		given(app.expandHandleSpan()).willReturn(expandHandleSpan);
+		given(app.prefetchProcessor()).willReturn(prefetchProcessor);
 		given(expandHandleSpan.track(transaction)).willThrow(InvalidProtocolBufferException.class);
 
 		// when:
@@ -294,6 +322,7 @@ class ServicesStateTest {
 		given(metadata.app()).willReturn(app);
 		given(app.expandHandleSpan()).willReturn(expandHandleSpan);
 		given(app.expandHandleSpan()).willReturn(expandHandleSpan);
+		given(app.prefetchProcessor()).willReturn(prefetchProcessor);
 		given(expandHandleSpan.track(transaction)).willThrow(ConcurrentModificationException.class);
 
 		// when:
@@ -364,6 +393,9 @@ class ServicesStateTest {
 		assertEquals(
 				StateChildIndices.NUM_0220_CHILDREN,
 				subject.getMinimumChildCount(StateVersions.RELEASE_0220_VERSION));
+		assertEquals(
+				StateChildIndices.NUM_0230_CHILDREN,
+				subject.getMinimumChildCount(StateVersions.RELEASE_0230_VERSION));
 		assertThrows(IllegalArgumentException.class,
 				() -> subject.getMinimumChildCount(StateVersions.MINIMUM_SUPPORTED_VERSION - 1));
 		assertThrows(IllegalArgumentException.class,
@@ -469,6 +501,8 @@ class ServicesStateTest {
 		assertNotNull(subject.networkCtx());
 		assertNotNull(subject.runningHashLeaf());
 		assertNotNull(subject.contractStorage());
+		assertNotNull(subject.payerRecordExpiries());
+		assertNotNull(subject.nftIndex());
 		assertNull(subject.networkCtx().consensusTimeOfLastHandledTxn());
 		assertEquals(StateVersions.CURRENT_VERSION, subject.networkCtx().getStateVersion());
 		assertEquals(1001L, subject.networkCtx().seqNo().current());
@@ -514,6 +548,38 @@ class ServicesStateTest {
 		verify(networkContext).setStateVersion(StateVersions.CURRENT_VERSION);
 	}
 
+	@Test
+	void nonGenesisInitCreatesPayerRecordExpiriesAndNftIndexWhenInitializingFromRelease0220() {
+		ServicesState.setRecordExpiriesMigrator(recordExpiriesMigrator);
+		ServicesState.setNftIndexMigrator(nftIndexMigrator);
+		subject.setChild(StateChildIndices.SPECIAL_FILES, diskFs);
+		subject.setChild(StateChildIndices.NETWORK_CTX, networkContext);
+		subject.setChild(StateChildIndices.ACCOUNTS, accounts);
+		subject.setDeserializedVersion(StateVersions.RELEASE_0220_VERSION);
+
+		given(app.hashLogger()).willReturn(hashLogger);
+		given(app.initializationFlow()).willReturn(initFlow);
+		given(app.workingState()).willReturn(workingState);
+		given(app.dualStateAccessor()).willReturn(dualStateAccessor);
+		given(platform.getSelfId()).willReturn(selfId);
+		// and:
+		APPS.save(selfId.getId(), app);
+
+		// when:
+		subject.init(platform, addressBook, dualState);
+
+		// then:
+		final var inOrder = inOrder(recordExpiriesMigrator, nftIndexMigrator, initFlow);
+		inOrder.verify(recordExpiriesMigrator).createPayerRecordExpiries(
+				subject, StateVersions.RELEASE_0220_VERSION);
+		inOrder.verify(nftIndexMigrator).createNftIndex(subject, StateVersions.RELEASE_0220_VERSION);
+		inOrder.verify(initFlow).runWith(subject);
+
+		// cleanup:
+		ServicesState.setRecordExpiriesMigrator(ReleaseTwentyThreeMigration::createPayerRecordExpiries);
+		ServicesState.setNftIndexMigrator(ReleaseTwentyThreeMigration::createNftIndex);
+	}
+
 	@Test
 	void nonGenesisInitExitsIfStateVersionLaterThanCurrentSoftware() {
 		final var mockExit = mock(SystemExits.class);
@@ -583,25 +649,6 @@ class ServicesStateTest {
 		verify(networkContext, never()).discardPreparedUpgradeMeta();
 	}
 
-	@Test
-	void forwardsFcomtrAsExpected() {
-		// setup:
-		final FCOneToManyRelation<EntityNum, Long> a = new FCOneToManyRelation<>();
-		final FCOneToManyRelation<EntityNum, Long> b = new FCOneToManyRelation<>();
-		final FCOneToManyRelation<EntityNum, Long> c = new FCOneToManyRelation<>();
-		// and:
-		subject.setMetadata(metadata);
-
-		given(metadata.getUniqueTokenAssociations()).willReturn(a);
-		given(metadata.getUniqueOwnershipAssociations()).willReturn(b);
-		given(metadata.getUniqueTreasuryOwnershipAssociations()).willReturn(c);
-
-		// expect:
-		assertSame(a, subject.uniqueTokenAssociations());
-		assertSame(b, subject.uniqueOwnershipAssociations());
-		assertSame(c, subject.uniqueTreasuryOwnershipAssociations());
-	}
-
 	@Test
 	void copySetsMutabilityAsExpected() {
 		// when:
@@ -9,14 +9,18 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.AddressBook;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.Test;
@@ -28,7 +32,6 @@ import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +62,10 @@ class MutableStateChildrenTest {
 	private MerkleMap<EntityNumPair, MerkleUniqueToken> uniqueTokens;
 	@Mock
 	private RecordsRunningHashLeaf runningHashLeaf;
+	@Mock
+	private FCQueue<PayerRecordExpiry> payerRecordExpiries;
+	@Mock
+	private VirtualMap<NftIndexKey, NftIndexValue> nftIndex;
 
 	private MutableStateChildren subject = new MutableStateChildren();
 
@@ -66,13 +73,10 @@ class MutableStateChildrenTest {
 	void childrenGetUpdatedAsExpected() {
 		givenStateWithMockChildren();
 
-		subject.updateFromMaybeUninitializedState(state, signedAt);
+		subject.updateFromSigned(state, signedAt);
 
 		assertChildrenAreExpectedMocks();
 		assertEquals(signedAt, subject.signedAt());
-		assertThrows(NullPointerException.class, subject::uniqueTokenAssociations);
-		assertThrows(NullPointerException.class, subject::uniqueOwnershipAssociations);
-		assertThrows(NullPointerException.class, subject::uniqueOwnershipTreasuryAssociations);
 	}
 
 	private void givenStateWithMockChildren() {
@@ -88,6 +92,8 @@ class MutableStateChildrenTest {
 		given(state.specialFiles()).willReturn(specialFiles);
 		given(state.uniqueTokens()).willReturn(uniqueTokens);
 		given(state.runningHashLeaf()).willReturn(runningHashLeaf);
+		given(state.payerRecordExpiries()).willReturn(payerRecordExpiries);
+		given(state.nftIndex()).willReturn(nftIndex);
 	}
 
 	private void assertChildrenAreExpectedMocks() {
@@ -103,6 +109,8 @@ class MutableStateChildrenTest {
 		assertSame(specialFiles, subject.specialFiles());
 		assertSame(uniqueTokens, subject.uniqueTokens());
 		assertSame(runningHashLeaf, subject.runningHashLeaf());
+		assertSame(payerRecordExpiries, subject.payerRecordExpiries());
+		assertSame(nftIndex, subject.nftIndex());
 	}
 
 	private static final Instant signedAt = Instant.ofEpochSecond(1_234_567, 890);
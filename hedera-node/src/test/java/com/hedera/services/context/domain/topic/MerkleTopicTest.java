@@ -291,7 +291,7 @@ class MerkleTopicTest {
 			final @ConvertWith(ByteArrayConverter.class) byte[] initialRunningHash,
 			final @ConvertWith(InstantConverter.class) Instant consensusTimestampSeconds,
 			final @ConvertWith(ByteArrayConverter.class) byte[] expectedRunningHash
-	) throws IOException {
+	) {
 		final var topic = new MerkleTopic();
 		topic.setSequenceNumber(initialSequenceNumber);
 		topic.setRunningHash(initialRunningHash);
@@ -30,9 +30,7 @@ import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
-import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hedera.services.utils.EntityNum;
-import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.merkle.map.MerkleMap;
@@ -43,7 +41,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,8 +63,6 @@ class StoreInitializationFlowTest {
 	@Mock
 	private AliasManager aliasManager;
 	@Mock
-	private UniqueTokenViewsManager uniqueTokenViewsManager;
-	@Mock
 	private BackingStore<AccountID, MerkleAccount> backingAccounts;
 	@Mock
 	private BackingStore<NftId, MerkleUniqueToken> backingNfts;
@@ -67,10 +71,6 @@ class StoreInitializationFlowTest {
 	@Mock
 	private BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels;
 	@Mock
-	private MerkleMap<EntityNum, MerkleToken> tokens;
-	@Mock
-	private MerkleMap<EntityNumPair, MerkleUniqueToken> nfts;
-	@Mock
 	private MerkleMap<EntityNum, MerkleAccount> accounts;
 
 	private StoreInitializationFlow subject;
@@ -82,7 +82,6 @@ class StoreInitializationFlowTest {
 				scheduleStore,
 				aliasManager,
 				stateAccessor,
-				uniqueTokenViewsManager,
 				backingAccounts,
 				backingTokens,
 				backingNfts,
@@ -91,9 +90,7 @@ class StoreInitializationFlowTest {
 
 	@Test
 	void initsAsExpected() {
-		given(stateAccessor.tokens()).willReturn(tokens);
 		given(stateAccessor.accounts()).willReturn(accounts);
-		given(stateAccessor.uniqueTokens()).willReturn(nfts);
 
 		// when:
 		subject.run();
@@ -104,7 +101,37 @@ class StoreInitializationFlowTest {
 		verify(backingNfts).rebuildFromSources();
 		verify(tokenStore).rebuildViews();
 		verify(scheduleStore).rebuildViews();
-		verify(uniqueTokenViewsManager).rebuildNotice(tokens, nfts);
 		verify(aliasManager).rebuildAliasesMap(accounts);
 	}
+
+	@Test
+	void rebuildsTokenStoreViewsOnlyAfterBackingTokens() {
+		given(stateAccessor.accounts()).willReturn(accounts);
+		final var backingTokensRebuilt = new AtomicBoolean();
+		final var viewsSawBackingTokens = new AtomicBoolean();
+		willAnswer(invocation -> {
+			backingTokensRebuilt.set(true);
+			return null;
+		}).given(backingTokens).rebuildFromSources();
+		willAnswer(invocation -> {
+			viewsSawBackingTokens.set(backingTokensRebuilt.get());
+			return null;
+		}).given(tokenStore).rebuildViews();
+
+		// when:
+		subject.run();
+
+		// then:
+		assertTrue(viewsSawBackingTokens.get());
+	}
+
+	@Test
+	void propagatesFailedStep() {
+		given(stateAccessor.accounts()).willReturn(accounts);
+		willThrow(IllegalStateException.class).given(scheduleStore).rebuildViews();
+
+		// expect:
+		final var e = assertThrows(CompletionException.class, subject::run);
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+	}
 }
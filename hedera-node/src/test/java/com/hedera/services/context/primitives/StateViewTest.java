@@ -41,6 +41,8 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.store.schedule.ScheduleStore;
@@ -76,7 +78,6 @@ import com.hederahashgraph.api.proto.java.TokenKycStatus;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
 import com.hederahashgraph.api.proto.java.TokenRelationship;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.AfterEach;
@@ -177,9 +178,7 @@ class StateViewTest {
 	private MerkleMap<EntityNum, MerkleTopic> topics;
 	private MerkleMap<EntityNum, MerkleAccount> contracts;
 	private MerkleMap<EntityNumPair, MerkleTokenRelStatus> tokenRels;
-	private FCOneToManyRelation<EntityNum, Long> nftsByType;
-	private FCOneToManyRelation<EntityNum, Long> nftsByOwner;
-	private FCOneToManyRelation<EntityNum, Long> treasuryNftsByType;
+	private VirtualMap<NftIndexKey, NftIndexValue> nftIndex;
 	private VirtualMap<VirtualBlobKey, VirtualBlobValue> storage;
 	private VirtualMap<ContractKey, ContractValue> contractStorage;
 	private TokenStore tokenStore;
@@ -307,9 +306,7 @@ class StateViewTest {
 		uniqueTokens.put(targetNftKey, targetNft);
 		uniqueTokens.put(treasuryNftKey, treasuryNft);
 
-		nftsByOwner = (FCOneToManyRelation<EntityNum, Long>) mock(FCOneToManyRelation.class);
-		nftsByType = (FCOneToManyRelation<EntityNum, Long>) mock(FCOneToManyRelation.class);
-		treasuryNftsByType = (FCOneToManyRelation<EntityNum, Long>) mock(FCOneToManyRelation.class);
+		nftIndex = (VirtualMap<NftIndexKey, NftIndexValue>) mock(VirtualMap.class);
 		uniqTokenView = mock(UniqTokenView.class);
 		uniqTokenViewFactory = mock(UniqTokenViewFactory.class);
 		storage = (VirtualMap<VirtualBlobKey, VirtualBlobValue>) mock(VirtualMap.class);
@@ -319,9 +316,7 @@ class StateViewTest {
 		children.setUniqueTokens(uniqueTokens);
 		children.setAccounts(contracts);
 		children.setTokenAssociations(tokenRels);
-		children.setUniqueTokenAssociations(nftsByType);
-		children.setUniqueTokenAssociations(nftsByOwner);
-		children.setUniqueOwnershipTreasuryAssociations(treasuryNftsByType);
+		children.setNftIndex(nftIndex);
 		children.setSpecialFiles(specialFiles);
 
 		given(uniqTokenViewFactory.viewFor(any(), any(), any(), any(), any(), any())).willReturn(uniqTokenView);
@@ -975,9 +970,7 @@ class StateViewTest {
 		subject = new StateView(null, null, null, EMPTY_UNIQ_TOKEN_VIEW_FACTORY, null);
 
 		assertSame(EMPTY_UNIQUE_TOKEN_VIEW, subject.uniqTokenView());
-		assertSame(StateView.EMPTY_FCOTMR, subject.treasuryNftsByType());
-		assertSame(StateView.EMPTY_FCOTMR, subject.nftsByOwner());
-		assertSame(StateView.EMPTY_FCOTMR, subject.nftsByType());
+		assertSame(StateView.EMPTY_VM, subject.nftIndex());
 		assertSame(StateView.EMPTY_FCM, subject.tokens());
 		assertSame(StateView.EMPTY_VM, subject.storage());
 		assertSame(StateView.EMPTY_VM, subject.contractStorage());
@@ -175,6 +175,8 @@ class BootstrapPropertiesTest {
 			entry("files.maxSizeKb", 1024),
 			entry("fees.tokenTransferUsageMultiplier", 380),
 			entry("cache.records.ttl", 180),
+			entry("queries.answerFromLastSignedState", false),
+			entry("queries.lastSignedStateMaxStalenessMs", 5_000L),
 			entry("rates.intradayChangeLimitPercent", 25),
 			entry("rates.midnightCheckInterval", 1L),
 			entry("scheduling.whitelist", Set.of(
@@ -201,6 +203,22 @@ class BootstrapPropertiesTest {
 			entry("tokens.nfts.maxMetadataBytes", 100),
 			entry("tokens.nfts.maxAllowedMints", 5000000L),
 			entry("tokens.nfts.mintThrottleScaleFactor", ThrottleReqOpsScaleFactor.from("5:2")),
+			entry("balances.streamingExport.enabled", false),
+			entry("balances.streamingExport.parallelism", 2),
+			entry("hedera.prefetch.parallelPrepare.enabled", false),
+			entry("hedera.prefetch.codeCacheMaxBytes", 1048576L),
+			entry("stats.handlePhases.enabled", false),
+			entry("stats.handlePhases.dumpPath", "data/stats/handlePhaseLatencies.csv"),
+			entry("hedera.recordStream.handoffWaitStrategy", "SLEEPING"),
+			entry("hedera.ingestAccessorCache.maxSize", 10000),
+			entry("hedera.feeMemoCache.maxSize", 10000),
+			entry("hedera.storeIndexes.offHeap", false),
+			entry("hedera.sigMetaCache.maxSize", 100000),
+			entry("hedera.prefetch.slotProfiles.maxSize", 10000),
+			entry("hedera.localCalls.threadPoolSize", 4),
+			entry("hedera.localCalls.queueCapacity", 1000),
+			entry("hedera.localCalls.maxGas", 5000000L),
+			entry("hedera.localCalls.timeoutMs", 10000L),
 			entry("upgrade.artifacts.path", "/opt/hgcapp/services-hedera/HapiApp2.0/data/upgrade/current")
 	);
 
@@ -79,6 +79,7 @@ class GlobalDynamicPropertiesTest {
 		assertTrue(subject.shouldThrottleByGas());
 		assertFalse(subject.isAutoCreationEnabled());
 		assertFalse(subject.expandSigsFromLastSignedState());
+		assertFalse(subject.answerQueriesFromLastSignedState());
 	}
 
 	@Test
@@ -163,6 +164,7 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(49L, subject.frontendThrottleGasLimit());
 		assertEquals(50L, subject.consensusThrottleGasLimit());
 		assertEquals(51L, subject.triggerTxnWindBackNanos());
+		assertEquals(55L, subject.maxQuerySignedStateStalenessMs());
 	}
 
 	@Test
@@ -195,6 +197,7 @@ class GlobalDynamicPropertiesTest {
 		assertFalse(subject.shouldThrottleByGas());
 		assertTrue(subject.isAutoCreationEnabled());
 		assertTrue(subject.expandSigsFromLastSignedState());
+		assertTrue(subject.answerQueriesFromLastSignedState());
 	}
 
 	@Test
@@ -254,6 +257,7 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(51L, subject.consensusThrottleGasLimit());
 		assertEquals(52L, subject.triggerTxnWindBackNanos());
 		assertEquals(54L, subject.htsDefaultGasCost());
+		assertEquals(56L, subject.maxQuerySignedStateStalenessMs());
 	}
 
 	@Test
@@ -339,6 +343,8 @@ class GlobalDynamicPropertiesTest {
 		given(properties.getBooleanProperty("sigs.expandFromLastSignedState")).willReturn(i % 2 == 0);
 		given(properties.getLongProperty("contracts.maxKvPairs.aggregate")).willReturn(i + 52L);
 		given(properties.getIntProperty("contracts.maxKvPairs.individual")).willReturn(i + 53);
+		given(properties.getBooleanProperty("queries.answerFromLastSignedState")).willReturn(i % 2 == 0);
+		given(properties.getLongProperty("queries.lastSignedStateMaxStalenessMs")).willReturn(i + 54L);
 	}
 
 	private AccountID accountWith(long shard, long realm, long num) {
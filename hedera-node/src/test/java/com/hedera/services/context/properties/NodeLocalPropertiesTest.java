@@ -63,6 +63,7 @@ class NodeLocalPropertiesTest {
 		assertEquals(28, subject.prefetchQueueCapacity());
 		assertEquals(29, subject.prefetchThreadPoolSize());
 		assertEquals(30, subject.prefetchCodeCacheTtlSecs());
+		assertEquals(31, subject.streamingBalancesExportParallelism());
 	}
 
 	@Test
@@ -92,6 +93,21 @@ class NodeLocalPropertiesTest {
 		assertEquals(Profile.PROD, subject.nettyMode());
 		assertEquals(24L, subject.nettyStartRetryIntervalMs());
 		assertTrue(subject.shouldDumpFcmsOnIss());
+		assertFalse(subject.isStreamingBalancesExportEnabled());
+		assertFalse(subject.isPrefetchParallelPrepareEnabled());
+		assertEquals(32L, subject.prefetchCodeCacheMaxBytes());
+		assertFalse(subject.areHandlePhaseLatenciesEnabled());
+		assertEquals("B.csv", subject.handlePhasesDumpPath());
+		assertEquals("BUSY_SPIN", subject.recordStreamHandoffWaitStrategy());
+		assertEquals(33, subject.ingestAccessorCacheMaxSize());
+		assertEquals(34, subject.feeMemoCacheMaxSize());
+		assertFalse(subject.storeIndexesOffHeap());
+		assertEquals(35, subject.sigMetaCacheMaxSize());
+		assertEquals(36, subject.prefetchSlotProfilesMaxSize());
+		assertEquals(37, subject.localCallsThreadPoolSize());
+		assertEquals(38, subject.localCallsQueueCapacity());
+		assertEquals(39L, subject.localCallsMaxGas());
+		assertEquals(40L, subject.localCallsTimeoutMs());
 	}
 
 	@Test
@@ -116,6 +132,7 @@ class NodeLocalPropertiesTest {
 		assertEquals(29, subject.prefetchQueueCapacity());
 		assertEquals(30, subject.prefetchThreadPoolSize());
 		assertEquals(31, subject.prefetchCodeCacheTtlSecs());
+		assertEquals(32, subject.streamingBalancesExportParallelism());
 	}
 
 	@Test
@@ -147,6 +164,21 @@ class NodeLocalPropertiesTest {
 		assertEquals(Profile.TEST, subject.nettyMode());
 		assertEquals(25L, subject.nettyStartRetryIntervalMs());
 		assertFalse(subject.shouldDumpFcmsOnIss());
+		assertTrue(subject.isStreamingBalancesExportEnabled());
+		assertTrue(subject.isPrefetchParallelPrepareEnabled());
+		assertEquals(33L, subject.prefetchCodeCacheMaxBytes());
+		assertTrue(subject.areHandlePhaseLatenciesEnabled());
+		assertEquals("A.csv", subject.handlePhasesDumpPath());
+		assertEquals("SLEEPING", subject.recordStreamHandoffWaitStrategy());
+		assertEquals(34, subject.ingestAccessorCacheMaxSize());
+		assertEquals(35, subject.feeMemoCacheMaxSize());
+		assertTrue(subject.storeIndexesOffHeap());
+		assertEquals(36, subject.sigMetaCacheMaxSize());
+		assertEquals(37, subject.prefetchSlotProfilesMaxSize());
+		assertEquals(38, subject.localCallsThreadPoolSize());
+		assertEquals(39, subject.localCallsQueueCapacity());
+		assertEquals(40L, subject.localCallsMaxGas());
+		assertEquals(41L, subject.localCallsTimeoutMs());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -187,6 +219,23 @@ class NodeLocalPropertiesTest {
 		given(properties.getIntProperty("hedera.prefetch.queueCapacity")).willReturn(i + 27);
 		given(properties.getIntProperty("hedera.prefetch.threadPoolSize")).willReturn(i + 28);
 		given(properties.getIntProperty("hedera.prefetch.codeCacheTtlSecs")).willReturn(i + 29);
+		given(properties.getBooleanProperty("balances.streamingExport.enabled")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("balances.streamingExport.parallelism")).willReturn(i + 30);
+		given(properties.getBooleanProperty("hedera.prefetch.parallelPrepare.enabled")).willReturn(i % 2 == 0);
+		given(properties.getLongProperty("hedera.prefetch.codeCacheMaxBytes")).willReturn(i + 31L);
+		given(properties.getBooleanProperty("stats.handlePhases.enabled")).willReturn(i % 2 == 0);
+		given(properties.getStringProperty("stats.handlePhases.dumpPath")).willReturn(i % 2 == 0 ? "A.csv" : "B.csv");
+		given(properties.getStringProperty("hedera.recordStream.handoffWaitStrategy"))
+				.willReturn(i % 2 == 0 ? "SLEEPING" : "BUSY_SPIN");
+		given(properties.getIntProperty("hedera.ingestAccessorCache.maxSize")).willReturn(i + 32);
+		given(properties.getIntProperty("hedera.feeMemoCache.maxSize")).willReturn(i + 33);
+		given(properties.getBooleanProperty("hedera.storeIndexes.offHeap")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("hedera.sigMetaCache.maxSize")).willReturn(i + 34);
+		given(properties.getIntProperty("hedera.prefetch.slotProfiles.maxSize")).willReturn(i + 35);
+		given(properties.getIntProperty("hedera.localCalls.threadPoolSize")).willReturn(i + 36);
+		given(properties.getIntProperty("hedera.localCalls.queueCapacity")).willReturn(i + 37);
+		given(properties.getLongProperty("hedera.localCalls.maxGas")).willReturn(i + 38L);
+		given(properties.getLongProperty("hedera.localCalls.timeoutMs")).willReturn(i + 39L);
 	}
 
 	static String logDir(int num) {
@@ -30,6 +30,7 @@ import com.hedera.services.store.models.Id;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.Gas;
@@ -57,6 +58,7 @@ import java.util.Set;
 import static com.hedera.test.utils.TxnUtils.assertFailsWith;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CONTRACT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -72,7 +74,9 @@ class CallLocalEvmTxProcessorTest {
 	@Mock
 	private HederaWorldState worldState;
 	@Mock
-	private CodeCache codeCache;
+	private CodeCache workingCodeCache;
+	@Mock
+	private HederaWorldState.WorldStateAccount signedStateReceiver;
 	@Mock
 	private GlobalDynamicProperties globalDynamicProperties;
 	@Mock
@@ -98,16 +102,14 @@ class CallLocalEvmTxProcessorTest {
 		CommonProcessorSetup.setup(gasCalculator);
 
 		callLocalEvmTxProcessor = new CallLocalEvmTxProcessor(
-				codeCache, livePricesSource, globalDynamicProperties, gasCalculator, operations, precompiledContractMap);
-
-		callLocalEvmTxProcessor.setWorldState(worldState);
+				livePricesSource, globalDynamicProperties, gasCalculator, operations, precompiledContractMap);
 	}
 
 	@Test
 	void assertSuccessExecutе() {
 		givenValidMock();
 		var result = callLocalEvmTxProcessor.execute(
-				sender, receiver.getId().asEvmAddress(), 33_333L, 1234L, Bytes.EMPTY, consensusTime);
+				worldState, sender, receiver.getId().asEvmAddress(), 33_333L, 1234L, Bytes.EMPTY, consensusTime);
 		assertTrue(result.isSuccessful());
 		assertEquals(receiver.getId().asGrpcContract(), result.toGrpc().getContractID());
 	}
@@ -137,10 +139,46 @@ class CallLocalEvmTxProcessorTest {
 
 		assertFailsWith(() ->
 						callLocalEvmTxProcessor.execute(
-								sender, receiverAddress, 33_333L, 1234L, Bytes.EMPTY, consensusTime),
+								worldState, sender, receiverAddress, 33_333L, 1234L, Bytes.EMPTY, consensusTime),
 				INVALID_CONTRACT_ID);
 	}
 
+	@Test
+	void runsBytecodeFromCalledStateEvenIfWorkingStateDiffers() {
+		// setup:
+		final var workingCode = new Code(Bytes.of(1, 2, 3), Hash.hash(Bytes.of(1, 2, 3)));
+		final var signedCode = new Code(Bytes.of(4, 5, 6), Hash.hash(Bytes.of(4, 5, 6)));
+		final MessageFrame.Builder commonInitialFrame =
+				MessageFrame.builder()
+						.messageFrameStack(mock(Deque.class))
+						.maxStackSize(MAX_STACK_SIZE)
+						.worldUpdater(mock(WorldUpdater.class))
+						.initialGas(mock(Gas.class))
+						.originator(sender.getId().asEvmAddress())
+						.gasPrice(mock(Wei.class))
+						.sender(sender.getId().asEvmAddress())
+						.value(Wei.ZERO)
+						.apparentValue(Wei.ZERO)
+						.blockValues(mock(BlockValues.class))
+						.depth(0)
+						.completer(__ -> {
+						})
+						.miningBeneficiary(mock(Address.class))
+						.blockHashLookup(h -> null);
+
+		given(workingCodeCache.getIfPresent(receiverAddress)).willReturn(workingCode);
+		given(updater.getHederaAccount(receiverAddress)).willReturn(signedStateReceiver);
+		given(signedStateReceiver.getCodeIfPresent()).willReturn(signedCode);
+
+		// when:
+		final var frame = callLocalEvmTxProcessor.buildInitialFrame(
+				commonInitialFrame, updater, receiverAddress, Bytes.EMPTY);
+
+		// then:
+		assertEquals(signedCode, frame.getCode());
+		assertNotEquals(workingCodeCache.getIfPresent(receiverAddress), frame.getCode());
+	}
+
 	@Test
 	void assertIsContractCallFunctionality() {
 		//expect:
@@ -151,8 +189,9 @@ class CallLocalEvmTxProcessorTest {
 	void assertTransactionSenderAndValue() {
 		// setup:
 		doReturn(Optional.of(receiver.getId().asEvmAddress())).when(transaction).getTo();
-		given(worldState.updater()).willReturn(mock(HederaWorldState.Updater.class));
-		given(codeCache.getIfPresent(any())).willReturn(new Code());
+		given(worldState.updater()).willReturn(updater);
+		given(updater.getHederaAccount(receiverAddress)).willReturn(signedStateReceiver);
+		given(signedStateReceiver.getCodeIfPresent()).willReturn(new Code());
 		given(transaction.getSender()).willReturn(sender.getId().asEvmAddress());
 		given(transaction.getValue()).willReturn(Wei.of(1L));
 		final MessageFrame.Builder commonInitialFrame =
@@ -194,7 +233,8 @@ class CallLocalEvmTxProcessorTest {
 		given(updater.getOrCreateSenderAccount(sender.getId().asEvmAddress()).getMutable()).willReturn(
 				mock(MutableAccount.class));
 		given(worldState.updater()).willReturn(updater);
-		given(codeCache.getIfPresent(any())).willReturn(new Code());
+		given(updater.getHederaAccount(receiverAddress)).willReturn(signedStateReceiver);
+		given(signedStateReceiver.getCodeIfPresent()).willReturn(new Code());
 
 
 		var senderMutableAccount = mock(MutableAccount.class);
@@ -0,0 +1,304 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.NetworkInfo;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.migration.StateVersions;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.QueryHeader;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.ResponseHeader;
+import com.hederahashgraph.builder.RequestBuilder;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.common.Platform;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
+import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CallLocalExecutionPoolTest {
+	private static final int threadPoolSize = 2;
+	private static final int queueCapacity = 3;
+	private static final long timeoutMs = 1_000L;
+
+	private ContractCallLocalQuery op;
+	private ExecutorService realExecutorService;
+
+	@Mock
+	private StateView view;
+	@Mock
+	private EntityIdSource ids;
+	@Mock
+	private OptionValidator validator;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+	@Mock
+	private NodeLocalProperties nodeProperties;
+	@Mock
+	private CallLocalEvmTxProcessor evmTxProcessor;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
+	@Mock
+	private ExecutorService executorService;
+	@Mock
+	private Future<ContractCallLocalResponse> call;
+	@Mock
+	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	@Mock
+	private Platform platform;
+	@Mock
+	private ServicesState signedState;
+	@Mock
+	private TokenStore tokenStore;
+	@Mock
+	private NetworkInfo networkInfo;
+	@Mock
+	private ScheduleStore scheduleStore;
+	@Mock
+	private UniqTokenViewFactory uniqTokenViewFactory;
+
+	private CallLocalExecutionPool subject;
+
+	@BeforeEach
+	void setUp() throws Throwable {
+		op = ContractCallLocalQuery.newBuilder()
+				.setContractID(IdUtils.asContract("0.0.1234"))
+				.setGas(1_000L)
+				.setHeader(QueryHeader.newBuilder()
+						.setPayment(payerSponsoredTransfer("0.0.12345", COMPLEX_KEY_ACCOUNT_KT, "0.0.3", 5L)))
+				.build();
+
+		given(nodeProperties.localCallsThreadPoolSize()).willReturn(threadPoolSize);
+		given(nodeProperties.localCallsQueueCapacity()).willReturn(queueCapacity);
+		given(nodeProperties.localCallsTimeoutMs()).willReturn(timeoutMs);
+
+		subject = new CallLocalExecutionPool(
+				ids, validator, dynamicProperties, nodeProperties, evmTxProcessor, runningAvgs,
+				platform, tokenStore, networkInfo, scheduleStore, uniqTokenViewFactory);
+		realExecutorService = subject.executorService;
+	}
+
+	@AfterEach
+	void tearDown() {
+		realExecutorService.shutdownNow();
+	}
+
+	@Test
+	void sizesPoolFromProperties() {
+		final var pool = (ThreadPoolExecutor) subject.executorService;
+
+		assertEquals(threadPoolSize, pool.getCorePoolSize());
+		assertEquals(threadPoolSize, pool.getMaximumPoolSize());
+		assertEquals(queueCapacity, pool.getQueue().remainingCapacity());
+	}
+
+	@Test
+	void enforcesMinimumPoolSizes() {
+		given(nodeProperties.localCallsThreadPoolSize()).willReturn(0);
+		given(nodeProperties.localCallsQueueCapacity()).willReturn(0);
+
+		final var minimal = new CallLocalExecutionPool(
+				ids, validator, dynamicProperties, nodeProperties, evmTxProcessor, runningAvgs,
+				platform, tokenStore, networkInfo, scheduleStore, uniqTokenViewFactory);
+		final var pool = (ThreadPoolExecutor) minimal.executorService;
+		pool.shutdownNow();
+
+		assertEquals(CallLocalExecutionPool.MINIMUM_THREAD_POOL_SIZE, pool.getCorePoolSize());
+		assertEquals(CallLocalExecutionPool.MINIMUM_QUEUE_CAPACITY, pool.getQueue().remainingCapacity());
+	}
+
+	@Test
+	void executesOnPoolAndRecordsQueueLatency() {
+		final var expected = response(OK);
+		final var spiedSubject = spy(subject);
+		doReturn(expected).when(spiedSubject).executeAgainstSignedState(op);
+
+		final var actual = spiedSubject.execute(op);
+
+		assertSame(expected, actual);
+		verify(runningAvgs).recordLocalCallQueueLatencyMs(anyLong());
+	}
+
+	@Test
+	void executesAgainstReservedSignedStateAndReleasesIt() {
+		final var released = new AtomicBoolean();
+		given(platform.getLastCompleteSwirldState())
+				.willReturn(new AutoCloseableWrapper<>(signedState, () -> released.set(true)));
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+		given(signedState.accounts()).willReturn(accounts);
+
+		final var actual = subject.executeAgainstSignedState(op);
+
+		assertEquals(response(INVALID_ACCOUNT_ID), actual);
+		assertTrue(released.get());
+		verify(signedState).accounts();
+	}
+
+	@Test
+	void releasesSignedStateEvenIfCallFails() {
+		final var released = new AtomicBoolean();
+		given(platform.getLastCompleteSwirldState())
+				.willReturn(new AutoCloseableWrapper<>(signedState, () -> released.set(true)));
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+		final var spiedSubject = spy(subject);
+		doThrow(IllegalStateException.class).when(spiedSubject).executeNow(any(), any());
+
+		assertThrows(IllegalStateException.class, () -> spiedSubject.executeAgainstSignedState(op));
+
+		assertTrue(released.get());
+	}
+
+	@Test
+	void busyWithoutSignedState() {
+		given(platform.getLastCompleteSwirldState()).willReturn(new AutoCloseableWrapper<>(null, () -> {
+		}));
+
+		final var actual = subject.executeAgainstSignedState(op);
+
+		assertEquals(response(BUSY), actual);
+		verifyNoInteractions(evmTxProcessor);
+	}
+
+	@Test
+	void busyIfSignedStateIsFromEarlierVersion() {
+		given(platform.getLastCompleteSwirldState()).willReturn(new AutoCloseableWrapper<>(signedState, () -> {
+		}));
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION - 1);
+
+		final var actual = subject.executeAgainstSignedState(op);
+
+		assertEquals(response(BUSY), actual);
+		verifyNoInteractions(evmTxProcessor);
+	}
+
+	@Test
+	void executesNowAgainstGivenView() {
+		given(view.accounts()).willReturn(accounts);
+
+		final var actual = subject.executeNow(op, view);
+
+		assertEquals(response(INVALID_ACCOUNT_ID), actual);
+		verifyNoInteractions(evmTxProcessor);
+	}
+
+	@Test
+	void busyIfQueueIsFull() {
+		subject.executorService = executorService;
+		given(executorService.submit(any(Callable.class))).willThrow(RejectedExecutionException.class);
+
+		final var actual = subject.execute(op);
+
+		assertEquals(response(BUSY), actual);
+	}
+
+	@Test
+	void busyAndCancelsIfCallTimesOut() throws Exception {
+		givenSubmittedCall();
+		given(call.get(timeoutMs, TimeUnit.MILLISECONDS)).willThrow(TimeoutException.class);
+
+		final var actual = subject.execute(op);
+
+		assertEquals(response(BUSY), actual);
+		verify(call).cancel(true);
+	}
+
+	@Test
+	void busyAndReinterruptsIfInterrupted() throws Exception {
+		givenSubmittedCall();
+		given(call.get(timeoutMs, TimeUnit.MILLISECONDS)).willThrow(InterruptedException.class);
+
+		final var actual = subject.execute(op);
+
+		assertEquals(response(BUSY), actual);
+		verify(call).cancel(true);
+		assertTrue(Thread.interrupted());
+	}
+
+	@Test
+	void propagatesUnexpectedFailure() throws Exception {
+		final var failure = new IllegalArgumentException("Unexpected!");
+		givenSubmittedCall();
+		given(call.get(timeoutMs, TimeUnit.MILLISECONDS)).willThrow(new ExecutionException(failure));
+
+		final var thrown = assertThrows(IllegalStateException.class, () -> subject.execute(op));
+
+		assertSame(failure, thrown.getCause());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenSubmittedCall() {
+		subject.executorService = executorService;
+		given(executorService.submit(any(Callable.class))).willReturn(call);
+	}
+
+	private ContractCallLocalResponse response(final ResponseCodeEnum status) {
+		final ResponseHeader header = RequestBuilder.getResponseHeader(status, 0L, ANSWER_ONLY, ByteString.EMPTY);
+		return ContractCallLocalResponse.newBuilder().setHeader(header).build();
+	}
+}
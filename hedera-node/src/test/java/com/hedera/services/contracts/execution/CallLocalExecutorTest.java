@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.contracts.operation.HederaExceptionalHaltReason;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.HederaMutableWorldState;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.Id;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -54,6 +55,7 @@ import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -70,6 +72,8 @@ class CallLocalExecutorTest {
 	AccountStore accountStore;
 	@Mock
 	CallLocalEvmTxProcessor evmTxProcessor;
+	@Mock
+	HederaMutableWorldState worldState;
 
 	@BeforeEach
 	private void setup() {
@@ -85,11 +89,11 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, query);
+		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, query);
 
 		// then:
 		assertEquals(expected, result);
@@ -104,11 +108,11 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, query);
+		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, query);
 
 		// then:
 		assertEquals(expected, result);
@@ -123,11 +127,11 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, query);
+		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, query);
 
 		// then:
 		assertEquals(expected, result);
@@ -142,11 +146,11 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, query);
+		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, query);
 
 		// then:
 		assertEquals(expected, result);
@@ -158,7 +162,7 @@ class CallLocalExecutorTest {
 		given(accountStore.loadAccount(any())).willThrow(new InvalidTransactionException(INVALID_ACCOUNT_ID));
 
 		// when:
-		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, query);
+		final var result = CallLocalExecutor.execute(accountStore, evmTxProcessor, worldState, query);
 
 		assertEquals(failedResponse(INVALID_ACCOUNT_ID), result);
 		// and:
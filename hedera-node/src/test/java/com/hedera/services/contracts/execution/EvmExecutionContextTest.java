@@ -0,0 +1,82 @@
+package com.hedera.services.contracts.execution;
+
+/*
+ * -
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ *
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static com.hedera.services.contracts.execution.EvmExecutionContext.EXPIRY_CONTEXT_KEY;
+import static com.hedera.services.contracts.execution.EvmExecutionContext.FUNCTIONALITY_CONTEXT_KEY;
+import static com.hedera.services.contracts.execution.EvmExecutionContext.SBH_CONTEXT_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class EvmExecutionContextTest {
+	private final EvmExecutionContext subject = new EvmExecutionContext();
+
+	@Test
+	void reusesSameObjectsForEveryTransaction() {
+		final var stack = subject.messageFrameStack();
+		final var builder = subject.frameBuilder();
+		final var variables = subject.contextVariables(1L, HederaFunctionality.ContractCall, OptionalLong.empty());
+
+		assertSame(stack, subject.messageFrameStack());
+		assertSame(builder, subject.frameBuilder());
+		assertSame(variables, subject.contextVariables(2L, HederaFunctionality.ContractCall, OptionalLong.of(3L)));
+	}
+
+	@Test
+	void contextVariablesHaveLatestValues() {
+		subject.contextVariables(1L, HederaFunctionality.ContractCreate, OptionalLong.of(2L));
+
+		final var variables = subject.contextVariables(
+				3L, HederaFunctionality.ContractCall, OptionalLong.empty());
+
+		assertEquals(3, variables.size());
+		assertEquals(3L, variables.get(SBH_CONTEXT_KEY));
+		assertEquals(HederaFunctionality.ContractCall, variables.get(FUNCTIONALITY_CONTEXT_KEY));
+		assertEquals(OptionalLong.empty(), variables.get(EXPIRY_CONTEXT_KEY));
+	}
+
+	@Test
+	void frameStackIsEmptyForNewTransaction() {
+		subject.messageFrameStack().addFirst(mock(MessageFrame.class));
+
+		assertTrue(subject.messageFrameStack().isEmpty());
+	}
+
+	@Test
+	void releaseEmptiesFrameStack() {
+		final var stack = subject.messageFrameStack();
+		stack.addFirst(mock(MessageFrame.class));
+
+		subject.release();
+
+		assertTrue(stack.isEmpty());
+	}
+}
@@ -23,6 +23,7 @@ package com.hedera.services.fees.calculation;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeMultiplierSource;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.utils.FeeMemoCache;
 import com.hedera.services.fees.calculation.utils.PricedUsageCalculator;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -139,6 +140,7 @@ class UsageBasedFeeCalculatorTest {
 	private SignedTxnAccessor accessor;
 	private AutoRenewCalcs autoRenewCalcs;
 	private PricedUsageCalculator pricedUsageCalculator;
+	private FeeMemoCache feeMemos;
 
 	private final AtomicLong suggestedMultiplier = new AtomicLong(1L);
 
@@ -164,6 +166,7 @@ class UsageBasedFeeCalculatorTest {
 		incorrectQueryEstimator = mock(QueryResourceUsageEstimator.class);
 		autoRenewCalcs = mock(AutoRenewCalcs.class);
 		pricedUsageCalculator = mock(PricedUsageCalculator.class);
+		feeMemos = mock(FeeMemoCache.class);
 
 		txnUsageEstimators = (Map<HederaFunctionality, List<TxnResourceUsageEstimator>>) mock(Map.class);
 
@@ -174,6 +177,7 @@ class UsageBasedFeeCalculatorTest {
 				usagePrices,
 				new NestedMultiplierSource(),
 				pricedUsageCalculator,
+				feeMemos,
 				Set.of(incorrectQueryEstimator, correctQueryEstimator),
 				txnUsageEstimators);
 	}
@@ -299,6 +303,7 @@ class UsageBasedFeeCalculatorTest {
 
 		// expect:
 		verify(usagePrices).loadPriceSchedules();
+		verify(feeMemos).invalidateAll();
 		verify(autoRenewCalcs).setCryptoAutoRenewPriceSeq(seq);
 	}
 
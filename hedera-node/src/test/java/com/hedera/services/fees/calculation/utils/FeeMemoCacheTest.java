@@ -0,0 +1,178 @@
+package com.hedera.services.fees.calculation.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.usage.BaseTransactionMeta;
+import com.hedera.services.usage.SigUsage;
+import com.hedera.services.usage.consensus.SubmitMessageMeta;
+import com.hedera.services.usage.crypto.CryptoTransferMeta;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.SubType;
+import com.hederahashgraph.fee.FeeObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeeMemoCacheTest {
+	private static final int maxSize = 10;
+	private static final int tokenMultiplier = 380;
+	private static final long multiplier = 1L;
+	private static final SigUsage sigUsage = new SigUsage(1, 100, 1);
+	private static final BaseTransactionMeta baseMeta = new BaseTransactionMeta(10, 2);
+	private static final ExchangeRate rate = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(12).build();
+	private static final ExchangeRate otherRate = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(13).build();
+	private static final FeeData prices = FeeData.newBuilder()
+			.setNodedata(FeeComponents.newBuilder().setBpt(1L))
+			.build();
+
+	@Mock
+	private TxnAccessor accessor;
+	@Mock
+	private MiscSpeedometers speedometers;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+
+	private final AtomicInteger computations = new AtomicInteger();
+
+	private FeeMemoCache subject;
+
+	@BeforeEach
+	void setUp() {
+		given(nodeLocalProperties.feeMemoCacheMaxSize()).willReturn(maxSize);
+
+		subject = new FeeMemoCache(speedometers, dynamicProperties, nodeLocalProperties);
+	}
+
+	@Test
+	void onlyMemoizesTransfersAndSubmits() {
+		assertTrue(subject.isMemoizable(CryptoTransfer));
+		assertTrue(subject.isMemoizable(ConsensusSubmitMessage));
+		assertFalse(subject.isMemoizable(TokenMint));
+	}
+
+	@Test
+	void memoizesNothingIfDisabled() {
+		given(nodeLocalProperties.feeMemoCacheMaxSize()).willReturn(0);
+
+		subject = new FeeMemoCache(speedometers, dynamicProperties, nodeLocalProperties);
+
+		assertFalse(subject.isMemoizable(CryptoTransfer));
+		assertEquals(0, subject.size());
+		subject.invalidateAll();
+	}
+
+	@Test
+	void reusesFeesForSameTransferShape() {
+		givenTransfer(new CryptoTransferMeta(1, 2, 3, 0));
+
+		final var first = subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+		final var second = subject.feesFor(
+				accessor, new SigUsage(1, 100, 1), prices, rate, multiplier, this::computeFees);
+
+		assertSame(first, second);
+		assertEquals(1, computations.get());
+		assertEquals(1, subject.size());
+		verify(speedometers).cycleFeeMemoMisses();
+		verify(speedometers).cycleFeeMemoHits();
+	}
+
+	@Test
+	void recomputesForDifferentShapesOrPricing() {
+		final var xferMeta = new CryptoTransferMeta(1, 2, 3, 0);
+		givenTransfer(xferMeta);
+
+		subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+		subject.feesFor(accessor, new SigUsage(2, 200, 1), prices, rate, multiplier, this::computeFees);
+		subject.feesFor(accessor, sigUsage, FeeData.getDefaultInstance(), rate, multiplier, this::computeFees);
+		subject.feesFor(accessor, sigUsage, prices, otherRate, multiplier, this::computeFees);
+		subject.feesFor(accessor, sigUsage, prices, rate, multiplier + 1, this::computeFees);
+		xferMeta.setCustomFeeHbarTransfers(1);
+		subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+
+		assertEquals(6, computations.get());
+		verify(speedometers, times(6)).cycleFeeMemoMisses();
+	}
+
+	@Test
+	void keysTransfersOnCurrentTokenMultiplier() {
+		givenTransfer(new CryptoTransferMeta(1, 2, 3, 0));
+
+		subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+		given(dynamicProperties.feesTokenTransferUsageMultiplier()).willReturn(tokenMultiplier + 1);
+		subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+
+		assertEquals(2, computations.get());
+	}
+
+	@Test
+	void reusesFeesForSameSubmitShapeUntilInvalidated() {
+		given(accessor.getFunction()).willReturn(ConsensusSubmitMessage);
+		given(accessor.getSubType()).willReturn(SubType.DEFAULT);
+		given(accessor.baseUsageMeta()).willReturn(baseMeta);
+		given(accessor.availSubmitUsageMeta()).willReturn(new SubmitMessageMeta(1024));
+
+		final var first = subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+		final var second = subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+		subject.invalidateAll();
+		final var third = subject.feesFor(accessor, sigUsage, prices, rate, multiplier, this::computeFees);
+
+		assertSame(first, second);
+		assertEquals(first.toString(), third.toString());
+		assertEquals(2, computations.get());
+	}
+
+	private void givenTransfer(final CryptoTransferMeta xferMeta) {
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
+		given(accessor.getSubType()).willReturn(SubType.DEFAULT);
+		given(accessor.baseUsageMeta()).willReturn(baseMeta);
+		given(accessor.availXferUsageMeta()).willReturn(xferMeta);
+		given(dynamicProperties.feesTokenTransferUsageMultiplier()).willReturn(tokenMultiplier);
+	}
+
+	private FeeObject computeFees() {
+		computations.incrementAndGet();
+		return new FeeObject(1L, 2L, 3L);
+	}
+}
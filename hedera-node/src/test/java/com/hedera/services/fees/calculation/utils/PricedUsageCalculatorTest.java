@@ -40,13 +40,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.Supplier;
+
 import static com.hedera.services.keys.HederaKeyTraversal.numSimpleKeys;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,12 +77,14 @@ class PricedUsageCalculatorTest {
 	private FeeMultiplierSource feeMultiplierSource;
 	@Mock
 	private OverflowCheckingCalc calculator;
+	@Mock
+	private FeeMemoCache feeMemos;
 
 	private PricedUsageCalculator subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new PricedUsageCalculator(accessorBasedUsages, feeMultiplierSource, calculator);
+		subject = new PricedUsageCalculator(accessorBasedUsages, feeMultiplierSource, calculator, feeMemos);
 	}
 
 	@Test
@@ -135,4 +141,45 @@ class PricedUsageCalculatorTest {
 		assertSame(feesCaptor.getValue(), assessCaptor.getValue());
 		assertNotSame(inHandleAccum, feesCaptor.getValue());
 	}
+
+	@Test
+	void usesMemoizedFeesIfAvailable() {
+		final var memoFees = new FeeObject(4L, 5L, 6L);
+		final var su = new SigUsage(numSigPairs, sigMapSize, numSimpleKeys(payerKey));
+
+		given(accessor.getFunction()).willReturn(HederaFunctionality.CryptoTransfer);
+		given(accessor.sigMapSize()).willReturn(sigMapSize);
+		given(accessor.numSigPairs()).willReturn(numSigPairs);
+		given(feeMultiplierSource.currentMultiplier()).willReturn(multiplier);
+		given(feeMemos.isMemoizable(HederaFunctionality.CryptoTransfer)).willReturn(true);
+		given(feeMemos.feesFor(eq(accessor), eq(su), eq(mockPrices), eq(mockRate), eq(multiplier), any()))
+				.willReturn(memoFees);
+
+		final var actual = subject.inHandleFees(accessor, mockPrices, mockRate, payerKey);
+
+		assertSame(memoFees, actual);
+		verify(accessorBasedUsages, never()).assess(any(), any(), any());
+	}
+
+	@Test
+	void assessesFeesOnMemoMiss() {
+		final ArgumentCaptor<Supplier<FeeObject>> feesCaptor = ArgumentCaptor.forClass(Supplier.class);
+		final var inHandleAccum = subject.getHandleScopedAccumulator();
+		final var su = new SigUsage(numSigPairs, sigMapSize, numSimpleKeys(payerKey));
+
+		given(accessor.getFunction()).willReturn(HederaFunctionality.ConsensusSubmitMessage);
+		given(accessor.sigMapSize()).willReturn(sigMapSize);
+		given(accessor.numSigPairs()).willReturn(numSigPairs);
+		given(feeMultiplierSource.currentMultiplier()).willReturn(multiplier);
+		given(feeMemos.isMemoizable(HederaFunctionality.ConsensusSubmitMessage)).willReturn(true);
+		given(feeMemos.feesFor(eq(accessor), eq(su), eq(mockPrices), eq(mockRate), eq(multiplier), feesCaptor.capture()))
+				.willReturn(mockFees);
+		given(calculator.fees(inHandleAccum, mockPrices, mockRate, multiplier)).willReturn(mockFees);
+
+		subject.inHandleFees(accessor, mockPrices, mockRate, payerKey);
+		final var missFees = feesCaptor.getValue().get();
+
+		assertSame(mockFees, missFees);
+		verify(accessorBasedUsages).assess(su, accessor, inHandleAccum);
+	}
 }
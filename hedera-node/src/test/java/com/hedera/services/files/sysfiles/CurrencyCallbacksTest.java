@@ -22,6 +22,7 @@ package com.hedera.services.files.sysfiles;
 
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.utils.FeeMemoCache;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,8 @@ class CurrencyCallbacksTest {
 	@Mock
 	FeeCalculator fees;
 	@Mock
+	FeeMemoCache feeMemos;
+	@Mock
 	HbarCentExchange exchange;
 	@Mock
 	Supplier<ExchangeRates> midnightRates;
@@ -52,7 +55,7 @@ class CurrencyCallbacksTest {
 
 	@BeforeEach
 	void setUp() {
-		subject = new CurrencyCallbacks(fees, exchange, midnightRates);
+		subject = new CurrencyCallbacks(fees, feeMemos, exchange, midnightRates);
 	}
 
 	@Test
@@ -74,6 +77,7 @@ class CurrencyCallbacksTest {
 
 		// then:
 		verify(exchange).updateRates(grpcRates);
+		verify(feeMemos).invalidateAll();
 		assertNotEquals(curMidnightRates, rates);
 	}
 
@@ -94,6 +98,7 @@ class CurrencyCallbacksTest {
 
 		// then:
 		verify(exchange).updateRates(grpcRates);
+		verify(feeMemos).invalidateAll();
 		assertEquals(curMidnightRates, rates);
 	}
 
@@ -0,0 +1,228 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.legacy.core.jproto.JECDSASecp256k1Key;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivationProgramTest {
+	private static final byte[] data = "DATA".getBytes();
+
+	@Test
+	void flattensInDfsOrder() {
+		final var first = ed25519Key(1);
+		final var second = ed25519Key(2);
+		final var third = ed25519Key(3);
+		final var key = new JKeyList(List.of(
+				first,
+				new JThresholdKey(new JKeyList(List.of(second, third)), 1)));
+		final List<JKey> seen = new ArrayList<>();
+
+		final var subject = ActivationProgram.compile(key);
+		final var active = subject.isActive(
+				pk -> INVALID_MISSING_SIG,
+				(simpleKey, sig) -> seen.add(simpleKey),
+				DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+		assertTrue(active);
+		assertEquals(5, subject.size());
+		assertEquals(List.of(first, second, third), seen);
+	}
+
+	@Test
+	void memoizesProgramOnKey() {
+		final var key = new JKeyList(List.of(ed25519Key(1), ed25519Key(2)));
+
+		final var program = ActivationProgram.programFor(key);
+
+		assertSame(program, key.getActivationProgram());
+		assertSame(program, ActivationProgram.programFor(key));
+	}
+
+	@Test
+	void testsKeysWithoutCryptoSigsUsingMissingSig() {
+		final var contractKey = new JContractIDKey(0, 0, 1234);
+		final var key = new JKeyList(List.of(contractKey));
+		final List<TransactionSignature> seen = new ArrayList<>();
+
+		final var active = ActivationProgram.compile(key).isActive(
+				pk -> {
+					throw new AssertionError("No public key to look up");
+				},
+				(simpleKey, sig) -> seen.add(sig),
+				DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+		assertTrue(active);
+		assertEquals(List.of(INVALID_MISSING_SIG), seen);
+	}
+
+	@Test
+	void looksUpSecp256k1KeysByTheirBytes() {
+		final var secp256k1Key = new JECDSASecp256k1Key(new byte[33]);
+		final var key = new JThresholdKey(new JKeyList(List.of(secp256k1Key, ed25519Key(1))), 1);
+		final var validSig = validSigFor(ed25519Key(2).getEd25519());
+		final List<byte[]> lookedUp = new ArrayList<>();
+
+		final var active = ActivationProgram.compile(key).isActive(
+				pk -> {
+					lookedUp.add(pk);
+					return pk == secp256k1Key.getECDSASecp256k1Key() ? validSig : INVALID_MISSING_SIG;
+				},
+				ONLY_IF_SIG_IS_VALID,
+				DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+		assertTrue(active);
+		assertSame(secp256k1Key.getECDSASecp256k1Key(), lookedUp.get(0));
+	}
+
+	@Test
+	void usesGivenCharacteristicsOnlyForTopLevelKey() {
+		final var nested = new JKeyList(List.of(ed25519Key(1), ed25519Key(2)));
+		final var key = new JKeyList(List.of(nested, ed25519Key(3)));
+		final var onlyOneNeededForLists = new KeyActivationCharacteristics() {
+			@Override
+			public int sigsNeededForList(final JKeyList l) {
+				return 1;
+			}
+
+			@Override
+			public int sigsNeededForThreshold(final JThresholdKey t) {
+				return t.getThreshold();
+			}
+		};
+		final var sigsFn = sigsFnFor(List.of(validSigFor(ed25519Key(1).getEd25519())));
+
+		final var subject = ActivationProgram.compile(key);
+
+		assertFalse(subject.isActive(sigsFn, ONLY_IF_SIG_IS_VALID, onlyOneNeededForLists));
+		assertFalse(subject.isActive(sigsFn, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS));
+
+		final var withTopLevelSig = sigsFnFor(List.of(validSigFor(ed25519Key(3).getEd25519())));
+		assertTrue(subject.isActive(withTopLevelSig, ONLY_IF_SIG_IS_VALID, onlyOneNeededForLists));
+		assertFalse(subject.isActive(withTopLevelSig, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS));
+	}
+
+	@Test
+	void emptyListsAndUnreachableThresholdsMatchRecursiveDefinition() {
+		final var emptyList = new JKeyList(new ArrayList<>());
+		final var unreachable = new JThresholdKey(new JKeyList(List.of(ed25519Key(1))), 2);
+		final var sigsFn = sigsFnFor(List.of(validSigFor(ed25519Key(1).getEd25519())));
+
+		assertTrue(ActivationProgram.compile(emptyList)
+				.isActive(sigsFn, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS));
+		assertFalse(ActivationProgram.compile(unreachable)
+				.isActive(sigsFn, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS));
+	}
+
+	@Test
+	void agreesWithRecursiveDefinitionOnRandomKeys() {
+		final var random = new SplittableRandom(1_234_567L);
+		for (int i = 0; i < 500; i++) {
+			final var nextNum = new int[] { 0 };
+			final var key = randomKey(random, 0, nextNum);
+			final List<TransactionSignature> sigs = new ArrayList<>();
+			for (int num = 0; num < nextNum[0]; num++) {
+				if (random.nextBoolean()) {
+					sigs.add(validSigFor(ed25519Key(num).getEd25519()));
+				}
+			}
+			final var sigsFn = sigsFnFor(sigs);
+
+			final var expected = recursivelyActive(key, sigsFn, ONLY_IF_SIG_IS_VALID);
+			final var actual = ActivationProgram.compile(key)
+					.isActive(sigsFn, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+			assertEquals(expected, actual, "Disagreement on " + key);
+		}
+	}
+
+	private static JKey randomKey(final SplittableRandom random, final int depth, final int[] nextNum) {
+		if (depth == 4 || random.nextInt(3) == 0) {
+			return ed25519Key(nextNum[0]++);
+		}
+		final var n = 1 + random.nextInt(6);
+		final List<JKey> children = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			children.add(randomKey(random, depth + 1, nextNum));
+		}
+		return random.nextBoolean()
+				? new JKeyList(children)
+				: new JThresholdKey(new JKeyList(children), 1 + random.nextInt(n));
+	}
+
+	private static boolean recursivelyActive(
+			final JKey key,
+			final Function<byte[], TransactionSignature> sigsFn,
+			final BiPredicate<JKey, TransactionSignature> validity
+	) {
+		if (key.hasKeyList() || key.hasThresholdKey()) {
+			final var children = key.hasKeyList()
+					? key.getKeyList().getKeysList()
+					: key.getThresholdKey().getKeys().getKeysList();
+			final var m = key.hasKeyList() ? children.size() : key.getThresholdKey().getThreshold();
+			var n = 0;
+			for (var child : children) {
+				if (recursivelyActive(child, sigsFn, validity)) {
+					n++;
+				}
+			}
+			return n >= m;
+		} else {
+			return validity.test(key, sigsFn.apply(key.getEd25519()));
+		}
+	}
+
+	private static Function<byte[], TransactionSignature> sigsFnFor(final List<TransactionSignature> sigs) {
+		return HederaKeyActivation.pkToSigMapFrom(sigs);
+	}
+
+	private static TransactionSignature validSigFor(final byte[] pk) {
+		final var sig = ed25519Sig(pk, "SIG".getBytes(), data);
+		sig.setSignatureStatus(VALID);
+		return sig;
+	}
+
+	private static JEd25519Key ed25519Key(final int num) {
+		return new JEd25519Key(String.format("%032d", num).getBytes());
+	}
+}
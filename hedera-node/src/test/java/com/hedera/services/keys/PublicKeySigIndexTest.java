@@ -0,0 +1,108 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.factories.keys.KeyFactory;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PublicKeySigIndexTest {
+	private static final byte[] data = "DATA".getBytes();
+
+	@Test
+	void findsEverySigInLongList() {
+		final List<TransactionSignature> sigs = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			sigs.add(ed25519SigFor(i));
+		}
+
+		final var subject = new PublicKeySigIndex(sigs);
+
+		for (int i = 0; i < 100; i++) {
+			assertSame(sigs.get(i), subject.apply(ed25519PkFor(i)));
+		}
+		assertSame(INVALID_MISSING_SIG, subject.apply(ed25519PkFor(100)));
+	}
+
+	@Test
+	void returnsFirstMatchingSigLikeLinearScan() {
+		final var first = ed25519SigFor(1);
+		final var duplicate = ed25519SigFor(1);
+
+		final var subject = new PublicKeySigIndex(List.of(ed25519SigFor(0), first, duplicate));
+
+		assertSame(first, subject.apply(ed25519PkFor(1)));
+	}
+
+	@Test
+	void matchesCompressedSecp256k1KeysWithSameParity() {
+		final var kp = KeyFactory.ecdsaKpGenerator.generateKeyPair();
+		final var q = ((ECPublicKeyParameters) kp.getPublic()).getQ();
+		final var uncompressed = Arrays.copyOfRange(q.getEncoded(false), 1, 65);
+		final var compressed = q.getEncoded(true);
+		final var otherParity = Arrays.copyOf(compressed, compressed.length);
+		otherParity[0] = compressed[0] == (byte) 0x02 ? (byte) 0x03 : (byte) 0x02;
+		final var secp256k1Sig = ecdsaSecp256k1Sig(uncompressed, "SIG".getBytes(), data);
+
+		final var subject = new PublicKeySigIndex(List.of(ed25519SigFor(0), secp256k1Sig, ed25519SigFor(1)));
+
+		assertSame(secp256k1Sig, subject.apply(compressed));
+		assertSame(INVALID_MISSING_SIG, subject.apply(otherParity));
+	}
+
+	@Test
+	void neverMatchesKeysOfOtherLengths() {
+		final var subject = new PublicKeySigIndex(List.of(ed25519SigFor(0)));
+
+		assertSame(INVALID_MISSING_SIG, subject.apply(Arrays.copyOf(ed25519PkFor(0), 31)));
+		assertSame(INVALID_MISSING_SIG, subject.apply(new byte[33]));
+	}
+
+	@Test
+	void onlyIndexesLongerLists() {
+		final List<TransactionSignature> sigs = new ArrayList<>();
+		for (int i = 0; i <= HederaKeyActivation.MAX_LINEARLY_SCANNED_SIGS; i++) {
+			sigs.add(ed25519SigFor(i));
+		}
+
+		assertInstanceOf(PublicKeySigIndex.class, pkToSigMapFrom(sigs));
+	}
+
+	private static TransactionSignature ed25519SigFor(final int i) {
+		return ed25519Sig(ed25519PkFor(i), "SIG".getBytes(), data);
+	}
+
+	private static byte[] ed25519PkFor(final int i) {
+		return String.format("%032d", i).getBytes();
+	}
+}
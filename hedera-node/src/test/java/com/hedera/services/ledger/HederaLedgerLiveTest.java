@@ -22,6 +22,7 @@ package com.hedera.services.ledger;
 
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.SideEffectsTracker;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.exceptions.InconsistentAdjustmentsException;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.ledger.backing.BackingTokenRels;
@@ -39,6 +40,7 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.contracts.MutableEntityAccess;
 import com.hedera.services.store.tokens.HederaTokenStore;
+import com.hedera.services.store.tokens.views.NftRelation;
 import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hedera.services.txns.crypto.AutoCreationLogic;
 import com.hedera.services.utils.EntityNum;
@@ -47,7 +49,6 @@ import com.hedera.test.mocks.TestContextValidator;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenCreateTransactionBody;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,8 @@ class HederaLedgerLiveTest extends BaseHederaLedgerTestHelper {
 
 	@Mock
 	private AutoCreationLogic autoCreationLogic;
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
 
 	@BeforeEach
 	void setup() {
@@ -79,9 +82,9 @@ class HederaLedgerLiveTest extends BaseHederaLedgerTestHelper {
 				new HashMapBackingAccounts(),
 				new ChangeSummaryManager<>());
 		final MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
-		final FCOneToManyRelation<EntityNum, Long> uniqueTokenOwnerships = new FCOneToManyRelation<>();
-		final FCOneToManyRelation<EntityNum, Long> uniqueTokenAccountOwnerships = new FCOneToManyRelation<>();
-		final FCOneToManyRelation<EntityNum, Long> uniqueTokenTreasuryOwnerships = new FCOneToManyRelation<>();
+		final NftRelation uniqueTokenOwnerships = mock(NftRelation.class);
+		final NftRelation uniqueTokenAccountOwnerships = mock(NftRelation.class);
+		final NftRelation uniqueTokenTreasuryOwnerships = mock(NftRelation.class);
 		final var sideEffectsTracker = new SideEffectsTracker();
 
 		nftsLedger = new TransactionalLedger<>(
@@ -98,14 +101,14 @@ class HederaLedgerLiveTest extends BaseHederaLedgerTestHelper {
 		final var viewManager = new UniqueTokenViewsManager(
 				() -> uniqueTokenOwnerships,
 				() -> uniqueTokenAccountOwnerships,
-				() -> uniqueTokenTreasuryOwnerships,
-				false, true);
+				() -> uniqueTokenTreasuryOwnerships);
 		tokenStore = new HederaTokenStore(
 				ids,
 				TestContextValidator.TEST_VALIDATOR,
 				sideEffectsTracker,
 				viewManager,
 				new MockGlobalDynamicProps(),
+				nodeLocalProperties,
 				tokenRelsLedger,
 				nftsLedger,
 				new HashMapBackingTokens());
@@ -22,6 +22,7 @@ package com.hedera.services.ledger;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.ledger.backing.BackingStore;
 import com.hedera.services.ledger.backing.BackingTokenRels;
@@ -52,6 +53,7 @@ import com.hedera.services.store.contracts.precompile.SyntheticTxnFactory;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.store.tokens.HederaTokenStore;
+import com.hedera.services.store.tokens.views.NftRelation;
 import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hedera.services.txns.crypto.AutoCreationLogic;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -70,7 +72,6 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransferList;
 import com.swirlds.common.constructable.ConstructableRegistryException;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,6 +102,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class LedgerBalanceChangesTest {
@@ -110,10 +112,9 @@ class LedgerBalanceChangesTest {
 			new HashMapBackingTokenRels();
 	private BackingStore<TokenID, MerkleToken> backingTokens = new HashMapBackingTokens();
 	private HederaTokenStore tokenStore;
-	private final FCOneToManyRelation<EntityNum, Long> uniqueTokenOwnerships = new FCOneToManyRelation<>();
-	private final FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations = new FCOneToManyRelation<>();
-	private final FCOneToManyRelation<EntityNum, Long> uniqueOwnershipTreasuryAssociations =
-			new FCOneToManyRelation<>();
+	private final NftRelation uniqueTokenOwnerships = mock(NftRelation.class);
+	private final NftRelation uniqueOwnershipAssociations = mock(NftRelation.class);
+	private final NftRelation uniqueOwnershipTreasuryAssociations = mock(NftRelation.class);
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	private TransactionalLedger<
 			Pair<AccountID, TokenID>,
@@ -131,6 +132,8 @@ class LedgerBalanceChangesTest {
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
 	private AccountRecordsHistorian historian;
 	@Mock
 	private UniqueTokenViewsManager tokenViewsManager;
@@ -169,14 +172,14 @@ class LedgerBalanceChangesTest {
 		final var viewManager = new UniqueTokenViewsManager(
 				() -> uniqueTokenOwnerships,
 				() -> uniqueOwnershipAssociations,
-				() -> uniqueOwnershipTreasuryAssociations,
-				false, true);
+				() -> uniqueOwnershipTreasuryAssociations);
 		tokenStore = new HederaTokenStore(
 				ids,
 				validator,
 				sideEffectsTracker,
 				viewManager,
 				dynamicProperties,
+				nodeLocalProperties,
 				tokenRelsLedger,
 				nftsLedger,
 				backingTokens);
@@ -274,14 +277,14 @@ class LedgerBalanceChangesTest {
 		final var viewManager = new UniqueTokenViewsManager(
 				() -> uniqueOwnershipAssociations,
 				() -> uniqueOwnershipTreasuryAssociations,
-				() -> uniqueOwnershipTreasuryAssociations,
-				false, true);
+				() -> uniqueOwnershipTreasuryAssociations);
 		tokenStore = new HederaTokenStore(
 				ids,
 				validator,
 				sideEffectsTracker,
 				viewManager,
 				dynamicProperties,
+				nodeLocalProperties,
 				tokenRelsLedger,
 				nftsLedger,
 				backingTokens);
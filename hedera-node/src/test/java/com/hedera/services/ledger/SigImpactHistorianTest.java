@@ -23,6 +23,7 @@ package com.hedera.services.ledger;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.sigs.metadata.SigMetadataCache;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -35,11 +36,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 class SigImpactHistorianTest {
 	private static final GlobalDynamicProperties dynamicProperties = new MockGlobalDynamicProps();
 
-	final SigImpactHistorian subject = new SigImpactHistorian(dynamicProperties);
+	private final SigMetadataCache sigMetadataCache = mock(SigMetadataCache.class);
+
+	final SigImpactHistorian subject = new SigImpactHistorian(dynamicProperties, sigMetadataCache);
+
+	@Test
+	void reportsChangesToSigMetadataCache() {
+		subject.setChangeTime(firstNow);
+		subject.markEntityChanged(aNum);
+		subject.invalidateCurrentWindow();
+
+		verify(sigMetadataCache).onNewChangeTime(firstNow);
+		verify(sigMetadataCache).markChanged(aNum, firstNow);
+		verify(sigMetadataCache).reset();
+	}
 
 	@Test
 	void allStatusesBeginUnknown() {
@@ -28,9 +28,15 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AliasManagerTest {
@@ -102,4 +108,52 @@ class AliasManagerTest {
 		subject.forgetAliasIfPresent(withNum, liveAccounts);
 		assertEquals(0, subject.getAliases().size());
 	}
+
+	@Test
+	void rebuildPublishesFreshMapInsteadOfClearingOld() {
+		final var account = new MerkleAccount();
+		account.setAlias(alias);
+		final MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
+		liveAccounts.put(num, account);
+
+		final var subject = new AliasManager();
+		final var staleAlias = ByteString.copyFromUtf8("zyxwvut");
+		subject.link(staleAlias, EntityNum.fromLong(2L));
+		final var readersView = subject.getAliases();
+
+		subject.rebuildAliasesMap(liveAccounts);
+
+		assertNotSame(readersView, subject.getAliases());
+		assertInstanceOf(ConcurrentHashMap.class, subject.getAliases());
+		assertEquals(Map.of(staleAlias, EntityNum.fromLong(2L)), readersView);
+		assertEquals(Map.of(alias, num), subject.getAliases());
+	}
+
+	@Test
+	void linksAreVisibleToConcurrentReaders() throws InterruptedException {
+		final var subject = new AliasManager();
+		final var n = 10_000;
+		final var sawInconsistency = new AtomicBoolean(false);
+		final var readers = Executors.newFixedThreadPool(4);
+		for (int r = 0; r < 4; r++) {
+			readers.execute(() -> {
+				for (int i = 0; i < n; i++) {
+					final var someAlias = ByteString.copyFromUtf8("alias" + i);
+					final var resolved = subject.lookupIdBy(someAlias);
+					if (subject.contains(someAlias) && resolved.longValue() != 0 && resolved.longValue() != i + 1L) {
+						sawInconsistency.set(true);
+					}
+				}
+			});
+		}
+
+		for (int i = 0; i < n; i++) {
+			subject.link(ByteString.copyFromUtf8("alias" + i), EntityNum.fromLong(i + 1L));
+		}
+		readers.shutdown();
+
+		assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+		assertFalse(sawInconsistency.get());
+		assertEquals(n, subject.getAliases().size());
+	}
 }
@@ -0,0 +1,216 @@
+package com.hedera.services.queries.answering;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.NetworkInfo;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.StateAccessor;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleNetworkContext;
+import com.hedera.services.state.migration.StateVersions;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.store.tokens.views.UniqTokenViewFactory;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.Response;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.common.Platform;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class QueryViewsManagerTest {
+	private static final long maxStalenessMs = 5_000L;
+	private static final Instant workingLastHandled = Instant.ofEpochSecond(1_234_567L, 890);
+	private static final Response response = Response.getDefaultInstance();
+
+	@Mock
+	private Platform platform;
+	@Mock
+	private TokenStore tokenStore;
+	@Mock
+	private NetworkInfo networkInfo;
+	@Mock
+	private StateAccessor workingState;
+	@Mock
+	private ScheduleStore scheduleStore;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
+	@Mock
+	private MiscSpeedometers speedometers;
+	@Mock
+	private StateView workingView;
+	@Mock
+	private UniqTokenViewFactory uniqTokenViewFactory;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+	@Mock
+	private ServicesState signedState;
+	@Mock
+	private MerkleNetworkContext workingNetworkCtx;
+
+	private final AtomicReference<StateView> usedView = new AtomicReference<>();
+
+	private QueryViewsManager subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new QueryViewsManager(
+				platform,
+				tokenStore,
+				networkInfo,
+				scheduleStore,
+				runningAvgs,
+				speedometers,
+				() -> workingView,
+				uniqTokenViewFactory,
+				dynamicProperties,
+				workingState);
+	}
+
+	@Test
+	void usesWorkingViewIfPropertiesInsist() {
+		assertSame(response, subject.answerFrom(this::answer));
+
+		assertSame(workingView, usedView.get());
+		verifyNoInteractions(platform, speedometers);
+	}
+
+	@Test
+	void fallsBackToWorkingViewIfNoSignedState() {
+		given(dynamicProperties.answerQueriesFromLastSignedState()).willReturn(true);
+		givenSignedState(null);
+
+		assertSame(response, subject.answerFrom(this::answer));
+
+		assertSame(workingView, usedView.get());
+		verify(speedometers).cycleWorkingStateQueryFallbacks();
+	}
+
+	@Test
+	void fallsBackToWorkingViewIfLastHandleTimeIsNull() {
+		given(dynamicProperties.answerQueriesFromLastSignedState()).willReturn(true);
+		givenSignedState(signedState);
+
+		subject.answerFrom(this::answer);
+
+		assertSame(workingView, usedView.get());
+		verify(speedometers).cycleWorkingStateQueryFallbacks();
+	}
+
+	@Test
+	void fallsBackToWorkingViewIfStateVersionIsDifferent() {
+		given(dynamicProperties.answerQueriesFromLastSignedState()).willReturn(true);
+		givenSignedState(signedState);
+		given(signedState.getTimeOfLastHandledTxn()).willReturn(workingLastHandled);
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION - 1);
+
+		subject.answerFrom(this::answer);
+
+		assertSame(workingView, usedView.get());
+		verify(speedometers).cycleWorkingStateQueryFallbacks();
+	}
+
+	@Test
+	void fallsBackToWorkingViewIfSignedStateTooStale() {
+		givenSignedState(signedState);
+		givenUsableSignedStateLagging(maxStalenessMs + 1);
+
+		subject.answerFrom(this::answer);
+
+		assertSame(workingView, usedView.get());
+		verify(runningAvgs).recordSignedStateQueryStalenessMs(maxStalenessMs + 1);
+		verify(speedometers).cycleWorkingStateQueryFallbacks();
+	}
+
+	@Test
+	void answersFromSignedStateIfFreshEnough() {
+		final var released = new AtomicBoolean();
+		final var signedAccounts = new MerkleMap<EntityNum, MerkleAccount>();
+		givenUsableSignedStateLagging(maxStalenessMs);
+		given(platform.getLastCompleteSwirldState())
+				.willReturn(new AutoCloseableWrapper<>(signedState, () -> released.set(true)));
+		given(signedState.accounts()).willReturn(signedAccounts);
+
+		assertSame(response, subject.answerFrom(view -> {
+			assertSame(signedAccounts, view.accounts());
+			return answer(view);
+		}));
+
+		assertNotSame(workingView, usedView.get());
+		assertTrue(released.get());
+		verify(runningAvgs).recordSignedStateQueryStalenessMs(maxStalenessMs);
+		verify(speedometers).cycleSignedStateQueryAnswers();
+	}
+
+	@Test
+	void treatsSignedStateAsCurrentIfWorkingStateHasNoHandledTxns() {
+		given(dynamicProperties.answerQueriesFromLastSignedState()).willReturn(true);
+		givenSignedState(signedState);
+		given(signedState.getTimeOfLastHandledTxn()).willReturn(workingLastHandled);
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+		given(workingState.networkCtx()).willReturn(workingNetworkCtx);
+
+		subject.answerFrom(this::answer);
+
+		assertNotSame(workingView, usedView.get());
+		verify(runningAvgs).recordSignedStateQueryStalenessMs(0L);
+		verify(speedometers).cycleSignedStateQueryAnswers();
+	}
+
+	private void givenUsableSignedStateLagging(final long stalenessMs) {
+		given(dynamicProperties.answerQueriesFromLastSignedState()).willReturn(true);
+		given(dynamicProperties.maxQuerySignedStateStalenessMs()).willReturn(maxStalenessMs);
+		given(signedState.getTimeOfLastHandledTxn()).willReturn(workingLastHandled.minusMillis(stalenessMs));
+		given(signedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+		given(workingState.networkCtx()).willReturn(workingNetworkCtx);
+		given(workingNetworkCtx.consensusTimeOfLastHandledTxn()).willReturn(workingLastHandled);
+	}
+
+	private void givenSignedState(final ServicesState state) {
+		given(platform.getLastCompleteSwirldState()).willReturn(new AutoCloseableWrapper<>(state, () -> {
+		}));
+	}
+
+	private Response answer(final StateView view) {
+		usedView.set(view);
+		return response;
+	}
+}
@@ -120,7 +120,7 @@ class StakedAnswerFlowTest {
 		subject = new StakedAnswerFlow(
 				fees,
 				accountNumbers,
-				() -> stateView,
+				answerer -> answerer.apply(stateView),
 				resourceCosts,
 				throttles,
 				submissionManager,
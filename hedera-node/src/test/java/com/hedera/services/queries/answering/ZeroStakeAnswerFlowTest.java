@@ -64,7 +64,7 @@ class ZeroStakeAnswerFlowTest {
 
 	@BeforeEach
 	private void setup() {
-		subject = new ZeroStakeAnswerFlow(queryHeaderValidity, () -> view, throttles);
+		subject = new ZeroStakeAnswerFlow(queryHeaderValidity, answerer -> answerer.apply(view), throttles);
 	}
 
 	@Test
@@ -24,13 +24,8 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
-import com.hedera.services.contracts.execution.TransactionProcessingResult;
-import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.contracts.execution.CallLocalExecutionPool;
 import com.hedera.services.state.merkle.MerkleAccount;
-import com.hedera.services.store.AccountStore;
-import com.hedera.services.store.models.Account;
-import com.hedera.services.store.models.Id;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.utils.IdUtils;
@@ -55,7 +50,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
 import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
@@ -74,7 +68,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -91,15 +84,11 @@ class ContractCallLocalAnswerTest {
 	@Mock
 	private StateView view;
 	@Mock
-	private AccountStore accountStore;
-	@Mock
-	private EntityIdSource ids;
-	@Mock
 	private OptionValidator validator;
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
-	private CallLocalEvmTxProcessor evmTxProcessor;
+	private CallLocalExecutionPool callLocalExecutionPool;
 	@Mock
 	private MerkleMap<EntityNum, MerkleAccount> contracts;
 	@Mock
@@ -110,7 +99,7 @@ class ContractCallLocalAnswerTest {
 
 	@BeforeEach
 	private void setup() throws Throwable {
-		subject = new ContractCallLocalAnswer(ids, accountStore, validator, dynamicProperties, nodeLocalProperties, evmTxProcessor);
+		subject = new ContractCallLocalAnswer(validator, dynamicProperties, nodeLocalProperties, callLocalExecutionPool);
 	}
 
 	@Test
@@ -120,6 +109,7 @@ class ContractCallLocalAnswerTest {
 		// given:
 		Query query = validQuery(COST_ANSWER, fee);
 		given(dynamicProperties.maxGas()).willReturn(gas);
+		given(nodeLocalProperties.localCallsMaxGas()).willReturn((long) gas);
 
 		// and:
 		given(validator.queryableContractStatus(target, contracts)).willReturn(CONTRACT_DELETED);
@@ -150,6 +140,17 @@ class ContractCallLocalAnswerTest {
 		assertEquals(MAX_GAS_LIMIT_EXCEEDED, subject.checkValidity(query, view));
 	}
 
+	@Test
+	void rejectsGasLimitOverLocalCallsMaxGas() throws Throwable {
+		// given:
+		given(dynamicProperties.maxGas()).willReturn(gas);
+		given(nodeLocalProperties.localCallsMaxGas()).willReturn(gas - 1L);
+		Query query = validQuery(COST_ANSWER, fee);
+
+		// expect:
+		assertEquals(MAX_GAS_LIMIT_EXCEEDED, subject.checkValidity(query, view));
+	}
+
 	@Test
 	void noCopyPasteErrors() throws Throwable {
 		// given:
@@ -225,7 +226,7 @@ class ContractCallLocalAnswerTest {
 		assertEquals(CONTRACT_EXECUTION_EXCEPTION, opResponse.getHeader().getNodeTransactionPrecheckCode());
 		assertEquals(result, opResponse.getFunctionResult().getContractCallResult());
 		assertEquals(target, opResponse.getFunctionResult().getContractID());
-		verify(accountStore, never()).loadAccount(any());
+		verify(callLocalExecutionPool, never()).execute(any());
 	}
 
 	@Test
@@ -233,13 +234,8 @@ class ContractCallLocalAnswerTest {
 		// setup:
 		Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
 
-		final var transactionProcessingResult = TransactionProcessingResult
-				.failed(0, 0, 1, Optional.empty(), Optional.empty());
-
-		given(accountStore.loadAccount(any())).willReturn(new Account(Id.fromGrpcContract(target)));
-		given(accountStore.loadContract(any())).willReturn(new Account(Id.fromGrpcContract(target)));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
-				.willReturn(transactionProcessingResult);
+		given(callLocalExecutionPool.execute(sensibleQuery.getContractCallLocal()))
+				.willReturn(response(CONTRACT_EXECUTION_EXCEPTION));
 
 		Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
 
@@ -255,6 +251,9 @@ class ContractCallLocalAnswerTest {
 		// setup:
 		Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
 
+		given(callLocalExecutionPool.execute(sensibleQuery.getContractCallLocal()))
+				.willThrow(IllegalStateException.class);
+
 		// when:
 		Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
 
@@ -296,6 +295,7 @@ class ContractCallLocalAnswerTest {
 		return ContractCallLocalResponse.newBuilder()
 				.setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(status))
 				.setFunctionResult(ContractFunctionResult.newBuilder()
+						.setContractID(target)
 						.setContractCallResult(result))
 				.build();
 	}
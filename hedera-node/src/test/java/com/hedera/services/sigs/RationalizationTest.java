@@ -111,6 +111,8 @@ class RationalizationTest {
 		subject.setLastOrderResult(CODE_ORDER_RESULT_FACTORY.forGeneralError());
 		subject.setFinalStatus(INVALID_ACCOUNT_ID);
 		subject.setVerifiedSync(true);
+		subject.setReusedExpansion(true);
+		subject.setInvalidatedExpansion(true);
 
 		// when:
 		subject.resetFor(txnAccessor);
@@ -126,6 +128,8 @@ class RationalizationTest {
 		assertTrue(subject.getRealOtherPartySigs().isEmpty());
 		// and:
 		assertFalse(subject.usedSyncVerification());
+		assertFalse(subject.reusedExpansion());
+		assertFalse(subject.invalidatedExpansion());
 		assertNull(subject.finalStatus());
 		assertNull(subject.getReqPayerSig());
 		assertNull(subject.getReqOthersSigs());
@@ -141,12 +145,15 @@ class RationalizationTest {
 		given(txnAccessor.getExpandedSigStatus()).willReturn(KEY_PREFIX_MISMATCH);
 		given(linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)).willReturn(true);
 		subject.setVerifiedSync(true);
+		subject.setInvalidatedExpansion(true);
 
 		subject.performFor(txnAccessor);
 
 		verifyNoMoreInteractions(txnAccessor);
 		assertEquals(KEY_PREFIX_MISMATCH, subject.finalStatus());
 		assertFalse(subject.usedSyncVerification());
+		assertTrue(subject.reusedExpansion());
+		assertFalse(subject.invalidatedExpansion());
 	}
 
 	@Test
@@ -164,6 +171,8 @@ class RationalizationTest {
 
 		// then:
 		assertEquals(generalError.getErrorReport(), subject.finalStatus());
+		assertTrue(subject.invalidatedExpansion());
+		assertFalse(subject.reusedExpansion());
 		// and:
 		verify(txnAccessor).setSigMeta(captor.capture());
 		assertSame(RationalizedSigMeta.noneAvailable(), captor.getValue());
@@ -187,6 +196,8 @@ class RationalizationTest {
 
 		// then:
 		assertEquals(othersError.getErrorReport(), subject.finalStatus());
+		assertFalse(subject.reusedExpansion());
+		assertFalse(subject.invalidatedExpansion());
 		// and:
 		verify(txnAccessor).setSigMeta(captor.capture());
 		final var sigMeta = captor.getValue();
@@ -194,4 +205,17 @@ class RationalizationTest {
 		assertFalse(sigMeta.couldRationalizeOthers());
 		assertSame(payerKey, sigMeta.payerKey());
 	}
+
+	@Test
+	void neitherReusesNorInvalidatesWithoutLinkedRefs() {
+		given(txnAccessor.getPlatformTxn()).willReturn(swirldsTxn);
+		given(txnAccessor.getTxn()).willReturn(txn);
+		given(txnAccessor.getPkToSigsFn()).willReturn(pkToSigFn);
+		given(keyOrderer.keysForPayer(txn, CODE_ORDER_RESULT_FACTORY)).willReturn(generalError);
+
+		subject.performFor(txnAccessor);
+
+		assertFalse(subject.reusedExpansion());
+		assertFalse(subject.invalidatedExpansion());
+	}
 }
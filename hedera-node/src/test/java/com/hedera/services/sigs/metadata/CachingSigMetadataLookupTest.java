@@ -0,0 +1,153 @@
+package com.hedera.services.sigs.metadata;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_ACCOUNT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSigMetadataLookupTest {
+	private static final Instant signedAt = Instant.ofEpochSecond(1_234_567L, 890);
+	private static final AccountID account = IdUtils.asAccount("0.0.1234");
+	private static final AccountID alias = AccountID.newBuilder()
+			.setAlias(ByteString.copyFromUtf8("01234567890123456789012345678901"))
+			.build();
+	private static final AccountID invalidAccount = IdUtils.asAccount("1.2.1234");
+	private static final TokenID token = IdUtils.asToken("0.0.2345");
+	private static final SafeLookupResult<AccountSigningMetadata> accountResult = new SafeLookupResult<>(
+			new AccountSigningMetadata(new JEd25519Key("01234567890123456789012345678901".getBytes()), true));
+	private static final SafeLookupResult<TokenSigningMetadata> tokenResult = new SafeLookupResult<>(
+			new TokenSigningMetadata(
+					Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+					Optional.empty(), Optional.empty(), Optional.empty(), false, null));
+
+	@Mock
+	private SigMetadataLookup delegate;
+	@Mock
+	private SigMetadataCache cache;
+
+	private LinkedRefs linkedRefs;
+	private CachingSigMetadataLookup subject;
+
+	@BeforeEach
+	void setUp() {
+		linkedRefs = new LinkedRefs();
+
+		subject = new CachingSigMetadataLookup(delegate, cache);
+	}
+
+	@Test
+	void answersAccountLookupFromCacheAndStillLinksIt() {
+		given(delegate.sourceSignedAt()).willReturn(signedAt);
+		given(cache.getAccountMeta(account.getAccountNum(), signedAt)).willReturn(accountResult);
+
+		assertSame(accountResult, subject.accountSigningMetaFor(account, linkedRefs));
+		assertSame(accountResult, subject.aliasableAccountSigningMetaFor(account, null));
+		assertEquals(account.getAccountNum(), linkedRefs.linkedNumbers()[0]);
+		verify(delegate, never()).accountSigningMetaFor(account, linkedRefs);
+	}
+
+	@Test
+	void cachesAccountLookupResultOnMiss() {
+		given(delegate.sourceSignedAt()).willReturn(signedAt);
+		given(delegate.accountSigningMetaFor(account, linkedRefs)).willReturn(accountResult);
+
+		assertSame(accountResult, subject.accountSigningMetaFor(account, linkedRefs));
+		verify(cache).putAccountMeta(account.getAccountNum(), signedAt, accountResult);
+	}
+
+	@Test
+	void answersTokenLookupFromCacheAndStillLinksIt() {
+		given(delegate.sourceSignedAt()).willReturn(signedAt);
+		given(cache.getTokenMeta(token.getTokenNum(), signedAt)).willReturn(tokenResult);
+
+		assertSame(tokenResult, subject.tokenSigningMetaFor(token, linkedRefs));
+		assertEquals(token.getTokenNum(), linkedRefs.linkedNumbers()[0]);
+	}
+
+	@Test
+	void cachesTokenLookupResultOnMiss() {
+		given(delegate.sourceSignedAt()).willReturn(signedAt);
+		given(delegate.tokenSigningMetaFor(token, null)).willReturn(tokenResult);
+
+		assertSame(tokenResult, subject.tokenSigningMetaFor(token, null));
+		verify(cache).putTokenMeta(token.getTokenNum(), signedAt, tokenResult);
+	}
+
+	@Test
+	void delegatesAliasesAndInvalidIdsWithoutCaching() {
+		final SafeLookupResult<AccountSigningMetadata> missing = SafeLookupResult.failure(MISSING_ACCOUNT);
+		given(delegate.aliasableAccountSigningMetaFor(alias, linkedRefs)).willReturn(accountResult);
+		given(delegate.accountSigningMetaFor(invalidAccount, linkedRefs)).willReturn(missing);
+
+		assertSame(accountResult, subject.aliasableAccountSigningMetaFor(alias, linkedRefs));
+		assertSame(missing, subject.accountSigningMetaFor(invalidAccount, linkedRefs));
+		verifyNoInteractions(cache);
+	}
+
+	@Test
+	void delegatesEverythingElse() {
+		final var file = FileID.newBuilder().setFileNum(111).build();
+		final var topic = TopicID.newBuilder().setTopicNum(222).build();
+		final var schedule = ScheduleID.newBuilder().setScheduleNum(333).build();
+		final var contract = ContractID.newBuilder().setContractNum(444).build();
+		final SafeLookupResult<FileSigningMetadata> fileResult = SafeLookupResult.failure(MISSING_ACCOUNT);
+		final SafeLookupResult<TopicSigningMetadata> topicResult = SafeLookupResult.failure(MISSING_ACCOUNT);
+		final SafeLookupResult<ScheduleSigningMetadata> scheduleResult = SafeLookupResult.failure(MISSING_ACCOUNT);
+		final SafeLookupResult<ContractSigningMetadata> contractResult = SafeLookupResult.failure(MISSING_ACCOUNT);
+		given(delegate.sourceSignedAt()).willReturn(signedAt);
+		given(delegate.fileSigningMetaFor(file, linkedRefs)).willReturn(fileResult);
+		given(delegate.topicSigningMetaFor(topic, linkedRefs)).willReturn(topicResult);
+		given(delegate.scheduleSigningMetaFor(schedule, linkedRefs)).willReturn(scheduleResult);
+		given(delegate.contractSigningMetaFor(contract, linkedRefs)).willReturn(contractResult);
+
+		assertSame(signedAt, subject.sourceSignedAt());
+		assertSame(fileResult, subject.fileSigningMetaFor(file, linkedRefs));
+		assertSame(topicResult, subject.topicSigningMetaFor(topic, linkedRefs));
+		assertSame(scheduleResult, subject.scheduleSigningMetaFor(schedule, linkedRefs));
+		assertSame(contractResult, subject.contractSigningMetaFor(contract, linkedRefs));
+		verifyNoInteractions(cache);
+	}
+}
@@ -0,0 +1,204 @@
+package com.hedera.services.sigs.metadata;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.stats.MiscSpeedometers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.hedera.services.sigs.metadata.SigMetadataCache.NO_FLOOR_YET;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_ACCOUNT;
+import static com.hedera.services.utils.LongToInstantMap.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SigMetadataCacheTest {
+	private static final int MAX_SIZE = 3;
+	private static final long ACCOUNT_NUM = 1_234L;
+	private static final long TOKEN_NUM = 2_345L;
+	private static final Instant then = Instant.ofEpochSecond(1_234_567L, 890);
+	private static final Instant now = then.plusSeconds(2);
+	private static final Instant later = now.plusSeconds(2);
+	private static final SafeLookupResult<AccountSigningMetadata> accountResult = new SafeLookupResult<>(
+			new AccountSigningMetadata(new JEd25519Key("01234567890123456789012345678901".getBytes()), false));
+	private static final SafeLookupResult<TokenSigningMetadata> tokenResult = new SafeLookupResult<>(
+			new TokenSigningMetadata(
+					Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+					Optional.empty(), Optional.empty(), Optional.empty(), false, null));
+
+	@Mock
+	private MiscSpeedometers speedometers;
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+
+	private SigMetadataCache subject;
+
+	@BeforeEach
+	void setUp() {
+		given(nodeLocalProperties.sigMetaCacheMaxSize()).willReturn(MAX_SIZE);
+
+		subject = new SigMetadataCache(speedometers, nodeLocalProperties);
+	}
+
+	@Test
+	void zeroMaxSizeDisablesCache() {
+		given(nodeLocalProperties.sigMetaCacheMaxSize()).willReturn(0);
+		subject = new SigMetadataCache(speedometers, nodeLocalProperties);
+
+		subject.onNewChangeTime(now);
+		subject.putAccountMeta(ACCOUNT_NUM, now, accountResult);
+		subject.markChanged(ACCOUNT_NUM, now);
+
+		assertFalse(subject.isEnabled());
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, now));
+		assertEquals(0, subject.size());
+		verifyNoInteractions(speedometers);
+	}
+
+	@Test
+	void returnsCachedResultsForSameStateAndCountsHitsAndMisses() {
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, now));
+		subject.putAccountMeta(ACCOUNT_NUM, now, accountResult);
+		subject.putTokenMeta(TOKEN_NUM, now, tokenResult);
+
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, now));
+		assertSame(tokenResult, subject.getTokenMeta(TOKEN_NUM, now));
+		verify(speedometers, times(2)).cycleSigMetaCacheHits();
+		verify(speedometers).cycleSigMetaCacheMisses();
+	}
+
+	@Test
+	void doesNotConfuseAccountAndTokenResults() {
+		subject.putAccountMeta(ACCOUNT_NUM, now, accountResult);
+
+		assertNull(subject.getTokenMeta(ACCOUNT_NUM, now));
+	}
+
+	@Test
+	void doesNotCacheFailures() {
+		subject.putAccountMeta(ACCOUNT_NUM, now, SafeLookupResult.failure(MISSING_ACCOUNT));
+
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void reusesUnchangedResultForOlderAndNewerStates() {
+		subject.putAccountMeta(ACCOUNT_NUM, now, accountResult);
+
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, then));
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, later));
+	}
+
+	@Test
+	void changeInvalidatesResultsForStatesNotIncludingIt() {
+		subject.putAccountMeta(ACCOUNT_NUM, then, accountResult);
+
+		subject.markChanged(ACCOUNT_NUM, now);
+
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, then));
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, later));
+	}
+
+	@Test
+	void resultReadAfterChangeIsValidForStatesIncludingIt() {
+		subject.markChanged(ACCOUNT_NUM, now);
+		subject.putAccountMeta(ACCOUNT_NUM, later, accountResult);
+
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, now));
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, later));
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, then));
+	}
+
+	@Test
+	void staleResultPutAfterChangeIsNeverReturnedForNewerState() {
+		subject.markChanged(ACCOUNT_NUM, now);
+		/* A slow thread finishes reading the account from a state signed before the change */
+		subject.putAccountMeta(ACCOUNT_NUM, then, accountResult);
+
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, later));
+	}
+
+	@Test
+	void clearsAndRaisesFloorWhenFull() {
+		subject.putAccountMeta(1L, then, accountResult);
+		subject.putAccountMeta(2L, then, accountResult);
+		subject.putAccountMeta(3L, then, accountResult);
+		subject.putAccountMeta(4L, then, accountResult);
+		assertEquals(MAX_SIZE, subject.size());
+
+		subject.onNewChangeTime(now);
+
+		assertEquals(0, subject.size());
+		assertEquals(pack(now), subject.getFloor());
+		subject.putAccountMeta(ACCOUNT_NUM, then, accountResult);
+		assertEquals(0, subject.size());
+		subject.putAccountMeta(ACCOUNT_NUM, later, accountResult);
+		assertNull(subject.getAccountMeta(ACCOUNT_NUM, then));
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, later));
+	}
+
+	@Test
+	void markingChangeWhenFullAlsoClears() {
+		subject.putAccountMeta(1L, then, accountResult);
+		subject.putAccountMeta(2L, then, accountResult);
+		subject.putAccountMeta(3L, then, accountResult);
+
+		subject.markChanged(ACCOUNT_NUM, now);
+
+		assertEquals(1, subject.size());
+		assertEquals(pack(now), subject.getFloor());
+	}
+
+	@Test
+	void resetRefusesAllUseUntilNextChangeTime() {
+		subject.putAccountMeta(ACCOUNT_NUM, then, accountResult);
+
+		subject.reset();
+
+		assertEquals(0, subject.size());
+		assertEquals(NO_FLOOR_YET, subject.getFloor());
+		subject.putAccountMeta(ACCOUNT_NUM, later, accountResult);
+		assertEquals(0, subject.size());
+
+		subject.onNewChangeTime(now);
+
+		assertEquals(pack(now), subject.getFloor());
+		subject.putAccountMeta(ACCOUNT_NUM, later, accountResult);
+		assertTrue(subject.isEnabled());
+		assertSame(accountResult, subject.getAccountMeta(ACCOUNT_NUM, later));
+	}
+}
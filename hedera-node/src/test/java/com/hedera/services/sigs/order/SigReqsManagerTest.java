@@ -27,6 +27,8 @@ import com.hedera.services.context.StateChildren;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.ExpansionHelper;
+import com.hedera.services.sigs.metadata.CachingSigMetadataLookup;
+import com.hedera.services.sigs.metadata.SigMetadataCache;
 import com.hedera.services.sigs.metadata.SigMetadataLookup;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.state.StateAccessor;
@@ -46,6 +48,7 @@ import java.time.Instant;
 import static com.hedera.services.sigs.order.SigReqsManager.TOKEN_META_TRANSFORM;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -85,6 +88,8 @@ class SigReqsManagerTest {
 	private ServicesState firstSignedState;
 	@Mock
 	private ServicesState nextSignedState;
+	@Mock
+	private SigMetadataCache sigMetadataCache;
 
 	private SigReqsManager subject;
 
@@ -93,7 +98,7 @@ class SigReqsManagerTest {
 		subject = new SigReqsManager(
 				platform,
 				fileNumbers, aliasManager, expansionHelper,
-				signatureWaivers, workingState, dynamicProperties);
+				signatureWaivers, workingState, dynamicProperties, sigMetadataCache);
 		given(accessor.getPkToSigsFn()).willReturn(pubKeyToSigBytes);
 	}
 
@@ -201,6 +206,27 @@ class SigReqsManagerTest {
 		assertSame(nextLastHandleTime, capturedStateChildren.signedAt());
 	}
 
+	@Test
+	void wrapsSignedStateLookupWithCacheIfEnabled() {
+		given(sigMetadataCache.isEnabled()).willReturn(true);
+		given(dynamicProperties.expandSigsFromLastSignedState()).willReturn(true);
+		given(platform.getLastCompleteSwirldState())
+				.willReturn(new AutoCloseableWrapper<>(firstSignedState, () -> {
+				}));
+		given(firstSignedState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+		given(firstSignedState.getTimeOfLastHandledTxn()).willReturn(lastHandleTime);
+		given(lookupsFactory.from(eq(fileNumbers), eq(aliasManager), any(), eq(TOKEN_META_TRANSFORM)))
+				.willReturn(lookup);
+		given(sigReqsFactory.from(any(CachingSigMetadataLookup.class), eq(signatureWaivers)))
+				.willReturn(signedStateSigReqs);
+		subject.setLookupsFactory(lookupsFactory);
+		subject.setSigReqsFactory(sigReqsFactory);
+
+		subject.expandSigsInto(accessor);
+
+		verify(expansionHelper).expandIn(accessor, signedStateSigReqs, pubKeyToSigBytes);
+	}
+
 	private static final Instant lastHandleTime = Instant.ofEpochSecond(1_234_567, 890);
 	private static final Instant nextLastHandleTime = lastHandleTime.plusSeconds(2);
 	private static final MutableStateChildren workingChildren = new MutableStateChildren();
@@ -30,15 +30,18 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.AddressBook;
-import com.swirlds.fchashmap.FCOneToManyRelation;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.Assertions;
@@ -78,13 +81,11 @@ class StateAccessorTest {
 	@Mock
 	private MerkleMap<EntityNumPair, MerkleUniqueToken> uniqueTokens;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations;
-	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations;
-	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueTreasuryOwnershipAssociations;
+	private VirtualMap<NftIndexKey, NftIndexValue> nftIndex;
 	@Mock
 	private RecordsRunningHashLeaf runningHashLeaf;
+	@Mock
+	private FCQueue<PayerRecordExpiry> payerRecordExpiries;
 
 	private StateAccessor subject;
 
@@ -120,10 +121,9 @@ class StateAccessorTest {
 		mutableChildren.setAddressBook(state.addressBook());
 		mutableChildren.setSpecialFiles(state.specialFiles());
 		mutableChildren.setUniqueTokens(state.uniqueTokens());
-		mutableChildren.setUniqueTokenAssociations(state.uniqueTokenAssociations());
-		mutableChildren.setUniqueOwnershipAssociations(state.uniqueOwnershipAssociations());
-		mutableChildren.setUniqueOwnershipTreasuryAssociations(state.uniqueTreasuryOwnershipAssociations());
+		mutableChildren.setNftIndex(state.nftIndex());
 		mutableChildren.setRunningHashLeaf(state.runningHashLeaf());
+		mutableChildren.setPayerRecordExpiries(state.payerRecordExpiries());
 
 		assertChildrenAreExpectedMocks();
 	}
@@ -139,10 +139,9 @@ class StateAccessorTest {
 		assertSame(addressBook, subject.addressBook());
 		assertSame(specialFiles, subject.specialFiles());
 		assertSame(uniqueTokens, subject.uniqueTokens());
-		assertSame(uniqueTokenAssociations, subject.uniqueTokenAssociations());
-		assertSame(uniqueOwnershipAssociations, subject.uniqueOwnershipAssociations());
-		assertSame(uniqueTreasuryOwnershipAssociations, subject.uniqueOwnershipTreasuryAssociations());
+		assertSame(nftIndex, subject.nftIndex());
 		assertSame(runningHashLeaf, subject.runningHashLeaf());
+		assertSame(payerRecordExpiries, subject.payerRecordExpiries());
 		assertSame(contractStorage, subject.contractStorage());
 	}
 
@@ -157,10 +156,9 @@ class StateAccessorTest {
 		given(state.addressBook()).willReturn(addressBook);
 		given(state.specialFiles()).willReturn(specialFiles);
 		given(state.uniqueTokens()).willReturn(uniqueTokens);
-		given(state.uniqueTokenAssociations()).willReturn(uniqueTokenAssociations);
-		given(state.uniqueOwnershipAssociations()).willReturn(uniqueOwnershipAssociations);
-		given(state.uniqueTreasuryOwnershipAssociations()).willReturn(uniqueTreasuryOwnershipAssociations);
+		given(state.nftIndex()).willReturn(nftIndex);
 		given(state.runningHashLeaf()).willReturn(runningHashLeaf);
+		given(state.payerRecordExpiries()).willReturn(payerRecordExpiries);
 		given(state.contractStorage()).willReturn(contractStorage);
 	}
 
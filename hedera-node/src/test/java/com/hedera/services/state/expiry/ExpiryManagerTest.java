@@ -29,6 +29,7 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.TxnId;
 import com.hedera.services.store.schedule.ScheduleStore;
@@ -37,6 +38,7 @@ import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -52,6 +54,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +74,7 @@ class ExpiryManagerTest {
 	private MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
 	private MerkleMap<EntityNum, MerkleSchedule> liveSchedules = new MerkleMap<>();
 	private Map<TransactionID, TxnIdRecentHistory> liveTxnHistories = new HashMap<>();
+	private FCQueue<PayerRecordExpiry> livePayerRecordExpiries = new FCQueue<>();
 
 	private final HederaNumbers nums = new MockHederaNumbers();
 
@@ -90,7 +94,8 @@ class ExpiryManagerTest {
 	@Test
 	void rebuildsExpectedSchedulesFromState() {
 		subject = new ExpiryManager(
-				mockScheduleStore, nums, sigImpactHistorian, mockTxnHistories, () -> mockAccounts, () -> liveSchedules);
+				mockScheduleStore, nums, sigImpactHistorian, mockTxnHistories, () -> mockAccounts, () -> liveSchedules,
+				() -> livePayerRecordExpiries);
 		aSchedule.setExpiry(firstThen);
 		bSchedule.setExpiry(secondThen);
 		liveSchedules.put(aKey, aSchedule);
@@ -108,7 +113,8 @@ class ExpiryManagerTest {
 	@Test
 	void expiresSchedulesAsExpected() {
 		subject = new ExpiryManager(
-				mockScheduleStore, nums, sigImpactHistorian, mockTxnHistories, () -> mockAccounts, () -> mockSchedules);
+				mockScheduleStore, nums, sigImpactHistorian, mockTxnHistories, () -> mockAccounts, () -> mockSchedules,
+				() -> livePayerRecordExpiries);
 
 		// given:
 		subject.trackExpirationEvent(Pair.of(aKey.longValue(),
@@ -127,13 +133,17 @@ class ExpiryManagerTest {
 	@Test
 	void rebuildsExpectedRecordsFromState() {
 		subject = new ExpiryManager(
-				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules,
+				() -> livePayerRecordExpiries);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		final var leftoverTxnId = recordWith(bGrpcId, now).getTxnId().toGrpc();
 		liveTxnHistories.put(leftoverTxnId, new TxnIdRecentHistory());
 		anAccount.records().offer(expiring(recordWith(aGrpcId, start), firstThen));
 		anAccount.records().offer(expiring(recordWith(aGrpcId, start), secondThen));
 		liveAccounts.put(aKey, anAccount);
+		livePayerRecordExpiries.offer(new PayerRecordExpiry(aKey.longValue(), firstThen));
+		livePayerRecordExpiries.offer(new PayerRecordExpiry(aKey.longValue(), secondThen));
+		livePayerRecordExpiries.offer(new PayerRecordExpiry(bKey.longValue(), secondThen));
 
 		subject.reviewExistingPayerRecords();
 
@@ -146,7 +156,8 @@ class ExpiryManagerTest {
 	@Test
 	void expiresRecordsAsExpected() {
 		subject = new ExpiryManager(
-				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules,
+				() -> livePayerRecordExpiries);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		liveAccounts.put(aKey, anAccount);
 
@@ -164,12 +175,15 @@ class ExpiryManagerTest {
 
 		assertEquals(1, liveAccounts.get(aKey).records().size());
 		assertEquals(secondThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
+		assertEquals(1, livePayerRecordExpiries.size());
+		assertEquals(new PayerRecordExpiry(aKey.longValue(), secondThen), livePayerRecordExpiries.peek());
 	}
 
 	@Test
 	void expiresLoneRecordAsExpected() {
 		subject = new ExpiryManager(
-				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules,
+				() -> livePayerRecordExpiries);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		liveAccounts.put(aKey, anAccount);
 
@@ -182,6 +196,7 @@ class ExpiryManagerTest {
 
 		assertEquals(0, liveAccounts.get(aKey).records().size());
 		assertFalse(liveTxnHistories.containsKey(newTxnId));
+		assertTrue(livePayerRecordExpiries.isEmpty());
 	}
 
 	private void addLiveRecord(EntityNum key, ExpirableTxnRecord expirableTxnRecord) {
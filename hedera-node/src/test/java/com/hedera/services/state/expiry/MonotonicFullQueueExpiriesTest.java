@@ -133,4 +133,27 @@ class MonotonicFullQueueExpiriesTest {
 		assertFalse(subject.hasExpiringAt(expiry2));
 		assertThrows(IllegalStateException.class, () -> subject.expireNextAt(expiry3));
 	}
+
+	@Test
+	void growsWithoutLosingOrderWhenWrapped() {
+		// given:
+		subject = new MonotonicFullQueueExpiries<>(2);
+		subject.track(k1, expiry1);
+		subject.track(k2, expiry2);
+		subject.expireNextAt(expiry1);
+
+		// when:
+		subject.track(k3, expiry3);
+		subject.track("fourth", expiry3 + 1);
+
+		// then:
+		assertEquals(4, subject.capacity());
+		assertEquals(3, subject.getAllExpiries().size());
+		assertEquals(new ExpiryEvent<>(k2, expiry2), subject.getAllExpiries().peekFirst());
+		// and:
+		assertEquals(k2, subject.expireNextAt(expiry3 + 1));
+		assertEquals(k3, subject.expireNextAt(expiry3 + 1));
+		assertEquals("fourth", subject.expireNextAt(expiry3 + 1));
+		assertFalse(subject.hasExpiringAt(expiry3 + 1));
+	}
 }
@@ -0,0 +1,140 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonotonicFullQueueLongExpiriesTest {
+	long k1 = 1001, k2 = 1002, k3 = 1003;
+	long expiry1 = 50, expiry2 = 100, expiry3 = 1000;
+
+	MonotonicFullQueueLongExpiries subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new MonotonicFullQueueLongExpiries();
+	}
+
+	@Test
+	void throwsOnNonMonotonicClock() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.track(k2, expiry1 - 1));
+	}
+
+	@Test
+	void onlyFormatsPrimitiveIdIfTrackFails() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// when:
+		final var e = assertThrows(IllegalArgumentException.class, () -> subject.track(k2, expiry1 - 1));
+
+		// then:
+		assertEquals("Track time 49 for 1002 not later than 50", e.getMessage());
+		assertEquals(1, subject.size());
+		assertEquals(expiry1, subject.getNow());
+	}
+
+	@Test
+	void behavesWithValidOps() {
+		// given:
+		subject.track(k1, expiry1);
+		subject.track(k2, expiry2);
+		subject.track(k3, expiry3);
+
+		// expect:
+		assertTrue(subject.hasExpiringAt(expiry1 + 1));
+		assertFalse(subject.hasExpiringAt(expiry1 - 1));
+		// and:
+		assertEquals(expiry3, subject.getNow());
+
+		// when:
+		final var firstExpired = subject.expireNextAt(expiry1);
+		final var secondExpired = subject.expireNextAt(expiry2);
+
+		// then:
+		assertEquals(k1, firstExpired);
+		assertEquals(k2, secondExpired);
+		// and:
+		assertEquals(1, subject.getAllExpiries().size());
+		assertFalse(subject.hasExpiringAt(expiry2));
+		assertTrue(subject.hasExpiringAt(expiry3));
+	}
+
+	@Test
+	void resetWorks() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// when:
+		subject.reset();
+
+		// then:
+		assertTrue(subject.getAllExpiries().isEmpty());
+		assertEquals(0L, subject.getNow());
+	}
+
+	@Test
+	void throwsIfNextExpiryIsFuture() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.expireNextAt(expiry1 - 1));
+	}
+
+	@Test
+	void throwsIfNoPossibleExpiries() {
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.expireNextAt(expiry1));
+	}
+
+	@Test
+	void growsWithoutLosingOrderWhenWrapped() {
+		// given:
+		subject = new MonotonicFullQueueLongExpiries(2);
+		subject.track(k1, expiry1);
+		subject.track(k2, expiry2);
+		subject.expireNextAt(expiry1);
+
+		// when:
+		subject.track(k3, expiry3);
+		subject.track(k1, expiry3 + 1);
+
+		// then:
+		assertEquals(4, subject.capacity());
+		assertEquals(new ExpiryEvent<>(k2, expiry2), subject.getAllExpiries().peekFirst());
+		// and:
+		assertEquals(k2, subject.expireNextAt(expiry3 + 1));
+		assertEquals(k3, subject.expireNextAt(expiry3 + 1));
+		assertEquals(k1, subject.expireNextAt(expiry3 + 1));
+		assertFalse(subject.hasExpiringAt(expiry3 + 1));
+	}
+}
@@ -0,0 +1,134 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.stream.proto.AllAccountBalances;
+import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ShardedBalancesWriterTest {
+	private static final String loc = "src/test/resources/shardedBalances.pb";
+	private static final Instant now = Instant.ofEpochSecond(1_234_567L, 890);
+	private static final long[] unorderedNums = { 1002, 3, 1001, 98, 4, 1003, 2 };
+	private static final long deletedNum = 1003;
+	private static final int parallelism = 2;
+
+	private final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+	private final ShardedBalancesWriter.SingleBalancesFn balancesFn = (id, account) ->
+			SingleAccountBalances.newBuilder()
+					.setAccountID(id.toGrpcAccountId())
+					.setHbarBalance(account.getBalance())
+					.build();
+
+	private ServicesState state;
+
+	@BeforeEach
+	void setUp() {
+		for (final var num : unorderedNums) {
+			accounts.put(EntityNum.fromLong(num), MerkleAccountFactory.newAccount()
+					.balance(num)
+					.deleted(num == deletedNum)
+					.get());
+		}
+		state = mock(ServicesState.class);
+		given(state.accounts()).willReturn(accounts);
+	}
+
+	@AfterEach
+	void cleanup() {
+		new File(loc).delete();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 100 })
+	void streamsSameBytesAsFullyBuiltMessageForAnyShardSize(final int shardSize) throws Exception {
+		final var subject = new ShardedBalancesWriter(parallelism, shardSize);
+
+		final var streamed = subject.write(loc, now, state, balancesFn);
+
+		final var expected = expectedMessage().toByteArray();
+		final var actual = Files.readAllBytes(Path.of(loc));
+		assertArrayEquals(expected, actual);
+		assertArrayEquals(MessageDigest.getInstance("SHA-384").digest(expected), streamed.hash());
+		assertEquals(BigInteger.valueOf(1002 + 3 + 1001 + 98 + 4 + 2), streamed.totalFloat());
+		assertEquals(shardSize, subject.getShardSize());
+		assertEquals(parallelism, subject.getParallelism());
+	}
+
+	@Test
+	void deletesPartialFileIfExportFails() {
+		final var failure = new IllegalStateException("Cannot summarize!");
+		final ShardedBalancesWriter.SingleBalancesFn failingFn = (id, account) -> {
+			if (id.longValue() == 1001) {
+				throw failure;
+			}
+			return balancesFn.apply(id, account);
+		};
+		final var subject = new ShardedBalancesWriter(parallelism, 1);
+
+		assertThrows(IllegalStateException.class, () -> subject.write(loc, now, state, failingFn));
+
+		assertFalse(new File(loc).exists());
+	}
+
+	@Test
+	void sortsAllAccountNums() {
+		final var nums = ShardedBalancesWriter.sortedNumsIn(accounts);
+
+		assertArrayEquals(new long[] { 2, 3, 4, 98, 1001, 1002, 1003 }, nums);
+	}
+
+	private AllAccountBalances expectedMessage() {
+		final var builder = AllAccountBalances.newBuilder()
+				.setConsensusTimestamp(Timestamp.newBuilder()
+						.setSeconds(now.getEpochSecond())
+						.setNanos(now.getNano()));
+		for (final var num : new long[] { 2, 3, 4, 98, 1001, 1002 }) {
+			final var id = EntityNum.fromLong(num);
+			builder.addAllAccounts(balancesFn.apply(id, accounts.get(id)));
+		}
+		return builder.build();
+	}
+}
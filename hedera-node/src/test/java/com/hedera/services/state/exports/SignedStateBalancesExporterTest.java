@@ -22,6 +22,7 @@ package com.hedera.services.state.exports;
 
 import com.hedera.services.ServicesState;
 import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.exceptions.NegativeAccountBalanceException;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -59,6 +60,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -74,6 +76,7 @@ import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -123,6 +126,7 @@ class SignedStateBalancesExporterTest {
 
 	private ServicesState state;
 	private PropertySource properties;
+	private NodeLocalProperties nodeLocalProperties;
 	private UnaryOperator<byte[]> signer;
 	private SigFileWriter sigFileWriter;
 	private FileHashReader hashReader;
@@ -194,8 +198,10 @@ class SignedStateBalancesExporterTest {
 		given(signer.apply(fileHash)).willReturn(sig);
 
 		systemExits = mock(SystemExits.class);
+		nodeLocalProperties = mock(NodeLocalProperties.class);
 
-		subject = new SignedStateBalancesExporter(systemExits, properties, signer, dynamicProperties);
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, dynamicProperties, nodeLocalProperties);
 
 		sigFileWriter = mock(SigFileWriter.class);
 		hashReader = mock(FileHashReader.class);
@@ -211,7 +217,8 @@ class SignedStateBalancesExporterTest {
 				return "not/a/real/location";
 			}
 		};
-		subject = new SignedStateBalancesExporter(systemExits, properties, signer, otherDynamicProperties);
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, otherDynamicProperties, nodeLocalProperties);
 		subject.directories = assurance;
 
 		subject.exportBalancesFrom(state, now, nodeId);
@@ -261,6 +268,64 @@ class SignedStateBalancesExporterTest {
 		new File(loc).delete();
 	}
 
+	@Test
+	void streamsSameBytesAsLegacyExportAndSignsTheirHash() throws Exception {
+		final var loc = expectedExportLoc();
+		given(hashReader.readHash(loc)).willReturn(fileHash);
+		subject.exportBalancesFrom(state, now, nodeId);
+		final var legacyBytes = Files.readAllBytes(Path.of(loc));
+		new File(loc).delete();
+
+		givenStreamingExport();
+		subject.exportBalancesFrom(state, now, nodeId);
+		final var streamedBytes = Files.readAllBytes(Path.of(loc));
+		final var streamedHash = MessageDigest.getInstance("SHA-384").digest(streamedBytes);
+
+		assertArrayEquals(legacyBytes, streamedBytes);
+		verify(signer).apply(streamedHash);
+		verify(sigFileWriter).writeSigFile(loc, null, streamedHash);
+
+		new File(loc).delete();
+	}
+
+	@Test
+	void streamingRemovesFileAndFailsOnUnexpectedTotalFloat() throws NegativeAccountBalanceException {
+		final var loc = expectedExportLoc();
+		final var mutableAnotherNodeAccount = accounts.getForModify(fromAccountId(anotherNode));
+		final var desiredSuffix = "had total balance 1001 not 1000; exiting";
+		mutableAnotherNodeAccount.setBalance(anotherNodeBalance + 1);
+		givenStreamingExport();
+
+		subject.exportBalancesFrom(state, now, nodeId);
+
+		assertThat(logCaptor.errorLogs(), contains(Matchers.endsWith(desiredSuffix)));
+		assertFalse(new File(loc).exists());
+		verify(systemExits).fail(1);
+	}
+
+	@Test
+	void streamingLogsOnIoException() {
+		final var otherDynamicProperties = new MockGlobalDynamicProps() {
+			@Override
+			public String pathToBalancesExportDir() {
+				return "not/a/real/location";
+			}
+		};
+		givenStreamingExport();
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, otherDynamicProperties, nodeLocalProperties);
+		subject.directories = assurance;
+
+		subject.exportBalancesFrom(state, now, nodeId);
+
+		assertThat(logCaptor.errorLogs(), contains(Matchers.startsWith("Could not export to")));
+	}
+
+	private void givenStreamingExport() {
+		given(nodeLocalProperties.isStreamingBalancesExportEnabled()).willReturn(true);
+		given(nodeLocalProperties.streamingBalancesExportParallelism()).willReturn(2);
+	}
+
 	@Test
 	void protoWriteIoException() {
 		final var otherDynamicProperties = new MockGlobalDynamicProps() {
@@ -269,7 +334,8 @@ class SignedStateBalancesExporterTest {
 				return "not/a/real/location";
 			}
 		};
-		subject = new SignedStateBalancesExporter(systemExits, properties, signer, otherDynamicProperties);
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, otherDynamicProperties, nodeLocalProperties);
 		subject.directories = assurance;
 
 		subject.exportBalancesFrom(state, now, nodeId);
@@ -421,7 +487,8 @@ class SignedStateBalancesExporterTest {
 	void exportsWhenPeriodSecsHaveElapsed() {
 		final int exportPeriodInSecs = dynamicProperties.balancesExportPeriodSecs();
 		final var startTime = Instant.parse("2021-07-07T08:10:00.000Z");
-		subject = new SignedStateBalancesExporter(systemExits, properties, signer, dynamicProperties);
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, dynamicProperties, nodeLocalProperties);
 
 		// start from a time within 1 second of boundary time
 		var now = startTime.plusNanos(12340);
@@ -437,7 +504,8 @@ class SignedStateBalancesExporterTest {
 		assertEquals(startTime.plusSeconds(exportPeriodInSecs * 2), subject.getNextExportTime());
 
 		// start from a random time
-		subject = new SignedStateBalancesExporter(systemExits, properties, signer, dynamicProperties);
+		subject = new SignedStateBalancesExporter(
+				systemExits, properties, signer, dynamicProperties, nodeLocalProperties);
 		now = Instant.parse("2021-07-07T08:12:38.123Z");
 		assertFalse(subject.isTimeToExport(now));
 		assertEquals(startTime.plusSeconds(exportPeriodInSecs), subject.getNextExportTime());
@@ -29,6 +29,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
@@ -42,6 +43,7 @@ import com.swirlds.common.AddressBook;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHash;
+import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.Assertions;
@@ -80,6 +82,8 @@ class HashLoggerTest {
 	private RunningHash runningHash;
 	@Mock
 	private RecordsRunningHashLeaf runningHashLeaf;
+	@Mock
+	private FCQueue<PayerRecordExpiry> payerRecordExpiries;
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
@@ -117,6 +121,10 @@ class HashLoggerTest {
 				"UniqueTokens           :: " +
 				"343434343434343434343434343434343434343434343434343434343434343434343434343434343434343434343434\n" +
 				"ContractStorage        :: " +
+				"<N/A>\n" +
+				"PayerRecordExpiries    :: " +
+				"363636363636363636363636363636363636363636363636363636363636363636363636363636363636363636363636\n" +
+				"NftIndex               :: " +
 				"<N/A>";
 
 		given(state.getHash()).willReturn(hashOf('0'));
@@ -138,6 +146,8 @@ class HashLoggerTest {
 		given(addressBook.getHash()).willReturn(hashOf('9'));
 		given(state.specialFiles()).willReturn(specialFiles);
 		given(specialFiles.getHash()).willReturn(hashOf('Z'));
+		given(state.payerRecordExpiries()).willReturn(payerRecordExpiries);
+		given(payerRecordExpiries.getHash()).willReturn(hashOf('6'));
 		// and:
 		given(runningHashLeaf.getRunningHash()).willReturn(runningHash);
 		given(state.runningHashLeaf()).willReturn(runningHashLeaf);
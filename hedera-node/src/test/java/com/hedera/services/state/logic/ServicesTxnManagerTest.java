@@ -25,6 +25,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.TxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
@@ -44,9 +45,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.RECORD_CREATION;
+import static com.hedera.services.stats.HandlePhase.STREAM_HANDOFF;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
@@ -77,6 +82,8 @@ class ServicesTxnManagerTest {
 	private AccountRecordsHistorian recordsHistorian;
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private HandlePhaseLatencies phaseLatencies;
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
@@ -87,25 +94,31 @@ class ServicesTxnManagerTest {
 	void setup() {
 		subject = new ServicesTxnManager(
 				processLogic, recordStreaming, triggeredProcessLogic, recordCache,
-				ledger, txnCtx, sigImpactHistorian, recordsHistorian);
+				ledger, txnCtx, sigImpactHistorian, recordsHistorian, phaseLatencies);
 	}
 
 	@Test
 	void managesHappyPath() {
 		// setup:
-		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recordStreaming, recordsHistorian, sigImpactHistorian);
+		InOrder inOrder = inOrder(
+				ledger, txnCtx, processLogic, recordStreaming, recordsHistorian, sigImpactHistorian, phaseLatencies);
+
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
 
 		// when:
 		subject.process(accessor, consensusTime, submittingMember);
 
 		// then:
+		inOrder.verify(phaseLatencies).beginTxn(CryptoTransfer);
 		inOrder.verify(txnCtx).resetFor(accessor, consensusTime, submittingMember);
 		inOrder.verify(sigImpactHistorian).setChangeTime(consensusTime);
 		inOrder.verify(recordsHistorian).clearHistory();
 		inOrder.verify(ledger).begin();
 		inOrder.verify(processLogic).run();
 		inOrder.verify(ledger).commit();
+		inOrder.verify(phaseLatencies).endSpan(eq(RECORD_CREATION), anyLong());
 		inOrder.verify(recordStreaming).run();
+		inOrder.verify(phaseLatencies).endSpan(eq(STREAM_HANDOFF), anyLong());
 	}
 
 	@Test
@@ -41,12 +41,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.function.BiPredicate;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SIGNATURE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith({ MockitoExtension.class, LogCaptureExtension.class })
 class SignatureScreenTest {
@@ -83,7 +84,8 @@ class SignatureScreenTest {
 
 		// then:
 		verify(rationalization).performFor(accessor);
-		verifyNoInteractions(speedometers);
+		verify(speedometers, never()).cycleSyncVerifications();
+		verify(speedometers, never()).cycleAsyncVerifications();
 		// and:
 		Assertions.assertEquals(INVALID_ACCOUNT_ID, result);
 	}
@@ -137,6 +139,53 @@ class SignatureScreenTest {
 		verify(speedometers).cycleAsyncVerifications();
 	}
 
+	@Test
+	void cyclesExpansionReusesWhenReused() {
+		givenOkRationalization();
+		given(rationalization.reusedExpansion()).willReturn(true);
+
+		subject.applyTo(accessor);
+
+		verify(speedometers).cycleSigExpansionReuses();
+		verify(speedometers, never()).cycleSigExpansionMisses();
+		verify(speedometers, never()).cycleSigExpansionInvalidations();
+	}
+
+	@Test
+	void cyclesExpansionReusesEvenIfSigsAreInvalid() {
+		given(rationalization.finalStatus()).willReturn(INVALID_SIGNATURE);
+		given(rationalization.reusedExpansion()).willReturn(true);
+
+		subject.applyTo(accessor);
+
+		verify(speedometers).cycleSigExpansionReuses();
+		verify(speedometers, never()).cycleSigExpansionMisses();
+		verify(speedometers, never()).cycleSigExpansionInvalidations();
+	}
+
+	@Test
+	void cyclesExpansionInvalidationsWhenInvalidated() {
+		givenOkRationalization(true);
+		given(rationalization.invalidatedExpansion()).willReturn(true);
+
+		subject.applyTo(accessor);
+
+		verify(speedometers).cycleSigExpansionInvalidations();
+		verify(speedometers, never()).cycleSigExpansionReuses();
+		verify(speedometers, never()).cycleSigExpansionMisses();
+	}
+
+	@Test
+	void cyclesExpansionMissesWhenNothingToReuse() {
+		givenOkRationalization(true);
+
+		subject.applyTo(accessor);
+
+		verify(speedometers).cycleSigExpansionMisses();
+		verify(speedometers, never()).cycleSigExpansionReuses();
+		verify(speedometers, never()).cycleSigExpansionInvalidations();
+	}
+
 	private void givenOkRationalization() {
 		givenOkRationalization(false);
 	}
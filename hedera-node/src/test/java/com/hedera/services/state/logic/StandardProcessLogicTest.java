@@ -27,6 +27,7 @@ import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.expiry.EntityAutoRenewal;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.services.utils.TxnAccessor;
@@ -45,8 +46,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.EXPIRY_PURGE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
@@ -84,6 +89,8 @@ class StandardProcessLogicTest {
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private HandlePhaseLatencies phaseLatencies;
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
@@ -95,23 +102,27 @@ class StandardProcessLogicTest {
 		subject = new StandardProcessLogic(
 				expiries, invariantChecks,
 				expandHandleSpan, autoRenewal, txnManager,
-				sigImpactHistorian, txnCtx, executionTimeTracker, dynamicProperties);
+				sigImpactHistorian, txnCtx, executionTimeTracker, dynamicProperties, phaseLatencies);
 	}
 
 	@Test
 	void happyPathFlowsForNonTriggered() throws InvalidProtocolBufferException {
-		final InOrder inOrder = inOrder(expiries, executionTimeTracker, txnManager, autoRenewal, sigImpactHistorian);
+		final InOrder inOrder = inOrder(
+				expiries, executionTimeTracker, txnManager, autoRenewal, sigImpactHistorian, phaseLatencies);
 
 		given(expandHandleSpan.accessorFor(swirldTransaction)).willReturn(accessor);
 		given(invariantChecks.holdFor(accessor, consensusNow, member)).willReturn(true);
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
 
 		// when:
 		subject.incorporateConsensusTxn(swirldTransaction, consensusNow, member);
 
 		// then:
+		inOrder.verify(phaseLatencies).beginTxn(CryptoTransfer);
 		inOrder.verify(sigImpactHistorian).setChangeTime(consensusNow);
 		inOrder.verify(expiries).purge(consensusNow.getEpochSecond());
 		inOrder.verify(sigImpactHistorian).purge();
+		inOrder.verify(phaseLatencies).endSpan(eq(EXPIRY_PURGE), anyLong());
 		inOrder.verify(executionTimeTracker).start();
 		inOrder.verify(txnManager).process(accessor, consensusNow, member);
 		inOrder.verify(executionTimeTracker).stop();
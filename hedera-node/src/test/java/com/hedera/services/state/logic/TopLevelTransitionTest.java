@@ -22,6 +22,7 @@ package com.hedera.services.state.logic;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseLatencies;
 import com.hedera.services.utils.TxnAccessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,8 +34,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -59,6 +65,8 @@ class TopLevelTransitionTest {
 	private KeyActivationScreen keyActivationScreen;
 	@Mock
 	private ThrottleScreen throttleScreen;
+	@Mock
+	private HandlePhaseLatencies phaseLatencies;
 
 	private TopLevelTransition subject;
 
@@ -71,13 +79,15 @@ class TopLevelTransitionTest {
 				signatureScreen,
 				chargingPolicyAgent,
 				keyActivationScreen,
-				throttleScreen);
+				throttleScreen,
+				phaseLatencies);
 	}
 
 	@Test
 	void happyPathScopedProcessFlows() {
 		// setup:
-		InOrder inOrder = Mockito.inOrder(networkCtxManager, signatureScreen, chargingPolicyAgent, keyActivationScreen);
+		InOrder inOrder = Mockito.inOrder(
+				networkCtxManager, signatureScreen, chargingPolicyAgent, keyActivationScreen, phaseLatencies);
 
 		given(txnCtx.accessor()).willReturn(accessor);
 		given(txnCtx.consensusTime()).willReturn(consensusNow);
@@ -91,9 +101,12 @@ class TopLevelTransitionTest {
 		// then:
 		inOrder.verify(networkCtxManager).advanceConsensusClockTo(consensusNow);
 		inOrder.verify(signatureScreen).applyTo(accessor);
+		inOrder.verify(phaseLatencies).endSpan(eq(SIG_RATIONALIZATION), anyLong());
 		inOrder.verify(chargingPolicyAgent).applyPolicyFor(accessor);
+		inOrder.verify(phaseLatencies).endSpan(eq(FEE_CHARGING), anyLong());
 		inOrder.verify(keyActivationScreen).reqKeysAreActiveGiven(OK);
 		verify(screenedTransition).finishFor(accessor);
+		verify(phaseLatencies).endSpan(eq(TRANSITION), anyLong());
 	}
 
 	@Test
@@ -132,7 +132,7 @@ class MerkleTopicTest {
 	}
 
 	@Test
-	void toStringWorks() throws IOException, NoSuchAlgorithmException {
+	void toStringWorks() throws NoSuchAlgorithmException {
 		// expect:
 		assertEquals(
 				"MerkleTopic{number=0 <-> 0.0.0, "
@@ -183,7 +183,7 @@ class MerkleTopicTest {
 		assertEquals(MerkleTopic.RUNTIME_CONSTRUCTABLE_ID, topic.getClassId());
 	}
 
-	private MerkleTopic topicFrom(int s) throws IOException {
+	private MerkleTopic topicFrom(int s) {
 		long v = 1_234_567L + s * 1_000_000L;
 		long t = s + 1;
 		AccountID payer = AccountID.newBuilder().setAccountNum(123).build();
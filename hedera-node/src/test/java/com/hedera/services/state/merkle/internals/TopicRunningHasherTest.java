@@ -0,0 +1,109 @@
+package com.hedera.services.state.merkle.internals;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicRunningHasherTest {
+	private final SplittableRandom r = new SplittableRandom(1_234_567L);
+
+	private final TopicRunningHasher subject = new TopicRunningHasher();
+
+	@Test
+	void matchesObjectStreamImplementationBitForBit() throws Exception {
+		var runningHash = new byte[48];
+		for (int i = 0; i < 1_000; i++) {
+			final var message = randomBytes(r.nextInt(1024));
+			final long[] nums = { r.nextLong(), r.nextLong(), r.nextLong(), r.nextLong(), r.nextLong(), r.nextLong() };
+			final var second = r.nextLong();
+			final var nanos = r.nextInt(1_000_000_000);
+			final var seqNo = (long) i + 1;
+
+			final var expected = legacyRunningHash(runningHash, nums, second, nanos, seqNo, message);
+			final var actual = subject.nextRunningHash(
+					runningHash, 3L,
+					nums[0], nums[1], nums[2], nums[3], nums[4], nums[5],
+					second, nanos, seqNo, message);
+
+			assertArrayEquals(expected, actual);
+			runningHash = actual;
+		}
+	}
+
+	@Test
+	void growsForUnusualRunningHashLength() throws Exception {
+		// given:
+		final var initialCapacity = subject.bufferCapacity();
+		final var longRunningHash = randomBytes(2_000);
+		final var message = "Hello world!".getBytes();
+		final long[] nums = { 0, 0, 2, 0, 0, 1_234 };
+
+		// when:
+		final var actual = subject.nextRunningHash(
+				longRunningHash, 3L, 0, 0, 2, 0, 0, 1_234, 1_234_567L, 890, 1L, message);
+
+		// then:
+		assertTrue(subject.bufferCapacity() > initialCapacity);
+		assertArrayEquals(legacyRunningHash(longRunningHash, nums, 1_234_567L, 890, 1L, message), actual);
+		assertEquals(48, actual.length);
+	}
+
+	private byte[] randomBytes(final int n) {
+		final var bytes = new byte[n];
+		r.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static byte[] legacyRunningHash(
+			final byte[] prevRunningHash,
+			final long[] nums,
+			final long second,
+			final int nanos,
+			final long seqNo,
+			final byte[] message
+	) throws IOException, NoSuchAlgorithmException {
+		final var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(prevRunningHash);
+			out.writeLong(3L);
+			for (final var num : nums) {
+				out.writeLong(num);
+			}
+			out.writeLong(second);
+			out.writeInt(nanos);
+			out.writeLong(seqNo);
+			out.writeObject(MessageDigest.getInstance("SHA-384").digest(message));
+			out.flush();
+			return MessageDigest.getInstance("SHA-384").digest(boas.toByteArray());
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.hedera.services.state.migration;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleUniqueToken;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.PayerRecordExpiry;
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
+import com.hedera.services.state.virtual.VirtualMapFactory;
+import com.hedera.services.store.tokens.views.NftRelation;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.EntityNumPair;
+import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.jasperdb.JasperDbBuilder;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hedera.services.state.migration.ReleaseTwentyThreeMigration.createNftIndex;
+import static com.hedera.services.state.migration.ReleaseTwentyThreeMigration.createPayerRecordExpiries;
+import static com.hedera.services.state.migration.StateChildIndices.ACCOUNTS;
+import static com.hedera.services.state.migration.StateChildIndices.NFT_INDEX;
+import static com.hedera.services.state.migration.StateChildIndices.PAYER_RECORD_EXPIRIES;
+import static com.hedera.services.state.migration.StateChildIndices.TOKENS;
+import static com.hedera.services.state.migration.StateChildIndices.UNIQUE_TOKENS;
+import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
+import static com.hedera.services.state.submerkle.RichInstant.MISSING_INSTANT;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.TREASURY_NFTS_BY_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseTwentyThreeMigrationTest {
+	private static final long aPayer = 1_001L;
+	private static final long bPayer = 1_002L;
+	private static final long cPayer = 1_003L;
+	private static final long aTreasury = 2_001L;
+	private static final long bTreasury = 2_002L;
+	private static final long firstOwner = 2_003L;
+	private static final long aToken = 3_001L;
+	private static final long bToken = 3_002L;
+	private static final long missingToken = 3_003L;
+	private static final byte[] someMeta = "SOMETHING".getBytes(StandardCharsets.UTF_8);
+
+	@Mock
+	private ServicesState state;
+
+	@Mock
+	private VirtualMap<NftIndexKey, NftIndexValue> nftIndex;
+
+	private final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+	private final MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
+	private final MerkleMap<EntityNumPair, MerkleUniqueToken> nfts = new MerkleMap<>();
+	private final Map<NftIndexKey, NftIndexValue> indexEntries = new HashMap<>();
+
+	@Test
+	void createsSortedIndexWithOneEntryPerPayerExpiry() {
+		@SuppressWarnings("unchecked") final ArgumentCaptor<FCQueue<PayerRecordExpiry>> captor =
+				forClass(FCQueue.class);
+		accounts.put(EntityNum.fromLong(aPayer), accountWithRecordsExpiringAt(10L, 10L, 30L));
+		accounts.put(EntityNum.fromLong(bPayer), accountWithRecordsExpiringAt(20L, 30L));
+		accounts.put(EntityNum.fromLong(cPayer), accountWithRecordsExpiringAt());
+		given(state.getChild(ACCOUNTS)).willReturn(accounts);
+
+		createPayerRecordExpiries(state, StateVersions.RELEASE_0220_VERSION);
+
+		verify(state).setChild(eq(PAYER_RECORD_EXPIRIES), captor.capture());
+		final List<PayerRecordExpiry> actual = new ArrayList<>(captor.getValue());
+		assertEquals(List.of(
+				new PayerRecordExpiry(aPayer, 10L),
+				new PayerRecordExpiry(bPayer, 20L),
+				new PayerRecordExpiry(aPayer, 30L),
+				new PayerRecordExpiry(bPayer, 30L)
+		), actual);
+	}
+
+	@Test
+	void createsNftIndexWithTreasuryOwnedNftsByTypeAndOthersByOwner() {
+		givenInMemoryNftIndex();
+		tokens.put(EntityNum.fromLong(aToken), tokenWithTreasury(aTreasury));
+		tokens.put(EntityNum.fromLong(bToken), tokenWithTreasury(bTreasury));
+		nfts.put(EntityNumPair.fromLongs(aToken, 1L), nftOwnedBy(MISSING_ENTITY_ID));
+		nfts.put(EntityNumPair.fromLongs(aToken, 2L), nftOwnedBy(new EntityId(0, 0, firstOwner)));
+		nfts.put(EntityNumPair.fromLongs(bToken, 1L), nftOwnedBy(new EntityId(0, 0, firstOwner)));
+		nfts.put(EntityNumPair.fromLongs(missingToken, 1L), nftOwnedBy(MISSING_ENTITY_ID));
+		given(state.getChild(TOKENS)).willReturn(tokens);
+		given(state.getChild(UNIQUE_TOKENS)).willReturn(nfts);
+
+		createNftIndex(state, StateVersions.RELEASE_0220_VERSION);
+
+		verify(state).setChild(NFT_INDEX, nftIndex);
+		final var nftsByType = new NftRelation(nftIndex, NFTS_BY_TYPE);
+		final var nftsByOwner = new NftRelation(nftIndex, NFTS_BY_OWNER);
+		final var treasuryNftsByType = new NftRelation(nftIndex, TREASURY_NFTS_BY_TYPE);
+		assertEquals(2, nftsByType.getCount(EntityNum.fromLong(aToken)));
+		assertEquals(1, nftsByType.getCount(EntityNum.fromLong(bToken)));
+		assertEquals(0, nftsByType.getCount(EntityNum.fromLong(missingToken)));
+		assertEquals(1, treasuryNftsByType.getCount(EntityNum.fromLong(aToken)));
+		assertEquals(0, treasuryNftsByType.getCount(EntityNum.fromLong(bToken)));
+		assertEquals(2, nftsByOwner.getCount(EntityNum.fromLong(firstOwner)));
+		assertEquals(0, nftsByOwner.getCount(EntityNum.fromLong(aTreasury)));
+		assertEquals(
+				EntityNumPair.fromLongs(aToken, 1L).value(),
+				treasuryNftsByType.get(EntityNum.fromLong(aToken), 0, 1).next());
+
+		// cleanup:
+		ReleaseTwentyThreeMigration.setNftIndexFactory(
+				() -> new VirtualMapFactory(JasperDbBuilder::new).newVirtualizedNftIndex());
+	}
+
+	private void givenInMemoryNftIndex() {
+		ReleaseTwentyThreeMigration.setNftIndexFactory(() -> nftIndex);
+		willAnswer(invocation -> indexEntries.get(invocation.getArgument(0)))
+				.given(nftIndex).get(any());
+		willAnswer(invocation -> indexEntries.containsKey(invocation.getArgument(0)))
+				.given(nftIndex).containsKey(any());
+		willAnswer(invocation -> indexEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.given(nftIndex).put(any(), any());
+	}
+
+	private MerkleToken tokenWithTreasury(final long treasury) {
+		return new MerkleToken(
+				1_234_567L, 1_234L, 1,
+				"Hi", "EVERYBODY",
+				false, true, new EntityId(0, 0, treasury));
+	}
+
+	private MerkleUniqueToken nftOwnedBy(final EntityId owner) {
+		return new MerkleUniqueToken(owner, someMeta, MISSING_INSTANT);
+	}
+
+	private MerkleAccount accountWithRecordsExpiringAt(final long... expiries) {
+		final var account = new MerkleAccount();
+		for (final var expiry : expiries) {
+			final var txnRecord = ExpirableTxnRecord.newBuilder().build();
+			txnRecord.setExpiry(expiry);
+			account.records().offer(txnRecord);
+		}
+		return account;
+	}
+}
@@ -21,29 +21,20 @@ package com.hedera.services.state.org;
  */
 
 import com.hedera.services.ServicesApp;
-import com.hedera.services.utils.EntityNum;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StateMetadataTest {
 	@Mock
 	private ServicesApp app;
-	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueTokenAssociations;
-	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueOwnershipAssociations;
-	@Mock
-	private FCOneToManyRelation<EntityNum, Long> uniqueTreasuryOwnershipAssociations;
 
 	private StateMetadata subject;
 
@@ -54,64 +45,24 @@ class StateMetadataTest {
 
 	@Test
 	void copyAsExpected() {
-		setupWithMockFcotmr();
-
-		given(uniqueTokenAssociations.copy()).willReturn(uniqueTokenAssociations);
-		given(uniqueOwnershipAssociations.copy()).willReturn(uniqueOwnershipAssociations);
-		given(uniqueTreasuryOwnershipAssociations.copy()).willReturn(uniqueTreasuryOwnershipAssociations);
-
 		// when:
 		final var copy = subject.copy();
 
 		// then:
+		assertNotSame(subject, copy);
 		assertSame(app, copy.app());
-		// and:
-		assertSame(uniqueTokenAssociations, copy.getUniqueTokenAssociations());
-		verify(uniqueTokenAssociations).copy();
-		assertSame(uniqueOwnershipAssociations, copy.getUniqueOwnershipAssociations());
-		verify(uniqueOwnershipAssociations).copy();
-		assertSame(uniqueTreasuryOwnershipAssociations, copy.getUniqueTreasuryOwnershipAssociations());
-		verify(uniqueTreasuryOwnershipAssociations).copy();
 	}
 
 	@Test
-	void releaseOnArchival() {
-		setupWithMockFcotmr();
-
-		// when:
-		subject.archive();
-
-		// then:
-		verify(uniqueTokenAssociations).release();
-		verify(uniqueOwnershipAssociations).release();
-		verify(uniqueTreasuryOwnershipAssociations).release();
-	}
-
-	@Test
-	void releaseOnRelease() {
-		setupWithMockFcotmr();
-
-		// when:
-		subject.release();
-
-		// then:
-		verify(uniqueTokenAssociations).release();
-		verify(uniqueOwnershipAssociations).release();
-		verify(uniqueTreasuryOwnershipAssociations).release();
-	}
-
-	private void setupWithMockFcotmr() {
-		subject.setUniqueTokenAssociations(uniqueTokenAssociations);
-		subject.setUniqueOwnershipAssociations(uniqueOwnershipAssociations);
-		subject.setUniqueTreasuryOwnershipAssociations(uniqueTreasuryOwnershipAssociations);
+	void archiveAndReleaseAreNoops() {
+		// expect:
+		assertDoesNotThrow(subject::archive);
+		assertDoesNotThrow(subject::release);
 	}
 
 	@Test
 	void gettersWork() {
 		// expect:
 		assertSame(app, subject.app());
-		assertNotNull(subject.getUniqueTokenAssociations());
-		assertNotNull(subject.getUniqueOwnershipAssociations());
-		assertNotNull(subject.getUniqueTreasuryOwnershipAssociations());
 	}
 }
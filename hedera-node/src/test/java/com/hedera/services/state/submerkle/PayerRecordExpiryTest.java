@@ -0,0 +1,102 @@
+package com.hedera.services.state.submerkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayerRecordExpiryTest {
+	private static final long payerNum = 1_234L;
+	private static final long expiry = 1_234_567L;
+
+	private final PayerRecordExpiry subject = new PayerRecordExpiry(payerNum, expiry);
+
+	@Test
+	void serdeWorks() throws IOException {
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+
+		subject.serialize(out);
+		out.flush();
+
+		final var in = new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		final var read = new PayerRecordExpiry();
+		read.deserialize(in, PayerRecordExpiry.RELEASE_0230_VERSION);
+
+		assertEquals(subject, read);
+		assertEquals(payerNum, read.getPayerNum());
+		assertEquals(expiry, read.getExpiry());
+	}
+
+	@Test
+	void objectContractMet() {
+		final var same = new PayerRecordExpiry(payerNum, expiry);
+		final var otherPayer = new PayerRecordExpiry(payerNum + 1, expiry);
+		final var otherExpiry = new PayerRecordExpiry(payerNum, expiry + 1);
+
+		assertEquals(subject, subject);
+		assertEquals(subject, same);
+		assertEquals(subject.hashCode(), same.hashCode());
+		assertNotEquals(subject, otherPayer);
+		assertNotEquals(subject, otherExpiry);
+		assertNotEquals(null, subject);
+		assertNotEquals(new Object(), subject);
+	}
+
+	@Test
+	void toStringWorks() {
+		assertEquals("PayerRecordExpiry{payerNum=1234, expiry=1234567}", subject.toString());
+	}
+
+	@Test
+	void isImmutableAndCopiesToSelf() {
+		assertTrue(subject.isImmutable());
+		assertSame(subject, subject.copy());
+		subject.release();
+	}
+
+	@Test
+	void hashIsSettable() {
+		final var hash = new Hash();
+
+		subject.setHash(hash);
+
+		assertSame(hash, subject.getHash());
+	}
+
+	@Test
+	void merkleMethodsWork() {
+		assertEquals(PayerRecordExpiry.MERKLE_VERSION, subject.getVersion());
+		assertEquals(PayerRecordExpiry.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
+	}
+}
@@ -0,0 +1,107 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.hedera.services.state.virtual.NftIndexKey.BYTES_IN_SERIALIZED_FORM;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.countKey;
+import static com.hedera.services.state.virtual.NftIndexKey.positionKey;
+import static com.hedera.services.state.virtual.NftIndexKey.slotKey;
+import static com.hedera.services.state.virtual.NftIndexKeySerializer.CLASS_ID;
+import static com.hedera.services.state.virtual.NftIndexKeySerializer.CURRENT_VERSION;
+import static com.hedera.services.state.virtual.NftIndexKeySerializer.DATA_VERSION;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NftIndexKeySerializerTest {
+	private final int entityNum = 2;
+	private final long nftCode = (3L << 32) | 4L;
+
+	private final NftIndexKeySerializer subject = new NftIndexKeySerializer();
+
+	@Test
+	void gettersWork() {
+		final var bin = mock(ByteBuffer.class);
+
+		assertEquals(BYTES_IN_SERIALIZED_FORM, subject.deserializeKeySize(bin));
+		assertEquals(BYTES_IN_SERIALIZED_FORM, subject.getSerializedSize());
+		assertEquals(DATA_VERSION, subject.getCurrentDataVersion());
+		assertEquals(CLASS_ID, subject.getClassId());
+		assertEquals(CURRENT_VERSION, subject.getVersion());
+	}
+
+	@Test
+	void deserializeWorks() throws IOException {
+		final var expectedKey = positionKey(NFTS_BY_OWNER, entityNum, nftCode);
+
+		assertEquals(expectedKey, subject.deserialize(serialized(expectedKey), 1));
+	}
+
+	@Test
+	void serializeWorks() throws IOException {
+		final var out = mock(SerializableDataOutputStream.class);
+		final var key = positionKey(NFTS_BY_OWNER, entityNum, nftCode);
+
+		assertEquals(BYTES_IN_SERIALIZED_FORM, subject.serialize(key, out));
+
+		verify(out).writeByte(NFTS_BY_OWNER.ordinal());
+		verify(out).writeByte(NftIndexKey.Kind.POSITION.ordinal());
+		verify(out).writeInt(entityNum);
+		verify(out).writeLong(nftCode);
+	}
+
+	@Test
+	void equalsUsingByteBufferWorks() throws IOException {
+		final var someKey = slotKey(NFTS_BY_OWNER, entityNum, 7);
+
+		assertTrue(subject.equals(serialized(someKey), 1, someKey));
+		assertFalse(subject.equals(serialized(someKey), 1, slotKey(NFTS_BY_TYPE, entityNum, 7)));
+		assertFalse(subject.equals(serialized(someKey), 1, positionKey(NFTS_BY_OWNER, entityNum, 7)));
+		assertFalse(subject.equals(serialized(someKey), 1, slotKey(NFTS_BY_OWNER, entityNum + 1, 7)));
+		assertFalse(subject.equals(serialized(someKey), 1, slotKey(NFTS_BY_OWNER, entityNum, 8)));
+		assertFalse(subject.equals(serialized(someKey), 1, countKey(NFTS_BY_OWNER, entityNum)));
+	}
+
+	@Test
+	void serdesAreNoop() {
+		final var in = mock(SerializableDataInputStream.class);
+		assertDoesNotThrow(() -> subject.deserialize(in, 1));
+		assertDoesNotThrow(() -> subject.serialize(null));
+	}
+
+	private ByteBuffer serialized(final NftIndexKey key) throws IOException {
+		final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+		key.serialize(buffer);
+		return buffer.rewind();
+	}
+}
@@ -0,0 +1,134 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.hedera.services.state.virtual.NftIndexKey.BYTES_IN_SERIALIZED_FORM;
+import static com.hedera.services.state.virtual.NftIndexKey.CLASS_ID;
+import static com.hedera.services.state.virtual.NftIndexKey.CURRENT_VERSION;
+import static com.hedera.services.state.virtual.NftIndexKey.Kind.COUNT;
+import static com.hedera.services.state.virtual.NftIndexKey.Kind.POSITION;
+import static com.hedera.services.state.virtual.NftIndexKey.Kind.SLOT;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.TREASURY_NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.countKey;
+import static com.hedera.services.state.virtual.NftIndexKey.positionKey;
+import static com.hedera.services.state.virtual.NftIndexKey.slotKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NftIndexKeyTest {
+	private final int entityNum = 1234;
+	private final long nftCode = (5678L << 32) | 9L;
+
+	private final NftIndexKey subject = positionKey(NFTS_BY_OWNER, entityNum, nftCode);
+
+	@Test
+	void factoriesUseExpectedKinds() {
+		assertEquals(COUNT, countKey(NFTS_BY_TYPE, entityNum).getKind());
+		assertEquals(0L, countKey(NFTS_BY_TYPE, entityNum).getCode());
+		assertEquals(SLOT, slotKey(NFTS_BY_TYPE, entityNum, 3).getKind());
+		assertEquals(3L, slotKey(NFTS_BY_TYPE, entityNum, 3).getCode());
+		assertEquals(POSITION, subject.getKind());
+		assertEquals(NFTS_BY_OWNER, subject.getRelation());
+		assertEquals(entityNum, subject.getEntityNumCode());
+		assertEquals(nftCode, subject.getCode());
+	}
+
+	@Test
+	void objectContractMet() {
+		final var same = positionKey(NFTS_BY_OWNER, entityNum, nftCode);
+		final var diffRelation = positionKey(TREASURY_NFTS_BY_TYPE, entityNum, nftCode);
+		final var diffKind = slotKey(NFTS_BY_OWNER, entityNum, nftCode);
+		final var diffNum = positionKey(NFTS_BY_OWNER, entityNum + 1, nftCode);
+		final var diffCode = positionKey(NFTS_BY_OWNER, entityNum, nftCode + 1);
+
+		assertEquals(subject, subject);
+		assertEquals(subject, same);
+		assertEquals(subject.hashCode(), same.hashCode());
+		assertNotEquals(subject, null);
+		assertNotEquals(subject, new Object());
+		assertNotEquals(subject, diffRelation);
+		assertNotEquals(subject, diffKind);
+		assertNotEquals(subject, diffNum);
+		assertNotEquals(subject, diffCode);
+		assertNotEquals(subject.hashCode(), diffCode.hashCode());
+	}
+
+	@Test
+	void ordersByRelationThenNumThenKindThenCode() {
+		assertEquals(0, subject.compareTo(subject));
+		assertEquals(0, subject.compareTo(positionKey(NFTS_BY_OWNER, entityNum, nftCode)));
+		assertTrue(subject.compareTo(positionKey(NFTS_BY_TYPE, entityNum + 1, nftCode)) > 0);
+		assertTrue(subject.compareTo(countKey(NFTS_BY_OWNER, entityNum + 1)) < 0);
+		assertTrue(subject.compareTo(slotKey(NFTS_BY_OWNER, entityNum, nftCode + 1)) > 0);
+		assertTrue(subject.compareTo(positionKey(NFTS_BY_OWNER, entityNum, nftCode + 1)) < 0);
+	}
+
+	@Test
+	void byteBufferSerdeRoundTrips() throws IOException {
+		final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+		subject.serialize(buffer);
+		assertEquals(BYTES_IN_SERIALIZED_FORM, buffer.position());
+
+		buffer.rewind();
+		final var copy = new NftIndexKey();
+		copy.deserialize(buffer, CURRENT_VERSION);
+
+		assertEquals(subject, copy);
+	}
+
+	@Test
+	void streamSerdeRoundTrips() throws IOException {
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+		subject.serialize(out);
+		out.flush();
+		assertEquals(BYTES_IN_SERIALIZED_FORM, baos.size());
+
+		final var in = new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		final var copy = new NftIndexKey();
+		copy.deserialize(in, CURRENT_VERSION);
+
+		assertEquals(subject, copy);
+	}
+
+	@Test
+	void gettersWork() {
+		assertEquals(CLASS_ID, subject.getClassId());
+		assertEquals(CURRENT_VERSION, subject.getVersion());
+		assertEquals(CURRENT_VERSION, subject.getMinimumSupportedVersion());
+		assertEquals(BYTES_IN_SERIALIZED_FORM, NftIndexKey.sizeInBytes());
+		assertEquals(
+				"NftIndexKey{relation=NFTS_BY_OWNER, kind=POSITION, entityNumCode=1234, code=" + nftCode + "}",
+				subject.toString());
+	}
+}
@@ -0,0 +1,98 @@
+package com.hedera.services.state.virtual;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.hedera.services.state.virtual.NftIndexValue.BYTES_IN_SERIALIZED_FORM;
+import static com.hedera.services.state.virtual.NftIndexValue.CLASS_ID;
+import static com.hedera.services.state.virtual.NftIndexValue.CURRENT_VERSION;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class NftIndexValueTest {
+	private final long value = (123L << 32) | 456L;
+
+	private final NftIndexValue subject = new NftIndexValue(value);
+
+	@Test
+	void copiesAreEqual() {
+		final var copy = subject.copy();
+
+		assertNotSame(subject, copy);
+		assertEquals(subject, copy);
+		assertEquals(subject.hashCode(), copy.hashCode());
+		assertSame(subject, subject.asReadOnly());
+		assertDoesNotThrow(subject::release);
+	}
+
+	@Test
+	void objectContractMet() {
+		assertEquals(subject, subject);
+		assertNotEquals(subject, null);
+		assertNotEquals(subject, new Object());
+		assertNotEquals(subject, new NftIndexValue(value + 1));
+		assertEquals("NftIndexValue{value=" + value + "}", subject.toString());
+	}
+
+	@Test
+	void byteBufferSerdeRoundTrips() throws IOException {
+		final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+		subject.serialize(buffer);
+
+		buffer.rewind();
+		final var copy = new NftIndexValue();
+		copy.deserialize(buffer, CURRENT_VERSION);
+
+		assertEquals(value, copy.getValue());
+	}
+
+	@Test
+	void streamSerdeRoundTrips() throws IOException {
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+		subject.serialize(out);
+		out.flush();
+
+		final var in = new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		final var copy = new NftIndexValue();
+		copy.deserialize(in, CURRENT_VERSION);
+
+		assertEquals(value, copy.getValue());
+	}
+
+	@Test
+	void gettersWork() {
+		assertEquals(CLASS_ID, subject.getClassId());
+		assertEquals(CURRENT_VERSION, subject.getVersion());
+		assertEquals(BYTES_IN_SERIALIZED_FORM, NftIndexValue.sizeInBytes());
+	}
+}
@@ -0,0 +1,58 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.swirlds.common.statistics.StatEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GaugeFactoryTest {
+	GaugeFactory subject = new GaugeFactory() { };
+
+	@Test
+	void constructsExpectedEntry() {
+		// setup:
+		var name = "MyGauge";
+		var desc = "Happy thoughts";
+		var level = new AtomicLong(123);
+
+		// when:
+		StatEntry gauge = subject.from(name, desc, level::get);
+
+		// then:
+		assertEquals("app", gauge.category);
+		assertEquals(name, gauge.name);
+		assertEquals(desc, gauge.desc);
+		assertEquals("%d", gauge.format);
+		assertNull(gauge.buffered);
+		assertNull(gauge.init);
+		assertEquals(123L, gauge.statsStringSupplier.get());
+		// and when:
+		level.set(45);
+		// then:
+		assertEquals(45L, gauge.statsStringSupplier.get());
+	}
+}
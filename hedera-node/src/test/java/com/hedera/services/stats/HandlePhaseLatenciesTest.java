@@ -0,0 +1,192 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.statistics.StatEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileCreate;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class HandlePhaseLatenciesTest {
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	private NodeLocalProperties properties;
+
+	private HandlePhaseLatencies subject;
+
+	@Test
+	void isNoopIfNotEnabled() {
+		subject = new HandlePhaseLatencies(properties);
+		final List<StatEntry> registered = new ArrayList<>();
+
+		assertTrue(subject.isShouldNoop());
+		assertEquals(0L, subject.startSpan());
+		assertDoesNotThrow(() -> subject.beginTxn(CryptoTransfer));
+		assertDoesNotThrow(() -> subject.endSpan(TRANSITION, 0L));
+		assertDoesNotThrow(subject::dumpIfRequested);
+		assertDoesNotThrow(subject::rollWindow);
+		subject.registerStatistics(registered::add);
+		assertTrue(registered.isEmpty());
+	}
+
+	@Test
+	void attributesSpansToCurrentFunction() {
+		givenEnabledSubject();
+
+		subject.beginTxn(CryptoTransfer);
+		subject.endSpan(TRANSITION, subject.startSpan());
+		subject.endSpan(FEE_CHARGING, subject.startSpan());
+		subject.beginTxn(ConsensusSubmitMessage);
+		subject.endSpan(TRANSITION, subject.startSpan());
+
+		assertEquals(1, subject.histogramFor(CryptoTransfer, TRANSITION).count());
+		assertEquals(1, subject.histogramFor(CryptoTransfer, FEE_CHARGING).count());
+		assertEquals(1, subject.histogramFor(ConsensusSubmitMessage, TRANSITION).count());
+		assertEquals(0, subject.histogramFor(ConsensusSubmitMessage, FEE_CHARGING).count());
+		assertEquals(2, subject.allFunctionsHistogramFor(TRANSITION).count());
+		assertNull(subject.histogramFor(FileCreate, TRANSITION));
+	}
+
+	@Test
+	void registersTwoPercentilesPerPhase() {
+		givenEnabledSubject();
+		final List<StatEntry> registered = new ArrayList<>();
+
+		subject.registerStatistics(registered::add);
+
+		assertEquals(2 * HandlePhase.values().length, registered.size());
+		assertEquals("handleTransitionP50Us", registered.get(2 * TRANSITION.ordinal()).name);
+		assertEquals("handleTransitionP99Us", registered.get(2 * TRANSITION.ordinal() + 1).name);
+	}
+
+	@Test
+	void gaugesOnlyReportTheLastCompletedWindow() {
+		givenEnabledSubject();
+		final List<StatEntry> registered = new ArrayList<>();
+		subject.registerStatistics(registered::add);
+		final var p50 = registered.get(2 * TRANSITION.ordinal());
+
+		subject.beginTxn(CryptoTransfer);
+		subject.endSpan(TRANSITION, System.nanoTime() - 2_000_000);
+		assertEquals(0L, p50.statsStringSupplier.get());
+		assertEquals(0, subject.lastWindowHistogramFor(TRANSITION).count());
+
+		subject.rollWindow();
+		subject.beginTxn(CryptoTransfer);
+		assertEquals(1, subject.lastWindowHistogramFor(TRANSITION).count());
+		assertTrue((long) p50.statsStringSupplier.get() >= 2_000L);
+
+		subject.rollWindow();
+		subject.beginTxn(CryptoTransfer);
+		assertEquals(0, subject.lastWindowHistogramFor(TRANSITION).count());
+		assertEquals(0L, p50.statsStringSupplier.get());
+		assertEquals(1, subject.allFunctionsHistogramFor(TRANSITION).count());
+	}
+
+	@Test
+	void nextDumpOnlyCoversSpansAfterTheLast() throws IOException {
+		givenEnabledSubject();
+		final var dumpPath = tempDir.resolve("phases.csv");
+		final var requestPath = tempDir.resolve("phases.csv" + HandlePhaseLatencies.DUMP_REQUEST_SUFFIX);
+
+		subject.beginTxn(CryptoTransfer);
+		subject.endSpan(TRANSITION, subject.startSpan());
+		Files.createFile(requestPath);
+		subject.dumpIfRequested();
+
+		subject.beginTxn(FileCreate);
+		subject.endSpan(TRANSITION, subject.startSpan());
+		assertNull(subject.histogramFor(CryptoTransfer, TRANSITION));
+		assertEquals(1, subject.allFunctionsHistogramFor(TRANSITION).count());
+
+		Files.createFile(requestPath);
+		subject.dumpIfRequested();
+		final var lines = Files.readAllLines(dumpPath);
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(1).startsWith("FileCreate,TRANSITION,1,"));
+		assertTrue(lines.get(2).startsWith("ALL,TRANSITION,1,"));
+	}
+
+	@Test
+	void dumpsOnlyWhenRequested() throws IOException {
+		givenEnabledSubject();
+		final var dumpPath = tempDir.resolve("phases.csv");
+		final var requestPath = tempDir.resolve("phases.csv" + HandlePhaseLatencies.DUMP_REQUEST_SUFFIX);
+
+		subject.beginTxn(CryptoTransfer);
+		subject.endSpan(TRANSITION, System.nanoTime() - 2_000_000);
+
+		subject.dumpIfRequested();
+		assertFalse(Files.exists(dumpPath));
+
+		Files.createFile(requestPath);
+		subject.dumpIfRequested();
+		assertFalse(Files.exists(requestPath));
+
+		final var lines = Files.readAllLines(dumpPath);
+		assertEquals(3, lines.size());
+		assertEquals(HandlePhaseLatencies.CSV_HEADER, lines.get(0));
+		assertTrue(lines.get(1).startsWith("CryptoTransfer,TRANSITION,1,"));
+		assertTrue(lines.get(2).startsWith("ALL,TRANSITION,1,"));
+	}
+
+	@Test
+	void warnsButDoesNotThrowIfDumpFails() throws IOException {
+		final var blockingFile = tempDir.resolve("notADir");
+		Files.createFile(blockingFile);
+		given(properties.areHandlePhaseLatenciesEnabled()).willReturn(true);
+		given(properties.handlePhasesDumpPath()).willReturn(blockingFile.resolve("phases.csv").toString());
+		subject = new HandlePhaseLatencies(properties);
+
+		assertDoesNotThrow(subject::dumpIfRequested);
+	}
+
+	private void givenEnabledSubject() {
+		given(properties.areHandlePhaseLatenciesEnabled()).willReturn(true);
+		given(properties.handlePhasesDumpPath()).willReturn(tempDir.resolve("phases.csv").toString());
+		subject = new HandlePhaseLatencies(properties);
+	}
+}
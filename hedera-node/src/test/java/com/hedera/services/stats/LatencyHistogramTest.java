@@ -0,0 +1,84 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+	private final LatencyHistogram subject = new LatencyHistogram();
+
+	@Test
+	void emptyHistogramReportsZeros() {
+		assertEquals(0, subject.count());
+		assertEquals(0, subject.meanNanos());
+		assertEquals(0, subject.valueAtPercentile(99.0));
+	}
+
+	@Test
+	void smallValuesAreExact() {
+		for (long i = 0; i < 2 * LatencyHistogram.SUB_BUCKET_COUNT; i++) {
+			assertEquals(i, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketFor(i)));
+		}
+	}
+
+	@Test
+	void bucketsAreContiguousAndWithinRelativeError() {
+		var prevBucket = LatencyHistogram.bucketFor(0);
+		for (long v = 1; v < 1L << 20; v++) {
+			final var bucket = LatencyHistogram.bucketFor(v);
+			assertTrue(bucket == prevBucket || bucket == prevBucket + 1);
+			final var upper = LatencyHistogram.upperBoundOf(bucket);
+			assertTrue(upper >= v);
+			assertTrue(upper - v <= v / LatencyHistogram.SUB_BUCKET_COUNT);
+			prevBucket = bucket;
+		}
+	}
+
+	@Test
+	void hugeAndNegativeValuesAreClamped() {
+		assertEquals(LatencyHistogram.NUM_BUCKETS - 1, LatencyHistogram.bucketFor(Long.MAX_VALUE));
+		assertEquals(LatencyHistogram.NUM_BUCKETS - 1, LatencyHistogram.bucketFor((1L << 36) - 1));
+		assertEquals(0, LatencyHistogram.bucketFor(-1));
+	}
+
+	@Test
+	void percentilesAreApproximatelyRight() {
+		for (long i = 1; i <= 1_000; i++) {
+			subject.record(i * 1_000);
+		}
+
+		assertEquals(1_000, subject.count());
+		assertEquals(500_500, subject.meanNanos());
+		assertWithinRelativeError(500_000, subject.valueAtPercentile(50.0));
+		assertWithinRelativeError(990_000, subject.valueAtPercentile(99.0));
+		assertWithinRelativeError(1_000_000, subject.valueAtPercentile(100.0));
+	}
+
+	private void assertWithinRelativeError(final long expected, final long actual) {
+		assertTrue(actual >= expected, "Expected " + actual + " >= " + expected);
+		assertTrue(actual - expected <= expected / LatencyHistogram.SUB_BUCKET_COUNT,
+				"Expected " + actual + " to be near " + expected);
+	}
+}
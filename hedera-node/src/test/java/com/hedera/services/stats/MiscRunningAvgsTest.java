@@ -53,6 +53,13 @@ class MiscRunningAvgsTest {
 		final var queueSizes = mock(StatEntry.class);
 		final var submitSizes = mock(StatEntry.class);
 		final var gasPerSec = mock(StatEntry.class);
+		final var prepareDepths = mock(StatEntry.class);
+		final var handoffSizes = mock(StatEntry.class);
+		final var handoffLatencies = mock(StatEntry.class);
+		final var signedStateQueryStalenessMs = mock(StatEntry.class);
+		final var slotPrefetchPrecision = mock(StatEntry.class);
+		final var slotPrefetchRecall = mock(StatEntry.class);
+		final var localCallQueueLatencyMs = mock(StatEntry.class);
 		given(factory.from(
 				MiscRunningAvgs.Names.ACCOUNT_LOOKUP_RETRIES,
 				MiscRunningAvgs.Descriptions.ACCOUNT_LOOKUP_RETRIES,
@@ -73,6 +80,34 @@ class MiscRunningAvgsTest {
 				MiscRunningAvgs.Names.GAS_PER_CONSENSUS_SEC,
 				MiscRunningAvgs.Descriptions.GAS_PER_CONSENSUS_SEC,
 				subject.gasPerConsSec)).willReturn(gasPerSec);
+		given(factory.from(
+				MiscRunningAvgs.Names.PREPARE_QUEUE_DEPTH,
+				MiscRunningAvgs.Descriptions.PREPARE_QUEUE_DEPTH,
+				subject.prepareQueueDepth)).willReturn(prepareDepths);
+		given(factory.from(
+				MiscRunningAvgs.Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+				MiscRunningAvgs.Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+				subject.handoffQueueSizeRecordStream)).willReturn(handoffSizes);
+		given(factory.from(
+				MiscRunningAvgs.Names.HANDOFF_LATENCY_US_RECORD_STREAM,
+				MiscRunningAvgs.Descriptions.HANDOFF_LATENCY_US_RECORD_STREAM,
+				subject.handoffLatencyUsRecordStream)).willReturn(handoffLatencies);
+		given(factory.from(
+				MiscRunningAvgs.Names.SIGNED_STATE_QUERY_STALENESS_MS,
+				MiscRunningAvgs.Descriptions.SIGNED_STATE_QUERY_STALENESS_MS,
+				subject.signedStateQueryStalenessMs)).willReturn(signedStateQueryStalenessMs);
+		given(factory.from(
+				MiscRunningAvgs.Names.SLOT_PREFETCH_PRECISION,
+				MiscRunningAvgs.Descriptions.SLOT_PREFETCH_PRECISION,
+				subject.slotPrefetchPrecision)).willReturn(slotPrefetchPrecision);
+		given(factory.from(
+				MiscRunningAvgs.Names.SLOT_PREFETCH_RECALL,
+				MiscRunningAvgs.Descriptions.SLOT_PREFETCH_RECALL,
+				subject.slotPrefetchRecall)).willReturn(slotPrefetchRecall);
+		given(factory.from(
+				MiscRunningAvgs.Names.LOCAL_CALL_QUEUE_LATENCY_MS,
+				MiscRunningAvgs.Descriptions.LOCAL_CALL_QUEUE_LATENCY_MS,
+				subject.localCallQueueLatencyMs)).willReturn(localCallQueueLatencyMs);
 
 		subject.registerWith(platform);
 
@@ -81,6 +116,13 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
 		verify(platform).addAppStatEntry(gasPerSec);
+		verify(platform).addAppStatEntry(prepareDepths);
+		verify(platform).addAppStatEntry(handoffSizes);
+		verify(platform).addAppStatEntry(handoffLatencies);
+		verify(platform).addAppStatEntry(signedStateQueryStalenessMs);
+		verify(platform).addAppStatEntry(slotPrefetchPrecision);
+		verify(platform).addAppStatEntry(slotPrefetchRecall);
+		verify(platform).addAppStatEntry(localCallQueueLatencyMs);
 	}
 
 	@Test
@@ -91,12 +133,26 @@ class MiscRunningAvgsTest {
 		final var submitSizes = mock(StatsRunningAverage.class);
 		final var hashS = mock(StatsRunningAverage.class);
 		final var gasPerSec = mock(StatsRunningAverage.class);
+		final var prepareDepth = mock(StatsRunningAverage.class);
+		final var handoffSize = mock(StatsRunningAverage.class);
+		final var handoffLatency = mock(StatsRunningAverage.class);
+		final var signedStateQueryStalenessMs = mock(StatsRunningAverage.class);
+		final var slotPrefetchPrecision = mock(StatsRunningAverage.class);
+		final var slotPrefetchRecall = mock(StatsRunningAverage.class);
+		final var localCallQueueLatencyMs = mock(StatsRunningAverage.class);
 		subject.accountLookupRetries = retries;
 		subject.accountRetryWaitMs = waitMs;
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
 		subject.hashQueueSizeRecordStream = hashS;
 		subject.gasPerConsSec = gasPerSec;
+		subject.prepareQueueDepth = prepareDepth;
+		subject.handoffQueueSizeRecordStream = handoffSize;
+		subject.handoffLatencyUsRecordStream = handoffLatency;
+		subject.signedStateQueryStalenessMs = signedStateQueryStalenessMs;
+		subject.slotPrefetchPrecision = slotPrefetchPrecision;
+		subject.slotPrefetchRecall = slotPrefetchRecall;
+		subject.localCallQueueLatencyMs = localCallQueueLatencyMs;
 
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
@@ -104,6 +160,13 @@ class MiscRunningAvgsTest {
 		subject.writeQueueSizeRecordStream(4);
 		subject.hashQueueSizeRecordStream(5);
 		subject.recordGasPerConsSec(6L);
+		subject.recordPrepareQueueDepth(7);
+		subject.handoffQueueSizeRecordStream(9);
+		subject.handoffLatencyUsRecordStream(10L);
+		subject.recordSignedStateQueryStalenessMs(16L);
+		subject.recordSlotPrefetchPrecision(0.17);
+		subject.recordSlotPrefetchRecall(0.18);
+		subject.recordLocalCallQueueLatencyMs(19L);
 
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
@@ -111,5 +174,12 @@ class MiscRunningAvgsTest {
 		verify(queueSize).recordValue(4.0);
 		verify(hashS).recordValue(5);
 		verify(gasPerSec).recordValue(6L);
+		verify(prepareDepth).recordValue(7.0);
+		verify(handoffSize).recordValue(9.0);
+		verify(handoffLatency).recordValue(10.0);
+		verify(signedStateQueryStalenessMs).recordValue(16.0);
+		verify(slotPrefetchPrecision).recordValue(0.17);
+		verify(slotPrefetchRecall).recordValue(0.18);
+		verify(localCallQueueLatencyMs).recordValue(19.0);
 	}
 }
@@ -54,6 +54,20 @@ class MiscSpeedometersTest {
 		final var async = mock(StatEntry.class);
 		final var retries = mock(StatEntry.class);
 		final var rejections = mock(StatEntry.class);
+		final var reuses = mock(StatEntry.class);
+		final var misses = mock(StatEntry.class);
+		final var invalidations = mock(StatEntry.class);
+		final var backPressure = mock(StatEntry.class);
+		final var ingestReuses = mock(StatEntry.class);
+		final var ingestMisses = mock(StatEntry.class);
+		final var signedStateQueries = mock(StatEntry.class);
+		final var workingStateFallbacks = mock(StatEntry.class);
+		final var feeMemoHits = mock(StatEntry.class);
+		final var feeMemoMisses = mock(StatEntry.class);
+		final var sigMetaCacheHits = mock(StatEntry.class);
+		final var sigMetaCacheMisses = mock(StatEntry.class);
+		final var storageSlotCacheHits = mock(StatEntry.class);
+		final var storageSlotCacheMisses = mock(StatEntry.class);
 		given(factory.from(
 				argThat(MiscSpeedometers.Names.SYNC_VERIFICATIONS::equals),
 				argThat(MiscSpeedometers.Descriptions.SYNC_VERIFICATIONS::equals),
@@ -70,6 +84,62 @@ class MiscSpeedometersTest {
 				argThat(MiscSpeedometers.Names.PLATFORM_TXN_REJECTIONS::equals),
 				argThat(MiscSpeedometers.Descriptions.PLATFORM_TXN_REJECTIONS::equals),
 				any())).willReturn(rejections);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIG_EXPANSION_REUSES::equals),
+				argThat(MiscSpeedometers.Descriptions.SIG_EXPANSION_REUSES::equals),
+				any())).willReturn(reuses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIG_EXPANSION_MISSES::equals),
+				argThat(MiscSpeedometers.Descriptions.SIG_EXPANSION_MISSES::equals),
+				any())).willReturn(misses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIG_EXPANSION_INVALIDATIONS::equals),
+				argThat(MiscSpeedometers.Descriptions.SIG_EXPANSION_INVALIDATIONS::equals),
+				any())).willReturn(invalidations);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.PREPARE_BACK_PRESSURE::equals),
+				argThat(MiscSpeedometers.Descriptions.PREPARE_BACK_PRESSURE::equals),
+				any())).willReturn(backPressure);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.INGEST_ACCESSOR_REUSES::equals),
+				argThat(MiscSpeedometers.Descriptions.INGEST_ACCESSOR_REUSES::equals),
+				any())).willReturn(ingestReuses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.INGEST_ACCESSOR_MISSES::equals),
+				argThat(MiscSpeedometers.Descriptions.INGEST_ACCESSOR_MISSES::equals),
+				any())).willReturn(ingestMisses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIGNED_STATE_QUERY_ANSWERS::equals),
+				argThat(MiscSpeedometers.Descriptions.SIGNED_STATE_QUERY_ANSWERS::equals),
+				any())).willReturn(signedStateQueries);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.WORKING_STATE_QUERY_FALLBACKS::equals),
+				argThat(MiscSpeedometers.Descriptions.WORKING_STATE_QUERY_FALLBACKS::equals),
+				any())).willReturn(workingStateFallbacks);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.FEE_MEMO_HITS::equals),
+				argThat(MiscSpeedometers.Descriptions.FEE_MEMO_HITS::equals),
+				any())).willReturn(feeMemoHits);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.FEE_MEMO_MISSES::equals),
+				argThat(MiscSpeedometers.Descriptions.FEE_MEMO_MISSES::equals),
+				any())).willReturn(feeMemoMisses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIG_META_CACHE_HITS::equals),
+				argThat(MiscSpeedometers.Descriptions.SIG_META_CACHE_HITS::equals),
+				any())).willReturn(sigMetaCacheHits);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.SIG_META_CACHE_MISSES::equals),
+				argThat(MiscSpeedometers.Descriptions.SIG_META_CACHE_MISSES::equals),
+				any())).willReturn(sigMetaCacheMisses);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.STORAGE_SLOT_CACHE_HITS::equals),
+				argThat(MiscSpeedometers.Descriptions.STORAGE_SLOT_CACHE_HITS::equals),
+				any())).willReturn(storageSlotCacheHits);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.STORAGE_SLOT_CACHE_MISSES::equals),
+				argThat(MiscSpeedometers.Descriptions.STORAGE_SLOT_CACHE_MISSES::equals),
+				any())).willReturn(storageSlotCacheMisses);
 
 		subject.registerWith(platform);
 
@@ -77,6 +147,20 @@ class MiscSpeedometersTest {
 		verify(platform).addAppStatEntry(sync);
 		verify(platform).addAppStatEntry(async);
 		verify(platform).addAppStatEntry(rejections);
+		verify(platform).addAppStatEntry(reuses);
+		verify(platform).addAppStatEntry(misses);
+		verify(platform).addAppStatEntry(invalidations);
+		verify(platform).addAppStatEntry(backPressure);
+		verify(platform).addAppStatEntry(ingestReuses);
+		verify(platform).addAppStatEntry(ingestMisses);
+		verify(platform).addAppStatEntry(signedStateQueries);
+		verify(platform).addAppStatEntry(workingStateFallbacks);
+		verify(platform).addAppStatEntry(feeMemoHits);
+		verify(platform).addAppStatEntry(feeMemoMisses);
+		verify(platform).addAppStatEntry(sigMetaCacheHits);
+		verify(platform).addAppStatEntry(sigMetaCacheMisses);
+		verify(platform).addAppStatEntry(storageSlotCacheHits);
+		verify(platform).addAppStatEntry(storageSlotCacheMisses);
 	}
 
 	@Test
@@ -85,19 +169,75 @@ class MiscSpeedometersTest {
 		final var sync = mock(StatsSpeedometer.class);
 		final var async = mock(StatsSpeedometer.class);
 		final var rejections = mock(StatsSpeedometer.class);
+		final var reuses = mock(StatsSpeedometer.class);
+		final var misses = mock(StatsSpeedometer.class);
+		final var invalidations = mock(StatsSpeedometer.class);
+		final var backPressure = mock(StatsSpeedometer.class);
+		final var ingestReuses = mock(StatsSpeedometer.class);
+		final var ingestMisses = mock(StatsSpeedometer.class);
+		final var signedStateQueries = mock(StatsSpeedometer.class);
+		final var workingStateFallbacks = mock(StatsSpeedometer.class);
+		final var feeMemoHits = mock(StatsSpeedometer.class);
+		final var feeMemoMisses = mock(StatsSpeedometer.class);
+		final var sigMetaCacheHits = mock(StatsSpeedometer.class);
+		final var sigMetaCacheMisses = mock(StatsSpeedometer.class);
+		final var storageSlotCacheHits = mock(StatsSpeedometer.class);
+		final var storageSlotCacheMisses = mock(StatsSpeedometer.class);
 		subject.accountLookupRetries = retries;
 		subject.syncVerifications = sync;
 		subject.platformTxnRejections = rejections;
 		subject.asyncVerifications = async;
+		subject.sigExpansionReuses = reuses;
+		subject.sigExpansionMisses = misses;
+		subject.sigExpansionInvalidations = invalidations;
+		subject.prepareBackPressure = backPressure;
+		subject.ingestAccessorReuses = ingestReuses;
+		subject.ingestAccessorMisses = ingestMisses;
+		subject.signedStateQueryAnswers = signedStateQueries;
+		subject.workingStateQueryFallbacks = workingStateFallbacks;
+		subject.feeMemoHits = feeMemoHits;
+		subject.feeMemoMisses = feeMemoMisses;
+		subject.sigMetaCacheHits = sigMetaCacheHits;
+		subject.sigMetaCacheMisses = sigMetaCacheMisses;
+		subject.storageSlotCacheHits = storageSlotCacheHits;
+		subject.storageSlotCacheMisses = storageSlotCacheMisses;
 
 		subject.cycleAccountLookupRetries();
 		subject.cycleAsyncVerifications();
 		subject.cycleSyncVerifications();
 		subject.cyclePlatformTxnRejections();
+		subject.cycleSigExpansionReuses();
+		subject.cycleSigExpansionMisses();
+		subject.cycleSigExpansionInvalidations();
+		subject.cyclePrepareBackPressure();
+		subject.cycleIngestAccessorReuses();
+		subject.cycleIngestAccessorMisses();
+		subject.cycleSignedStateQueryAnswers();
+		subject.cycleWorkingStateQueryFallbacks();
+		subject.cycleFeeMemoHits();
+		subject.cycleFeeMemoMisses();
+		subject.cycleSigMetaCacheHits();
+		subject.cycleSigMetaCacheMisses();
+		subject.recordStorageSlotCacheHits(3);
+		subject.recordStorageSlotCacheMisses(2);
 
 		verify(retries).update(1.0);
 		verify(rejections).update(1.0);
 		verify(sync).update(1.0);
 		verify(async).update(1.0);
+		verify(reuses).update(1.0);
+		verify(misses).update(1.0);
+		verify(invalidations).update(1.0);
+		verify(backPressure).update(1.0);
+		verify(ingestReuses).update(1.0);
+		verify(ingestMisses).update(1.0);
+		verify(signedStateQueries).update(1.0);
+		verify(workingStateFallbacks).update(1.0);
+		verify(feeMemoHits).update(1.0);
+		verify(feeMemoMisses).update(1.0);
+		verify(sigMetaCacheHits).update(1.0);
+		verify(sigMetaCacheMisses).update(1.0);
+		verify(storageSlotCacheHits).update(3.0);
+		verify(storageSlotCacheMisses).update(2.0);
 	}
 }
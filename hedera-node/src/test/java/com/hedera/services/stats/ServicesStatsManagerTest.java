@@ -21,6 +21,7 @@ package com.hedera.services.stats;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
@@ -68,6 +69,10 @@ class ServicesStatsManagerTest {
 	@Mock
 	private NodeLocalProperties properties;
 	@Mock
+	private CodeCache codeCache;
+	@Mock
+	private HandlePhaseLatencies phaseLatencies;
+	@Mock
 	private VirtualMap<ContractKey, ContractValue> storage;
 	@Mock
 	private VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode;
@@ -85,6 +90,8 @@ class ServicesStatsManagerTest {
 		subject = new ServicesStatsManager(
 				counters, runningAvgs, miscSpeedometers, speedometers,
 				properties,
+				codeCache,
+				phaseLatencies,
 				() -> storage, () -> bytecode);
 	}
 
@@ -125,7 +132,11 @@ class ServicesStatsManagerTest {
 		// then:
 		verify(pause).forMs(updateIntervalMs);
 		verify(speedometers).updateAll();
+		verify(phaseLatencies).rollWindow();
+		verify(phaseLatencies).dumpIfRequested();
 		verify(storage).registerStatistics(any());
 		verify(bytecode).registerStatistics(any());
+		verify(codeCache).registerStatistics(any());
+		verify(phaseLatencies).registerStatistics(any());
 	}
 }
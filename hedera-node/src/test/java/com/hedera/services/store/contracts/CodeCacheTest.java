@@ -23,6 +23,7 @@ package com.hedera.services.store.contracts;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.statistics.StatEntry;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
@@ -33,8 +34,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
@@ -50,6 +55,8 @@ class CodeCacheTest {
 
     @BeforeEach
     void setup() {
+        given(properties.prefetchCodeCacheTtlSecs()).willReturn(600);
+        given(properties.prefetchCodeCacheMaxBytes()).willReturn(1_000L);
         codeCache = new CodeCache(properties, entityAccess);
     }
 
@@ -97,4 +104,50 @@ class CodeCacheTest {
 
         assertEquals(eq1, eq2);
     }
+
+    @Test
+    void sharesCodeForIdenticalBytecode() {
+        given(entityAccess.fetchCodeIfPresent(any()))
+                .willReturn(Bytes.of("abc".getBytes()))
+                .willReturn(Bytes.of("abc".getBytes()));
+
+        Code first = codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        Code second = codeCache.getIfPresent(Address.fromHexString("0xdef"));
+
+        assertSame(first, second);
+        assertEquals(2L, codeCache.size());
+        assertEquals(1L, codeCache.getCodeByBytecode().estimatedSize());
+    }
+
+    @Test
+    void boundsCacheByBytecodeSize() {
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.wrap(new byte[600]));
+
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xdef"));
+        codeCache.getCache().cleanUp();
+
+        assertEquals(1L, codeCache.size());
+    }
+
+    @Test
+    void registersAndSamplesStatistics() {
+        final Map<String, StatEntry> entries = new HashMap<>();
+        given(entityAccess.fetchCodeIfPresent(any()))
+                .willReturn(Bytes.of("abc".getBytes()))
+                .willReturn(Bytes.of("abc".getBytes()));
+
+        codeCache.registerStatistics(entry -> entries.put(entry.name, entry));
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xdef"));
+        codeCache.getCache().cleanUp();
+
+        assertEquals(5, entries.size());
+        assertEquals(1L, entries.get(CodeCache.Names.HITS).statsStringSupplier.get());
+        assertEquals(2L, entries.get(CodeCache.Names.MISSES).statsStringSupplier.get());
+        assertEquals(0L, entries.get(CodeCache.Names.EVICTIONS).statsStringSupplier.get());
+        assertEquals(1L, entries.get(CodeCache.Names.DEDUP_HITS).statsStringSupplier.get());
+        assertEquals(6L, entries.get(CodeCache.Names.BYTES).statsStringSupplier.get());
+    }
 }
@@ -89,7 +89,7 @@ class HederaWorldStateTest {
 
 	@BeforeEach
 	void setUp() {
-		CodeCache codeCache = new CodeCache(0, entityAccess);
+		CodeCache codeCache = new CodeCache(0, 1_000_000L, entityAccess);
 	 	subject = new HederaWorldState(ids, entityAccess, codeCache, sigImpactHistorian);
 	}
 
@@ -306,7 +306,7 @@ class HederaWorldStateTest {
 
 	@Test
 	void failsFastIfDeletionsHappenOnStaticWorld() {
-		subject = new HederaWorldState(ids, entityAccess, new CodeCache(0, entityAccess));
+		subject = new HederaWorldState(ids, entityAccess, new CodeCache(0, 1_000_000L, entityAccess));
 		final var tbd = IdUtils.asAccount("0.0.321");
 		final var tbdAddress = EntityIdUtils.asTypedSolidityAddress(tbd);
 		givenNonNullWorldLedgers();
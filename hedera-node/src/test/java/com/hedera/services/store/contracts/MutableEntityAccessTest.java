@@ -38,6 +38,7 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.store.models.NftId;
+import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hedera.services.utils.TxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
@@ -94,6 +95,8 @@ class MutableEntityAccessTest {
 	@Mock
 	private TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger;
 	@Mock
+	private UniqueTokenViewsManager tokenViewsManager;
+	@Mock
 	private TransactionContext txnCtx;
 	@Mock
 	private TxnAccessor accessor;
@@ -125,7 +128,7 @@ class MutableEntityAccessTest {
 		given(ledger.getAccountsLedger()).willReturn(accountsLedger);
 		given(ledger.getNftsLedger()).willReturn(nftsLedger);
 
-		subject = new MutableEntityAccess(ledger, txnCtx, storage, tokensLedger, supplierBytecode);
+		subject = new MutableEntityAccess(ledger, txnCtx, storage, tokensLedger, supplierBytecode, tokenViewsManager);
 	}
 
 	@Test
@@ -26,6 +26,7 @@ import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -40,15 +41,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.Set;
 
 import static com.hedera.services.ledger.properties.AccountProperty.NUM_CONTRACT_KV_PAIRS;
-import static com.hedera.services.store.contracts.SizeLimitedStorage.treeSetFactory;
 import static com.hedera.services.store.contracts.SizeLimitedStorage.ZERO_VALUE;
-import static com.hedera.services.store.contracts.SizeLimitedStorage.incorporateKvImpact;
 import static com.hedera.test.utils.TxnUtils.assertFailsWith;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_CONTRACT_STORAGE_EXCEEDED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_STORAGE_IN_PRICE_REGIME_HAS_BEEN_USED;
@@ -57,8 +53,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class SizeLimitedStorageTest {
@@ -70,16 +72,14 @@ class SizeLimitedStorageTest {
 	private VirtualMap<ContractKey, ContractValue> storage;
 	@Mock
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
-
-	private final Map<Long, TreeSet<ContractKey>> updatedKeys = new TreeMap<>();
-	private final Map<Long, TreeSet<ContractKey>> removedKeys = new TreeMap<>();
-	private final Map<ContractKey, ContractValue> newMappings = new HashMap<>();
+	@Mock
+	private MiscSpeedometers speedometers;
 
 	private SizeLimitedStorage subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new SizeLimitedStorage(dynamicProperties, () -> accounts, () -> storage);
+		subject = new SizeLimitedStorage(dynamicProperties, () -> accounts, () -> storage, speedometers);
 	}
 
 	@Test
@@ -182,6 +182,16 @@ class SizeLimitedStorageTest {
 		assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
 	}
 
+	@Test
+	void touchedSlotsIncludeBothReadsAndWrites() {
+		given(storage.get(firstAKey)).willReturn(aValue);
+
+		subject.getStorage(firstAccount, aLiteralKey);
+		subject.putStorage(nextAccount, aLiteralKey, aLiteralValue);
+
+		assertEquals(Set.of(firstAKey, nextAKey), subject.touchedSlots());
+	}
+
 	@Test
 	void resetsPendingChangesAsExpected() {
 		given(storage.containsKey(firstAKey)).willReturn(true);
@@ -193,9 +203,7 @@ class SizeLimitedStorageTest {
 		subject.beginSession();
 
 		assertTrue(subject.getNewUsages().isEmpty());
-		assertTrue(subject.getNewMappings().isEmpty());
-		assertTrue(subject.getUpdatedKeys().isEmpty());
-		assertTrue(subject.getRemovedKeys().isEmpty());
+		assertTrue(subject.getPendingSlots().isEmpty());
 	}
 
 	@Test
@@ -208,7 +216,7 @@ class SizeLimitedStorageTest {
 	@Test
 	void removedKeysAreRespected() {
 		givenAccount(firstAccount, firstKvPairs);
-		givenContainedStorage(firstAKey, aValue);
+		given(storage.get(firstAKey)).willReturn(aValue);
 
 		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
 
@@ -222,136 +230,201 @@ class SizeLimitedStorageTest {
 	}
 
 	@Test
-	void incorporatesNewAddition() {
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, aValue,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void commitsAllRemovalsBeforeAnyUpdates() {
+		InOrder inOrder = Mockito.inOrder(storage);
+
+		givenNoSizeLimits();
+		given(storage.containsKey(firstBKey)).willReturn(true);
+		given(storage.containsKey(nextAKey)).willReturn(true);
 
-		assertEquals(1, kvImpact);
-		assertEquals(aValue, newMappings.get(firstAKey));
-		assertTrue(updatedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, updatedKeys.get(firstAKey.getContractId()).first());
+		subject.putStorage(nextAccount, aLiteralKey, UInt256.ZERO);
+		subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
+		subject.putStorage(firstAccount, bLiteralKey, UInt256.ZERO);
+
+		subject.validateAndCommit();
+
+		inOrder.verify(storage).remove(firstBKey);
+		inOrder.verify(storage).remove(nextAKey);
+		inOrder.verify(storage).put(firstAKey, aValue);
 	}
 
 	@Test
-	void incorporatesNewUpdate() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, aValue,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void doesNotCommitReadsOrNetNoopRemovals() {
+		givenNoSizeLimits();
 
-		assertEquals(0, kvImpact);
-		assertEquals(aValue, newMappings.get(firstAKey));
-		assertTrue(updatedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, updatedKeys.get(firstAKey.getContractId()).first());
+		subject.getStorage(firstAccount, aLiteralKey);
+		subject.putStorage(firstAccount, bLiteralKey, bLiteralValue);
+		subject.putStorage(firstAccount, bLiteralKey, UInt256.ZERO);
+
+		subject.validateAndCommit();
+
+		verify(storage, never()).put(any(), any());
+		verify(storage, never()).remove(any());
 	}
 
 	@Test
-	void incorporatesRecreatingUpdate() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		removedKeys.computeIfAbsent(firstAKey.getContractId(), treeSetFactory).add(firstAKey);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, aValue,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void memoizesOriginalPresencePerKey() {
+		subject.putStorage(firstAccount, aLiteralKey, aLiteralValue);
+		subject.putStorage(firstAccount, aLiteralKey, bLiteralValue);
+		subject.putStorage(firstAccount, aLiteralKey, UInt256.ZERO);
+		subject.getStorage(firstAccount, aLiteralKey);
 
-		assertEquals(1, kvImpact);
-		assertEquals(aValue, newMappings.get(firstAKey));
-		assertTrue(updatedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, updatedKeys.get(firstAKey.getContractId()).first());
-		assertFalse(removedKeys.get(firstAKey.getContractId()).contains(firstAKey));
+		verify(storage, times(1)).containsKey(firstAKey);
+		verify(storage, never()).get(firstAKey);
+		assertEquals(0, subject.usageSoFar(firstAccount));
 	}
 
 	@Test
-	void incorporatesOverwriteOfPendingUpdate() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		newMappings.put(firstAKey, aValue);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, bValue,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void readOfExtantSlotIsReusedForLaterWrite() {
+		given(storage.get(firstAKey)).willReturn(aValue);
 
-		assertEquals(0, kvImpact);
-		assertEquals(bValue, newMappings.get(firstAKey));
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+		subject.putStorage(firstAccount, aLiteralKey, UInt256.ZERO);
+
+		verify(storage, never()).containsKey(firstAKey);
+		assertEquals(-1, subject.usageSoFar(firstAccount));
+		assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, aLiteralKey));
+	}
+
+	@Test
+	void readOfExtantSlotIsNotRepeated() {
+		given(storage.get(firstAKey)).willReturn(aValue);
+
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+
+		verify(storage, times(1)).get(firstAKey);
+		verifyNoInteractions(speedometers);
+	}
+
+	@Test
+	void recordsSlotCacheUsageOncePerSession() {
+		given(storage.get(firstAKey)).willReturn(aValue);
+		given(dynamicProperties.maxAggregateContractKvPairs()).willReturn(Long.MAX_VALUE);
+
+		subject.getStorage(firstAccount, aLiteralKey);
+		subject.getStorage(firstAccount, aLiteralKey);
+		subject.getStorage(firstAccount, aLiteralKey);
+		subject.validateAndCommit();
+
+		verify(speedometers).recordStorageSlotCacheMisses(1);
+		verify(speedometers).recordStorageSlotCacheHits(2);
+
+		subject.beginSession();
+		subject.validateAndCommit();
+
+		verifyNoMoreInteractions(speedometers);
+	}
+
+	@Test
+	void readsSeeLaterWritesButNotPriorSessions() {
+		given(storage.get(firstAKey)).willReturn(aValue);
+
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+		subject.putStorage(firstAccount, aLiteralKey, bLiteralValue);
+		assertEquals(bLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+
+		subject.beginSession();
+		assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+		verify(storage, times(2)).get(firstAKey);
+	}
+
+	@Test
+	void readOfMissingSlotIsNotRepeated() {
+		assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, aLiteralKey));
+		assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, aLiteralKey));
+
+		verify(storage, times(1)).get(firstAKey);
+		assertFalse(subject.getPendingSlots().get(firstAKey).wasOriginallyPresent());
+	}
+
+	@Test
+	void stagesNewAddition() {
+		final var slot = new SizeLimitedStorage.PendingSlot(false);
+
+		assertEquals(1, slot.stage(aValue));
+		assertEquals(aValue, slot.getPendingValue());
+		assertTrue(slot.isNetChange());
+	}
+
+	@Test
+	void stagesNewUpdate() {
+		final var slot = new SizeLimitedStorage.PendingSlot(true);
+
+		assertEquals(0, slot.stage(aValue));
+		assertEquals(aValue, slot.getPendingValue());
+		assertTrue(slot.isNetChange());
+	}
+
+	@Test
+	void stagesRecreatingUpdate() {
+		final var slot = new SizeLimitedStorage.PendingSlot(true);
+		slot.stage(ZERO_VALUE);
+
+		assertEquals(1, slot.stage(aValue));
+		assertEquals(aValue, slot.getPendingValue());
+	}
+
+	@Test
+	void stagesOverwriteOfPendingUpdate() {
+		final var slot = new SizeLimitedStorage.PendingSlot(false);
+		slot.stage(aValue);
+
+		assertEquals(0, slot.stage(bValue));
+		assertEquals(bValue, slot.getPendingValue());
 	}
 
 	@Test
 	void ignoresNoopZero() {
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+		final var slot = new SizeLimitedStorage.PendingSlot(false);
 
-		assertEquals(0, kvImpact);
+		assertEquals(0, slot.stage(ZERO_VALUE));
+		assertFalse(slot.isNetChange());
 	}
 
 	@Test
-	void incorporatesErasingExtant() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void stagesErasingExtant() {
+		final var slot = new SizeLimitedStorage.PendingSlot(true);
 
-		assertEquals(-1, kvImpact);
-		assertTrue(removedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, removedKeys.get(firstAKey.getContractId()).first());
+		assertEquals(-1, slot.stage(ZERO_VALUE));
+		assertTrue(slot.isNetChange());
+		assertFalse(slot.isPresent());
 	}
 
 	@Test
-	void incorporatesErasingPendingAndAlreadyPresent() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		updatedKeys.computeIfAbsent(firstAKey.getContractId(), treeSetFactory).add(firstAKey);
-		newMappings.put(firstAKey, aValue);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void stagesErasingPendingAndAlreadyPresent() {
+		final var slot = new SizeLimitedStorage.PendingSlot(true);
+		slot.stage(aValue);
 
-		assertEquals(-1, kvImpact);
-		assertTrue(removedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, removedKeys.get(firstAKey.getContractId()).first());
-		assertTrue(updatedKeys.get(firstAKey.getContractId()).isEmpty());
-		assertFalse(newMappings.containsKey(firstAKey));
+		assertEquals(-1, slot.stage(ZERO_VALUE));
+		assertTrue(slot.isNetChange());
 	}
 
 	@Test
-	void incorporatesErasingPendingAndNotAlreadyPresent() {
-		updatedKeys.computeIfAbsent(firstAKey.getContractId(), treeSetFactory).add(firstAKey);
-		newMappings.put(firstAKey, aValue);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void stagesErasingPendingAndNotAlreadyPresent() {
+		final var slot = new SizeLimitedStorage.PendingSlot(false);
+		slot.stage(aValue);
 
-		assertEquals(-1, kvImpact);
-		assertFalse(removedKeys.containsKey(firstAKey.getContractId()));
-		assertTrue(updatedKeys.get(firstAKey.getContractId()).isEmpty());
-		assertFalse(newMappings.containsKey(firstAKey));
+		assertEquals(-1, slot.stage(ZERO_VALUE));
+		assertFalse(slot.isNetChange());
 	}
 
 	@Test
-	void aPendingChangeMustBeReflectedInAnAdditionSet() {
-		newMappings.put(firstAKey, aValue);
-		assertThrows(NullPointerException.class, () -> incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage));
+	void repeatedErasingOfExtantIsCountedEachTime() {
+		final var slot = new SizeLimitedStorage.PendingSlot(true);
+
+		assertEquals(-1, slot.stage(ZERO_VALUE));
+		assertEquals(-1, slot.stage(ZERO_VALUE));
 	}
 
 	@Test
-	void incorporatesErasingNotAlreadyPending() {
-		given(storage.containsKey(firstAKey)).willReturn(true);
-		final var kvImpact = incorporateKvImpact(
-				firstAKey, ZERO_VALUE,
-				updatedKeys, removedKeys, newMappings,
-				storage);
+	void repeatedErasingOfPendingAdditionIsCountedOnce() {
+		final var slot = new SizeLimitedStorage.PendingSlot(false);
+		slot.stage(aValue);
 
-		assertEquals(-1, kvImpact);
-		assertTrue(removedKeys.containsKey(firstAKey.getContractId()));
-		assertEquals(firstAKey, removedKeys.get(firstAKey.getContractId()).first());
+		assertEquals(-1, slot.stage(ZERO_VALUE));
+		assertEquals(0, slot.stage(ZERO_VALUE));
 	}
 
 	/* --- Internal helpers --- */
@@ -362,11 +435,6 @@ class SizeLimitedStorageTest {
 		given(accounts.get(key)).willReturn(account);
 	}
 
-	private void givenContainedStorage(final ContractKey key, final ContractValue value) {
-		given(storage.get(key)).willReturn(value);
-		given(storage.containsKey(key)).willReturn(true);
-	}
-
 	private void givenNoSizeLimits() {
 		given(dynamicProperties.maxIndividualContractKvPairs()).willReturn(Integer.MAX_VALUE);
 		given(dynamicProperties.maxAggregateContractKvPairs()).willReturn(Long.MAX_VALUE);
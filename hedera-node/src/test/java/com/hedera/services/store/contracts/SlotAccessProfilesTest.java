@@ -0,0 +1,171 @@
+package com.hedera.services.store.contracts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.ContractValue;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.virtualmap.VirtualMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hedera.services.store.contracts.SlotAccessProfiles.MAX_SLOTS_PER_PROFILE;
+import static com.hedera.services.store.contracts.SlotAccessProfiles.NO_SELECTOR;
+import static com.hedera.services.store.contracts.SlotAccessProfiles.selectorOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAccessProfilesTest {
+	private static final int MAX_SIZE = 2;
+	private static final long CONTRACT_NUM = 1_234L;
+	private static final int SELECTOR = 0x12345678;
+	private static final ContractKey aKey = new ContractKey(CONTRACT_NUM, 1L);
+	private static final ContractKey bKey = new ContractKey(CONTRACT_NUM, 2L);
+	private static final ContractKey cKey = new ContractKey(CONTRACT_NUM, 3L);
+	private static final ContractKey dKey = new ContractKey(CONTRACT_NUM, 4L);
+
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
+	private VirtualMap<ContractKey, ContractValue> storage;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
+
+	private SlotAccessProfiles subject;
+
+	@BeforeEach
+	void setUp() {
+		given(nodeLocalProperties.prefetchSlotProfilesMaxSize()).willReturn(MAX_SIZE);
+
+		subject = new SlotAccessProfiles(nodeLocalProperties, () -> storage, runningAvgs);
+	}
+
+	@Test
+	void zeroMaxSizeDisablesProfiles() {
+		given(nodeLocalProperties.prefetchSlotProfilesMaxSize()).willReturn(0);
+		subject = new SlotAccessProfiles(nodeLocalProperties, () -> storage, runningAvgs);
+
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey));
+		subject.prefetch(CONTRACT_NUM, SELECTOR);
+
+		assertFalse(subject.isEnabled());
+		assertEquals(0, subject.numProfiles());
+		verifyNoInteractions(storage, runningAvgs);
+	}
+
+	@Test
+	void prefetchReadsEveryLearnedSlot() {
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey, bKey));
+
+		subject.prefetch(CONTRACT_NUM, SELECTOR);
+
+		assertTrue(subject.isEnabled());
+		verify(storage).get(aKey);
+		verify(storage).get(bKey);
+		verifyNoInteractions(runningAvgs);
+	}
+
+	@Test
+	void prefetchWithoutProfileIsNoop() {
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey));
+
+		subject.prefetch(CONTRACT_NUM, NO_SELECTOR);
+		subject.prefetch(CONTRACT_NUM + 1, SELECTOR);
+
+		verifyNoInteractions(storage);
+	}
+
+	@Test
+	void learningRecordsAccuracyOfPreviousProfile() {
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey, bKey, cKey, dKey));
+
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey));
+
+		verify(runningAvgs).recordSlotPrefetchPrecision(0.25);
+		verify(runningAvgs).recordSlotPrefetchRecall(1.0);
+		assertEquals(1, subject.profileFor(CONTRACT_NUM, SELECTOR).length);
+
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey, bKey));
+
+		verify(runningAvgs).recordSlotPrefetchPrecision(1.0);
+		verify(runningAvgs).recordSlotPrefetchRecall(0.5);
+	}
+
+	@Test
+	void callTouchingNoSlotsDropsProfile() {
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey));
+
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of());
+
+		verify(runningAvgs).recordSlotPrefetchPrecision(0.0);
+		assertNull(subject.profileFor(CONTRACT_NUM, SELECTOR));
+		assertEquals(0, subject.numProfiles());
+	}
+
+	@Test
+	void clearsProfilesWhenFull() {
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(aKey));
+		subject.learn(CONTRACT_NUM, NO_SELECTOR, Set.of(bKey));
+		assertEquals(MAX_SIZE, subject.numProfiles());
+
+		subject.learn(CONTRACT_NUM, SELECTOR, Set.of(cKey));
+		assertEquals(MAX_SIZE, subject.numProfiles());
+
+		subject.learn(CONTRACT_NUM + 1, SELECTOR, Set.of(dKey));
+		assertEquals(1, subject.numProfiles());
+		assertNull(subject.profileFor(CONTRACT_NUM, SELECTOR));
+	}
+
+	@Test
+	void profilesAreBounded() {
+		final Set<ContractKey> touched = new HashSet<>();
+		for (int i = 0; i < 2 * MAX_SLOTS_PER_PROFILE; i++) {
+			touched.add(new ContractKey(CONTRACT_NUM, i));
+		}
+
+		subject.learn(CONTRACT_NUM, SELECTOR, touched);
+
+		assertEquals(MAX_SLOTS_PER_PROFILE, subject.profileFor(CONTRACT_NUM, SELECTOR).length);
+	}
+
+	@Test
+	void selectorIsFirstFourBytesOfParams() {
+		assertEquals(NO_SELECTOR, selectorOf(ByteString.EMPTY));
+		assertEquals(NO_SELECTOR, selectorOf(ByteString.copyFrom(new byte[] { 1, 2, 3 })));
+		assertEquals(0x12345678, selectorOf(ByteString.copyFrom(new byte[] { 0x12, 0x34, 0x56, 0x78, 0x01 })));
+		assertEquals(0xa9059cbb, selectorOf(ByteString.copyFrom(new byte[] {
+				(byte) 0xa9, (byte) 0x05, (byte) 0x9c, (byte) 0xbb })));
+	}
+}
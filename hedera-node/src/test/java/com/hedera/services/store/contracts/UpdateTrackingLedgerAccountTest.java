@@ -69,7 +69,7 @@ class UpdateTrackingLedgerAccountTest {
 
 	@BeforeEach
 	void setUp() {
-		CodeCache codeCache = new CodeCache(0, entityAccess);
+		CodeCache codeCache = new CodeCache(0, 1_000_000L, entityAccess);
 		parentState = new HederaWorldState(ids, entityAccess, codeCache);
 	}
 
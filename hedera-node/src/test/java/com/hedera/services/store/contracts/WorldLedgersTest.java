@@ -35,6 +35,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.models.NftId;
+import com.hedera.services.store.tokens.views.UniqueTokenViewsManager;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,6 +54,7 @@ class WorldLedgersTest {
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	private TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger;
 	private TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokensLedger;
+	private UniqueTokenViewsManager tokenViewsManager;
 
 	@Test
 	@SuppressWarnings("unchecked")
@@ -61,8 +63,9 @@ class WorldLedgersTest {
 		accountsLedger = mock(TransactionalLedger.class);
 		nftsLedger = mock(TransactionalLedger.class);
 		tokensLedger = mock(TransactionalLedger.class);
+		tokenViewsManager = mock(UniqueTokenViewsManager.class);
 
-		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger);
+		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger, tokenViewsManager);
 
 		source.commit();
 
@@ -70,6 +73,7 @@ class WorldLedgersTest {
 		verify(accountsLedger).commit();
 		verify(nftsLedger).commit();
 		verify(tokensLedger).commit();
+		verify(tokenViewsManager).commit();
 	}
 
 	@Test
@@ -79,8 +83,9 @@ class WorldLedgersTest {
 		accountsLedger = mock(TransactionalLedger.class);
 		nftsLedger = mock(TransactionalLedger.class);
 		tokensLedger = mock(TransactionalLedger.class);
+		tokenViewsManager = mock(UniqueTokenViewsManager.class);
 
-		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger);
+		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger, tokenViewsManager);
 
 		source.revert();
 
@@ -88,11 +93,13 @@ class WorldLedgersTest {
 		verify(accountsLedger).rollback();
 		verify(nftsLedger).rollback();
 		verify(tokensLedger).rollback();
+		verify(tokenViewsManager).rollback();
 
 		verify(tokenRelsLedger).begin();
 		verify(accountsLedger).begin();
 		verify(nftsLedger).begin();
 		verify(tokensLedger).begin();
+		verify(tokenViewsManager).begin();
 	}
 
 	@Test
@@ -117,8 +124,9 @@ class WorldLedgersTest {
 				MerkleToken::new,
 				new HashMapBackingTokens(),
 				new ChangeSummaryManager<>());
+		tokenViewsManager = UniqueTokenViewsManager.NOOP_VIEWS_MANAGER;
 
-		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger);
+		final var source = new WorldLedgers(tokenRelsLedger, accountsLedger, nftsLedger, tokensLedger, tokenViewsManager);
 		assertTrue(source.areUsable());
 
 		final var wrappedSource = source.wrapped();
@@ -127,6 +135,7 @@ class WorldLedgersTest {
 		assertSame(accountsLedger, wrappedSource.accounts().getEntitiesLedger());
 		assertSame(nftsLedger, wrappedSource.nfts().getEntitiesLedger());
 		assertSame(tokensLedger, wrappedSource.tokens().getEntitiesLedger());
+		assertSame(tokenViewsManager, wrappedSource.tokenViews());
 	}
 
 	@Test
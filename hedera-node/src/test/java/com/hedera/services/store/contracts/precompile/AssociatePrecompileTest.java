@@ -22,6 +22,7 @@ package com.hedera.services.store.contracts.precompile;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
 import com.hedera.services.ledger.TransactionalLedger;
@@ -97,6 +98,8 @@ class AssociatePrecompileTest {
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
 	private GasCalculator gasCalculator;
 	@Mock
 	private AccountRecordsHistorian recordsHistorian;
@@ -160,7 +163,7 @@ class AssociatePrecompileTest {
 	@BeforeEach
 	void setUp() {
 		subject = new HTSPrecompiledContract(
-				validator, dynamicProperties, gasCalculator,
+				validator, dynamicProperties, nodeLocalProperties, gasCalculator,
 				recordsHistorian, sigsVerifier, decoder, encoder,
 				syntheticTxnFactory, creator, dissociationFactory, impliedTransfersMarshal);
 
@@ -409,6 +412,7 @@ class AssociatePrecompileTest {
 		given(wrappedLedgers.tokenRels()).willReturn(tokenRels);
 		given(wrappedLedgers.nfts()).willReturn(nfts);
 		given(wrappedLedgers.tokens()).willReturn(tokens);
+		given(wrappedLedgers.tokenViews()).willReturn(NOOP_VIEWS_MANAGER);
 	}
 
 }
\ No newline at end of file
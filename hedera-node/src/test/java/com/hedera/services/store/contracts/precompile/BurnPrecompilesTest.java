@@ -22,6 +22,7 @@ package com.hedera.services.store.contracts.precompile;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
@@ -102,6 +103,8 @@ class BurnPrecompilesTest {
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
 	private OptionValidator validator;
 	@Mock
 	private GasCalculator gasCalculator;
@@ -161,7 +164,7 @@ class BurnPrecompilesTest {
 	@BeforeEach
 	void setUp() {
 		subject = new HTSPrecompiledContract(
-				validator, dynamicProperties, gasCalculator,
+				validator, dynamicProperties, nodeLocalProperties, gasCalculator,
 				recordsHistorian, sigsVerifier, decoder, encoder,
 				syntheticTxnFactory, creator, dissociationFactory, impliedTransfersMarshal);
 		subject.setBurnLogicFactory(burnLogicFactory);
@@ -268,5 +271,6 @@ class BurnPrecompilesTest {
 		given(wrappedLedgers.tokenRels()).willReturn(tokenRels);
 		given(wrappedLedgers.nfts()).willReturn(nfts);
 		given(wrappedLedgers.tokens()).willReturn(tokens);
+		given(wrappedLedgers.tokenViews()).willReturn(NOOP_VIEWS_MANAGER);
 	}
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ package com.hedera.services.store.contracts.precompile;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
 import com.hedera.services.records.AccountRecordsHistorian;
@@ -72,6 +73,8 @@ class HTSPrecompiledContractTest {
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
 	private OptionValidator validator;
 	@Mock
 	private GasCalculator gasCalculator;
@@ -101,7 +104,7 @@ class HTSPrecompiledContractTest {
 	@BeforeEach
 	void setUp() {
 		subject = new HTSPrecompiledContract(
-				validator, dynamicProperties, gasCalculator,
+				validator, dynamicProperties, nodeLocalProperties, gasCalculator,
 				recordsHistorian, sigsVerifier, decoder, encoder,
 				syntheticTxnFactory, creator, dissociationFactory, impliedTransfers);
 	}
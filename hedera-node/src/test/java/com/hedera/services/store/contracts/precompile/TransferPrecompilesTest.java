@@ -22,6 +22,7 @@ package com.hedera.services.store.contracts.precompile;
 
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
@@ -119,6 +120,8 @@ class TransferPrecompilesTest {
 	@Mock
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
 	private OptionValidator validator;
 	@Mock
 	private GasCalculator gasCalculator;
@@ -185,7 +188,7 @@ class TransferPrecompilesTest {
 	@BeforeEach
 	void setUp() {
 		subject = new HTSPrecompiledContract(
-				validator, dynamicProperties, gasCalculator,
+				validator, dynamicProperties, nodeLocalProperties, gasCalculator,
 				recordsHistorian, sigsVerifier, decoder, encoder,
 				syntheticTxnFactory, creator, dissociationFactory, impliedTransfersMarshal);
 		subject.setTransferLogicFactory(transferLogicFactory);
@@ -234,7 +237,7 @@ class TransferPrecompilesTest {
 		given(decoder.decodeTransferTokens(pretendArguments)).willReturn(Collections.singletonList(tokensTransferList));
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -310,7 +313,7 @@ class TransferPrecompilesTest {
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -356,7 +359,7 @@ class TransferPrecompilesTest {
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -403,7 +406,7 @@ class TransferPrecompilesTest {
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -455,7 +458,7 @@ class TransferPrecompilesTest {
 
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -510,7 +513,7 @@ class TransferPrecompilesTest {
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -554,7 +557,7 @@ class TransferPrecompilesTest {
 		given(impliedTransfersMarshal.validityWithCurrentProps(cryptoTransferTransactionBody)).willReturn(OK);
 
 		given(hederaTokenStoreFactory.newHederaTokenStore(
-				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, tokenRels, nfts, tokens
+				ids, validator, sideEffects, NOOP_VIEWS_MANAGER, dynamicProperties, nodeLocalProperties, tokenRels, nfts, tokens
 		)).willReturn(hederaTokenStore);
 
 		given(transferLogicFactory.newLogic(
@@ -629,5 +632,6 @@ class TransferPrecompilesTest {
 		given(wrappedLedgers.tokenRels()).willReturn(tokenRels);
 		given(wrappedLedgers.nfts()).willReturn(nfts);
 		given(wrappedLedgers.tokens()).willReturn(tokens);
+		given(wrappedLedgers.tokenViews()).willReturn(NOOP_VIEWS_MANAGER);
 	}
 }
\ No newline at end of file
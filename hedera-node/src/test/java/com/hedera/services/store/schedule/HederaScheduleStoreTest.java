@@ -21,6 +21,7 @@ package com.hedera.services.store.schedule;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
@@ -107,6 +108,7 @@ class HederaScheduleStoreTest {
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	private HederaLedger hederaLedger;
 	private GlobalDynamicProperties globalDynamicProperties;
+	private NodeLocalProperties nodeLocalProperties;
 
 	private MerkleSchedule schedule;
 	private MerkleSchedule anotherSchedule;
@@ -130,6 +132,7 @@ class HederaScheduleStoreTest {
 
 		hederaLedger = mock(HederaLedger.class);
 		globalDynamicProperties = mock(GlobalDynamicProperties.class);
+		nodeLocalProperties = mock(NodeLocalProperties.class);
 
 		accountsLedger = (TransactionalLedger<AccountID, AccountProperty, MerkleAccount>) mock(
 				TransactionalLedger.class);
@@ -142,7 +145,7 @@ class HederaScheduleStoreTest {
 		given(schedules.get(fromScheduleId(created))).willReturn(schedule);
 		given(schedules.containsKey(fromScheduleId(created))).willReturn(true);
 
-		subject = new HederaScheduleStore(globalDynamicProperties, ids, () -> schedules);
+		subject = new HederaScheduleStore(globalDynamicProperties, nodeLocalProperties, ids, () -> schedules);
 		subject.setAccountsLedger(accountsLedger);
 		subject.setHederaLedger(hederaLedger);
 	}
@@ -152,7 +155,6 @@ class HederaScheduleStoreTest {
 		final var expected = MerkleSchedule.from(parentTxn.toByteArray(), 0L);
 		expected.setKey(EntityNum.fromLong(created.getScheduleNum()));
 		final var captor = forClass(Consumer.class);
-		final var expectedKey = expected.toContentAddressableView();
 
 		subject.rebuildViews();
 
@@ -163,8 +165,8 @@ class HederaScheduleStoreTest {
 
 		final var extant = subject.getExtantSchedules();
 		assertEquals(1, extant.size());
-		assertTrue(extant.containsKey(expectedKey));
-		assertEquals(created, extant.get(expectedKey).toGrpcScheduleId());
+		verify(nodeLocalProperties).storeIndexesOffHeap();
+		assertTrue(extant.contains(expected.hashCode(), created.getScheduleNum()));
 	}
 
 	@Test
@@ -177,14 +179,12 @@ class HederaScheduleStoreTest {
 	void commitPutsToMapAndClears() {
 		subject.pendingId = created;
 		subject.pendingCreation = schedule;
-		given(schedule.toContentAddressableView()).willReturn(schedule);
 
 		subject.commitCreation();
 
-		verify(schedule).toContentAddressableView();
 		verify(schedules).put(fromScheduleId(created), schedule);
 
-		assertTrue(subject.getExtantSchedules().containsKey(schedule));
+		assertTrue(subject.getExtantSchedules().contains(schedule.hashCode(), created.getScheduleNum()));
 		assertSame(HederaScheduleStore.NO_PENDING_ID, subject.pendingId);
 		assertNull(subject.pendingCreation);
 	}
@@ -363,12 +363,23 @@ class HederaScheduleStoreTest {
 	@Test
 	void recognizesCollidingSchedule() {
 		final var candSchedule = MerkleSchedule.from(parentTxn.toByteArray(), expectedExpiry);
-		final var cav = candSchedule.toContentAddressableView();
-		subject.getExtantSchedules().put(cav, fromScheduleId(created));
+		given(schedules.get(fromScheduleId(created))).willReturn(candSchedule);
+		subject.getExtantSchedules().add(candSchedule.hashCode(), created.getScheduleNum());
 
 		final var scheduleIdPair = subject.lookupSchedule(parentTxn.toByteArray());
 
-		assertEquals(Pair.of(created, schedule), scheduleIdPair);
+		assertEquals(Pair.of(created, candSchedule), scheduleIdPair);
+	}
+
+	@Test
+	void ignoresExtantScheduleWithOnlyCollidingHash() {
+		final var candSchedule = MerkleSchedule.from(parentTxn.toByteArray(), expectedExpiry);
+		subject.getExtantSchedules().add(candSchedule.hashCode(), created.getScheduleNum());
+
+		final var scheduleIdPair = subject.lookupSchedule(parentTxn.toByteArray());
+
+		assertNull(scheduleIdPair.getLeft());
+		assertEquals(candSchedule, scheduleIdPair.getRight());
 	}
 
 	@Test
@@ -472,12 +483,12 @@ class HederaScheduleStoreTest {
 
 	@Test
 	void expiresAsExpected() {
-		subject.getExtantSchedules().put(schedule, fromScheduleId(created));
+		subject.getExtantSchedules().add(schedule.hashCode(), created.getScheduleNum());
 
 		subject.expire(EntityId.fromGrpcScheduleId(created));
 
 		verify(schedules).remove(fromScheduleId(created));
-		assertFalse(subject.getExtantSchedules().containsKey(schedule));
+		assertFalse(subject.getExtantSchedules().containsKey(schedule.hashCode()));
 	}
 
 	@Test
@@ -23,6 +23,7 @@ package com.hedera.services.store.tokens;
 import com.google.protobuf.StringValue;
 import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.BalanceChange;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
@@ -64,7 +65,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -199,6 +199,7 @@ class HederaTokenStoreTest {
 	private EntityIdSource ids;
 	private SideEffectsTracker sideEffectsTracker;
 	private GlobalDynamicProperties properties;
+	private NodeLocalProperties nodeLocalProperties;
 	private UniqueTokenViewsManager uniqueTokenViewsManager;
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	private TransactionalLedger<NftId, NftProperty, MerkleUniqueToken> nftsLedger;
@@ -301,21 +302,21 @@ class HederaTokenStoreTest {
 		given(properties.maxCustomFeesAllowed()).willReturn(maxCustomFees);
 
 		uniqueTokenViewsManager = mock(UniqueTokenViewsManager.class);
+		nodeLocalProperties = mock(NodeLocalProperties.class);
 
 		sideEffectsTracker = new SideEffectsTracker();
 		subject = new HederaTokenStore(
-				ids, TEST_VALIDATOR, sideEffectsTracker, uniqueTokenViewsManager, properties,
+				ids, TEST_VALIDATOR, sideEffectsTracker, uniqueTokenViewsManager, properties, nodeLocalProperties,
 				tokenRelsLedger, nftsLedger, backingTokens);
 		subject.setAccountsLedger(accountsLedger);
 		subject.setHederaLedger(hederaLedger);
-		subject.knownTreasuries.put(treasury, new HashSet<>() {{
-			add(misc);
-		}});
+		subject.addKnownTreasury(treasury, misc);
 	}
 
 	@Test
 	void rebuildsAsExpected() {
-		subject.getKnownTreasuries().put(treasury, Set.of(anotherMisc));
+		subject.addKnownTreasury(treasury, anotherMisc);
+		given(backingTokens.size()).willReturn(2L);
 		token.setKey(EntityNum.fromLong(1L));
 		final var deletedToken = new MerkleToken();
 		deletedToken.setKey(EntityNum.fromLong(2L));
@@ -330,8 +331,8 @@ class HederaTokenStoreTest {
 
 		final var extant = subject.getKnownTreasuries();
 		assertEquals(1, extant.size());
-		assertTrue(extant.containsKey(treasury));
-		assertEquals(Set.of(created), extant.get(treasury));
+		verify(nodeLocalProperties).storeIndexesOffHeap();
+		assertEquals(List.of(created), subject.listOfTokensServed(treasury));
 	}
 
 	@Test
@@ -771,12 +772,8 @@ class HederaTokenStoreTest {
 		final long startCounterpartyNfts = 0;
 		final long startTreasuryTNfts = 1;
 		final long startCounterpartyTNfts = 0;
-		subject.knownTreasuries.put(primaryTreasury, new HashSet<>() {{
-			add(nonfungible);
-		}});
-		subject.knownTreasuries.put(counterparty, new HashSet<>() {{
-			add(nonfungible);
-		}});
+		subject.addKnownTreasury(primaryTreasury, nonfungible);
+		subject.addKnownTreasury(counterparty, nonfungible);
 		given(accountsLedger.get(primaryTreasury, NUM_NFTS_OWNED)).willReturn(startTreasuryNfts);
 		given(accountsLedger.get(counterparty, NUM_NFTS_OWNED)).willReturn(startCounterpartyNfts);
 		given(tokenRelsLedger.get(treasuryNft, TOKEN_BALANCE)).willReturn(startTreasuryTNfts);
@@ -990,61 +987,51 @@ class HederaTokenStoreTest {
 
 	@Test
 	void treasuryRemovalForTokenRemovesKeyWhenEmpty() {
-		final Set<TokenID> tokenSet = new HashSet<>(Arrays.asList(misc));
-		subject.knownTreasuries.put(treasury, tokenSet);
-
 		subject.removeKnownTreasuryForToken(treasury, misc);
 
-		assertFalse(subject.knownTreasuries.containsKey(treasury));
+		assertFalse(subject.knownTreasuries.containsKey(3L));
 		assertTrue(subject.knownTreasuries.isEmpty());
 	}
 
 	@Test
 	void addKnownTreasuryWorks() {
+		subject.knownTreasuries.clear();
+
 		subject.addKnownTreasury(treasury, misc);
 
-		assertTrue(subject.knownTreasuries.containsKey(treasury));
+		assertTrue(subject.knownTreasuries.contains(3L, 1L));
 	}
 
 	@Test
 	void removeKnownTreasuryWorks() {
-		final Set<TokenID> tokenSet = new HashSet<>(Arrays.asList(misc, anotherMisc));
-		subject.knownTreasuries.put(treasury, tokenSet);
+		subject.addKnownTreasury(treasury, anotherMisc);
 
 		subject.removeKnownTreasuryForToken(treasury, misc);
 
-		assertTrue(subject.knownTreasuries.containsKey(treasury));
+		assertTrue(subject.isKnownTreasury(treasury));
 		assertEquals(1, subject.knownTreasuries.size());
-		assertTrue(subject.knownTreasuries.get(treasury).contains(anotherMisc));
+		assertTrue(subject.isTreasuryForToken(treasury, anotherMisc));
 	}
 
 	@Test
 	void isKnownTreasuryWorks() {
-		final Set<TokenID> tokenSet = new HashSet<>(Arrays.asList(misc));
-
-		subject.knownTreasuries.put(treasury, tokenSet);
-
 		assertTrue(subject.isKnownTreasury(treasury));
+		assertFalse(subject.isKnownTreasury(newTreasury));
 	}
 
 	@Test
 	void treasuriesServeWorks() {
-		final Set<TokenID> tokenSet = new HashSet<>(List.of(anotherMisc, misc));
-
-		subject.knownTreasuries.put(treasury, tokenSet);
+		subject.addKnownTreasury(treasury, anotherMisc);
 		assertEquals(List.of(misc, anotherMisc), subject.listOfTokensServed(treasury));
 
-		subject.knownTreasuries.remove(treasury);
+		subject.knownTreasuries.clear();
 		assertSame(Collections.emptyList(), subject.listOfTokensServed(treasury));
 	}
 
 	@Test
 	void isTreasuryForTokenWorks() {
-		final Set<TokenID> tokenSet = new HashSet<>(Arrays.asList(misc));
-
-		subject.knownTreasuries.put(treasury, tokenSet);
-
 		assertTrue(subject.isTreasuryForToken(treasury, misc));
+		assertFalse(subject.isTreasuryForToken(treasury, anotherMisc));
 	}
 
 	@Test
@@ -1081,8 +1068,8 @@ class HederaTokenStoreTest {
 
 		assertEquals(OK, outcome);
 		verify(token, never()).setExpiry(anyLong());
-		assertFalse(subject.knownTreasuries.containsKey(treasury));
-		assertEquals(subject.knownTreasuries.get(newTreasury), tokenSet);
+		assertFalse(subject.isKnownTreasury(treasury));
+		assertEquals(List.copyOf(tokenSet), subject.listOfTokensServed(newTreasury));
 	}
 
 	@Test
@@ -1124,8 +1111,8 @@ class HederaTokenStoreTest {
 		verify(token).setSupplyKey(argThat((JKey k) -> JKey.equalUpToDecodability(k, newFcKey)));
 		verify(token).setWipeKey(argThat((JKey k) -> JKey.equalUpToDecodability(k, newFcKey)));
 		verify(token).setFeeScheduleKey(argThat((JKey k) -> JKey.equalUpToDecodability(k, newFcKey)));
-		assertFalse(subject.knownTreasuries.containsKey(treasury));
-		assertEquals(subject.knownTreasuries.get(newTreasury), tokenSet);
+		assertFalse(subject.isKnownTreasury(treasury));
+		assertEquals(List.copyOf(tokenSet), subject.listOfTokensServed(newTreasury));
 	}
 
 	@Test
@@ -1501,7 +1488,7 @@ class HederaTokenStoreTest {
 		assertSame(HederaTokenStore.NO_PENDING_ID, subject.pendingId);
 		assertNull(subject.pendingCreation);
 		assertTrue(subject.isKnownTreasury(treasury));
-		assertEquals(Set.of(created, misc), subject.knownTreasuries.get(treasury));
+		assertEquals(List.of(misc, created), subject.listOfTokensServed(treasury));
 	}
 
 	@Test
@@ -30,7 +30,6 @@ import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -60,7 +59,7 @@ class AbstractUniqTokenViewTest {
 	@Mock
 	private MerkleMap<EntityNumPair, MerkleUniqueToken> nfts;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> nftsByType;
+	private NftRelation nftsByType;
 
 	private AbstractUniqTokenView subject;
 
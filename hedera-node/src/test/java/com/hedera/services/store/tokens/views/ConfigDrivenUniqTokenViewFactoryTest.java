@@ -25,7 +25,6 @@ import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -44,29 +43,29 @@ class ConfigDrivenUniqTokenViewFactoryTest {
 	@Mock
 	private Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
 	@Mock
-	private Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByType;
+	private Supplier<NftRelation> nftsByType;
 	@Mock
-	private Supplier<FCOneToManyRelation<EntityNum, Long>> nftsByOwner;
+	private Supplier<NftRelation> nftsByOwner;
 	@Mock
-	private Supplier<FCOneToManyRelation<EntityNum, Long>> treasuryNftsByType;
+	private Supplier<NftRelation> treasuryNftsByType;
 
 	@Test
-	void constructsExplicitIfNotUsingWildcards() {
+	void constructsEmptyIfQueriesDisabled() {
 		// given:
-		final var subject = new ConfigDrivenUniqTokenViewFactory(false);
+		final var subject = new ConfigDrivenUniqTokenViewFactory(true);
 
 		// when:
 		final var view = subject.viewFor(
 				tokenStore, tokens, nfts, nftsByType, nftsByOwner, treasuryNftsByType);
 
 		// then:
-		Assertions.assertTrue(view instanceof ExplicitOwnersUniqTokenView);
+		Assertions.assertSame(EmptyUniqueTokenView.EMPTY_UNIQUE_TOKEN_VIEW, view);
 	}
 
 	@Test
-	void constructsTreasuryWildcardIfUsing() {
+	void constructsTreasuryWildcardIfQueriesEnabled() {
 		// given:
-		final var subject = new ConfigDrivenUniqTokenViewFactory(true);
+		final var subject = new ConfigDrivenUniqTokenViewFactory(false);
 
 		// when:
 		final var view = subject.viewFor(
@@ -0,0 +1,193 @@
+package com.hedera.services.store.tokens.views;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.virtual.NftIndexKey;
+import com.hedera.services.state.virtual.NftIndexValue;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.virtualmap.VirtualMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_OWNER;
+import static com.hedera.services.state.virtual.NftIndexKey.Relation.NFTS_BY_TYPE;
+import static com.hedera.services.state.virtual.NftIndexKey.slotKey;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith({ MockitoExtension.class, LogCaptureExtension.class })
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NftRelationTest {
+	private static final EntityNum aKey = EntityNum.fromLong(1_234L);
+	private static final EntityNum bKey = EntityNum.fromLong(2_345L);
+
+	@Mock
+	private VirtualMap<NftIndexKey, NftIndexValue> index;
+
+	private final Map<NftIndexKey, NftIndexValue> entries = new HashMap<>();
+
+	@LoggingTarget
+	private LogCaptor logCaptor;
+	@LoggingSubject
+	private NftRelation subject;
+
+	@BeforeEach
+	void setUp() {
+		willAnswer(invocation -> entries.get(invocation.getArgument(0))).given(index).get(any());
+		willAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.given(index).put(any(), any());
+		willAnswer(invocation -> entries.remove(invocation.getArgument(0))).given(index).remove(any());
+		willAnswer(invocation -> entries.containsKey(invocation.getArgument(0))).given(index).containsKey(any());
+
+		subject = new NftRelation(index, NFTS_BY_TYPE);
+	}
+
+	@Test
+	void associatesInInsertionOrder() {
+		assertTrue(subject.associate(aKey, 1L));
+		assertTrue(subject.associate(aKey, 2L));
+		assertTrue(subject.associate(aKey, 3L));
+		assertTrue(subject.associate(bKey, 4L));
+
+		assertEquals(3, subject.getCount(aKey));
+		assertEquals(1, subject.getCount(bKey));
+		assertEquals(List.of(1L, 2L, 3L), listOf(subject.get(aKey, 0, 3)));
+		assertEquals(List.of(2L), listOf(subject.get(aKey, 1, 2)));
+		assertEquals(List.of(4L), listOf(subject.get(bKey, 0, 1)));
+	}
+
+	@Test
+	void associatingTwiceIsNoop() {
+		subject.associate(aKey, 1L);
+
+		assertFalse(subject.associate(aKey, 1L));
+
+		assertEquals(1, subject.getCount(aKey));
+	}
+
+	@Test
+	void relationsDoNotShareEntries() {
+		final var byOwner = new NftRelation(index, NFTS_BY_OWNER);
+
+		subject.associate(aKey, 1L);
+
+		assertEquals(0, byOwner.getCount(aKey));
+		assertTrue(byOwner.associate(aKey, 1L));
+		byOwner.disassociate(aKey, 2L);
+		assertEquals(1, byOwner.getCount(aKey));
+	}
+
+	@Test
+	void disassociateMovesLastIntoHole() {
+		subject.associate(aKey, 1L);
+		subject.associate(aKey, 2L);
+		subject.associate(aKey, 3L);
+
+		subject.disassociate(aKey, 1L);
+
+		assertEquals(2, subject.getCount(aKey));
+		assertEquals(List.of(3L, 2L), listOf(subject.get(aKey, 0, 2)));
+		subject.disassociate(aKey, 3L);
+		assertEquals(List.of(2L), listOf(subject.get(aKey, 0, 1)));
+	}
+
+	@Test
+	void disassociatingLastRemovesAllEntries() {
+		subject.associate(aKey, 1L);
+		subject.associate(aKey, 2L);
+
+		subject.disassociate(aKey, 2L);
+		subject.disassociate(aKey, 1L);
+
+		assertEquals(0, subject.getCount(aKey));
+		assertTrue(entries.isEmpty());
+	}
+
+	@Test
+	void disassociatingMissingIsLoggedAndIgnored() {
+		subject.associate(aKey, 1L);
+
+		assertDoesNotThrow(() -> subject.disassociate(aKey, 2L));
+		assertDoesNotThrow(() -> subject.disassociate(bKey, 1L));
+
+		assertEquals(1, subject.getCount(aKey));
+		assertEquals(0, subject.getCount(bKey));
+		assertThat(
+				logCaptor.warnLogs(),
+				contains(
+						"NFT 2 is not in the NFTS_BY_TYPE index of #1234",
+						"NFT 1 is not in the NFTS_BY_TYPE index of #2345"));
+	}
+
+	@Test
+	void getRejectsInvalidRanges() {
+		subject.associate(aKey, 1L);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> subject.get(aKey, -1, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> subject.get(aKey, 1, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> subject.get(aKey, 0, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> subject.get(bKey, 0, 1));
+		assertFalse(subject.get(bKey, 0, 0).hasNext());
+	}
+
+	@Test
+	void iteratorFailsPastEndOrOnMissingSlot() {
+		subject.associate(aKey, 1L);
+		subject.associate(aKey, 2L);
+
+		final var iter = subject.get(aKey, 0, 2);
+		entries.remove(slotKey(NFTS_BY_TYPE, aKey.intValue(), 0L));
+
+		assertThrows(ConcurrentModificationException.class, iter::next);
+		assertEquals(2L, iter.next());
+		assertThrows(NoSuchElementException.class, iter::next);
+	}
+
+	private static List<Long> listOf(final Iterator<Long> iter) {
+		final List<Long> values = new ArrayList<>();
+		iter.forEachRemaining(values::add);
+		return values;
+	}
+}
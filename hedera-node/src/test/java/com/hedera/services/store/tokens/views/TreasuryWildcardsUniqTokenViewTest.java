@@ -30,7 +30,6 @@ import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
-import com.swirlds.fchashmap.FCOneToManyRelation;
 import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,11 +62,11 @@ class TreasuryWildcardsUniqTokenViewTest {
 	@Mock
 	private MerkleMap<EntityNumPair, MerkleUniqueToken> nfts;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> nftsByType;
+	private NftRelation nftsByType;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> nftsByOwner;
+	private NftRelation nftsByOwner;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> treasuryNftsByType;
+	private NftRelation treasuryNftsByType;
 
 	private TreasuryWildcardsUniqTokenView subject;
 
@@ -20,90 +20,49 @@ package com.hedera.services.store.tokens.views;
  * ‍
  */
 
-import com.hedera.services.state.merkle.MerkleToken;
-import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.swirlds.common.constructable.ConstructableRegistryException;
-import com.swirlds.fchashmap.FCOneToManyRelation;
-import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.nio.charset.StandardCharsets;
-
-import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
-import static com.hedera.services.state.submerkle.RichInstant.MISSING_INSTANT;
 import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.NFTS_BY_OWNER;
 import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.NFTS_BY_TYPE;
 import static com.hedera.services.store.tokens.views.UniqueTokenViewsManager.TargetFcotmr.TREASURY_NFTS_BY_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class UniqTokenViewsManagerTest {
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> nftsByType;
+	private NftRelation nftsByType;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> nftsByOwner;
+	private NftRelation nftsByOwner;
 	@Mock
-	private FCOneToManyRelation<EntityNum, Long> treasuryNftsByType;
-
-	private MerkleMap<EntityNum, MerkleToken> realTokens;
-	private MerkleMap<EntityNumPair, MerkleUniqueToken> realNfts;
+	private NftRelation treasuryNftsByType;
 
 	private UniqueTokenViewsManager subject;
 
 	@Test
-	void everythingNoopsWithTreasuryTrackingSubject() {
-		setupNoopTreasuryTrackingSubject();
-
-		// expect:
-		assertFalse(subject.isInTransaction());
-		assertTrue(subject.isUsingTreasuryWildcards());
-
-		// and when:
-		subject.begin();
-		subject.commit();
-		subject.rollback();
-		// and:
-		subject.rebuildNotice(null, null);
-		subject.mintNotice(null, null);
-		subject.wipeNotice(null, null);
-		subject.burnNotice(null, null);
-		subject.exchangeNotice(null, null, null);
-		subject.treasuryExitNotice(null, null, null);
-		subject.treasuryReturnNotice(null, null, null);
-
-		// then:
-		verifyNoInteractions(nftsByType);
-		verifyNoInteractions(nftsByOwner);
-		verifyNoInteractions(treasuryNftsByType);
-	}
-
-	@Test
-	void everythingNoopsWithNonTreasuryTrackingSubject() {
-		setupNoopNonTreasuryTrackingSubject();
+	void everythingNoopsWithNoopSubject() {
+		subject = UniqueTokenViewsManager.NOOP_VIEWS_MANAGER;
 
 		// expect:
 		assertFalse(subject.isInTransaction());
-		assertFalse(subject.isUsingTreasuryWildcards());
 
 		// and when:
 		subject.begin();
 		subject.commit();
 		subject.rollback();
 		// and:
-		subject.rebuildNotice(null, null);
 		subject.mintNotice(null, null);
 		subject.wipeNotice(null, null);
 		subject.burnNotice(null, null);
@@ -119,7 +78,7 @@ class UniqTokenViewsManagerTest {
 
 	@Test
 	void beginWorks() {
-		setupTreasuryTrackingSubject();
+		setupSubject();
 
 		// when:
 		subject.begin();
@@ -132,7 +91,7 @@ class UniqTokenViewsManagerTest {
 
 	@Test
 	void rollbackWorks() {
-		setupTreasuryTrackingSubject();
+		setupSubject();
 		// and:
 		subject.getChangesInTxn().add(change(NFTS_BY_OWNER, 1, 2L, true));
 
@@ -150,8 +109,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void commitWorksWithTreasuryTracking() {
-		setupTreasuryTrackingSubject();
+	void commitWorks() {
+		setupSubject();
 
 		// expect:
 		assertThrows(IllegalStateException.class, subject::commit);
@@ -178,7 +137,7 @@ class UniqTokenViewsManagerTest {
 
 	@Test
 	void doChangeAlsoWorksForNftsByTypeForCompleteness() {
-		setupTreasuryTrackingSubject();
+		setupSubject();
 
 		// when:
 		subject.doChange(NFTS_BY_TYPE, 1, 2L, true);
@@ -190,42 +149,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void treasuryExitWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
-
-		// when:
-		subject.treasuryExitNotice(aOneNftId, firstOwner, secondOwner);
-
-		// then:
-		verify(nftsByOwner).disassociate(asPhi(firstOwner.identityCode()), aOneNftId.value());
-		verify(nftsByOwner).associate(asPhi(secondOwner.identityCode()), aOneNftId.value());
-	}
-
-	@Test
-	void treasuryExitWorksWithExplicitOwnersInTxn() {
-		setupNonTreasuryTrackingSubject();
-
-		// given:
-		subject.begin();
-
-		// when:
-		subject.treasuryExitNotice(aOneNftId, firstOwner, secondOwner);
-
-		// then:
-		verify(nftsByOwner, never()).disassociate(asPhi(firstOwner.identityCode()), aOneNftId.value());
-		verify(nftsByOwner, never()).associate(asPhi(secondOwner.identityCode()), aOneNftId.value());
-
-		// and when:
-		subject.commit();
-
-		// then:
-		verify(nftsByOwner).disassociate(asPhi(firstOwner.identityCode()), aOneNftId.value());
-		verify(nftsByOwner).associate(asPhi(secondOwner.identityCode()), aOneNftId.value());
-	}
-
-	@Test
-	void treasuryExitWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
+	void treasuryExitWorks() {
+		setupSubject();
 
 		// when:
 		subject.treasuryExitNotice(aOneNftId, firstOwner, secondOwner);
@@ -236,20 +161,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void treasuryReturnWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
-
-		// when:
-		subject.treasuryReturnNotice(aOneNftId, firstOwner, secondOwner);
-
-		// then:
-		verify(nftsByOwner).disassociate(asPhi(firstOwner.identityCode()), aOneNftId.value());
-		verify(nftsByOwner).associate(asPhi(secondOwner.identityCode()), aOneNftId.value());
-	}
-
-	@Test
-	void treasuryReturnWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
+	void treasuryReturnWorks() {
+		setupSubject();
 
 		// when:
 		subject.treasuryReturnNotice(aOneNftId, firstOwner, secondOwner);
@@ -260,8 +173,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void treasuryReturnWorksWithTreasuryWildcardsInTxn() {
-		setupTreasuryTrackingSubject();
+	void treasuryReturnWorksInTxn() {
+		setupSubject();
 
 		// given:
 		subject.begin();
@@ -282,8 +195,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void exchangeWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
+	void exchangeWorks() {
+		setupSubject();
 
 		// when:
 		subject.exchangeNotice(aOneNftId, firstOwner, secondOwner);
@@ -294,20 +207,8 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void exchangeWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
-
-		// when:
-		subject.exchangeNotice(aOneNftId, firstOwner, secondOwner);
-
-		// then:
-		verify(nftsByOwner).disassociate(asPhi(firstOwner.identityCode()), aOneNftId.value());
-		verify(nftsByOwner).associate(asPhi(secondOwner.identityCode()), aOneNftId.value());
-	}
-
-	@Test
-	void exchangeWorksWithTreasuryWildcardsViaTxn() {
-		setupTreasuryTrackingSubject();
+	void exchangeWorksViaTxn() {
+		setupSubject();
 
 		// given:
 		subject.begin();
@@ -327,47 +228,45 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void burnWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
+	void burnWorks() {
+		setupSubject();
 
 		// when:
 		subject.burnNotice(aOneNftId, firstOwner);
 
 		// then:
 		verify(nftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(nftsByOwner).disassociate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
+		verify(treasuryNftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
 	}
 
 	@Test
-	void burnWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
+	void mintWorks() {
+		setupSubject();
 
 		// when:
-		subject.burnNotice(aOneNftId, firstOwner);
+		subject.mintNotice(aOneNftId, firstOwner);
 
 		// then:
-		verify(nftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(treasuryNftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
+		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.identityCode()), aOneNftId.value());
+		verify(treasuryNftsByType).associate(EntityNum.fromLong(aTokenId.identityCode()), aOneNftId.value());
 	}
 
 	@Test
-	void mintWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
+	void mintWorksInTxn() {
+		setupSubject();
+
+		// given:
+		subject.begin();
 
 		// when:
 		subject.mintNotice(aOneNftId, firstOwner);
 
 		// then:
-		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
-	}
-
-	@Test
-	void mintWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
+		verifyNoInteractions(nftsByType);
+		verifyNoInteractions(treasuryNftsByType);
 
-		// when:
-		subject.mintNotice(aOneNftId, firstOwner);
+		// and when:
+		subject.commit();
 
 		// then:
 		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.identityCode()), aOneNftId.value());
@@ -375,75 +274,67 @@ class UniqTokenViewsManagerTest {
 	}
 
 	@Test
-	void wipeWorksWithExplicitOwners() {
-		setupNonTreasuryTrackingSubject();
-
-		// when:
-		subject.wipeNotice(aOneNftId, firstOwner);
-
-		// then:
-		verify(nftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(nftsByOwner).disassociate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
+	void noopManagerWrapsItself() {
+		// expect:
+		assertSame(UniqueTokenViewsManager.NOOP_VIEWS_MANAGER, UniqueTokenViewsManager.NOOP_VIEWS_MANAGER.wrapped());
 	}
 
 	@Test
-	void wipeWorksWithTreasuryWildcards() {
-		setupTreasuryTrackingSubject();
+	void wrappedCommitsChangesToParent() {
+		setupSubject();
+
+		// given:
+		subject.begin();
+		final var wrapper = subject.wrapped();
+
+		// expect:
+		assertTrue(wrapper.isInTransaction());
 
 		// when:
-		subject.wipeNotice(aOneNftId, firstOwner);
+		wrapper.burnNotice(aOneNftId, firstOwner);
+		wrapper.commit();
+
+		// then:
+		assertFalse(wrapper.isInTransaction());
+		verifyNoInteractions(nftsByType);
+		assertEquals(2, subject.getChangesInTxn().size());
+
+		// and when:
+		subject.commit();
 
 		// then:
 		verify(nftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(nftsByOwner).disassociate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
+		verify(treasuryNftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
 	}
 
 	@Test
-	void treasuryTrackingSafelyRebuildsAndDifferentiatesTreasuryOwned() throws ConstructableRegistryException {
-		setupTreasuryTrackingSubject();
+	void wrappedRollbackDropsChanges() {
+		setupSubject();
 
-		// expect:
-		assertTrue(subject.isUsingTreasuryWildcards());
-
-		// and:
-		givenRealNfts();
+		// given:
+		final var wrapper = subject.wrapped();
 
 		// when:
-		subject.rebuildNotice(realTokens, realNfts);
+		wrapper.exchangeNotice(aOneNftId, firstOwner, secondOwner);
+		wrapper.rollback();
+		// and:
+		wrapper.begin();
+		wrapper.commit();
 
 		// then:
-		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(treasuryNftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		// and:
-		verify(nftsByType).associate(EntityNum.fromLong(bTokenId.num()), bOneNftId.value());
-		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), bOneNftId.value());
-		// and:
-		verifyNoMoreInteractions(nftsByType);
-		verifyNoMoreInteractions(treasuryNftsByType);
+		verifyNoInteractions(nftsByOwner);
 	}
 
 	@Test
-	void nonTreasuryTrackingRebuildsEverythingExplicitly() throws ConstructableRegistryException {
-		setupNonTreasuryTrackingSubject();
-
-		// expect:
-		assertFalse(subject.isUsingTreasuryWildcards());
-
-		// and:
-		givenRealNfts();
+	void wipeWorks() {
+		setupSubject();
 
 		// when:
-		subject.rebuildNotice(realTokens, realNfts);
+		subject.wipeNotice(aOneNftId, firstOwner);
 
 		// then:
-		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
-		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
-		// and:
-		verify(nftsByType).associate(EntityNum.fromLong(bTokenId.num()), bOneNftId.value());
-		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), bOneNftId.value());
-		// and:
-		verifyNoMoreInteractions(nftsByType);
-		verifyNoMoreInteractions(nftsByOwner);
+		verify(nftsByType).disassociate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
+		verify(nftsByOwner).disassociate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
 	}
 
 	@Test
@@ -458,35 +349,8 @@ class UniqTokenViewsManagerTest {
 		assertEquals(desired, c.toString());
 	}
 
-	private void givenRealNfts() {
-		realNfts = new MerkleMap<>();
-		realNfts.put(aOneNftId, firstOwnedANft);
-		realNfts.put(bOneNftId, firstOwnedBNft);
-		realNfts.put(missingTokenNftId, tokenDeletedNft);
-
-		realTokens = new MerkleMap<>();
-		realTokens.put(EntityNum.fromLong(aTokenId.num()), aToken);
-		realTokens.put(EntityNum.fromLong(bTokenId.num()), bToken);
-	}
-
-	private void setupTreasuryTrackingSubject() {
-		subject = new UniqueTokenViewsManager(
-				() -> nftsByType, () -> nftsByOwner, () -> treasuryNftsByType, false, true);
-	}
-
-	private void setupNonTreasuryTrackingSubject() {
-		subject = new UniqueTokenViewsManager(
-				() -> nftsByType, () -> nftsByOwner, () -> treasuryNftsByType, false, false);
-	}
-
-	private void setupNoopTreasuryTrackingSubject() {
-		subject = new UniqueTokenViewsManager(
-				() -> nftsByType, () -> nftsByOwner, () -> treasuryNftsByType, true, true);
-	}
-
-	private void setupNoopNonTreasuryTrackingSubject() {
-		subject = new UniqueTokenViewsManager(
-				() -> nftsByType, () -> nftsByOwner, () -> treasuryNftsByType, true, false);
+	private void setupSubject() {
+		subject = new UniqueTokenViewsManager(() -> nftsByType, () -> nftsByOwner, () -> treasuryNftsByType);
 	}
 
 	private PendingChange change(
@@ -501,26 +365,7 @@ class UniqTokenViewsManagerTest {
 	private final EntityId firstOwner = new EntityId(0, 0, 3);
 	private final EntityId secondOwner = new EntityId(0, 0, 4);
 	private final EntityId aTokenId = new EntityId(0, 0, 5);
-	private final EntityId bTokenId = new EntityId(0, 0, 6);
-	private final EntityId cTokenId = new EntityId(0, 0, 7);
 	private final EntityNumPair aOneNftId = EntityNumPair.fromLongs(aTokenId.num(), 1L);
-	private final EntityNumPair bOneNftId = EntityNumPair.fromLongs(bTokenId.num(), 1L);
-	private final EntityNumPair missingTokenNftId = EntityNumPair.fromLongs(cTokenId.num(), 666L);
-	private final MerkleToken aToken = new MerkleToken(
-			1_234_567L, 1_234L, 1,
-			"Hi", "EVERYBODY",
-			false, true, firstOwner);
-	private final MerkleToken bToken = new MerkleToken(
-			1_234_567L, 1_234L, 1,
-			"Bye", "YOU",
-			false, true, secondOwner);
-	private byte[] someMeta = "SOMETHING".getBytes(StandardCharsets.UTF_8);
-	private byte[] otherMeta = "ELSE".getBytes(StandardCharsets.UTF_8);
-	private final MerkleUniqueToken firstOwnedANft = new MerkleUniqueToken(MISSING_ENTITY_ID, someMeta,
-			MISSING_INSTANT);
-	private final MerkleUniqueToken firstOwnedBNft = new MerkleUniqueToken(firstOwner, otherMeta, MISSING_INSTANT);
-	private final MerkleUniqueToken tokenDeletedNft = new MerkleUniqueToken(MISSING_ENTITY_ID, otherMeta,
-			MISSING_INSTANT);
 
 	private EntityNum asPhi(int i) {
 		return new EntityNum(i);
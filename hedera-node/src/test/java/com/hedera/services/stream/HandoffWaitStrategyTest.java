@@ -0,0 +1,69 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.stream.HandoffWaitStrategy.MAX_IDLE_COUNT;
+import static com.hedera.services.stream.HandoffWaitStrategy.SPIN_TRIES;
+import static com.hedera.services.stream.HandoffWaitStrategy.YIELD_TRIES;
+import static com.hedera.services.stream.HandoffWaitStrategy.nextIdleCount;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HandoffWaitStrategyTest {
+	@Test
+	void allStrategiesCanIdleAtEveryStage() {
+		for (final var strategy : HandoffWaitStrategy.values()) {
+			assertDoesNotThrow(() -> strategy.idle(1));
+			assertDoesNotThrow(() -> strategy.idle(SPIN_TRIES + 1));
+			assertDoesNotThrow(() -> strategy.idle(SPIN_TRIES + YIELD_TRIES + 1));
+		}
+	}
+
+	@Test
+	void idleCountClimbsToCapAndStaysThere() {
+		// given:
+		var idleCount = 0;
+
+		// when:
+		for (int i = 0; i < 2 * MAX_IDLE_COUNT; i++) {
+			idleCount = nextIdleCount(idleCount);
+		}
+
+		// then:
+		assertEquals(SPIN_TRIES + YIELD_TRIES, idleCount);
+	}
+
+	@Test
+	void idleCountNearIntMaxNeverOverflowsBackToSpinning() {
+		// given:
+		var idleCount = Integer.MAX_VALUE - 1;
+
+		// when:
+		for (int i = 0; i < 3; i++) {
+			idleCount = nextIdleCount(idleCount);
+			// then:
+			assertEquals(MAX_IDLE_COUNT, idleCount);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.hedera.services.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingTest {
+	@Test
+	void roundsCapacityUpToPowerOfTwo() {
+		assertEquals(1, new MpscRing<>(0).capacity());
+		assertEquals(8, new MpscRing<>(5).capacity());
+		assertEquals(8, new MpscRing<>(8).capacity());
+		assertEquals(8192, new MpscRing<>(5_000).capacity());
+		assertThrows(IllegalArgumentException.class, () -> MpscRing.ceilingPowerOfTwo(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void rejectsOffersWhenFull() {
+		final var subject = new MpscRing<String>(2);
+
+		assertTrue(subject.offer("A"));
+		assertTrue(subject.offer("B"));
+		assertFalse(subject.offer("C"));
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	void drainsInOfferOrderAcrossWraparound() {
+		final var subject = new MpscRing<Integer>(4);
+		final List<Integer> drained = new ArrayList<>();
+		final var before = System.nanoTime();
+
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 3; i++) {
+				assertTrue(subject.offer(round * 3 + i));
+			}
+			assertEquals(2, subject.drain((element, offeredAt) -> {
+				assertTrue(offeredAt >= before);
+				drained.add(element);
+			}, 2));
+			assertEquals(1, subject.drain((element, offeredAt) -> drained.add(element), 8));
+		}
+
+		assertEquals(0, subject.size());
+		for (int i = 0; i < drained.size(); i++) {
+			assertEquals(i, drained.get(i));
+		}
+	}
+
+	@Test
+	void noElementIsLostWithConcurrentProducers() throws InterruptedException {
+		final var numProducers = 4;
+		final var perProducer = 10_000;
+		final var subject = new MpscRing<Integer>(64);
+		final var start = new CountDownLatch(1);
+		final var executor = Executors.newFixedThreadPool(numProducers);
+		for (int p = 0; p < numProducers; p++) {
+			final var base = p * perProducer;
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < perProducer; i++) {
+					while (!subject.offer(base + i)) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+		}
+
+		final var seen = new HashSet<Integer>();
+		final var lastSeenByProducer = new int[numProducers];
+		Arrays.fill(lastSeenByProducer, -1);
+		start.countDown();
+		while (seen.size() < numProducers * perProducer) {
+			subject.drain((element, offeredAt) -> {
+				final var producer = element / perProducer;
+				assertTrue(element % perProducer > lastSeenByProducer[producer]);
+				lastSeenByProducer[producer] = element % perProducer;
+				seen.add(element);
+			}, 16);
+		}
+		executor.shutdown();
+
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(numProducers * perProducer, seen.size());
+		assertEquals(0, subject.size());
+	}
+}
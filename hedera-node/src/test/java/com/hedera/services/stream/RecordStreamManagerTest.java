@@ -40,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.Queue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -52,6 +53,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -202,6 +204,28 @@ public class RecordStreamManagerTest {
 		verify(runningAvgsMock).writeQueueSizeRecordStream(recordsNum);
 	}
 
+	@Test
+	void addRecordStreamObjectsSamplesQueueSizesOncePerBatch() {
+		// setup:
+		final var mockQueue = mock(Queue.class);
+		final var firstRso = mock(RecordStreamObject.class);
+		final var secondRso = mock(RecordStreamObject.class);
+		recordStreamManager = new RecordStreamManager(
+				multiStreamMock, writeQueueThreadMock, runningAvgsMock);
+
+		given(writeQueueThreadMock.getQueue()).willReturn(mockQueue);
+		given(mockQueue.size()).willReturn(2);
+
+		// when:
+		recordStreamManager.addRecordStreamObjects(List.of(firstRso, secondRso));
+
+		// then:
+		final var inOrder = inOrder(multiStreamMock);
+		inOrder.verify(multiStreamMock).addObject(firstRso);
+		inOrder.verify(multiStreamMock).addObject(secondRso);
+		verify(runningAvgsMock).writeQueueSizeRecordStream(2);
+	}
+
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void setStartWriteAtCompleteWindowTest(boolean startWriteAtCompleteWindow) {
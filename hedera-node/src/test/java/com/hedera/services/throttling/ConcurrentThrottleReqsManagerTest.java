@@ -0,0 +1,141 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.BucketThrottle;
+import com.hedera.services.throttles.DeterministicThrottle;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentThrottleReqsManagerTest {
+	int aReq = 1, bReq = 51;
+	int aTps = 2, bTps = 100;
+	int aBurstPeriod = 1, bBurstPeriod = 1;
+	Instant now = Instant.ofEpochSecond(1_234_567L, 0);
+
+	DeterministicThrottle a, b;
+	ConcurrentThrottleReqsManager subject;
+
+	@BeforeEach
+	void setUp() {
+		subjectWithTps(aTps, bTps);
+	}
+
+	private void subjectWithTps(int tpsForA, int tpsForB) {
+		a = DeterministicThrottle.withTpsAndBurstPeriod(tpsForA, aBurstPeriod);
+		b = DeterministicThrottle.withTpsAndBurstPeriod(tpsForB, bBurstPeriod);
+
+		subject = new ConcurrentThrottleReqsManager(List.of(Pair.of(a, aReq), Pair.of(b, bReq)));
+	}
+
+	@Test
+	void usesExpectedCapacityWithAllReqsAndScaleFactor() {
+		// setup:
+		final var numOps = 7;
+		final var scaleFactor = ThrottleReqOpsScaleFactor.from("3:2");
+		final var modifiedAReq = (numOps * aReq * 3) / 2;
+		final var modifiedBReq = (numOps * bReq * 3) / 2;
+		// and:
+		subjectWithTps(20, 1000);
+
+		// when:
+		var result = subject.allReqsMetAt(now, numOps, scaleFactor);
+
+		// then:
+		assertTrue(result);
+		// and:
+		assertEquals(modifiedAReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(0));
+		assertEquals(modifiedBReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(1));
+	}
+
+	@Test
+	void usesExpectedCapacityWithAllReqsMet() {
+		// when:
+		var result = subject.allReqsMetAt(now);
+
+		// then:
+		assertTrue(result);
+		// and:
+		assertEquals(aReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(0));
+		assertEquals(bReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(1));
+		// and:
+		assertEquals(0, a.used());
+		assertEquals(0, b.used());
+	}
+
+	@Test
+	void reclaimsPassedReqsWhenOneIsNotMet() {
+		// given:
+		assertTrue(subject.allReqsMetAt(now));
+
+		// when:
+		var result = subject.allReqsMetAt(now);
+
+		// then:
+		assertFalse(result);
+		// and:
+		assertEquals(aReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(0));
+		assertEquals(bReq * BucketThrottle.capacityUnitsPerTxn(), usedAt(1));
+	}
+
+	@Test
+	void neverOverAllocatesUnderContention() throws Exception {
+		// setup:
+		final var threads = 8;
+		final var allowed = new AtomicInteger();
+		final var exec = Executors.newFixedThreadPool(threads);
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			tasks.add(() -> {
+				for (int j = 0; j < 1_000; j++) {
+					if (subject.allReqsMetAt(now)) {
+						allowed.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+
+		// when:
+		exec.invokeAll(tasks);
+		exec.shutdown();
+
+		// then:
+		assertEquals(Math.min(aTps * aBurstPeriod / aReq, bTps * bBurstPeriod / bReq), allowed.get());
+	}
+
+	private long usedAt(int i) {
+		return subject.concurrentThrottles()[i].usedAt(now);
+	}
+}
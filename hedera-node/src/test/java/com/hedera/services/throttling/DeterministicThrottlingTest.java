@@ -875,6 +875,41 @@ class DeterministicThrottlingTest {
 		assertTrue(subject.shouldThrottleQuery(ContractCallLocal, now, query));
 	}
 
+	@Test
+	void frontendMakesConcurrentDecisionsWithOutOfOrderInstants() throws IOException {
+		subject = new DeterministicThrottling(() -> n, aliasManager, dynamicProperties, false);
+		var defs = SerdeUtils.pojoDefs("bootstrap/throttles.json");
+
+		subject.rebuildFor(defs);
+
+		assertFalse(subject.shouldThrottleQuery(CryptoGetAccountBalance, consensusNow.plusNanos(2), query));
+		assertFalse(subject.shouldThrottleQuery(GetVersionInfo, consensusNow.plusNanos(1), query));
+		assertTrue(subject.shouldThrottleQuery(GetVersionInfo, consensusNow, query));
+		assertTrue(subject.shouldThrottleQuery(CryptoGetAccountBalance, consensusNow.minusSeconds(60), query));
+		assertEquals(0L, subject.activeThrottlesFor(GetVersionInfo).get(0).used());
+	}
+
+	@Test
+	void frontendUsesConcurrentGasThrottle() {
+		subject = new DeterministicThrottling(() -> n, aliasManager, dynamicProperties, false);
+		given(dynamicProperties.shouldThrottleByGas()).willReturn(true);
+		given(dynamicProperties.frontendThrottleGasLimit()).willReturn(100L);
+		given(query.getContractCallLocal()).willReturn(callLocalQuery);
+		given(callLocalQuery.getGas()).willReturn(100L);
+		final EnumMap<HederaFunctionality, ThrottleReqsManager> opsManagers = new EnumMap<>(HederaFunctionality.class);
+		opsManagers.put(ContractCallLocal, manager);
+		subject.setFunctionReqs(opsManagers);
+		given(manager.allReqsMetAt(consensusNow)).willReturn(true);
+
+		subject.applyGasConfig();
+
+		assertFalse(subject.shouldThrottleQuery(ContractCallLocal, consensusNow, query));
+		assertTrue(subject.shouldThrottleQuery(ContractCallLocal, consensusNow, query));
+		subject.leakUnusedGasPreviouslyReserved(100L);
+		assertFalse(subject.shouldThrottleQuery(ContractCallLocal, consensusNow, query));
+		assertEquals(0L, subject.gasLimitThrottle().usageSnapshot().used());
+	}
+
 	private void givenFunction(HederaFunctionality functionality) {
 		given(accessor.getFunction()).willReturn(functionality);
 	}
@@ -21,8 +21,12 @@ package com.hedera.services.txns;
  */
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.txns.span.SpanMapManager;
+import com.hedera.services.txns.span.SubmittedAccessors;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -37,13 +41,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ExpandHandleSpanTest {
 	@Mock
 	private SpanMapManager handleSpanMap;
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
+	private MiscSpeedometers speedometers;
 
 	private final long duration = 20;
 	private final TimeUnit testUnit = TimeUnit.MILLISECONDS;
@@ -62,11 +74,16 @@ class ExpandHandleSpanTest {
 	private final SwirldTransaction validTxn = new SwirldTransaction(validTxnBytes);
 	private final SwirldTransaction invalidTxn = new SwirldTransaction("NONSENSE".getBytes());
 
+	private SubmittedAccessors submittedAccessors;
+
 	private ExpandHandleSpan subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new ExpandHandleSpan(duration, testUnit, handleSpanMap);
+		given(nodeLocalProperties.ingestAccessorCacheMaxSize()).willReturn(10);
+		submittedAccessors = new SubmittedAccessors(nodeLocalProperties, speedometers);
+
+		subject = new ExpandHandleSpan(duration, testUnit, handleSpanMap, submittedAccessors);
 	}
 
 	@Test
@@ -88,6 +105,40 @@ class ExpandHandleSpanTest {
 		verify(handleSpanMap).rationalizeSpan(endAccessor);
 	}
 
+	@Test
+	void onlyReusesParsedAccessorOnceExpandedAndTracked() throws InvalidProtocolBufferException {
+		// given:
+		final var parsedAccessor = subject.parse(validTxn);
+
+		// expect:
+		verify(handleSpanMap, never()).expandSpan(parsedAccessor);
+		assertNotSame(parsedAccessor, subject.accessorFor(validTxn));
+
+		// and when:
+		subject.expandAndTrack(validTxn, parsedAccessor);
+
+		// then:
+		verify(handleSpanMap).expandSpan(parsedAccessor);
+		assertSame(parsedAccessor, subject.accessorFor(validTxn));
+		verify(handleSpanMap).rationalizeSpan(parsedAccessor);
+	}
+
+	@Test
+	void reusesIngestAccessorForSelfSubmittedTxn() throws InvalidProtocolBufferException {
+		// given:
+		final var parsed = new SignedTxnAccessor(validTxnBytes);
+		submittedAccessors.track(validTxn, parsed);
+
+		// when:
+		final var startAccessor = subject.track(validTxn);
+
+		// then:
+		assertSame(validTxn, startAccessor.getPlatformTxn());
+		assertSame(parsed.getTxn(), startAccessor.getTxn());
+		verify(handleSpanMap).expandSpan(startAccessor);
+		verify(speedometers).cycleIngestAccessorReuses();
+	}
+
 	@Test
 	void reExpandsIfNotCached() throws InvalidProtocolBufferException {
 		// when:
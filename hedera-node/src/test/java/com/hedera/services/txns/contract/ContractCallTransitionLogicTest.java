@@ -27,9 +27,12 @@ import com.hedera.services.contracts.execution.CallEvmTxProcessor;
 import com.hedera.services.contracts.execution.TransactionProcessingResult;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.records.TransactionRecordService;
+import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.store.AccountStore;
 import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.store.contracts.HederaWorldState;
+import com.hedera.services.store.contracts.SizeLimitedStorage;
+import com.hedera.services.store.contracts.SlotAccessProfiles;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -50,6 +53,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_GAS;
@@ -60,7 +64,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -87,6 +93,10 @@ class ContractCallTransitionLogicTest {
 	private CodeCache codeCache;
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private SizeLimitedStorage sizeLimitedStorage;
+	@Mock
+	private SlotAccessProfiles slotAccessProfiles;
 
 	private TransactionBody contractCallTxn;
 	private final Instant consensusTime = Instant.now();
@@ -99,7 +109,8 @@ class ContractCallTransitionLogicTest {
 	private void setup() {
 		subject = new ContractCallTransitionLogic(
 				txnCtx, accountStore, worldState,
-				recordService, evmTxProcessor, properties, codeCache, sigImpactHistorian);
+				recordService, evmTxProcessor, properties, codeCache, sigImpactHistorian,
+				sizeLimitedStorage, slotAccessProfiles);
 	}
 
 	@Test
@@ -172,20 +183,74 @@ class ContractCallTransitionLogicTest {
 		verify(sigImpactHistorian).markEntityChanged(target.getContractNum());
 	}
 
+	@Test
+	void learnsSlotsTouchedByCall() {
+		// setup:
+		final var functionParams = ByteString.copyFrom(new byte[] { 0x12, 0x34, 0x56, 0x78, 0x01 });
+		final Set<ContractKey> touched = Set.of(new ContractKey(contractAccount.getId().num(), 1L));
+		contractCallTxn = TransactionBody.newBuilder()
+				.setTransactionID(ourTxnId())
+				.setContractCall(
+						ContractCallTransactionBody.newBuilder()
+								.setGas(gas)
+								.setAmount(sent)
+								.setFunctionParameters(functionParams)
+								.setContractID(target))
+				.build();
+		// and:
+		given(accessor.getTxn()).willReturn(contractCallTxn);
+		given(txnCtx.accessor()).willReturn(accessor);
+		given(accountStore.loadAccount(senderAccount.getId())).willReturn(senderAccount);
+		given(accountStore.loadContract(new Id(target.getShardNum(), target.getRealmNum(), target.getContractNum())))
+				.willReturn(contractAccount);
+		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any())).willReturn(
+				TransactionProcessingResult.successful(
+						null, 1234L, 0L, 124L, Bytes.EMPTY, contractAccount.getId().asEvmAddress()));
+		given(worldState.persistProvisionalContractCreations()).willReturn(List.of());
+		given(sizeLimitedStorage.touchedSlots()).willReturn(touched);
+
+		// when:
+		subject.doStateTransition();
+
+		// then:
+		verify(slotAccessProfiles).learn(contractAccount.getId().num(), 0x12345678, touched);
+	}
+
 	@Test
 	void successfulPreFetch() throws ExecutionException {
 		TransactionBody txnBody = Mockito.mock(TransactionBody.class);
 		ContractCallTransactionBody ccTxnBody = Mockito.mock(ContractCallTransactionBody.class);
 
+		given(accessor.getTxn()).willReturn(txnBody);
+		given(txnBody.getContractCall()).willReturn(ccTxnBody);
+		given(ccTxnBody.getContractID()).willReturn(target);
+		given(ccTxnBody.getFunctionParameters()).willReturn(ByteString.copyFrom(new byte[] { 0x12, 0x34, 0x56, 0x78 }));
+
+		// when:
+		subject.preFetch(accessor);
+
+		// expect:
+		verify(codeCache).getIfPresent(any(Address.class));
+		verify(slotAccessProfiles).prefetch(target.getContractNum(), 0x12345678);
+	}
+
+	@Test
+	void slotPrefetchThrowsExceptionDuringGet() {
+		TransactionBody txnBody = Mockito.mock(TransactionBody.class);
+		ContractCallTransactionBody ccTxnBody = Mockito.mock(ContractCallTransactionBody.class);
+
 		given(accessor.getTxn()).willReturn(txnBody);
 		given(txnBody.getContractCall()).willReturn(ccTxnBody);
 		given(ccTxnBody.getContractID()).willReturn(ContractID.getDefaultInstance());
+		given(ccTxnBody.getFunctionParameters()).willReturn(ByteString.EMPTY);
+		willThrow(new RuntimeException("oh no")).given(slotAccessProfiles).prefetch(0L, 0);
 
 		// when:
 		subject.preFetch(accessor);
 
 		// expect:
 		verify(codeCache).getIfPresent(any(Address.class));
+		verify(slotAccessProfiles).prefetch(0L, 0);
 	}
 
 	@Test
@@ -196,6 +261,7 @@ class ContractCallTransitionLogicTest {
 		given(accessor.getTxn()).willReturn(txnBody);
 		given(txnBody.getContractCall()).willReturn(ccTxnBody);
 		given(ccTxnBody.getContractID()).willReturn(ContractID.getDefaultInstance());
+		given(ccTxnBody.getFunctionParameters()).willReturn(ByteString.EMPTY);
 		given(codeCache.getIfPresent(any(Address.class))).willThrow(new RuntimeException("oh no"));
 
 		// when:
@@ -21,13 +21,18 @@ package com.hedera.services.txns.prefetch;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.TransitionLogicLookup;
+import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.swirlds.common.SwirldTransaction;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,16 +47,22 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.hedera.services.txns.prefetch.PrefetchProcessor.MINIMUM_QUEUE_CAPACITY;
 import static com.hedera.services.txns.prefetch.PrefetchProcessor.MINIMUM_THREAD_POOL_SIZE;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith({ MockitoExtension.class })
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -60,6 +71,10 @@ class PrefetchProcessorTest {
     @Mock TransitionLogicLookup lookup;
     @Mock PlatformTxnAccessor accessor;
     @Mock PreFetchableTransition logic;
+    @Mock ExpandHandleSpan expandHandleSpan;
+    @Mock MiscRunningAvgs runningAvgs;
+    @Mock MiscSpeedometers speedometers;
+    @Mock SwirldTransaction platformTxn;
 
     PrefetchProcessor processor;
     List<Runnable> executed = new ArrayList<>();
@@ -75,7 +90,8 @@ class PrefetchProcessorTest {
         given(properties.prefetchQueueCapacity()).willReturn(MINIMUM_QUEUE_CAPACITY + 1);
         given(properties.prefetchThreadPoolSize()).willReturn(MINIMUM_THREAD_POOL_SIZE + 1);
 
-        processor = new PrefetchProcessor(properties, lookup) {
+        processor = new PrefetchProcessor(
+                properties, lookup, expandHandleSpan, runningAvgs, speedometers) {
             @Override
             ExecutorService createExecutorService(int threadPoolSize, BlockingQueue<Runnable> queue) {
                 assertEquals(MINIMUM_QUEUE_CAPACITY + 1, queue.remainingCapacity());
@@ -97,7 +113,8 @@ class PrefetchProcessorTest {
         given(properties.prefetchQueueCapacity()).willReturn(2);
         given(properties.prefetchThreadPoolSize()).willReturn(1);
 
-        processor = new PrefetchProcessor(properties, lookup) {
+        processor = new PrefetchProcessor(
+                properties, lookup, expandHandleSpan, runningAvgs, speedometers) {
             @Override
             ExecutorService createExecutorService(int threadPoolSize, BlockingQueue<Runnable> queue) {
                 assertEquals(MINIMUM_QUEUE_CAPACITY, queue.remainingCapacity());
@@ -119,7 +136,8 @@ class PrefetchProcessorTest {
         given(properties.prefetchThreadPoolSize()).willReturn(1);
 
         final AtomicReference<BlockingQueue<Runnable>> queueRef = new AtomicReference<>();
-        processor = new PrefetchProcessor(properties, lookup) {
+        processor = new PrefetchProcessor(
+                properties, lookup, expandHandleSpan, runningAvgs, speedometers) {
             @Override
             ExecutorService createExecutorService(int threadPoolSize, BlockingQueue<Runnable> queue) {
                 queue = new ArrayBlockingQueue<>(2);
@@ -213,4 +231,80 @@ class PrefetchProcessorTest {
 
         verify(logic).preFetch(accessor);
     }
+
+    @Test
+    void defaultExecutorAppliesBackPressureToPrepareUntilShutdown() {
+        given(properties.prefetchQueueCapacity()).willReturn(2);
+        given(properties.prefetchThreadPoolSize()).willReturn(1);
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.empty());
+
+        processor = new PrefetchProcessor(
+                properties, lookup, expandHandleSpan, runningAvgs, speedometers);
+        final var executor = (ThreadPoolExecutor) processor.executorService;
+        final var handler = executor.getRejectedExecutionHandler();
+        final var ran = new AtomicBoolean();
+
+        handler.rejectedExecution(() -> ran.set(true), executor);
+
+        assertFalse(ran.get());
+        verify(speedometers, never()).cyclePrepareBackPressure();
+
+        processor.executorService = Mockito.mock(ExecutorService.class);
+        processor.prepare(platformTxn, accessor);
+        final var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(processor.executorService).execute(captor.capture());
+        handler.rejectedExecution(captor.getValue(), executor);
+
+        verify(speedometers).cyclePrepareBackPressure();
+        verify(expandHandleSpan).expandAndTrack(platformTxn, accessor);
+
+        executor.shutdownNow();
+        handler.rejectedExecution(captor.getValue(), executor);
+
+        verify(expandHandleSpan).expandAndTrack(platformTxn, accessor);
+    }
+
+    @Test
+    void submitRecordsQueueDepth() {
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+
+        setupSubmit();
+        processor.submit(accessor);
+
+        verify(runningAvgs).recordPrepareQueueDepth(0);
+    }
+
+    @Test
+    void parallelPrepareOnlyIfEnabled() {
+        given(properties.isPrefetchParallelPrepareEnabled()).willReturn(true);
+
+        setupSubmit();
+
+        assertTrue(processor.isParallelPrepareEnabled());
+    }
+
+    @Test
+    void prepareExpandsSpanThenTracksAndPreFetches() {
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+
+        setupSubmit();
+        processor.prepare(platformTxn, accessor);
+
+        await().until(() -> executed.size() == 1);
+        await().untilAsserted(() -> verify(logic).preFetch(accessor));
+        final var inOrder = inOrder(expandHandleSpan, logic);
+        inOrder.verify(expandHandleSpan).expandAndTrack(platformTxn, accessor);
+        inOrder.verify(logic).preFetch(accessor);
+        verify(runningAvgs).recordPrepareQueueDepth(0);
+    }
+
+    @Test
+    void prepareSkipsPreFetchIfSpanExpansionFails() {
+        doThrow(new IllegalStateException("oh no")).when(expandHandleSpan).expandAndTrack(platformTxn, accessor);
+
+        setupSubmit();
+        processor.prepareNow(platformTxn, accessor);
+
+        verifyNoInteractions(lookup);
+    }
 }
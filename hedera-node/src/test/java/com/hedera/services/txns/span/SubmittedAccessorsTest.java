@@ -0,0 +1,138 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.SwirldTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SubmittedAccessorsTest {
+	private final byte[] validTxnBytes = Transaction.newBuilder()
+			.setBodyBytes(TransactionBody.newBuilder()
+					.setTransactionID(TransactionID.newBuilder()
+							.setTransactionValidStart(Timestamp.newBuilder()
+									.setSeconds(1_234_567L)
+									.build())
+							.setAccountID(IdUtils.asAccount("0.0.1234")))
+					.build()
+					.toByteString())
+			.build().toByteArray();
+
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
+	private MiscSpeedometers speedometers;
+
+	private SubmittedAccessors subject;
+
+	@Test
+	void reusesParsedAccessorForSubmittedTxnOnlyOnce() throws InvalidProtocolBufferException {
+		givenSubjectWithMaxSize(10);
+		final var submission = new SwirldTransaction(validTxnBytes);
+		final var parsed = new SignedTxnAccessor(validTxnBytes);
+
+		subject.track(submission, parsed);
+		final var reused = subject.accessorFor(submission);
+		final var reparsed = subject.accessorFor(submission);
+
+		assertSame(submission, reused.getPlatformTxn());
+		assertSame(parsed.getTxn(), reused.getTxn());
+		assertSame(parsed.getHash(), reused.getHash());
+		assertNotSame(parsed.getTxn(), reparsed.getTxn());
+		assertEquals(parsed.getTxn(), reparsed.getTxn());
+		verify(speedometers).cycleIngestAccessorReuses();
+		verify(speedometers).cycleIngestAccessorMisses();
+	}
+
+	@Test
+	void keysByIdentityNotContents() throws InvalidProtocolBufferException {
+		givenSubjectWithMaxSize(10);
+		final var submission = new SwirldTransaction(validTxnBytes);
+		final var parsed = new SignedTxnAccessor(validTxnBytes);
+
+		subject.track(submission, parsed);
+		final var accessor = subject.accessorFor(new SwirldTransaction(validTxnBytes));
+
+		assertNotSame(parsed.getTxn(), accessor.getTxn());
+		assertEquals(1, subject.size());
+		verify(speedometers).cycleIngestAccessorMisses();
+	}
+
+	@Test
+	void untrackedSubmissionIsReparsed() throws InvalidProtocolBufferException {
+		givenSubjectWithMaxSize(10);
+		final var submission = new SwirldTransaction(validTxnBytes);
+		final var parsed = new SignedTxnAccessor(validTxnBytes);
+
+		subject.track(submission, parsed);
+		subject.untrack(submission);
+		final var accessor = subject.accessorFor(submission);
+
+		assertNotSame(parsed.getTxn(), accessor.getTxn());
+		assertEquals(0, subject.size());
+		verify(speedometers).cycleIngestAccessorMisses();
+	}
+
+	@Test
+	void zeroMaxSizeDisablesReuse() throws InvalidProtocolBufferException {
+		givenSubjectWithMaxSize(0);
+		final var submission = new SwirldTransaction(validTxnBytes);
+
+		subject.track(submission, new SignedTxnAccessor(validTxnBytes));
+
+		assertEquals(0, subject.size());
+		subject.accessorFor(submission);
+		verify(speedometers).cycleIngestAccessorMisses();
+	}
+
+	@Test
+	void propagatesIpbeOnMiss() {
+		givenSubjectWithMaxSize(10);
+		final var invalidTxn = new SwirldTransaction("NONSENSE".getBytes());
+
+		assertThrows(InvalidProtocolBufferException.class, () -> subject.accessorFor(invalidTxn));
+		verify(speedometers).cycleIngestAccessorMisses();
+	}
+
+	private void givenSubjectWithMaxSize(final int maxSize) {
+		given(nodeLocalProperties.ingestAccessorCacheMaxSize()).willReturn(maxSize);
+		subject = new SubmittedAccessors(nodeLocalProperties, speedometers);
+	}
+}
@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.txns.span.SubmittedAccessors;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -77,6 +78,7 @@ class PlatformSubmissionManagerTest {
 	Platform platform;
 	RecordCache recordCache;
 	MiscSpeedometers speedometers;
+	SubmittedAccessors submittedAccessors;
 
 	PlatformSubmissionManager subject;
 
@@ -85,12 +87,13 @@ class PlatformSubmissionManagerTest {
 		platform = mock(Platform.class);
 		recordCache = mock(RecordCache.class);
 		speedometers = mock(MiscSpeedometers.class);
+		submittedAccessors = mock(SubmittedAccessors.class);
 
 		accessor = new SignedTxnAccessor(signedTxn);
 		uncheckedAccessor = new SignedTxnAccessor(uncheckedSubTxn);
 		invalidUncheckedAccessor = new SignedTxnAccessor(invalidUncheckedSubTxn);
 
-		subject = new PlatformSubmissionManager(platform, recordCache, speedometers);
+		subject = new PlatformSubmissionManager(platform, recordCache, speedometers, submittedAccessors);
 	}
 
 	@Test
@@ -109,6 +112,8 @@ class PlatformSubmissionManagerTest {
 		assertEquals(OK, result);
 		// and:
 		verify(recordCache).addPreConsensus(accessor.getTxnId());
+		verify(submittedAccessors).track(captor.getValue(), accessor);
+		verify(submittedAccessors, never()).untrack(any());
 	}
 
 	@Test
@@ -123,6 +128,7 @@ class PlatformSubmissionManagerTest {
 		// and:
 		verify(recordCache, never()).addPreConsensus(any());
 		verify(speedometers).cyclePlatformTxnRejections();
+		verify(submittedAccessors).untrack(any());
 	}
 
 	@Test
@@ -0,0 +1,183 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.utils.LongToInstantMap.MISSING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongToInstantMapTest {
+	private static final Instant then = Instant.ofEpochSecond(1_234_567L, 890);
+	private static final Instant later = Instant.ofEpochSecond(1_234_568L, 1);
+
+	private LongToInstantMap subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new LongToInstantMap(4, false);
+	}
+
+	@Test
+	void packingRoundTrips() {
+		final var preEpoch = Instant.ofEpochSecond(-2L, 999_999_999);
+
+		assertEquals(then, LongToInstantMap.unpack(LongToInstantMap.pack(then)));
+		assertEquals(preEpoch, LongToInstantMap.unpack(LongToInstantMap.pack(preEpoch)));
+		assertEquals(-2L, LongToInstantMap.secondsOf(LongToInstantMap.pack(preEpoch)));
+		assertTrue(LongToInstantMap.pack(then) < LongToInstantMap.pack(later));
+	}
+
+	@Test
+	void putsGetsAndRemoves() {
+		// when:
+		subject.put(1L, then);
+		subject.put(2L, then);
+		subject.put(1L, later);
+
+		// then:
+		assertEquals(2, subject.size());
+		assertEquals(later, subject.get(1L));
+		assertEquals(LongToInstantMap.pack(then), subject.getPacked(2L));
+		assertNull(subject.get(3L));
+		assertEquals(MISSING, subject.getPacked(3L));
+
+		// and when:
+		subject.remove(1L);
+		subject.remove(3L);
+
+		// then:
+		assertFalse(subject.containsKey(1L));
+		assertTrue(subject.containsKey(2L));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void supportsZeroKey() {
+		// when:
+		subject.put(0L, then);
+		subject.put(0L, later);
+
+		// then:
+		assertEquals(1, subject.size());
+		assertEquals(later, subject.get(0L));
+
+		// and when:
+		subject.remove(0L);
+		subject.remove(0L);
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertNull(subject.get(0L));
+	}
+
+	@Test
+	void clearEmptiesMap() {
+		// given:
+		subject.put(0L, then);
+		subject.put(1L, then);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertFalse(subject.containsKey(0L));
+		assertFalse(subject.containsKey(1L));
+	}
+
+	@Test
+	void growsAsNeeded() {
+		// given:
+		final var initialCapacity = subject.capacity();
+
+		// when:
+		for (long i = 1; i <= 100; i++) {
+			subject.put(i, Instant.ofEpochSecond(i));
+		}
+
+		// then:
+		assertTrue(subject.capacity() > initialCapacity);
+		assertEquals(100, subject.size());
+		for (long i = 1; i <= 100; i++) {
+			assertEquals(Instant.ofEpochSecond(i), subject.get(i));
+		}
+	}
+
+	@Test
+	void agreesWithHashMapUnderRandomOps() {
+		// setup:
+		final var r = new SplittableRandom(1_234_567L);
+		final Map<Long, Instant> expected = new HashMap<>();
+		subject = new LongToInstantMap(8, true);
+
+		for (int i = 0; i < 100_000; i++) {
+			final var key = r.nextLong(64);
+			if (r.nextBoolean()) {
+				final var value = Instant.ofEpochSecond(r.nextLong(1_000_000L), r.nextInt(1_000_000_000));
+				expected.put(key, value);
+				subject.put(key, value);
+			} else {
+				expected.remove(key);
+				subject.remove(key);
+			}
+			assertEquals(expected.get(key), subject.get(key));
+		}
+
+		// expect:
+		assertTrue(subject.isDirect());
+		assertEquals(expected.size(), subject.size());
+		for (long key = 0; key < 64; key++) {
+			assertEquals(expected.get(key), subject.get(key));
+		}
+	}
+
+	@Test
+	void rejectsInvalidExpectedSizes() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new LongToInstantMap(0, false));
+		assertThrows(IllegalArgumentException.class, () -> new LongToInstantMap(Integer.MAX_VALUE, false));
+	}
+
+	@Test
+	void largestTableStillFitsInOneBuffer() {
+		// given:
+		final var largestExpectedSize = LongToInstantMap.MAX_CAPACITY / 2;
+
+		// expect:
+		assertEquals(LongToInstantMap.MAX_CAPACITY, LongToInstantMap.capacityFor(largestExpectedSize));
+		assertTrue(LongToInstantMap.tableBytesFor(LongToInstantMap.MAX_CAPACITY) <= Integer.MAX_VALUE);
+		assertThrows(IllegalArgumentException.class,
+				() -> LongToInstantMap.capacityFor(largestExpectedSize + 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> LongToInstantMap.tableBytesFor(2 * LongToInstantMap.MAX_CAPACITY));
+	}
+}
@@ -0,0 +1,232 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongToLongSetMapTest {
+	private LongToLongSetMap subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new LongToLongSetMap(4, false);
+	}
+
+	@Test
+	void addsContainsAndRemoves() {
+		// when:
+		assertTrue(subject.add(1L, 2L));
+		assertTrue(subject.add(1L, 3L));
+		assertTrue(subject.add(4L, 2L));
+		assertFalse(subject.add(1L, 2L));
+
+		// then:
+		assertEquals(3, subject.size());
+		assertEquals(2, subject.numKeys());
+		assertEquals(2, subject.count(1L));
+		assertTrue(subject.contains(1L, 3L));
+		assertFalse(subject.contains(4L, 3L));
+		assertArrayEquals(new long[] { 2L, 3L }, sorted(subject.valuesOf(1L)));
+
+		// and when:
+		assertTrue(subject.remove(1L, 2L));
+		assertFalse(subject.remove(1L, 2L));
+		assertFalse(subject.remove(5L, 2L));
+
+		// then:
+		assertEquals(2, subject.size());
+		assertArrayEquals(new long[] { 3L }, subject.valuesOf(1L));
+
+		// and when:
+		subject.remove(1L, 3L);
+
+		// then:
+		assertFalse(subject.containsKey(1L));
+		assertEquals(0, subject.count(1L));
+		assertEquals(0, subject.valuesOf(1L).length);
+		assertEquals(1, subject.numKeys());
+	}
+
+	@Test
+	void unlinksFromAnyPositionInChain() {
+		// given:
+		for (long value = 1; value <= 5; value++) {
+			subject.add(7L, value);
+		}
+
+		// when:
+		subject.remove(7L, 5L);
+		subject.remove(7L, 3L);
+		subject.remove(7L, 1L);
+
+		// then:
+		assertArrayEquals(new long[] { 2L, 4L }, sorted(subject.valuesOf(7L)));
+
+		// and when:
+		subject.add(7L, 6L);
+
+		// then:
+		assertArrayEquals(new long[] { 2L, 4L, 6L }, sorted(subject.valuesOf(7L)));
+		assertEquals(3, subject.count(7L));
+	}
+
+	@Test
+	void supportsZeroKeyAndValue() {
+		// when:
+		subject.add(0L, 0L);
+		subject.add(0L, 1L);
+
+		// then:
+		assertTrue(subject.containsKey(0L));
+		assertTrue(subject.contains(0L, 0L));
+		assertEquals(2, subject.count(0L));
+
+		// and when:
+		subject.remove(0L, 0L);
+		subject.remove(0L, 1L);
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertFalse(subject.containsKey(0L));
+	}
+
+	@Test
+	void clearEmptiesMap() {
+		// given:
+		subject.add(0L, 1L);
+		subject.add(1L, 1L);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertEquals(0, subject.numKeys());
+		assertFalse(subject.containsKey(0L));
+		assertFalse(subject.contains(1L, 1L));
+
+		// and when:
+		subject.add(1L, 2L);
+
+		// then:
+		assertArrayEquals(new long[] { 2L }, subject.valuesOf(1L));
+	}
+
+	@Test
+	void defaultMapStartsSmallAndGrows() {
+		// given:
+		final var defaultMap = new LongToLongSetMap();
+
+		// expect:
+		assertEquals(16, defaultMap.nodeCapacity());
+		assertEquals(32, defaultMap.pairCapacity());
+
+		// and when:
+		for (long i = 1; i <= 100; i++) {
+			defaultMap.add(i, i);
+		}
+
+		// then:
+		assertEquals(100, defaultMap.size());
+		assertTrue(defaultMap.nodeCapacity() >= 100);
+	}
+
+	@Test
+	void growsAsNeeded() {
+		// given:
+		final var initialNodeCapacity = subject.nodeCapacity();
+		final var initialPairCapacity = subject.pairCapacity();
+
+		// when:
+		for (long i = 1; i <= 100; i++) {
+			subject.add(i % 10, i);
+		}
+
+		// then:
+		assertTrue(subject.nodeCapacity() > initialNodeCapacity);
+		assertTrue(subject.pairCapacity() > initialPairCapacity);
+		assertEquals(100, subject.size());
+		assertEquals(10, subject.numKeys());
+		for (long i = 1; i <= 100; i++) {
+			assertTrue(subject.contains(i % 10, i));
+		}
+	}
+
+	@Test
+	void agreesWithHashMapUnderRandomOps() {
+		// setup:
+		final var r = new SplittableRandom(1_234_567L);
+		final Map<Long, Set<Long>> expected = new HashMap<>();
+		subject = new LongToLongSetMap(8, true);
+
+		for (int i = 0; i < 100_000; i++) {
+			final var key = r.nextLong(32);
+			final var value = r.nextLong(32);
+			if (r.nextBoolean()) {
+				final var added = expected.computeIfAbsent(key, ignore -> new HashSet<>()).add(value);
+				assertEquals(added, subject.add(key, value));
+			} else {
+				final var values = expected.get(key);
+				final var removed = values != null && values.remove(value);
+				if (values != null && values.isEmpty()) {
+					expected.remove(key);
+				}
+				assertEquals(removed, subject.remove(key, value));
+			}
+			assertEquals(expected.containsKey(key), subject.containsKey(key));
+		}
+
+		// expect:
+		assertTrue(subject.isDirect());
+		assertEquals(expected.size(), subject.numKeys());
+		assertEquals(expected.values().stream().mapToInt(Set::size).sum(), subject.size());
+		for (long key = 0; key < 32; key++) {
+			final var values = expected.getOrDefault(key, Set.of()).stream().mapToLong(Long::longValue).toArray();
+			assertArrayEquals(sorted(values), sorted(subject.valuesOf(key)));
+		}
+	}
+
+	@Test
+	void rejectsInvalidExpectedSizes() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new LongToLongSetMap(0, false));
+		assertThrows(IllegalArgumentException.class, () -> new LongToLongSetMap(Integer.MAX_VALUE, false));
+	}
+
+	private static long[] sorted(final long[] values) {
+		Arrays.sort(values);
+		return values;
+	}
+}
@@ -36,6 +36,7 @@ import com.hedera.services.legacy.core.KeyPairObj;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.internals.BitPackUtils;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.SolidityFnResult;
@@ -128,6 +129,7 @@ import com.swirlds.merkle.map.MerkleMap;
 import net.i2p.crypto.eddsa.EdDSAPublicKey;
 import net.i2p.crypto.eddsa.KeyPairGenerator;
 import org.apache.commons.codec.DecoderException;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
@@ -141,6 +143,7 @@ import java.io.ObjectOutputStream;
 import java.lang.reflect.Method;
 import java.security.KeyPair;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -186,6 +189,7 @@ import static com.hedera.services.utils.MiscUtils.readableNftTransferList;
 import static com.hedera.services.utils.MiscUtils.readableProperty;
 import static com.hedera.services.utils.MiscUtils.readableTransferList;
 import static com.hedera.services.utils.MiscUtils.scheduledFunctionOf;
+import static com.hedera.services.utils.MiscUtils.wrapUnsafely;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static com.hedera.test.utils.TxnUtils.withAdjustments;
@@ -258,6 +262,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -313,6 +318,43 @@ class MiscUtilsTest {
 		verify(mockConsumer).accept(key2, new KeyedMerkleLong<>(key2, 2L));
 	}
 
+	@Test
+	void forEachPartitionedVisitsEveryLeafExactlyOnce() {
+		// setup:
+		final MerkleMap<FcLong, KeyedMerkleLong<FcLong>> testMm = new MerkleMap<>();
+		for (long i = 1; i <= 1_000; i++) {
+			putValue(i, testMm);
+		}
+
+		// when:
+		final var partials = MiscUtils.forEachPartitioned(
+				testMm,
+				ArrayList<FcLong>::new,
+				(keys, leaf) -> keys.add(leaf.getKey()));
+
+		// then:
+		assertTrue(partials.size() > 1);
+		final var seen = new HashSet<FcLong>();
+		partials.forEach(keys -> keys.forEach(key -> assertTrue(seen.add(key))));
+		assertEquals(1_000, seen.size());
+	}
+
+	@Test
+	void subtreesNeverSplitKeyedInternalNodes() {
+		// setup:
+		final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+		for (long i = 1; i <= 10; i++) {
+			accounts.put(EntityNum.fromLong(i), new MerkleAccount());
+		}
+
+		// when:
+		final var subtrees = MiscUtils.subtreesOf(accounts, Integer.MAX_VALUE);
+
+		// then:
+		assertEquals(10, subtrees.stream().filter(MerkleAccount.class::isInstance).count());
+		assertTrue(subtrees.stream().allMatch(node -> node.isLeaf() || node instanceof MerkleAccount));
+	}
+
 	private void putValue(long value, MerkleMap<FcLong, KeyedMerkleLong<FcLong>> mm) {
 		final var newValue = new KeyedMerkleLong(value);
 		mm.put(new FcLong(value), newValue);
@@ -850,6 +892,17 @@ class MiscUtilsTest {
 		assertFalse(MiscUtils.isSerializedProtoKey(ByteString.copyFromUtf8("NONSENSE")));
 	}
 
+	@Test
+	void wrapsCallDataWithoutHexRoundTrip() {
+		final var params = ByteString.copyFrom(new byte[] { 0x12, 0x34, (byte) 0xab, (byte) 0xcd, 0x00 });
+
+		final var callData = wrapUnsafely(params);
+
+		assertEquals(Bytes.fromHexString(com.swirlds.common.CommonUtils.hex(params.toByteArray())), callData);
+		assertArrayEquals(params.toByteArray(), callData.toArray());
+		assertSame(Bytes.EMPTY, wrapUnsafely(ByteString.EMPTY));
+	}
+
 	@Test
 	void contractCallIsConsensusThrottled() {
 		assertTrue(isGasThrottled(ContractCall));
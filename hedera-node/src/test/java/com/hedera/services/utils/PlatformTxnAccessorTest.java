@@ -42,14 +42,18 @@ import java.util.function.Function;
 import static com.hedera.services.utils.PlatformTxnAccessor.uncheckedAccessorFor;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusCreateTopic;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.times;
@@ -118,6 +122,35 @@ class PlatformTxnAccessorTest {
 		assertArrayEquals(signedTxnWithBody.toByteArray(), subject.getSignedTxnWrapperBytes());
 	}
 
+	@Test
+	void reusesParsedStateButNotMutableMetaFromIngestAccessor() throws InvalidProtocolBufferException {
+		// setup:
+		Transaction signedTxnWithBody = Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build();
+		SwirldTransaction platformTxn = new SwirldTransaction(signedTxnWithBody.toByteArray());
+		SignedTxnAccessor parsed = new SignedTxnAccessor(signedTxnWithBody);
+		parsed.setExpandedSigStatus(OK);
+		parsed.getSpanMap().put("test", "value");
+
+		// when:
+		PlatformTxnAccessor subject = new PlatformTxnAccessor(platformTxn, parsed);
+
+		// then:
+		assertSame(platformTxn, subject.getPlatformTxn());
+		assertSame(parsed.getSignedTxnWrapper(), subject.getSignedTxnWrapper());
+		assertSame(parsed.getTxn(), subject.getTxn());
+		assertSame(parsed.getHash(), subject.getHash());
+		assertEquals(parsed.getFunction(), subject.getFunction());
+		assertEquals(parsed.getMemo(), subject.getMemo());
+		assertEquals(parsed.numSigPairs(), subject.numSigPairs());
+		// and:
+		assertNotSame(parsed.getPkToSigsFn(), subject.getPkToSigsFn());
+		assertNotSame(parsed.baseUsageMeta(), subject.baseUsageMeta());
+		assertNull(subject.getExpandedSigStatus());
+		assertTrue(subject.getSpanMap().isEmpty());
+	}
+
 	@Test
 	void extractorReturnsExpectedFunction() {
 		// given: